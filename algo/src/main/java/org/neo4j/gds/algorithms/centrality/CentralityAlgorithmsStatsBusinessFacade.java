@@ -26,14 +26,18 @@ import org.neo4j.gds.algorithms.centrality.specificfields.CELFSpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.CentralityStatisticsSpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.DefaultCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.PageRankSpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.SampledCentralitySpecificFields;
 import org.neo4j.gds.algorithms.runner.AlgorithmResultWithTiming;
 import org.neo4j.gds.algorithms.runner.AlgorithmRunner;
 import org.neo4j.gds.betweenness.BetweennessCentralityStatsConfig;
+import org.neo4j.gds.betweenness.BetwennessCentralityResult;
+import org.neo4j.gds.closeness.ClosenessCentralityResult;
 import org.neo4j.gds.closeness.ClosenessCentralityStatsConfig;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.degree.DegreeCentralityStatsConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStatsConfig;
+import org.neo4j.gds.harmonic.HarmonicResult;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStatsConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.pagerank.PageRankStatsConfig;
@@ -50,7 +54,7 @@ public class CentralityAlgorithmsStatsBusinessFacade {
     }
 
 
-    public StatsResult<DefaultCentralitySpecificFields> betweennessCentrality(
+    public StatsResult<SampledCentralitySpecificFields> betweennessCentrality(
         String graphName,
         BetweennessCentralityStatsConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -63,8 +67,14 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResult(
             intermediateResult.algorithmResult,
             configuration,
+            BetwennessCentralityResult::centralityScoreProvider,
+            (result, centralityDistribution) -> new SampledCentralitySpecificFields(
+                centralityDistribution,
+                result.approximationError().orElse(null)
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> SampledCentralitySpecificFields.EMPTY
         );
     }
 
@@ -86,7 +96,7 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         );
     }
 
-    public StatsResult<DefaultCentralitySpecificFields> closenessCentrality(
+    public StatsResult<SampledCentralitySpecificFields> closenessCentrality(
         String graphName,
         ClosenessCentralityStatsConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -99,12 +109,18 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResult(
             intermediateResult.algorithmResult,
             configuration,
+            ClosenessCentralityResult::centralityScoreProvider,
+            (result, centralityDistribution) -> new SampledCentralitySpecificFields(
+                centralityDistribution,
+                result.approximationError().orElse(null)
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> SampledCentralitySpecificFields.EMPTY
         );
     }
 
-    public StatsResult<DefaultCentralitySpecificFields> harmonicCentrality(
+    public StatsResult<SampledCentralitySpecificFields> harmonicCentrality(
         String graphName,
         HarmonicCentralityStatsConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -117,8 +133,14 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResult(
             intermediateResult.algorithmResult,
             configuration,
+            HarmonicResult::centralityScoreProvider,
+            (result, centralityDistribution) -> new SampledCentralitySpecificFields(
+                centralityDistribution,
+                result.approximationError().orElse(null)
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> SampledCentralitySpecificFields.EMPTY
         );
     }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.centrality.specificfields;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+public class SampledCentralitySpecificFields implements CentralityStatisticsSpecificFields {
+
+    public static final SampledCentralitySpecificFields EMPTY = new SampledCentralitySpecificFields(
+        Map.of(),
+        null
+    );
+
+    private final Map<String, Object> centralityDistribution;
+    private final Double approximationError;
+
+    public SampledCentralitySpecificFields(
+        Map<String, Object> centralityDistribution,
+        @Nullable Double approximationError
+    ) {
+        this.centralityDistribution = centralityDistribution;
+        this.approximationError = approximationError;
+    }
+
+    @Override
+    public Map<String, Object> centralityDistribution() {
+        return centralityDistribution;
+    }
+
+    /**
+     * The error bound of the sampling, or {@code null} if the scores were computed exactly.
+     */
+    public @Nullable Double approximationError() {
+        return approximationError;
+    }
+}
@@ -322,7 +322,7 @@ public class CommunityAlgorithmsStatsBusinessFacade {
 
         return statsResult(
             algorithmResult,
-            (result) -> new TriangleCountSpecificFields(result.globalTriangles(), algorithmResult.graph().nodeCount()),
+            (result) -> TriangleCountSpecificFields.of(result, algorithmResult.graph().nodeCount()),
             intermediateResult.computeMilliseconds,
             () -> TriangleCountSpecificFields.EMPTY
         );
@@ -19,17 +19,45 @@
  */
 package org.neo4j.gds.algorithms.community.specificfields;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.triangle.TriangleCountResult;
+
+import java.util.Map;
+
 public class TriangleCountSpecificFields {
     private final long globalTriangleCount;
     private final long nodeCount;
+    private final Map<String, Object> globalTriangleCountConfidenceInterval;
 
     public static final TriangleCountSpecificFields EMPTY = new TriangleCountSpecificFields(0, 0);
     public TriangleCountSpecificFields(
         long globalTriangleCount,
         long nodeCount
+    ) {
+        this(globalTriangleCount, nodeCount, null);
+    }
+
+    public TriangleCountSpecificFields(
+        long globalTriangleCount,
+        long nodeCount,
+        @Nullable Map<String, Object> globalTriangleCountConfidenceInterval
     ) {
         this.globalTriangleCount = globalTriangleCount;
         this.nodeCount=nodeCount;
+        this.globalTriangleCountConfidenceInterval = globalTriangleCountConfidenceInterval;
+    }
+
+    public static TriangleCountSpecificFields of(TriangleCountResult result, long nodeCount) {
+        return new TriangleCountSpecificFields(
+            result.globalTriangles(),
+            nodeCount,
+            result.estimate()
+                .map(estimate -> Map.<String, Object>of(
+                    "lower", estimate.globalLowerBound(),
+                    "upper", estimate.globalUpperBound()
+                ))
+                .orElse(null)
+        );
     }
 
     public long  nodeCount() {
@@ -40,4 +68,11 @@ public class TriangleCountSpecificFields {
         return globalTriangleCount;
     }
 
+    /**
+     * The 95% confidence interval of the global triangle count, or {@code null} if the triangles were counted exactly.
+     */
+    public @Nullable Map<String, Object> globalTriangleCountConfidenceInterval() {
+        return globalTriangleCountConfidenceInterval;
+    }
+
 }
@@ -96,7 +96,7 @@ public class NodeEmbeddingsAlgorithmsMutateBusinessFacade {
         return mutateNodeProperty(
             intermediateResult.algorithmResult,
             configuration,
-            (result) -> NodePropertyValuesAdapter.adapt(result.embeddings()),
+            (result) -> result.embeddings(),
             (result) -> intermediateResult.algorithmResult.graph().nodeCount(),
             intermediateResult.computeMilliseconds,
             () -> 0L
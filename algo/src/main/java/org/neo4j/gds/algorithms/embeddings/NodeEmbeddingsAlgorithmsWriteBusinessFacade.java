@@ -110,7 +110,7 @@ public class NodeEmbeddingsAlgorithmsWriteBusinessFacade {
         return writeToDatabase(
             intermediateResult.algorithmResult,
             configuration,
-            (result) -> NodePropertyValuesAdapter.adapt(result.embeddings()),
+            (result) -> result.embeddings(),
             (result) -> intermediateResult.algorithmResult.graph().nodeCount(),
             intermediateResult.computeMilliseconds,
             () -> 0L,
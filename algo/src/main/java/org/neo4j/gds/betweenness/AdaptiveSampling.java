@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Approximates betweenness centrality by progressively sampling shortest paths, following
+ * <a href="https://arxiv.org/abs/1604.08553">KADABRA</a>.
+ * <p>
+ * Every sample draws a random pair of distinct nodes and a uniformly random shortest path between them.
+ * All inner nodes of that path have their path count incremented.
+ * The normalized betweenness of a node, i.e. its score divided by {@code n * (n - 1)}, is estimated by the
+ * fraction of samples that pass through it.
+ * <p>
+ * Sampling stops as soon as the adaptive per-node bounds guarantee an absolute error of at most {@code epsilon}
+ * with probability {@code 1 - delta}, or once the worst case sample size derived from the vertex diameter is reached.
+ */
+final class AdaptiveSampling {
+
+    // the universal constant of the VC-dimension based sample size bound, as estimated by Loeffler and Phillips
+    private static final double SAMPLE_SIZE_CONSTANT = 0.5;
+    // how often the stopping condition is evaluated before the worst case sample size is reached
+    private static final int STOPPING_CONDITION_CHECKS = 100;
+    private static final int UNVISITED = -1;
+
+    private final Graph graph;
+    private final AdaptiveSamplingParameters parameters;
+    private final HugeAtomicDoubleArray centrality;
+    private final double divisor;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final long nodeCount;
+    private final HugeAtomicLongArray pathCounts;
+
+    AdaptiveSampling(
+        Graph graph,
+        AdaptiveSamplingParameters parameters,
+        HugeAtomicDoubleArray centrality,
+        double divisor,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.parameters = parameters;
+        this.centrality = centrality;
+        this.divisor = divisor;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.nodeCount = graph.nodeCount();
+        this.pathCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+    }
+
+    /**
+     * Samples shortest paths until the error bound holds and writes the estimated scores into the centrality array.
+     *
+     * @return the absolute error of the normalized scores, which holds with probability {@code 1 - delta}
+     */
+    double compute() {
+        if (nodeCount < 2) {
+            return 0;
+        }
+
+        double epsilon = parameters.epsilon();
+        long maxSamples = maxSamples(vertexDiameterBound());
+        // half of the failure probability is split evenly among the lower and upper bounds of all nodes
+        double logInverseNodeDelta = Math.log(4.0 * nodeCount / parameters.delta());
+
+        long samplesPerTask = Math.max(1, maxSamples / ((long) STOPPING_CONDITION_CHECKS * concurrency));
+        var random = parameters.seed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var tasks = IntStream.range(0, concurrency)
+            .mapToObj(i -> new SamplingTask(random.split(), samplesPerTask))
+            .collect(Collectors.toList());
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        long samples = 0;
+        double error;
+        do {
+            ParallelUtil.run(tasks, executorService);
+            terminationFlag.assertRunning();
+            samples += samplesPerTask * concurrency;
+            error = error(partitions, samples, maxSamples, logInverseNodeDelta);
+        } while (error > epsilon && samples < maxSamples);
+
+        if (samples >= maxSamples) {
+            // the worst case sample size guarantees the error bound on its own
+            error = Math.min(error, epsilon);
+        }
+
+        double scale = (double) nodeCount * (nodeCount - 1) / (samples * divisor);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            terminationFlag,
+            nodeId -> centrality.set(nodeId, pathCounts.get(nodeId) * scale)
+        );
+
+        return error;
+    }
+
+    private long maxSamples(long vertexDiameter) {
+        double epsilon = parameters.epsilon();
+        double vcDimension = Math.floor(Math.log(Math.max(vertexDiameter - 2, 1)) / Math.log(2)) + 1;
+        return (long) Math.ceil(SAMPLE_SIZE_CONSTANT / (epsilon * epsilon) * (vcDimension + Math.log(4 / parameters.delta())));
+    }
+
+    /**
+     * An upper bound on the number of nodes of any shortest path.
+     * For undirected graphs, the diameter of every component is at most twice the eccentricity of any of its nodes.
+     * For directed graphs, we fall back to the node count.
+     */
+    private long vertexDiameterBound() {
+        if (!graph.schema().isUndirected()) {
+            return nodeCount;
+        }
+
+        var distances = HugeIntArray.newArray(nodeCount);
+        distances.fill(UNVISITED);
+        var queue = HugeLongArray.newArray(nodeCount);
+        var tail = new MutableLong();
+
+        long bound = 1;
+        for (long root = 0; root < nodeCount; root++) {
+            if (distances.get(root) != UNVISITED) {
+                continue;
+            }
+            distances.set(root, 0);
+            queue.set(0, root);
+            tail.setValue(1);
+            int eccentricity = 0;
+            for (long head = 0; head < tail.longValue(); head++) {
+                long node = queue.get(head);
+                int nextDistance = distances.get(node) + 1;
+                eccentricity = nextDistance - 1;
+                graph.forEachRelationship(node, (source, target) -> {
+                    if (distances.get(target) == UNVISITED) {
+                        distances.set(target, nextDistance);
+                        queue.set(tail.getAndIncrement(), target);
+                    }
+                    return true;
+                });
+            }
+            bound = Math.max(bound, 2L * eccentricity + 1);
+            terminationFlag.assertRunning();
+        }
+
+        return bound;
+    }
+
+    private double error(List<Partition> partitions, long samples, long maxSamples, double logInverseNodeDelta) {
+        double threshold = parameters.topK()
+            .map(k -> kthLargestLowerBound(k, partitions, samples, maxSamples, logInverseNodeDelta))
+            .orElse(Double.NEGATIVE_INFINITY);
+
+        var errors = new double[partitions.size()];
+        var tasks = IntStream.range(0, partitions.size()).mapToObj(i -> (Runnable) () -> {
+            double error = 0;
+            var partition = partitions.get(i);
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                double estimate = (double) pathCounts.get(nodeId) / samples;
+                double upper = upperDeviation(estimate, logInverseNodeDelta, maxSamples, samples);
+                // nodes which are certainly not among the top k do not need to meet the error bound
+                if (estimate + upper < threshold) {
+                    continue;
+                }
+                double lower = lowerDeviation(estimate, logInverseNodeDelta, maxSamples, samples);
+                error = Math.max(error, Math.max(lower, upper));
+            }
+            errors[i] = error;
+        }).collect(Collectors.toList());
+        ParallelUtil.run(tasks, executorService);
+
+        double error = 0;
+        for (double partitionError : errors) {
+            error = Math.max(error, partitionError);
+        }
+        return error;
+    }
+
+    private double kthLargestLowerBound(
+        int k,
+        List<Partition> partitions,
+        long samples,
+        long maxSamples,
+        double logInverseNodeDelta
+    ) {
+        if (k > nodeCount) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        List<PriorityQueue<Double>> partitionBounds = partitions.stream()
+            .map(partition -> new PriorityQueue<Double>(k))
+            .collect(Collectors.toList());
+        var tasks = IntStream.range(0, partitions.size()).mapToObj(i -> (Runnable) () -> {
+            var bounds = partitionBounds.get(i);
+            var partition = partitions.get(i);
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                double estimate = (double) pathCounts.get(nodeId) / samples;
+                offer(bounds, k, estimate - lowerDeviation(estimate, logInverseNodeDelta, maxSamples, samples));
+            }
+        }).collect(Collectors.toList());
+        ParallelUtil.run(tasks, executorService);
+
+        var bounds = new PriorityQueue<Double>(k);
+        partitionBounds.forEach(partitionBound -> partitionBound.forEach(bound -> offer(bounds, k, bound)));
+        return bounds.peek();
+    }
+
+    private static void offer(PriorityQueue<Double> smallestOnTop, int capacity, double value) {
+        if (smallestOnTop.size() < capacity) {
+            smallestOnTop.add(value);
+        } else if (smallestOnTop.peek() < value) {
+            smallestOnTop.poll();
+            smallestOnTop.add(value);
+        }
+    }
+
+    /**
+     * The function {@code f} of KADABRA, i.e. how much the true value can lie below the estimate.
+     */
+    private static double lowerDeviation(double estimate, double logInverseDelta, long maxSamples, long samples) {
+        double a = 1.0 / 3 - (double) maxSamples / samples;
+        return logInverseDelta / samples * (a + Math.sqrt(a * a + 2 * estimate * maxSamples / logInverseDelta));
+    }
+
+    /**
+     * The function {@code g} of KADABRA, i.e. how much the true value can lie above the estimate.
+     */
+    private static double upperDeviation(double estimate, double logInverseDelta, long maxSamples, long samples) {
+        double a = 1.0 / 3 + (double) maxSamples / samples;
+        return logInverseDelta / samples * (a + Math.sqrt(a * a + 2 * estimate * maxSamples / logInverseDelta));
+    }
+
+    final class SamplingTask implements Runnable, RelationshipConsumer {
+        private final SplittableRandom random;
+        private final long samples;
+        private final Graph localGraph;
+        private final HugeIntArray distances;
+        private final HugeDoubleArray sigma;
+        private final HugeLongArray predecessors;
+        // doubles as the list of visited nodes to reset after every sample
+        private final HugeLongArray queue;
+        private long tail;
+
+        private SamplingTask(SplittableRandom random, long samples) {
+            this.random = random;
+            this.samples = samples;
+            this.localGraph = graph.concurrentCopy();
+            this.distances = HugeIntArray.newArray(nodeCount);
+            this.distances.fill(UNVISITED);
+            this.sigma = HugeDoubleArray.newArray(nodeCount);
+            this.predecessors = HugeLongArray.newArray(nodeCount);
+            this.queue = HugeLongArray.newArray(nodeCount);
+        }
+
+        @Override
+        public void run() {
+            for (long i = 0; i < samples && terminationFlag.running(); i++) {
+                sample();
+            }
+            progressTracker.logProgress(samples);
+        }
+
+        private void sample() {
+            long source = random.nextLong(nodeCount);
+            long target = random.nextLong(nodeCount - 1);
+            if (target >= source) {
+                target++;
+            }
+
+            distances.set(source, 0);
+            sigma.set(source, 1);
+            queue.set(0, source);
+            tail = 1;
+
+            // all shortest paths to the target are known once its level is reached
+            for (long head = 0; head < tail; head++) {
+                long node = queue.get(head);
+                int targetDistance = distances.get(target);
+                if (targetDistance != UNVISITED && distances.get(node) >= targetDistance) {
+                    break;
+                }
+                localGraph.forEachRelationship(node, this);
+            }
+
+            if (distances.get(target) != UNVISITED) {
+                for (long node = predecessors.get(target); node != source; node = predecessors.get(node)) {
+                    pathCounts.getAndAdd(node, 1);
+                }
+            }
+
+            for (long i = 0; i < tail; i++) {
+                distances.set(queue.get(i), UNVISITED);
+            }
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            int nextDistance = distances.get(source) + 1;
+            int targetDistance = distances.get(target);
+            if (targetDistance == UNVISITED) {
+                distances.set(target, nextDistance);
+                sigma.set(target, sigma.get(source));
+                predecessors.set(target, source);
+                queue.set(tail++, target);
+            } else if (targetDistance == nextDistance) {
+                double sigmaSource = sigma.get(source);
+                double sigmaTarget = sigma.get(target) + sigmaSource;
+                sigma.set(target, sigmaTarget);
+                // keeps every predecessor with probability proportional to its number of shortest paths
+                if (random.nextDouble() * sigmaTarget < sigmaSource) {
+                    predecessors.set(target, source);
+                }
+            }
+            return true;
+        }
+    }
+}
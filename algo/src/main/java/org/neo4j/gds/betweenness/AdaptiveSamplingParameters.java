@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import java.util.Optional;
+
+public final class AdaptiveSamplingParameters {
+
+    public static AdaptiveSamplingParameters create(
+        double epsilon,
+        double delta,
+        Optional<Integer> topK,
+        Optional<Long> seed
+    ) {
+        return new AdaptiveSamplingParameters(epsilon, delta, topK, seed);
+    }
+
+    private final double epsilon;
+    private final double delta;
+    private final Optional<Integer> topK;
+    private final Optional<Long> seed;
+
+    private AdaptiveSamplingParameters(double epsilon, double delta, Optional<Integer> topK, Optional<Long> seed) {
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.topK = topK;
+        this.seed = seed;
+    }
+
+    /**
+     * The maximum absolute error of the normalized betweenness scores.
+     */
+    double epsilon() {
+        return epsilon;
+    }
+
+    /**
+     * The probability that the error exceeds {@link #epsilon()}.
+     */
+    double delta() {
+        return delta;
+    }
+
+    /**
+     * If present, the error bound only needs to hold for nodes that might be among the k most central ones.
+     */
+    Optional<Integer> topK() {
+        return topK;
+    }
+
+    Optional<Long> seed() {
+        return seed;
+    }
+}
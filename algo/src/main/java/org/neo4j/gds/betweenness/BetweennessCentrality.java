@@ -23,6 +23,7 @@ import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -32,7 +33,9 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.msbfs.MSBFSConstants;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -49,6 +52,8 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
 
     private final ExecutorService executorService;
     private final int concurrency;
+    private final boolean multiSource;
+    private final Optional<AdaptiveSamplingParameters> adaptiveSampling;
 
 
     public BetweennessCentrality(
@@ -58,11 +63,41 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
         ExecutorService executorService,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            selectionStrategy,
+            traverserFactory,
+            executorService,
+            concurrency,
+            false,
+            Optional.empty(),
+            progressTracker
+        );
+    }
+
+    /**
+     * @param multiSource      if true, every thread traverses up to {@link MSBFSConstants#OMEGA} sources at once.
+     *                         Only valid for unweighted graphs, the traverser factory is ignored in that case.
+     * @param adaptiveSampling if present, shortest paths are sampled until the given error bound is met,
+     *                         see {@link AdaptiveSampling}. The selection strategy is ignored in that case.
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ForwardTraverser.Factory traverserFactory,
+        ExecutorService executorService,
+        int concurrency,
+        boolean multiSource,
+        Optional<AdaptiveSamplingParameters> adaptiveSampling,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.executorService = executorService;
         this.concurrency = concurrency;
+        this.multiSource = multiSource;
+        this.adaptiveSampling = adaptiveSampling;
         this.nodeCount = graph.nodeCount();
         this.centrality = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
         this.selectionStrategy = selectionStrategy;
@@ -75,9 +110,26 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
     @Override
     public BetwennessCentralityResult compute() {
         progressTracker.beginSubTask();
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        Optional<Double> approximationError = Optional.empty();
+        if (adaptiveSampling.isPresent()) {
+            approximationError = Optional.of(new AdaptiveSampling(
+                graph,
+                adaptiveSampling.get(),
+                centrality,
+                divisor,
+                executorService,
+                concurrency,
+                progressTracker,
+                terminationFlag
+            ).compute());
+        } else {
+            ParallelUtil.run(
+                ParallelUtil.tasks(concurrency, multiSource ? MultiSourceBCTask::new : BCTask::new),
+                executorService
+            );
+        }
         progressTracker.endSubTask();
-        return new BetwennessCentralityResult(centrality);
+        return new BetwennessCentralityResult(centrality, approximationError);
     }
 
     final class BCTask implements Runnable {
@@ -164,4 +216,277 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
             }
         }
     }
+
+    /**
+     * Bit-parallel variant of {@link BCTask} for unweighted graphs, which traverses
+     * up to {@link MSBFSConstants#OMEGA} sources at once, similar to the MS-BFS in {@link org.neo4j.gds.msbfs}.
+     * <p>
+     * Every source is assigned to one bit of a {@code long}, its lane.
+     * A single scan of an adjacency list advances all sources for which the node is in the current frontier.
+     * Instead of predecessor lists, the backward phase identifies shortest path edges by checking that the
+     * target has been discovered exactly one level after the source for the same lane.
+     * <p>
+     * Sigma is only stored for the lanes that reach a node. Every visited node gets one entry per level,
+     * which owns one slot per lane the node is discovered in on that level. Slots are numbered consecutively,
+     * so the slot of a lane is the entry's first slot plus the number of lower lanes of the entry.
+     * Delta is only needed for two adjacent levels at a time and is stored for those levels only.
+     */
+    final class MultiSourceBCTask implements Runnable {
+        private final long[] sources;
+        // lanes and first slot of the nodes on the level after the one being processed
+        private final HugeLongArray visitNext;
+        private final HugeLongArray slotNext;
+        private final HugeLongArray seen;
+        // the entries of all visited nodes, grouped by level
+        private HugeLongArray entryNodes;
+        private HugeLongArray entryLanes;
+        private HugeLongArray entrySlots;
+        private long entryCount;
+        private final LongArrayList levelStarts;
+        // per slot, i.e. per visited node and lane
+        private HugeLongArray sigma;
+        private long slotCount;
+        // per slot of the level being processed and of the level after it, relative to the first slot of the level
+        private HugeDoubleArray delta;
+        private HugeDoubleArray deltaNext;
+
+        private MultiSourceBCTask() {
+            this.sources = new long[MSBFSConstants.OMEGA];
+            this.visitNext = HugeLongArray.newArray(nodeCount);
+            this.slotNext = HugeLongArray.newArray(nodeCount);
+            this.seen = HugeLongArray.newArray(nodeCount);
+            // every reachable node has at least one entry and one slot, the arrays grow for nodes on multiple levels
+            this.entryNodes = HugeLongArray.newArray(nodeCount);
+            this.entryLanes = HugeLongArray.newArray(nodeCount);
+            this.entrySlots = HugeLongArray.newArray(nodeCount);
+            this.levelStarts = new LongArrayList();
+            this.sigma = HugeLongArray.newArray(nodeCount);
+            this.delta = HugeDoubleArray.newArray(0);
+            this.deltaNext = HugeDoubleArray.newArray(0);
+        }
+
+        @Override
+        public void run() {
+            var localGraph = graph.concurrentCopy();
+
+            for (;;) {
+                int sourceCount = 0;
+                while (sourceCount < sources.length) {
+                    long startNodeId = selectionStrategy.next();
+                    if (startNodeId == SelectionStrategy.NONE_SELECTED) {
+                        break;
+                    }
+                    sources[sourceCount++] = startNodeId;
+                }
+                if (sourceCount == 0 || !terminationFlag.running()) {
+                    return;
+                }
+
+                getProgressTracker().logProgress(sourceCount);
+
+                traverseForward(localGraph, sourceCount);
+                traverseBackward(localGraph);
+                clear();
+            }
+        }
+
+        private void traverseForward(Graph localGraph, int sourceCount) {
+            levelStarts.add(0);
+            for (int lane = 0; lane < sourceCount; lane++) {
+                long sourceNode = sources[lane];
+                long sourceLane = 1L << lane;
+                seen.or(sourceNode, sourceLane);
+                addEntry(sourceNode, sourceLane);
+                sigma = grow(sigma, slotCount + 1);
+                sigma.set(slotCount, 1);
+                slotCount++;
+            }
+
+            while (terminationFlag.running()) {
+                long levelStart = levelStarts.get(levelStarts.size() - 1);
+                long levelEnd = entryCount;
+
+                // discover the next level, its lanes are complete once all nodes of the current level are scanned
+                for (long entry = levelStart; entry < levelEnd; entry++) {
+                    long nodeLanes = entryLanes.get(entry);
+                    localGraph.forEachRelationship(entryNodes.get(entry), (source, target) -> {
+                        // the target is one level further than the source for all lanes it has not been seen in before
+                        long newLanes = nodeLanes & ~seen.get(target);
+                        if (newLanes != 0L) {
+                            if (visitNext.get(target) == 0L) {
+                                addEntry(target, 0L);
+                            }
+                            visitNext.or(target, newLanes);
+                        }
+                        return true;
+                    });
+                }
+
+                if (entryCount == levelEnd) {
+                    return;
+                }
+
+                for (long entry = levelEnd; entry < entryCount; entry++) {
+                    long nodeId = entryNodes.get(entry);
+                    long nodeLanes = visitNext.get(nodeId);
+                    entryLanes.set(entry, nodeLanes);
+                    entrySlots.set(entry, slotCount);
+                    slotNext.set(nodeId, slotCount);
+                    seen.or(nodeId, nodeLanes);
+                    slotCount += Long.bitCount(nodeLanes);
+                }
+                sigma = grow(sigma, slotCount);
+                for (long slotIndex = entrySlots.get(levelEnd); slotIndex < slotCount; slotIndex++) {
+                    sigma.set(slotIndex, 0L);
+                }
+
+                // accumulate the shortest path counts along the edges into the next level
+                for (long entry = levelStart; entry < levelEnd; entry++) {
+                    long nodeLanes = entryLanes.get(entry);
+                    long nodeSlot = entrySlots.get(entry);
+                    localGraph.forEachRelationship(entryNodes.get(entry), (source, target) -> {
+                        long targetLanes = visitNext.get(target);
+                        for (long lanes = nodeLanes & targetLanes; lanes != 0L; lanes &= lanes - 1) {
+                            int lane = Long.numberOfTrailingZeros(lanes);
+                            sigma.addTo(
+                                slotNext.get(target) + rank(targetLanes, lane),
+                                sigma.get(nodeSlot + rank(nodeLanes, lane))
+                            );
+                        }
+                        return true;
+                    });
+                }
+
+                for (long entry = levelEnd; entry < entryCount; entry++) {
+                    visitNext.set(entryNodes.get(entry), 0L);
+                }
+                levelStarts.add(levelEnd);
+            }
+        }
+
+        private void traverseBackward(Graph localGraph) {
+            int levelCount = levelStarts.size();
+            // `visitNext` and `slotNext` describe the level after the one being processed
+            moveToNextLevel(levelCount - 1);
+            deltaNext = grow(deltaNext, levelSlotCount(levelCount - 1));
+            resetDeltas(deltaNext, levelSlotCount(levelCount - 1));
+
+            // the sources are the only nodes on level 0 and do not contribute to their own centrality
+            for (int level = levelCount - 2; level > 0; level--) {
+                long levelFirstSlot = entrySlots.get(levelStarts.get(level));
+                long nextLevelFirstSlot = entrySlots.get(levelStarts.get(level + 1));
+                long levelSlotCount = levelSlotCount(level);
+                delta = grow(delta, levelSlotCount);
+                resetDeltas(delta, levelSlotCount);
+
+                for (long entry = levelStarts.get(level); entry < levelEnd(level); entry++) {
+                    long nodeId = entryNodes.get(entry);
+                    long nodeLanes = entryLanes.get(entry);
+                    long nodeSlot = entrySlots.get(entry);
+
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        // shortest path edges for all lanes in which the target is on the next level
+                        long targetLanes = visitNext.get(target);
+                        for (long lanes = nodeLanes & targetLanes; lanes != 0L; lanes &= lanes - 1) {
+                            int lane = Long.numberOfTrailingZeros(lanes);
+                            long sourceSlot = nodeSlot + rank(nodeLanes, lane);
+                            long targetSlot = slotNext.get(target) + rank(targetLanes, lane);
+                            double sigmaSource = sigma.get(sourceSlot);
+                            double sigmaTarget = sigma.get(targetSlot);
+                            delta.addTo(
+                                sourceSlot - levelFirstSlot,
+                                sigmaSource / sigmaTarget * (deltaNext.get(targetSlot - nextLevelFirstSlot) + 1.0)
+                            );
+                        }
+                        return true;
+                    });
+
+                    double dependencyNode = 0;
+                    for (long slotIndex = 0; slotIndex < Long.bitCount(nodeLanes); slotIndex++) {
+                        dependencyNode += delta.get(nodeSlot - levelFirstSlot + slotIndex);
+                    }
+                    if (dependencyNode != 0) {
+                        double current;
+                        do {
+                            current = centrality.get(nodeId);
+                        } while (!centrality.compareAndSet(nodeId, current, current + dependencyNode / divisor));
+                    }
+                }
+
+                for (long entry = levelStarts.get(level + 1); entry < levelEnd(level + 1); entry++) {
+                    visitNext.set(entryNodes.get(entry), 0L);
+                }
+                moveToNextLevel(level);
+                var tmp = delta;
+                delta = deltaNext;
+                deltaNext = tmp;
+            }
+        }
+
+        /**
+         * Makes the given level the one after the level being processed.
+         */
+        private void moveToNextLevel(int level) {
+            for (long entry = levelStarts.get(level); entry < levelEnd(level); entry++) {
+                long nodeId = entryNodes.get(entry);
+                visitNext.set(nodeId, entryLanes.get(entry));
+                slotNext.set(nodeId, entrySlots.get(entry));
+            }
+        }
+
+        private long levelEnd(int level) {
+            return level + 1 < levelStarts.size() ? levelStarts.get(level + 1) : entryCount;
+        }
+
+        private long levelSlotCount(int level) {
+            long levelEnd = levelEnd(level);
+            long nextFirstSlot = levelEnd < entryCount ? entrySlots.get(levelEnd) : slotCount;
+            return nextFirstSlot - entrySlots.get(levelStarts.get(level));
+        }
+
+        private void addEntry(long nodeId, long lanes) {
+            entryNodes = grow(entryNodes, entryCount + 1);
+            entryLanes = grow(entryLanes, entryCount + 1);
+            entrySlots = grow(entrySlots, entryCount + 1);
+            entryNodes.set(entryCount, nodeId);
+            entryLanes.set(entryCount, lanes);
+            entrySlots.set(entryCount, slotCount);
+            entryCount++;
+        }
+
+        /**
+         * Only resets the visited nodes, so that the cost of a batch does not depend on the node count.
+         */
+        private void clear() {
+            for (long entry = 0; entry < entryCount; entry++) {
+                long nodeId = entryNodes.get(entry);
+                visitNext.set(nodeId, 0L);
+                seen.set(nodeId, 0L);
+            }
+            entryCount = 0;
+            slotCount = 0;
+            levelStarts.clear();
+        }
+
+        private void resetDeltas(HugeDoubleArray deltas, long size) {
+            for (long slotIndex = 0; slotIndex < size; slotIndex++) {
+                deltas.set(slotIndex, 0D);
+            }
+        }
+
+        private long rank(long lanes, int lane) {
+            return Long.bitCount(lanes & ((1L << lane) - 1));
+        }
+    }
+
+    private static HugeLongArray grow(HugeLongArray array, long minSize) {
+        return minSize <= array.size() ? array : array.copyOf(ArrayUtil.oversizeHuge(minSize, Long.BYTES));
+    }
+
+    private static HugeDoubleArray grow(HugeDoubleArray array, long minSize) {
+        // the contents of the delta arrays are reset for every level, so they need not be copied
+        return minSize <= array.size()
+            ? array
+            : HugeDoubleArray.newArray(ArrayUtil.oversizeHuge(minSize, Double.BYTES));
+    }
 }
@@ -42,6 +42,31 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
 
     Optional<Long> samplingSeed();
 
+    /**
+     * Whether each thread traverses up to 64 sources at once. Only supported for unweighted graphs.
+     */
+    default boolean multiSource() {
+        return false;
+    }
+
+    /**
+     * If set, shortest paths are sampled until the scores divided by {@code n * (n - 1)} are within this absolute error.
+     */
+    Optional<Double> epsilon();
+
+    /**
+     * The probability that the adaptive sampling exceeds {@link #epsilon()}.
+     */
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double delta() {
+        return 0.1;
+    }
+
+    /**
+     * If set, the adaptive sampling only bounds the error of nodes that might be among the k most central ones.
+     */
+    Optional<Integer> topK();
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -53,6 +78,50 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
                 ));
             }
         });
+        if (multiSource() && hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException(
+                "Configuration parameter 'multiSource' is only supported for unweighted graphs, but 'relationshipWeightProperty' is set."
+            );
+        }
+        epsilon().ifPresentOrElse(epsilon -> {
+            if (epsilon <= 0 || epsilon >= 1) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.ENGLISH,
+                    "Configuration parameter 'epsilon' must be in the range (0, 1), got %s.",
+                    epsilon
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'epsilon' and 'samplingSize' cannot be used together."
+                );
+            }
+            if (multiSource()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'epsilon' and 'multiSource' cannot be used together."
+                );
+            }
+            if (hasRelationshipWeightProperty()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameter 'epsilon' is only supported for unweighted graphs, but 'relationshipWeightProperty' is set."
+                );
+            }
+        }, () -> {
+            if (topK().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameter 'topK' requires 'epsilon' to be set."
+                );
+            }
+        });
+        topK().ifPresent(topK -> {
+            if (topK < 1) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.ENGLISH,
+                    "Configuration parameter 'topK' must be a positive number, got %d.",
+                    topK
+                ));
+            }
+        });
     }
 
     @Configuration.GraphStoreValidationCheck
@@ -92,7 +161,9 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
             concurrency(),
             samplingSize(),
             samplingSeed(),
-            hasRelationshipWeightProperty()
+            hasRelationshipWeightProperty(),
+            multiSource(),
+            epsilon().map(epsilon -> AdaptiveSamplingParameters.create(epsilon, delta(), topK(), samplingSeed()))
         );
     }
 }
@@ -58,6 +58,8 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             traverserFactory,
             DefaultPool.INSTANCE,
             parameters.concurrency(),
+            parameters.multiSource(),
+            parameters.adaptiveSampling(),
             progressTracker
         );
     }
@@ -75,8 +77,18 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     public Task progressTask(Graph graph, Optional<Long> samplingSize) {
         return Tasks.leaf(taskName(), samplingSize.orElse(graph.nodeCount()));
     }
+
+    /**
+     * The number of samples drawn by adaptive sampling is not known upfront.
+     */
+    public Task adaptiveSamplingProgressTask() {
+        return Tasks.leaf(taskName());
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
-        return progressTask(graph, config.samplingSize());
+        return config.epsilon().isPresent()
+            ? adaptiveSamplingProgressTask()
+            : progressTask(graph, config.samplingSize());
     }
 }
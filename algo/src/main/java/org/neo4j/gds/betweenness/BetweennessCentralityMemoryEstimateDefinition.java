@@ -26,27 +26,78 @@ import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.msbfs.MSBFSConstants.OMEGA;
 
 public class BetweennessCentralityMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefinition<BetweennessCentralityBaseConfig> {
 
     public MemoryEstimation memoryEstimation(boolean hasRelationshipWeightProperty) {
+        return memoryEstimation(hasRelationshipWeightProperty, false);
+    }
+
+    public MemoryEstimation memoryEstimation(boolean hasRelationshipWeightProperty, boolean multiSource) {
         return MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
             .perThread(
                 "compute task",
-                bcTaskMemoryEstimationBuilder(hasRelationshipWeightProperty).build()
+                multiSource
+                    ? multiSourceBcTaskMemoryEstimation()
+                    : bcTaskMemoryEstimationBuilder(hasRelationshipWeightProperty).build()
+            ).build();
+    }
+
+    public MemoryEstimation adaptiveSamplingMemoryEstimation() {
+        return MemoryEstimations.builder(BetweennessCentrality.class)
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+            .add(
+                "adaptive sampling",
+                MemoryEstimations.builder(AdaptiveSampling.class)
+                    .perNode("path counts", HugeAtomicLongArray::memoryEstimation)
+                    .perThread("sampling task", MemoryEstimations.builder(AdaptiveSampling.SamplingTask.class)
+                        .perNode("distances", HugeIntArray::memoryEstimation)
+                        .perNode("sigmas", HugeDoubleArray::memoryEstimation)
+                        .perNode("predecessors", HugeLongArray::memoryEstimation)
+                        .perNode("queue", HugeLongArray::memoryEstimation)
+                        .build()
+                    ).build()
             ).build();
     }
 
     @Override
     public MemoryEstimation memoryEstimation(BetweennessCentralityBaseConfig configuration) {
-        return memoryEstimation(configuration.hasRelationshipWeightProperty());
+        if (configuration.epsilon().isPresent()) {
+            return adaptiveSamplingMemoryEstimation();
+        }
+        return memoryEstimation(configuration.hasRelationshipWeightProperty(), configuration.multiSource());
+    }
+
+    private static MemoryEstimation multiSourceBcTaskMemoryEstimation() {
+        return MemoryEstimations.builder(BetweennessCentrality.MultiSourceBCTask.class)
+            .perNode("visitNext", HugeLongArray::memoryEstimation)
+            .perNode("slotNext", HugeLongArray::memoryEstimation)
+            .perNode("seen", HugeLongArray::memoryEstimation)
+            // every node is visited at most once per level and source and has at most one slot per source
+            .rangePerNode("levels", nodeCount -> MemoryRange.of(
+                3 * HugeLongArray.memoryEstimation(nodeCount),
+                3 * HugeLongArray.memoryEstimation(nodeCount * OMEGA)
+            ))
+            .rangePerNode("sigmas", nodeCount -> MemoryRange.of(
+                HugeLongArray.memoryEstimation(nodeCount),
+                HugeLongArray.memoryEstimation(nodeCount * OMEGA)
+            ))
+            // deltas are only kept for two adjacent levels
+            .rangePerNode("deltas", nodeCount -> MemoryRange.of(
+                2 * HugeDoubleArray.memoryEstimation(0),
+                2 * HugeDoubleArray.memoryEstimation(nodeCount * OMEGA)
+            ))
+            .build();
     }
 
     @NotNull
@@ -30,13 +30,17 @@ public final class BetweennessCentralityParameters {
         int concurrency,
         Optional<Long> samplingSize,
         Optional<Long> samplingSeed,
-        boolean hasRelationshipWeightProperty
+        boolean hasRelationshipWeightProperty,
+        boolean multiSource,
+        Optional<AdaptiveSamplingParameters> adaptiveSampling
     ) {
         return new BetweennessCentralityParameters(
             concurrency,
             samplingSize,
             samplingSeed,
-            hasRelationshipWeightProperty
+            hasRelationshipWeightProperty,
+            multiSource,
+            adaptiveSampling
         );
     }
 
@@ -44,17 +48,23 @@ public final class BetweennessCentralityParameters {
     private final Optional<Long> samplingSize;
     private final Optional<Long> samplingSeed;
     private final boolean hasRelationshipWeightProperty;
+    private final boolean multiSource;
+    private final Optional<AdaptiveSamplingParameters> adaptiveSampling;
 
     private BetweennessCentralityParameters(
         int concurrency,
         Optional<Long> samplingSize,
         Optional<Long> samplingSeed,
-        boolean hasRelationshipWeightProperty
+        boolean hasRelationshipWeightProperty,
+        boolean multiSource,
+        Optional<AdaptiveSamplingParameters> adaptiveSampling
     ) {
         this.concurrency = concurrency;
         this.samplingSize = samplingSize;
         this.samplingSeed = samplingSeed;
         this.hasRelationshipWeightProperty = hasRelationshipWeightProperty;
+        this.multiSource = multiSource;
+        this.adaptiveSampling = adaptiveSampling;
     }
 
     int concurrency() {
@@ -72,4 +82,12 @@ public final class BetweennessCentralityParameters {
     boolean hasRelationshipWeightProperty() {
         return hasRelationshipWeightProperty;
     }
+
+    boolean multiSource() {
+        return multiSource;
+    }
+
+    public Optional<AdaptiveSamplingParameters> adaptiveSampling() {
+        return adaptiveSampling;
+    }
 }
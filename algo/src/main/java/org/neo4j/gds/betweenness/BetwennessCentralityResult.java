@@ -24,14 +24,17 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 
+import java.util.Optional;
 import java.util.function.LongToDoubleFunction;
 
 public class BetwennessCentralityResult  implements CentralityAlgorithmResult {
 
    private final HugeAtomicDoubleArray centralities;
+   private final Optional<Double> approximationError;
 
-   BetwennessCentralityResult(HugeAtomicDoubleArray centralities){
+   BetwennessCentralityResult(HugeAtomicDoubleArray centralities, Optional<Double> approximationError){
        this.centralities=centralities;
+       this.approximationError=approximationError;
    }
     @Override
     public NodePropertyValues nodePropertyValues() {
@@ -46,4 +49,11 @@ public class BetwennessCentralityResult  implements CentralityAlgorithmResult {
     public HugeAtomicDoubleArray centralities(){
        return centralities;
     }
+
+    /**
+     * The absolute error bound of the normalized scores, only present if adaptive sampling was used.
+     */
+    public Optional<Double> approximationError() {
+       return approximationError;
+    }
 }
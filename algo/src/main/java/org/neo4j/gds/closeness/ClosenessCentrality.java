@@ -29,6 +29,7 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.PivotSampling;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -38,6 +39,9 @@ import java.util.concurrent.ExecutorService;
  *
  * Utilizes the MSBFS for counting the farness between nodes.
  * See MSBFS documentation.
+ *
+ * If a {@link PivotSampling} is given, the MSBFS only runs from the pivots
+ * and farness and component size are extrapolated from them.
  */
 public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResult> {
 
@@ -52,6 +56,7 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
     private final HugeAtomicIntArray farness;
     private final HugeAtomicIntArray component;
     private final CentralityComputer centralityComputer;
+    private final Optional<PivotSampling> pivotSampling;
 
     ClosenessCentrality(
         Graph graph,
@@ -59,6 +64,17 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         CentralityComputer centralityComputer,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, centralityComputer, Optional.empty(), executorService, progressTracker);
+    }
+
+    ClosenessCentrality(
+        Graph graph,
+        int concurrency,
+        CentralityComputer centralityComputer,
+        Optional<PivotSampling> pivotSampling,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -66,6 +82,7 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.centralityComputer = centralityComputer;
+        this.pivotSampling = pivotSampling;
         this.farness = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(concurrency));
         this.component = HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(concurrency));
     }
@@ -77,7 +94,7 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         var centralities = computeCloseness();
         progressTracker.endSubTask();
 
-        return new ClosenessCentralityResult(centralities);
+        return new ClosenessCentralityResult(centralities, pivotSampling.map(PivotSampling::approximationError));
     }
 
     private void computeFarness() {
@@ -88,8 +105,18 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             component.getAndAdd(nodeId, len);
             progressTracker.logProgress();
         };
-        MultiSourceBFSAccessMethods
-            .aggregatedNeighborProcessingWithoutSourceNodes(nodeCount, graph, consumer)
+        pivotSampling
+            .map(sampling -> MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+                nodeCount,
+                graph,
+                consumer,
+                sampling.pivots()
+            ))
+            .orElseGet(() -> MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
+                nodeCount,
+                graph,
+                consumer
+            ))
             .run(concurrency, executorService);
         progressTracker.endSubTask();
     }
@@ -103,10 +130,7 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             concurrency,
             nodeCount,
             partition -> (Runnable) () -> {
-                partition.consume(nodeId -> closeness.set(nodeId, centralityComputer.centrality(
-                    farness.get(nodeId),
-                    component.get(nodeId)
-                )));
+                partition.consume(nodeId -> closeness.set(nodeId, centrality(nodeId)));
                 progressTracker.logProgress(partition.nodeCount());
             },
             Optional.empty()
@@ -118,4 +142,15 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         
         return closeness;
     }
+
+    private double centrality(long nodeId) {
+        if (pivotSampling.isEmpty()) {
+            return centralityComputer.centrality(farness.get(nodeId), component.get(nodeId));
+        }
+        var sampling = pivotSampling.get();
+        return centralityComputer.centrality(
+            sampling.extrapolate(nodeId, farness.get(nodeId)),
+            sampling.extrapolate(nodeId, component.get(nodeId))
+        );
+    }
 }
@@ -26,6 +26,7 @@ import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.msbfs.PivotSampling;
 
 public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentralityBaseConfig> extends
     GraphAlgorithmFactory<ClosenessCentrality, CONFIG> {
@@ -38,6 +39,11 @@ public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentral
             graph,
             parameters.concurrency(),
             centralityComputer,
+            parameters.samplingSize().map(samplingSize -> PivotSampling.create(
+                graph.nodeCount(),
+                samplingSize,
+                parameters.samplingSeed()
+            )),
             DefaultPool.INSTANCE,
             progressTracker
         );
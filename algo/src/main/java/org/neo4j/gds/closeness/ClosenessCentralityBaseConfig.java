@@ -19,9 +19,14 @@
  */
 package org.neo4j.gds.closeness;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Configuration
 public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig {
 
@@ -29,8 +34,32 @@ public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig {
         return false;
     }
 
+    /**
+     * If set, the BFS only runs from this many randomly sampled pivots and the scores are extrapolated.
+     */
+    Optional<Long> samplingSize();
+
+    Optional<Long> samplingSeed();
+
+    @Value.Check
+    default void validateSamplingSize() {
+        samplingSize().ifPresent(samplingSize -> {
+            if (samplingSize < 2) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingSize' must be at least 2, got %d.",
+                    samplingSize
+                ));
+            }
+        });
+    }
+
     @Configuration.Ignore
     default ClosenessCentralityParameters toParameters() {
-        return ClosenessCentralityParameters.create(concurrency(), useWassermanFaust());
+        return ClosenessCentralityParameters.create(
+            concurrency(),
+            useWassermanFaust(),
+            samplingSize(),
+            samplingSeed()
+        );
     }
 }
@@ -21,19 +21,35 @@ package org.neo4j.gds.closeness;
 
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.Optional;
+
 @Parameters
 public final class ClosenessCentralityParameters {
 
-    static ClosenessCentralityParameters create(int concurrency, boolean useWassermanFaust) {
-        return new ClosenessCentralityParameters(concurrency, useWassermanFaust);
+    static ClosenessCentralityParameters create(
+        int concurrency,
+        boolean useWassermanFaust,
+        Optional<Long> samplingSize,
+        Optional<Long> samplingSeed
+    ) {
+        return new ClosenessCentralityParameters(concurrency, useWassermanFaust, samplingSize, samplingSeed);
     }
 
     private final int concurrency;
     private final boolean useWassermanFaust;
+    private final Optional<Long> samplingSize;
+    private final Optional<Long> samplingSeed;
 
-    private ClosenessCentralityParameters(int concurrency, boolean useWassermanFaust) {
+    private ClosenessCentralityParameters(
+        int concurrency,
+        boolean useWassermanFaust,
+        Optional<Long> samplingSize,
+        Optional<Long> samplingSeed
+    ) {
         this.concurrency = concurrency;
         this.useWassermanFaust = useWassermanFaust;
+        this.samplingSize = samplingSize;
+        this.samplingSeed = samplingSeed;
     }
 
     int concurrency() {
@@ -43,4 +59,12 @@ public final class ClosenessCentralityParameters {
     boolean useWassermanFaust() {
         return useWassermanFaust;
     }
+
+    Optional<Long> samplingSize() {
+        return samplingSize;
+    }
+
+    Optional<Long> samplingSeed() {
+        return samplingSeed;
+    }
 }
@@ -24,15 +24,18 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 
+import java.util.Optional;
 import java.util.function.LongToDoubleFunction;
 
 
 public class ClosenessCentralityResult implements CentralityAlgorithmResult {
 
     private final HugeDoubleArray centralities;
+    private final Optional<Double> approximationError;
 
-    ClosenessCentralityResult(HugeDoubleArray centralities) {
+    ClosenessCentralityResult(HugeDoubleArray centralities, Optional<Double> approximationError) {
         this.centralities = centralities;
+        this.approximationError = approximationError;
     }
     
     @Override
@@ -44,4 +47,11 @@ public class ClosenessCentralityResult implements CentralityAlgorithmResult {
     public LongToDoubleFunction centralityScoreProvider() {
         return centralities::get;
     }
+
+    /**
+     * The error bound of the mean distances relative to the diameter, only present if pivots were sampled.
+     */
+    public Optional<Double> approximationError() {
+        return approximationError;
+    }
 }
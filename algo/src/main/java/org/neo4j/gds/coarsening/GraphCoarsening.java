@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.coarsening;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+
+/**
+ * Contracts every community of a graph into a single node.
+ * <p>
+ * The relationships between two communities are merged into one relationship whose weight is the sum
+ * of the merged weights, using a fallback weight of 1.0 for unweighted graphs. Relationships within a
+ * community become a self-loop, unless self-loops are excluded.
+ * <p>
+ * Nodes are grouped by community with a counting sort, so that most communities can be processed by
+ * a single thread. Each thread sums the weights of its current community in a hash map keyed by the
+ * target community and appends the result as one uncompressed adjacency list. This avoids buffering,
+ * sorting and compressing the relationships like the general purpose relationships builder does.
+ * Communities with more relationships than a single batch are split by their members across several
+ * threads instead, each summing into its own map, and the maps are merged before writing.
+ * <p>
+ * The original ids of the returned graph are the community ids.
+ */
+public final class GraphCoarsening {
+
+    static final String RELATIONSHIP_TYPE = "_IGNORED_";
+    static final String PROPERTY_KEY = "property";
+
+    private final Graph graph;
+    private final LongUnaryOperator communities;
+    private final long maxCommunityId;
+    private final Direction direction;
+    private final boolean includeSelfLoops;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    public GraphCoarsening(
+        Graph graph,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        Direction direction,
+        boolean includeSelfLoops,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.communities = communities;
+        this.maxCommunityId = maxCommunityId;
+        this.direction = direction;
+        this.includeSelfLoops = includeSelfLoops;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+    }
+
+    /**
+     * Estimates the uncompressed CSR of the coarse graph: an 8-byte target and an 8-byte weight per
+     * relationship as well as a degree and two offsets per node. The coarse graph is at most as large
+     * as the given graph and at least a single node without relationships.
+     */
+    public static MemoryRange memoryRange(GraphDimensions dimensions) {
+        return MemoryRange.of(
+            csrMemoryEstimation(Math.min(1, dimensions.nodeCount()), 0),
+            csrMemoryEstimation(dimensions.nodeCount(), dimensions.relCountUpperBound())
+        );
+    }
+
+    private static long csrMemoryEstimation(long nodeCount, long relationshipCount) {
+        int pages = (int) BitUtil.ceilDiv(relationshipCount, BumpAllocator.PAGE_SIZE);
+        long pagesSize = pages * MemoryUsage.sizeOfLongArray(BumpAllocator.PAGE_SIZE) + MemoryUsage.sizeOfObjectArray(pages);
+        return 2 * pagesSize
+               + HugeIntArray.memoryEstimation(nodeCount)
+               + 2 * HugeLongArray.memoryEstimation(nodeCount);
+    }
+
+    public Graph run() {
+        long nodeCount = graph.nodeCount();
+        long communityBound = maxCommunityId + 1;
+
+        // 1. count the members and their degrees per community
+        var memberCounts = HugeAtomicLongArray.of(communityBound, ParalleLongPageCreator.passThrough(concurrency));
+        var degreeSums = HugeAtomicLongArray.of(communityBound, ParalleLongPageCreator.passThrough(concurrency));
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            long communityId = communities.applyAsLong(nodeId);
+            memberCounts.getAndAdd(communityId, 1);
+            degreeSums.getAndAdd(communityId, graph.degree(nodeId));
+        });
+
+        terminationFlag.assertRunning();
+
+        // 2. number the non-empty communities in ascending order and compute their member offsets
+        long batchSize = Math.max(DEFAULT_BATCH_SIZE, BitUtil.ceilDiv(graph.relationshipCount(), concurrency));
+        var largeCommunities = new LongArrayList();
+        var communityIds = HugeLongArray.newArray(communityBound);
+        var memberOffsets = HugeLongArray.newArray(communityBound + 1);
+        var idMapBuilder = HugeSparseLongArray.builder(IdMap.NOT_FOUND, communityBound);
+        long coarseNodeCount = 0;
+        long memberOffset = 0;
+        for (long communityId = 0; communityId < communityBound; communityId++) {
+            long memberCount = memberCounts.get(communityId);
+            if (memberCount > 0) {
+                if (degreeSums.get(communityId) > batchSize) {
+                    largeCommunities.add(coarseNodeCount);
+                }
+                communityIds.set(coarseNodeCount, communityId);
+                memberOffsets.set(coarseNodeCount, memberOffset);
+                idMapBuilder.set(communityId, coarseNodeCount++);
+                // from now on, the count is the next free position of the community
+                memberCounts.set(communityId, memberOffset);
+                memberOffset += memberCount;
+            }
+        }
+        memberOffsets.set(coarseNodeCount, memberOffset);
+
+        var sortedMembers = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            long position = memberCounts.getAndAdd(communities.applyAsLong(nodeId), 1);
+            sortedMembers.set(position, nodeId);
+        });
+
+        var originalIds = communityIds.copyOf(coarseNodeCount);
+        var idMap = new ArrayIdMap(
+            originalIds,
+            idMapBuilder.build(),
+            LabelInformationBuilders.allNodes().build(coarseNodeCount, LongUnaryOperator.identity()),
+            coarseNodeCount,
+            maxCommunityId
+        );
+
+        terminationFlag.assertRunning();
+
+        // 3. aggregate the relationships of every community into its adjacency list
+        var adjacencyBuilder = new UncompressedAdjacencyListBuilder(MemoryTracker.empty());
+        var propertyBuilder = new UncompressedAdjacencyListBuilder(MemoryTracker.empty());
+        var degrees = HugeIntArray.newArray(coarseNodeCount);
+        var adjacencyOffsets = HugeLongArray.newArray(coarseNodeCount);
+        var propertyOffsets = HugeLongArray.newArray(coarseNodeCount);
+
+        // the large communities are left out here and split across several tasks below
+        List<CoarseningTask> tasks = PartitionUtils.degreePartitionWithBatchSize(
+            coarseNodeCount,
+            coarseNodeId -> {
+                long degreeSum = degreeSums.get(originalIds.get(coarseNodeId));
+                return degreeSum > batchSize ? 0 : (int) Math.min(degreeSum, Integer.MAX_VALUE);
+            },
+            batchSize,
+            partition -> new CoarseningTask(
+                partition,
+                graph.concurrentCopy(),
+                sortedMembers,
+                memberOffsets,
+                degreeSums,
+                batchSize,
+                new AdjacencyWriter(
+                    idMap,
+                    adjacencyBuilder.newAllocator(),
+                    propertyBuilder.newAllocator(),
+                    degrees,
+                    adjacencyOffsets,
+                    propertyOffsets
+                )
+            )
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        var largeCommunityWriter = new AdjacencyWriter(
+            idMap,
+            adjacencyBuilder.newAllocator(),
+            propertyBuilder.newAllocator(),
+            degrees,
+            adjacencyOffsets,
+            propertyOffsets
+        );
+        for (LongCursor cursor : largeCommunities) {
+            aggregateLargeCommunity(cursor.value, idMap, sortedMembers, memberOffsets, degreeSums, largeCommunityWriter);
+        }
+        largeCommunityWriter.close();
+
+        long relationshipCount = largeCommunityWriter.relationshipCount() + tasks
+            .stream()
+            .mapToLong(task -> task.writer.relationshipCount())
+            .sum();
+
+        var topology = ImmutableTopology.builder()
+            .isMultiGraph(false)
+            .adjacencyList(adjacencyBuilder.build(degrees, adjacencyOffsets, false))
+            .elementCount(relationshipCount)
+            .build();
+
+        var properties = ImmutableProperties.builder()
+            .propertiesList(propertyBuilder.build(degrees, propertyOffsets, false))
+            .defaultPropertyValue(DefaultValue.DOUBLE_DEFAULT_FALLBACK)
+            .elementCount(relationshipCount)
+            .build();
+
+        var relationships = SingleTypeRelationships.of(
+            RelationshipType.of(RELATIONSHIP_TYPE),
+            topology,
+            direction,
+            Optional.of(properties),
+            Optional.of(RelationshipPropertySchema.of(
+                PROPERTY_KEY,
+                ValueType.DOUBLE,
+                DefaultValue.forDouble(),
+                PropertyState.TRANSIENT,
+                Aggregation.SUM
+            ))
+        );
+
+        return GraphFactory.create(idMap, relationships);
+    }
+
+    /**
+     * Splits the members of a community with more relationships than a single batch into degree partitions.
+     * Every partition sums its weights into its own map, the maps are merged before writing the adjacency list.
+     */
+    private void aggregateLargeCommunity(
+        long coarseNodeId,
+        IdMap idMap,
+        HugeLongArray sortedMembers,
+        HugeLongArray memberOffsets,
+        HugeAtomicLongArray degreeSums,
+        AdjacencyWriter writer
+    ) {
+        long communityId = idMap.toOriginalNodeId(coarseNodeId);
+        long start = memberOffsets.get(coarseNodeId);
+        long memberCount = memberOffsets.get(coarseNodeId + 1) - start;
+
+        List<MemberRangeTask> tasks = PartitionUtils.degreePartitionWithBatchSize(
+            memberCount,
+            memberIndex -> graph.degree(sortedMembers.get(start + memberIndex)),
+            BitUtil.ceilDiv(degreeSums.get(communityId), concurrency),
+            partition -> new MemberRangeTask(
+                graph.concurrentCopy(),
+                sortedMembers,
+                communityId,
+                start + partition.startNode(),
+                start + partition.startNode() + partition.nodeCount()
+            )
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        var weights = tasks.get(0).weights;
+        for (int i = 1; i < tasks.size(); i++) {
+            for (LongDoubleCursor cursor : tasks.get(i).weights) {
+                weights.addTo(cursor.key, cursor.value);
+            }
+        }
+
+        writer.write(coarseNodeId, weights);
+    }
+
+    private void aggregateMembers(
+        RelationshipIterator relationshipIterator,
+        HugeLongArray sortedMembers,
+        long communityId,
+        long startIndex,
+        long endIndex,
+        LongDoubleHashMap weights
+    ) {
+        for (long memberIndex = startIndex; memberIndex < endIndex; memberIndex++) {
+            relationshipIterator.forEachRelationship(
+                sortedMembers.get(memberIndex),
+                1.0,
+                (source, target, weight) -> {
+                    long targetCommunityId = communities.applyAsLong(target);
+                    if (includeSelfLoops || targetCommunityId != communityId) {
+                        weights.addTo(targetCommunityId, weight);
+                    }
+                    return true;
+                }
+            );
+        }
+        progressTracker.logProgress(endIndex - startIndex);
+    }
+
+    private final class CoarseningTask implements Runnable {
+
+        private final DegreePartition partition;
+        private final RelationshipIterator relationshipIterator;
+        private final HugeLongArray sortedMembers;
+        private final HugeLongArray memberOffsets;
+        private final HugeAtomicLongArray degreeSums;
+        private final long batchSize;
+        private final AdjacencyWriter writer;
+        private final LongDoubleHashMap weights;
+
+        private CoarseningTask(
+            DegreePartition partition,
+            RelationshipIterator relationshipIterator,
+            HugeLongArray sortedMembers,
+            HugeLongArray memberOffsets,
+            HugeAtomicLongArray degreeSums,
+            long batchSize,
+            AdjacencyWriter writer
+        ) {
+            this.partition = partition;
+            this.relationshipIterator = relationshipIterator;
+            this.sortedMembers = sortedMembers;
+            this.memberOffsets = memberOffsets;
+            this.degreeSums = degreeSums;
+            this.batchSize = batchSize;
+            this.writer = writer;
+            this.weights = new LongDoubleHashMap();
+        }
+
+        @Override
+        public void run() {
+            partition.consume(coarseNodeId -> {
+                long communityId = writer.idMap.toOriginalNodeId(coarseNodeId);
+                if (degreeSums.get(communityId) > batchSize) {
+                    return;
+                }
+
+                aggregateMembers(
+                    relationshipIterator,
+                    sortedMembers,
+                    communityId,
+                    memberOffsets.get(coarseNodeId),
+                    memberOffsets.get(coarseNodeId + 1),
+                    weights
+                );
+                writer.write(coarseNodeId, weights);
+            });
+
+            writer.close();
+        }
+    }
+
+    private final class MemberRangeTask implements Runnable {
+
+        private final RelationshipIterator relationshipIterator;
+        private final HugeLongArray sortedMembers;
+        private final long communityId;
+        private final long startIndex;
+        private final long endIndex;
+        private final LongDoubleHashMap weights;
+
+        private MemberRangeTask(
+            RelationshipIterator relationshipIterator,
+            HugeLongArray sortedMembers,
+            long communityId,
+            long startIndex,
+            long endIndex
+        ) {
+            this.relationshipIterator = relationshipIterator;
+            this.sortedMembers = sortedMembers;
+            this.communityId = communityId;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.weights = new LongDoubleHashMap();
+        }
+
+        @Override
+        public void run() {
+            aggregateMembers(relationshipIterator, sortedMembers, communityId, startIndex, endIndex, weights);
+        }
+    }
+
+    private static final class AdjacencyWriter {
+
+        private final IdMap idMap;
+        private final UncompressedAdjacencyListBuilder.Allocator adjacencyAllocator;
+        private final UncompressedAdjacencyListBuilder.Allocator propertyAllocator;
+        private final HugeIntArray degrees;
+        private final HugeLongArray adjacencyOffsets;
+        private final HugeLongArray propertyOffsets;
+        private final ModifiableSlice<long[]> slice;
+        private long relationshipCount;
+
+        private AdjacencyWriter(
+            IdMap idMap,
+            UncompressedAdjacencyListBuilder.Allocator adjacencyAllocator,
+            UncompressedAdjacencyListBuilder.Allocator propertyAllocator,
+            HugeIntArray degrees,
+            HugeLongArray adjacencyOffsets,
+            HugeLongArray propertyOffsets
+        ) {
+            this.idMap = idMap;
+            this.adjacencyAllocator = adjacencyAllocator;
+            this.propertyAllocator = propertyAllocator;
+            this.degrees = degrees;
+            this.adjacencyOffsets = adjacencyOffsets;
+            this.propertyOffsets = propertyOffsets;
+            this.slice = ModifiableSlice.create();
+        }
+
+        /**
+         * Writes the summed weights as the adjacency list of the given coarse node and clears them.
+         */
+        void write(long coarseNodeId, LongDoubleHashMap weights) {
+            int degree = weights.size();
+            if (degree == 0) {
+                return;
+            }
+
+            var targets = new long[degree];
+            var values = new double[degree];
+            int index = 0;
+            for (LongDoubleCursor cursor : weights) {
+                targets[index] = cursor.key;
+                values[index++] = cursor.value;
+            }
+            weights.clear();
+
+            // the coarse node ids are ascending in the community ids
+            int[] order = IndirectSort.mergesort(0, degree, new AscendingLongComparator(targets));
+
+            long adjacencyOffset = adjacencyAllocator.allocate(degree, slice);
+            for (int i = 0; i < degree; i++) {
+                slice.slice()[slice.offset() + i] = idMap.toMappedNodeId(targets[order[i]]);
+            }
+
+            long propertyOffset = propertyAllocator.allocate(degree, slice);
+            for (int i = 0; i < degree; i++) {
+                slice.slice()[slice.offset() + i] = Double.doubleToLongBits(values[order[i]]);
+            }
+
+            degrees.set(coarseNodeId, degree);
+            adjacencyOffsets.set(coarseNodeId, adjacencyOffset);
+            propertyOffsets.set(coarseNodeId, propertyOffset);
+            relationshipCount += degree;
+        }
+
+        void close() {
+            adjacencyAllocator.close();
+            propertyAllocator.close();
+        }
+
+        long relationshipCount() {
+            return relationshipCount;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.fastrp;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The nodes that take part in extending existing FastRP embeddings after a set of nodes has changed.
+ *
+ * The embedding of a node after {@code k} iterations only depends on the initial vectors of the nodes
+ * within {@code k} hops along its relationships. Hence, only the embeddings of nodes that reach a changed node
+ * within {@code k} hops are affected. To recompute them exactly, the intermediate embedding of iteration {@code i}
+ * is required for all nodes within {@code k - i} hops of the affected nodes.
+ */
+final class AffectedRegion {
+
+    // regions[d] contains all nodes within d hops of the affected nodes
+    private final HugeAtomicBitSet[] regions;
+
+    private AffectedRegion(HugeAtomicBitSet[] regions) {
+        this.regions = regions;
+    }
+
+    static AffectedRegion of(
+        Graph graph,
+        HugeAtomicBitSet changedNodes,
+        int iterations,
+        int concurrency,
+        int minBatchSize,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var expander = new Expander(graph, concurrency, minBatchSize, executorService, terminationFlag);
+
+        var affected = changedNodes;
+        for (int hop = 0; hop < iterations; hop++) {
+            affected = expander.expandIncoming(affected);
+        }
+
+        var regions = new HugeAtomicBitSet[iterations + 1];
+        regions[0] = affected;
+        for (int hop = 1; hop <= iterations; hop++) {
+            regions[hop] = expander.expandOutgoing(regions[hop - 1]);
+        }
+
+        return new AffectedRegion(regions);
+    }
+
+    /**
+     * Whether the embedding of the node has to be recomputed.
+     */
+    boolean isAffected(long nodeId) {
+        return regions[0].get(nodeId);
+    }
+
+    /**
+     * Whether the intermediate embedding of the given iteration is required for the node.
+     * Iteration {@code 0} refers to the initial random vectors.
+     */
+    boolean isRequired(int iteration, long nodeId) {
+        return regions[regions.length - 1 - iteration].get(nodeId);
+    }
+
+    private static final class Expander {
+        private final Graph graph;
+        private final int concurrency;
+        private final int minBatchSize;
+        private final ExecutorService executorService;
+        private final TerminationFlag terminationFlag;
+
+        private Expander(
+            Graph graph,
+            int concurrency,
+            int minBatchSize,
+            ExecutorService executorService,
+            TerminationFlag terminationFlag
+        ) {
+            this.graph = graph;
+            this.concurrency = concurrency;
+            this.minBatchSize = minBatchSize;
+            this.executorService = executorService;
+            this.terminationFlag = terminationFlag;
+        }
+
+        /**
+         * Adds all nodes that have a relationship to a node in the region.
+         * Without an inverse index, all nodes outside the region have to be scanned.
+         */
+        HugeAtomicBitSet expandIncoming(HugeAtomicBitSet region) {
+            var characteristics = graph.characteristics();
+            if (characteristics.isUndirected()) {
+                return expandOutgoing(region);
+            }
+
+            var expanded = copy(region);
+            if (characteristics.isInverseIndexed()) {
+                run((localGraph, nodeId) -> {
+                    if (region.get(nodeId)) {
+                        localGraph.forEachInverseRelationship(nodeId, (source, target) -> {
+                            expanded.set(target);
+                            return true;
+                        });
+                    }
+                });
+            } else {
+                run((localGraph, nodeId) -> {
+                    if (!region.get(nodeId)) {
+                        localGraph.forEachRelationship(nodeId, (source, target) -> {
+                            if (region.get(target)) {
+                                expanded.set(source);
+                                return false;
+                            }
+                            return true;
+                        });
+                    }
+                });
+            }
+            return expanded;
+        }
+
+        /**
+         * Adds all nodes that a node in the region has a relationship to.
+         */
+        HugeAtomicBitSet expandOutgoing(HugeAtomicBitSet region) {
+            var expanded = copy(region);
+            run((localGraph, nodeId) -> {
+                if (region.get(nodeId)) {
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        expanded.set(target);
+                        return true;
+                    });
+                }
+            });
+            return expanded;
+        }
+
+        private void run(NodeVisitor visitor) {
+            List<Runnable> tasks = PartitionUtils.rangePartition(
+                concurrency,
+                graph.nodeCount(),
+                partition -> {
+                    var localGraph = graph.concurrentCopy();
+                    return () -> partition.consume(nodeId -> visitor.visit(localGraph, nodeId));
+                },
+                Optional.of(minBatchSize)
+            );
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .terminationFlag(terminationFlag)
+                .executor(executorService)
+                .run();
+        }
+
+        private HugeAtomicBitSet copy(HugeAtomicBitSet region) {
+            var copy = HugeAtomicBitSet.create(region.size());
+            region.forEachSetBit(copy::set);
+            return copy;
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(Graph localGraph, long nodeId);
+    }
+}
@@ -19,13 +19,17 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.nodeproperties.FixedStrideFloatArrayNodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionConsumer;
@@ -39,12 +43,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Norm;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Normalize;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -54,6 +57,8 @@ public class FastRP extends Algorithm<FastRPResult> {
     private static final int SPARSITY = 3;
     private static final double ENTRY_PROBABILITY = 1.0 / (2 * SPARSITY);
     private static final float EPSILON = 10f / Float.MAX_VALUE;
+    private static final float[] EMPTY_FLOATS = new float[0];
+    private static final double[] EMPTY_DOUBLES = new double[0];
 
     private final Graph graph;
     private final int concurrency;
@@ -63,9 +68,9 @@ public class FastRP extends Algorithm<FastRPResult> {
     private final double relationshipWeightFallback;
     private final int inputDimension;
     private final float[][] propertyVectors;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    private final FixedStrideFloatArrayNodePropertyValues embeddings;
+    private final FixedStrideFloatArrayNodePropertyValues embeddingA;
+    private final FixedStrideFloatArrayNodePropertyValues embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
     private final long randomSeed;
 
@@ -74,7 +79,11 @@ public class FastRP extends Algorithm<FastRPResult> {
     private final Number nodeSelfInfluence;
     private final List<Number> iterationWeights;
     private final int minBatchSize;
+    private final ExecutorService executorService;
+    private final Optional<String> seedProperty;
+    private final List<Long> changedNodes;
     private List<DegreePartition> partitions;
+    private @Nullable AffectedRegion affectedRegion;
 
     public FastRP(
         Graph graph,
@@ -84,6 +93,28 @@ public class FastRP extends Algorithm<FastRPResult> {
         List<FeatureExtractor> featureExtractors,
         ProgressTracker progressTracker,
         Optional<Long> randomSeed
+    ) {
+        this(
+            graph,
+            parameters,
+            concurrency,
+            minBatchSize,
+            featureExtractors,
+            DefaultPool.INSTANCE,
+            progressTracker,
+            randomSeed
+        );
+    }
+
+    public FastRP(
+        Graph graph,
+        FastRPParameters parameters,
+        int concurrency,
+        int minBatchSize,
+        List<FeatureExtractor> featureExtractors,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        Optional<Long> randomSeed
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -94,21 +125,23 @@ public class FastRP extends Algorithm<FastRPResult> {
         this.randomSeed = improveSeed(randomSeed.orElseGet(System::nanoTime));
         this.concurrency = concurrency;
         this.minBatchSize = minBatchSize;
+        this.executorService = executorService;
 
         this.propertyVectors = new float[inputDimension][parameters.propertyDimension()];
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-
         this.embeddingDimension = parameters.embeddingDimension();
+        this.embeddings = FixedStrideFloatArrayNodePropertyValues.create(graph.nodeCount(), embeddingDimension);
+        this.embeddingA = FixedStrideFloatArrayNodePropertyValues.create(graph.nodeCount(), embeddingDimension);
+        this.embeddingB = FixedStrideFloatArrayNodePropertyValues.create(graph.nodeCount(), embeddingDimension);
+
         this.baseEmbeddingDimension = parameters.embeddingDimension() - parameters.propertyDimension();
         this.iterationWeights = parameters.iterationWeights();
         this.nodeSelfInfluence = parameters.nodeSelfInfluence();
         this.normalizationStrength = parameters.normalizationStrength();
+        this.seedProperty = parameters.seedProperty();
+        this.changedNodes = parameters.changedNodes();
         this.embeddingCombiner = graph.hasRelationshipProperty()
-            ? this::addArrayValuesWeighted
-            : (lhs, rhs, ignoreWeight) -> addInPlace(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingDimension]);
+            ? FastRP::addArrayValuesWeighted
+            : (into, page, offset, ignoreWeight) -> addArrayValues(into, page, offset);
     }
 
     @Override
@@ -116,6 +149,7 @@ public class FastRP extends Algorithm<FastRPResult> {
         progressTracker.beginSubTask();
         initDegreePartition();
         initPropertyVectors();
+        seedProperty.ifPresent(this::initSeedEmbeddings);
         initRandomVectors();
         addInitialVectorsToEmbedding();
         propagateEmbeddings();
@@ -144,6 +178,108 @@ public class FastRP extends Algorithm<FastRPResult> {
         }
     }
 
+    /**
+     * Reuses the seed embeddings of all nodes that are not affected by the changed nodes.
+     * Only the embeddings of the affected nodes are recomputed, using the intermediate embeddings of their neighbourhood.
+     */
+    void initSeedEmbeddings(String seedProperty) {
+        var seedEmbeddings = graph.nodeProperties(seedProperty);
+        var valueType = seedEmbeddings.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The seed property `%s` must contain float or double arrays, but has type `%s`.",
+                seedProperty,
+                valueType
+            ));
+        }
+
+        var changed = HugeAtomicBitSet.create(graph.nodeCount());
+        changedNodes.forEach(originalNodeId -> changed.set(graph.toMappedNodeId(originalNodeId)));
+        // nodes without a seed embedding, such as newly added nodes, have to be computed
+        forEachNode(nodeId -> {
+            if (!hasSeedEmbedding(seedEmbeddings, valueType, nodeId)) {
+                changed.set(nodeId);
+            }
+        });
+
+        var region = AffectedRegion.of(
+            graph,
+            changed,
+            iterationWeights.size(),
+            concurrency,
+            minBatchSize,
+            executorService,
+            terminationFlag
+        );
+        forEachNode(nodeId -> {
+            if (!region.isAffected(nodeId)) {
+                copySeedEmbedding(seedProperty, seedEmbeddings, valueType, nodeId);
+            }
+        });
+        this.affectedRegion = region;
+    }
+
+    private static boolean hasSeedEmbedding(NodePropertyValues seedEmbeddings, ValueType valueType, long nodeId) {
+        if (!seedEmbeddings.hasValue(nodeId)) {
+            return false;
+        }
+        // copying into an empty target only reports the length; fixed stride values answer that without allocating,
+        // other implementations may still materialize the array
+        return valueType == ValueType.FLOAT_ARRAY
+            ? seedEmbeddings.copyFloatArrayValue(nodeId, EMPTY_FLOATS, 0) >= 0
+            : seedEmbeddings.copyDoubleArrayValue(nodeId, EMPTY_DOUBLES, 0) >= 0;
+    }
+
+    private void copySeedEmbedding(String seedProperty, NodePropertyValues seedEmbeddings, ValueType valueType, long nodeId) {
+        var page = embeddings.page(nodeId);
+        var offset = embeddings.offset(nodeId);
+        if (valueType == ValueType.FLOAT_ARRAY) {
+            validateSeedDimension(seedProperty, seedEmbeddings.copyFloatArrayValue(nodeId, EMPTY_FLOATS, 0), nodeId);
+            seedEmbeddings.copyFloatArrayValue(nodeId, page, offset);
+        } else {
+            var seedEmbedding = seedEmbeddings.doubleArrayValue(nodeId);
+            validateSeedDimension(seedProperty, seedEmbedding.length, nodeId);
+            for (int i = 0; i < embeddingDimension; i++) {
+                page[offset + i] = (float) seedEmbedding[i];
+            }
+        }
+    }
+
+    private void validateSeedDimension(String seedProperty, int seedDimension, long nodeId) {
+        if (seedDimension != embeddingDimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The seed property `%s` of node `%d` has dimension %d, but `embeddingDimension` is %d.",
+                seedProperty,
+                graph.toOriginalNodeId(nodeId),
+                seedDimension,
+                embeddingDimension
+            ));
+        }
+    }
+
+    private void forEachNode(LongConsumer consumer) {
+        List<Runnable> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> () -> partition.consume(consumer),
+            Optional.of(minBatchSize)
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private boolean isAffected(long nodeId) {
+        return affectedRegion == null || affectedRegion.isAffected(nodeId);
+    }
+
+    private boolean isRequired(int iteration, long nodeId) {
+        return affectedRegion == null || affectedRegion.isRequired(iteration, nodeId);
+    }
+
     void initRandomVectors() {
         progressTracker.beginSubTask();
 
@@ -160,6 +296,7 @@ public class FastRP extends Algorithm<FastRPResult> {
         RunWithConcurrency.builder()
             .concurrency(concurrency)
             .tasks(tasks)
+            .executor(executorService)
             .run();
 
         progressTracker.endSubTask();
@@ -169,12 +306,21 @@ public class FastRP extends Algorithm<FastRPResult> {
         if (Float.compare(nodeSelfInfluence.floatValue(), 0.0f) == 0) return;
         progressTracker.beginSubTask();
 
-        ParallelUtil.parallelForEachNode(
-            graph.nodeCount(),
+        List<Runnable> tasks = PartitionUtils.rangePartition(
             concurrency,
-            terminationFlag,
-            this::addInitialStateToEmbedding
+            graph.nodeCount(),
+            partition -> () -> {
+                partition.consume(this::addInitialStateToEmbedding);
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.of(minBatchSize)
         );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
 
         progressTracker.endSubTask();
     }
@@ -185,20 +331,22 @@ public class FastRP extends Algorithm<FastRPResult> {
         for (int i = 0; i < iterationWeights.size(); i++) {
             progressTracker.beginSubTask();
 
-            HugeObjectArray<float[]> currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
-            HugeObjectArray<float[]> previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
+            FixedStrideFloatArrayNodePropertyValues currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
+            FixedStrideFloatArrayNodePropertyValues previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
             var iterationWeight = iterationWeights.get(i).floatValue();
             boolean firstIteration = i == 0;
 
+            int iteration = i + 1;
             Supplier<PartitionConsumer<DegreePartition>> taskSupplier = () -> new PropagateEmbeddingsTask(
                 currentEmbeddings,
                 previousEmbeddings,
+                iteration,
                 iterationWeight,
                 firstIteration
             );
 
             ParallelUtil.parallelPartitionsConsume(
-                RunWithConcurrency.builder().executor(DefaultPool.INSTANCE).concurrency(concurrency),
+                RunWithConcurrency.builder().executor(executorService).concurrency(concurrency),
                 partitions.stream(),
                 taskSupplier
             );
@@ -209,7 +357,7 @@ public class FastRP extends Algorithm<FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    FixedStrideFloatArrayNodePropertyValues currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -221,13 +369,25 @@ public class FastRP extends Algorithm<FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> embeddings() {
+    FixedStrideFloatArrayNodePropertyValues embeddings() {
         return embeddings;
     }
 
-    private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
+    private static void addArrayValues(float[] into, float[] page, int offset) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += page[offset + i];
+        }
+    }
+
+    private static void addArrayValuesWeighted(float[] into, float[] page, int offset, double weight) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] = (float) Math.fma(page[offset + i], weight, into[i]);
+        }
+    }
+
+    private static void addWeightedInPlace(float[] page, int offset, float[] vector, float weight) {
+        for (int i = 0; i < vector.length; i++) {
+            page[offset + i] += weight * vector[i];
         }
     }
 
@@ -287,7 +447,7 @@ public class FastRP extends Algorithm<FastRPResult> {
     }
 
     private interface EmbeddingCombiner {
-        void combine(float[] into, float[] add, double weight);
+        void combine(float[] into, float[] page, int offset, double weight);
     }
 
     private final class InitRandomVectorTask implements Runnable {
@@ -296,6 +456,7 @@ public class FastRP extends Algorithm<FastRPResult> {
 
         private final Partition partition;
         private final float sqrtEmbeddingDimension;
+        private final float[] randomVector;
         private final PropertyVectorAdder propertyVectorAdder;
 
         private InitRandomVectorTask(
@@ -304,6 +465,7 @@ public class FastRP extends Algorithm<FastRPResult> {
         ) {
             this.partition = partition;
             this.sqrtEmbeddingDimension = sqrtEmbeddingDimension;
+            this.randomVector = new float[embeddingDimension];
             this.propertyVectorAdder = new PropertyVectorAdder();
         }
 
@@ -312,6 +474,9 @@ public class FastRP extends Algorithm<FastRPResult> {
             // this value currently doesnt matter because of reseeding below
             var random = new HighQualityRandom(randomSeed);
             partition.consume( nodeId -> {
+                if (!isRequired(0, nodeId)) {
+                    return;
+                }
                 int degree = graph.degree(nodeId);
                 float scaling = degree == 0
                     ? 1.0f
@@ -319,31 +484,22 @@ public class FastRP extends Algorithm<FastRPResult> {
 
                 float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
                 random.reseed(randomSeed ^ graph.toOriginalNodeId(nodeId));
-                var randomVector = computeRandomVector(nodeId, random, entryValue);
+                computeRandomVector(nodeId, random, entryValue);
                 embeddingB.set(nodeId, randomVector);
-                embeddingA.set(nodeId, new float[embeddingDimension]);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
 
-        private float[] computeRandomVector(long nodeId, Random random, float entryValue) {
-            var randomVector = new float[embeddingDimension];
+        private void computeRandomVector(long nodeId, Random random, float entryValue) {
             for (int i = 0; i < baseEmbeddingDimension; i++) {
                 randomVector[i] = computeRandomEntry(random, entryValue);
             }
+            Arrays.fill(randomVector, baseEmbeddingDimension, embeddingDimension, 0.0f);
 
-            propertyVectorAdder.setRandomVector(randomVector);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, propertyVectorAdder);
-
-            return randomVector;
         }
 
         private class PropertyVectorAdder implements FeatureConsumer {
-            private float[] randomVector;
-
-            void setRandomVector(float[] randomVector) {
-                this.randomVector = randomVector;
-            }
 
             @Override
             public void acceptScalar(long ignored, int offset, double value) {
@@ -367,30 +523,47 @@ public class FastRP extends Algorithm<FastRPResult> {
     }
 
     private void addInitialStateToEmbedding(long nodeId) {
-        var initialVector = embeddingB.get(nodeId);
-        var l2Norm = l2Norm(initialVector);
+        if (!isAffected(nodeId)) {
+            return;
+        }
+        var initialPage = embeddingB.page(nodeId);
+        var initialOffset = embeddingB.offset(nodeId);
+        float squaredSum = 0.0f;
+        for (int i = initialOffset; i < initialOffset + embeddingDimension; i++) {
+            squaredSum += initialPage[i] * initialPage[i];
+        }
+        var l2Norm = (float) Math.sqrt(squaredSum);
         float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
-        addWeightedInPlace(embeddings.get(nodeId), initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+        float weight = nodeSelfInfluence.floatValue() / adjustedL2Norm;
 
-        progressTracker.logProgress(1);
+        var page = embeddings.page(nodeId);
+        var offset = embeddings.offset(nodeId);
+        for (int i = 0; i < embeddingDimension; i++) {
+            page[offset + i] += weight * initialPage[initialOffset + i];
+        }
     }
 
     private final class PropagateEmbeddingsTask implements PartitionConsumer<DegreePartition> {
 
-        private final HugeObjectArray<float[]> currentEmbeddings;
-        private final HugeObjectArray<float[]> previousEmbeddings;
+        private final FixedStrideFloatArrayNodePropertyValues currentEmbeddings;
+        private final FixedStrideFloatArrayNodePropertyValues previousEmbeddings;
+        private final float[] currentEmbedding;
+        private final int iteration;
         private final float iterationWeight;
         private final Graph localGraph;
         private final boolean firstIteration;
 
         private PropagateEmbeddingsTask(
-            HugeObjectArray<float[]> currentEmbeddings,
-            HugeObjectArray<float[]> previousEmbeddings,
+            FixedStrideFloatArrayNodePropertyValues currentEmbeddings,
+            FixedStrideFloatArrayNodePropertyValues previousEmbeddings,
+            int iteration,
             float iterationWeight,
             boolean firstIteration
         ) {
             this.currentEmbeddings = currentEmbeddings;
             this.previousEmbeddings = previousEmbeddings;
+            this.currentEmbedding = new float[embeddingDimension];
+            this.iteration = iteration;
             this.iterationWeight = iterationWeight;
             this.localGraph = graph.concurrentCopy();
             this.firstIteration = firstIteration;
@@ -398,8 +571,9 @@ public class FastRP extends Algorithm<FastRPResult> {
 
         public void consume(DegreePartition partition) {
             partition.consume(nodeId -> {
-                var embedding = embeddings.get(nodeId);
-                var currentEmbedding = currentEmbeddings.get(nodeId);
+                if (!isRequired(iteration, nodeId)) {
+                    return;
+                }
                 Arrays.fill(currentEmbedding, 0.0f);
 
                 // Collect and combine the neighbour embeddings
@@ -411,7 +585,12 @@ public class FastRP extends Algorithm<FastRPResult> {
                             graph.toOriginalNodeId(source), graph.toOriginalNodeId(target)
                         ));
                     }
-                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings.get(target), weight);
+                    embeddingCombiner.combine(
+                        currentEmbedding,
+                        previousEmbeddings.page(target),
+                        previousEmbeddings.offset(target),
+                        weight
+                    );
                     return true;
                 });
 
@@ -422,8 +601,12 @@ public class FastRP extends Algorithm<FastRPResult> {
                 scale(currentEmbedding, degreeScale);
                 l2Normalize(currentEmbedding);
 
+                currentEmbeddings.set(nodeId, currentEmbedding);
+
                 // Update the result embedding
-                addWeightedInPlace(embedding, currentEmbedding, iterationWeight);
+                if (isAffected(nodeId)) {
+                    addWeightedInPlace(embeddings.page(nodeId), embeddings.offset(nodeId), currentEmbedding, iterationWeight);
+                }
             });
             progressTracker.logProgress(partition.relationshipCount());
         }
@@ -20,22 +20,34 @@
 package org.neo4j.gds.embeddings.fastrp;
 
 import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.EmbeddingDimensionConfig;
 import org.neo4j.gds.config.FeaturePropertiesConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SeedConfig;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import static org.neo4j.gds.config.ConfigNodesValidations.nodesExistInGraph;
+import static org.neo4j.gds.config.ConfigNodesValidations.nodesNotNegative;
+import static org.neo4j.gds.config.NodeIdParser.parseToListOfNodeIds;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
-public interface FastRPBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig, RelationshipWeightConfig, FeaturePropertiesConfig, RandomSeedConfig {
+public interface FastRPBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig, RelationshipWeightConfig, FeaturePropertiesConfig, RandomSeedConfig, SeedConfig {
 
     List<Number> DEFAULT_ITERATION_WEIGHTS = List.of(0.0D, 1.0D, 1.0D);
 
+    String CHANGED_NODES_KEY = "changedNodes";
+
     @Configuration.Ignore
     default int propertyDimension() {
         return (int) (embeddingDimension() * propertyRatio());
@@ -56,6 +68,31 @@ public interface FastRPBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConf
         return 0.0f;
     }
 
+    /**
+     * Nodes that were added or whose relationships or properties changed since the embeddings in the
+     * {@code seedProperty} have been computed. Nodes without a seed embedding are always treated as changed.
+     */
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.embeddings.fastrp.FastRPBaseConfig#parseChangedNodes")
+    default List<Long> changedNodes() {
+        return Collections.emptyList();
+    }
+
+    static List<Long> parseChangedNodes(Object input) {
+        var nodes = parseToListOfNodeIds(input, CHANGED_NODES_KEY);
+        nodesNotNegative(nodes, CHANGED_NODES_KEY);
+        return nodes;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateChangedNodes(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        nodesExistInGraph(graphStore, selectedLabels, changedNodes(), CHANGED_NODES_KEY);
+    }
+
     @Value.Check
     default void validate() {
         if (nodeSelfInfluence().floatValue() < 0) {
@@ -72,6 +109,15 @@ public interface FastRPBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConf
                 throw new IllegalArgumentException("When `propertyRatio` is non-zero, `featureProperties` may not be empty.");
             }
         }
+        if (!changedNodes().isEmpty() && !isIncremental()) {
+            throw new IllegalArgumentException("The `changedNodes` can only be specified together with a `seedProperty`.");
+        }
+        if (isIncremental() && randomSeed().isEmpty()) {
+            throw new IllegalArgumentException(
+                "A `randomSeed` is required when extending embeddings from a `seedProperty`. " +
+                "It must be the same as the one used to compute the seed embeddings."
+            );
+        }
         // propertyRatio=0 and non-empty featureProperties is allowed because otherwise it would be harder to change propertyRatio back and forth
         for (Object weight : iterationWeights()) {
             if (!(weight instanceof Number)) {
@@ -93,7 +139,9 @@ public interface FastRPBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConf
             propertyDimension(),
             relationshipWeightProperty(),
             normalizationStrength(),
-            nodeSelfInfluence()
+            nodeSelfInfluence(),
+            Optional.ofNullable(seedProperty()),
+            changedNodes()
         );
     }
 }
@@ -22,6 +22,7 @@ package org.neo4j.gds.embeddings.fastrp;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -54,6 +55,7 @@ public class FastRPFactory<CONFIG extends FastRPBaseConfig> extends GraphAlgorit
             concurrency,
             minBatchSize,
             featureExtractors,
+            DefaultPool.INSTANCE,
             progressTracker,
             randomSeed
         );
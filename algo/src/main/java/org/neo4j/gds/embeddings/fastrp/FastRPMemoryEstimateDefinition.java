@@ -20,25 +20,53 @@
 package org.neo4j.gds.embeddings.fastrp;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.loading.nodeproperties.FixedStrideFloatArrayNodePropertyValues;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryUsage;
 
 public final class FastRPMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefinition<FastRPBaseConfig> {
 
     public MemoryEstimation memoryEstimation(int embeddingDimension, int featurePropertiesSize, int propertyDimension) {
-        var sizeOfEmbeddingArray = MemoryUsage.sizeOfFloatArray(embeddingDimension);
-        return MemoryEstimations
+        return memoryEstimation(embeddingDimension, featurePropertiesSize, propertyDimension, 0);
+    }
+
+    /**
+     * @param affectedRegions the number of node sets kept by the {@link AffectedRegion} when extending seed embeddings,
+     *     {@code 0} if all embeddings are computed from scratch
+     */
+    public MemoryEstimation memoryEstimation(
+        int embeddingDimension,
+        int featurePropertiesSize,
+        int propertyDimension,
+        int affectedRegions
+    ) {
+        var builder = MemoryEstimations
             .builder(FastRP.class.getSimpleName())
             .fixed(
                 "propertyVectors",
                 MemoryUsage.sizeOfFloatArray((long) featurePropertiesSize * propertyDimension)
             )
-            .perNode("embeddings", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .perNode("embeddingsA", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .perNode("embeddingsB", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .build();
+            .perNode(
+                "embeddings",
+                nodeCount -> FixedStrideFloatArrayNodePropertyValues.memoryEstimation(nodeCount, embeddingDimension)
+            )
+            .perNode(
+                "embeddingsA",
+                nodeCount -> FixedStrideFloatArrayNodePropertyValues.memoryEstimation(nodeCount, embeddingDimension)
+            )
+            .perNode(
+                "embeddingsB",
+                nodeCount -> FixedStrideFloatArrayNodePropertyValues.memoryEstimation(nodeCount, embeddingDimension)
+            );
+        if (affectedRegions > 0) {
+            builder.perNode(
+                "affectedRegion",
+                nodeCount -> affectedRegions * HugeAtomicBitSet.memoryEstimation(nodeCount)
+            );
+        }
+        return builder.build();
     }
 
     @Override
@@ -46,7 +74,9 @@ public final class FastRPMemoryEstimateDefinition implements AlgorithmMemoryEsti
         return memoryEstimation(
             configuration.embeddingDimension(),
             configuration.featureProperties().size(),
-            configuration.propertyDimension()
+            configuration.propertyDimension(),
+            // one region per iteration plus the affected nodes themselves
+            configuration.seedProperty() == null ? 0 : configuration.iterationWeights().size() + 1
         );
     }
 
@@ -36,6 +36,30 @@ public final class FastRPParameters {
         Optional<String> relationshipWeightProperty,
         float normalizationStrength,
         Number nodeSelfInfluence
+    ) {
+        return create(
+            featureProperties,
+            iterationWeights,
+            embeddingDimension,
+            propertyDimension,
+            relationshipWeightProperty,
+            normalizationStrength,
+            nodeSelfInfluence,
+            Optional.empty(),
+            List.of()
+        );
+    }
+
+    public static FastRPParameters create(
+        List<String> featureProperties,
+        List<Number> iterationWeights,
+        int embeddingDimension,
+        int propertyDimension,
+        Optional<String> relationshipWeightProperty,
+        float normalizationStrength,
+        Number nodeSelfInfluence,
+        Optional<String> seedProperty,
+        List<Long> changedNodes
     ) {
         return new FastRPParameters(
             featureProperties,
@@ -44,7 +68,9 @@ public final class FastRPParameters {
             propertyDimension,
             relationshipWeightProperty,
             normalizationStrength,
-            nodeSelfInfluence
+            nodeSelfInfluence,
+            seedProperty,
+            changedNodes
         );
     }
 
@@ -55,6 +81,8 @@ public final class FastRPParameters {
     private final Optional<String> relationshipWeightProperty;
     private final float normalizationStrength;
     private final Number nodeSelfInfluence;
+    private final Optional<String> seedProperty;
+    private final List<Long> changedNodes;
 
     private FastRPParameters(
         List<String> featureProperties,
@@ -63,7 +91,9 @@ public final class FastRPParameters {
         int propertyDimension,
         Optional<String> relationshipWeightProperty,
         float normalizationStrength,
-        Number nodeSelfInfluence
+        Number nodeSelfInfluence,
+        Optional<String> seedProperty,
+        List<Long> changedNodes
     ) {
         this.featureProperties = featureProperties;
         this.iterationWeights = iterationWeights;
@@ -72,6 +102,8 @@ public final class FastRPParameters {
         this.relationshipWeightProperty = relationshipWeightProperty;
         this.normalizationStrength = normalizationStrength;
         this.nodeSelfInfluence = nodeSelfInfluence;
+        this.seedProperty = seedProperty;
+        this.changedNodes = changedNodes;
     }
 
     public List<String> featureProperties() {
@@ -101,4 +133,12 @@ public final class FastRPParameters {
     Number nodeSelfInfluence() {
         return nodeSelfInfluence;
     }
+
+    Optional<String> seedProperty() {
+        return seedProperty;
+    }
+
+    List<Long> changedNodes() {
+        return changedNodes;
+    }
 }
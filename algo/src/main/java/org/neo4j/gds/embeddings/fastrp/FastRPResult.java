@@ -19,16 +19,16 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.loading.nodeproperties.FixedStrideFloatArrayNodePropertyValues;
 
 public class FastRPResult {
-    private final HugeObjectArray<float[]> embeddings;
+    private final FixedStrideFloatArrayNodePropertyValues embeddings;
 
-    public FastRPResult(HugeObjectArray<float[]> embeddings) {
+    public FastRPResult(FixedStrideFloatArrayNodePropertyValues embeddings) {
         this.embeddings = embeddings;
     }
 
-    public HugeObjectArray<float[]> embeddings() {
+    public FixedStrideFloatArrayNodePropertyValues embeddings() {
         return embeddings;
     }
 }
@@ -21,9 +21,7 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
@@ -39,7 +37,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 class BinarizeTask implements Runnable {
     private final Partition partition;
-    private final HugeObjectArray<HugeAtomicBitSet> truncatedFeatures;
+    private final NodeBitMatrix truncatedFeatures;
     private final List<FeatureExtractor> featureExtractors;
     private final double[][] propertyEmbeddings;
 
@@ -55,7 +53,7 @@ class BinarizeTask implements Runnable {
     BinarizeTask(
         Partition partition,
         BinarizeFeaturesConfig config,
-        HugeObjectArray<HugeAtomicBitSet> truncatedFeatures,
+        NodeBitMatrix truncatedFeatures,
         List<FeatureExtractor> featureExtractors,
         double[][] propertyEmbeddings,
         ProgressTracker progressTracker
@@ -69,7 +67,7 @@ class BinarizeTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<HugeAtomicBitSet> compute(
+    static NodeBitMatrix compute(
         Graph graph,
         List<Partition> partition,
         int concurrency,
@@ -87,7 +85,7 @@ class BinarizeTask implements Runnable {
         var inputDimension = FeatureExtraction.featureCount(featureExtractors);
         var propertyEmbeddings = embedProperties(binarizationConfig.dimension(), rng, inputDimension);
 
-        var truncatedFeatures = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var truncatedFeatures = NodeBitMatrix.create(graph.nodeCount(), binarizationConfig.dimension(), concurrency);
 
         var tasks = partition.stream()
             .map(p -> new BinarizeTask(
@@ -173,25 +171,22 @@ class BinarizeTask implements Runnable {
                 }
             });
 
-            var featureSet = round(featureVector);
-            totalFeatureCount += featureSet.cardinality();
-            truncatedFeatures.set(nodeId, featureSet);
+            round(nodeId, featureVector);
+            totalFeatureCount += truncatedFeatures.cardinality(nodeId);
         });
 
         progressTracker.logProgress(partition.nodeCount());
     }
 
-    private HugeAtomicBitSet round(float[] floatVector) {
-        var bitset = HugeAtomicBitSet.create(floatVector.length);
+    private void round(long nodeId, float[] floatVector) {
         for (int feature = 0; feature < floatVector.length; feature++) {
             var scalarProduct = floatVector[feature];
             scalarProductSum += scalarProduct;
             scalarProductSumOfSquares += scalarProduct * scalarProduct;
             if (scalarProduct > threshold) {
-                bitset.set(feature);
+                truncatedFeatures.set(nodeId, feature);
             }
         }
-        return bitset;
     }
 
     private long totalFeatureCount() {
@@ -22,7 +22,6 @@ package org.neo4j.gds.embeddings.hashgnn;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -37,7 +36,7 @@ class DensifyTask implements Runnable {
     private final Partition partition;
     private final int outputDimension;
     private final HugeObjectArray<double[]> denseFeatures;
-    private final HugeObjectArray<HugeAtomicBitSet> binaryFeatures;
+    private final NodeBitMatrix binaryFeatures;
     private final float[][] projectionMatrix;
     private final ProgressTracker progressTracker;
 
@@ -45,7 +44,7 @@ class DensifyTask implements Runnable {
         Partition partition,
         int outputDimension,
         HugeObjectArray<double[]> denseFeatures,
-        HugeObjectArray<HugeAtomicBitSet> binaryFeatures,
+        NodeBitMatrix binaryFeatures,
         float[][] projectionMatrix,
         ProgressTracker progressTracker
     ) {
@@ -63,7 +62,7 @@ class DensifyTask implements Runnable {
         int concurrency,
         int outputDimension,
         SplittableRandom rng,
-        HugeObjectArray<HugeAtomicBitSet> binaryFeatures,
+        NodeBitMatrix binaryFeatures,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -74,7 +73,7 @@ class DensifyTask implements Runnable {
         var projectionMatrix = projectionMatrix(
             rng,
             outputDimension,
-            (int) binaryFeatures.get(0).size()
+            binaryFeatures.dimension()
         );
 
         var tasks = partition.stream()
@@ -128,11 +127,10 @@ class DensifyTask implements Runnable {
         int denseLength = projectionMatrix[0].length;
 
         partition.consume(nodeId -> {
-            var binaryVector = binaryFeatures.get(nodeId);
             var denseVector = new double[outputDimension];
 
-            binaryVector.forEachSetBit(bit -> {
-                final float[] row = projectionMatrix[(int) bit];
+            binaryFeatures.forEachSetBit(nodeId, bit -> {
+                final float[] row = projectionMatrix[bit];
                 for (int i = 0; i < denseLength; i++) {
                     denseVector[i] += row[i];
                 }
@@ -22,7 +22,6 @@ package org.neo4j.gds.embeddings.hashgnn;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
@@ -46,48 +45,45 @@ public final class EmbeddingsToNodePropertyValues {
         };
     }
 
-    static NodePropertyValues fromBinary(HugeObjectArray<HugeAtomicBitSet> binaryEmbeddings, int embeddingDimension) {
-        return new BinaryArrayNodePropertyValues(binaryEmbeddings, embeddingDimension);
+    static NodePropertyValues fromBinary(NodeBitMatrix binaryEmbeddings) {
+        return new BinaryArrayNodePropertyValues(binaryEmbeddings);
     }
 
     private static class BinaryArrayNodePropertyValues implements NodePropertyValues {
 
-        private final HugeObjectArray<HugeAtomicBitSet> binaryEmbeddings;
+        private final NodeBitMatrix binaryEmbeddings;
         private final int embeddingDimension;
 
-        BinaryArrayNodePropertyValues(
-            HugeObjectArray<HugeAtomicBitSet> binaryEmbeddings,
-            int embeddingDimension
-        ) {
+        BinaryArrayNodePropertyValues(NodeBitMatrix binaryEmbeddings) {
             this.binaryEmbeddings = binaryEmbeddings;
-            this.embeddingDimension = embeddingDimension;
+            this.embeddingDimension = binaryEmbeddings.dimension();
         }
 
         @Override
         public double[] doubleArrayValue(long nodeId) {
-            return bitSetToDoubleArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+            return bitSetToDoubleArray(binaryEmbeddings, nodeId, embeddingDimension);
         }
 
         @Override
         public float[] floatArrayValue(long nodeId) {
-            return bitSetToFloatArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+            return bitSetToFloatArray(binaryEmbeddings, nodeId, embeddingDimension);
         }
 
         @Override
         public long[] longArrayValue(long nodeId) {
-            return bitSetToLongArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+            return bitSetToLongArray(binaryEmbeddings, nodeId, embeddingDimension);
         }
 
         @Override
         public Object getObject(long nodeId) {
-            return bitSetToDoubleArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+            return bitSetToDoubleArray(binaryEmbeddings, nodeId, embeddingDimension);
         }
 
         @Override
         public Value value(long nodeId) {
             // as Boolean array is not an official property type in GDS we transform to double[].
             // We use the same data type as in the dense case.
-            return Values.doubleArray(bitSetToDoubleArray(binaryEmbeddings.get(nodeId), embeddingDimension));
+            return Values.doubleArray(bitSetToDoubleArray(binaryEmbeddings, nodeId, embeddingDimension));
         }
 
         @Override
@@ -102,29 +98,29 @@ public final class EmbeddingsToNodePropertyValues {
 
         @Override
         public long nodeCount() {
-            return binaryEmbeddings.size();
+            return binaryEmbeddings.nodeCount();
         }
 
-        private static double[] bitSetToDoubleArray(HugeAtomicBitSet bitSet, int dimension) {
+        private static double[] bitSetToDoubleArray(NodeBitMatrix bits, long nodeId, int dimension) {
             var array = new double[dimension];
-            bitSet.forEachSetBit(bit -> {
-                array[(int) bit] = 1.0;
+            bits.forEachSetBit(nodeId, bit -> {
+                array[bit] = 1.0;
             });
             return array;
         }
 
-        private static float[] bitSetToFloatArray(HugeAtomicBitSet bitSet, int dimension) {
+        private static float[] bitSetToFloatArray(NodeBitMatrix bits, long nodeId, int dimension) {
             var array = new float[dimension];
-            bitSet.forEachSetBit(bit -> {
-                array[(int) bit] = 1.0f;
+            bits.forEachSetBit(nodeId, bit -> {
+                array[bit] = 1.0f;
             });
             return array;
         }
 
-        private static long[] bitSetToLongArray(HugeAtomicBitSet bitSet, int dimension) {
+        private static long[] bitSetToLongArray(NodeBitMatrix bits, long nodeId, int dimension) {
             var array = new long[dimension];
-            bitSet.forEachSetBit(bit -> {
-                array[(int) bit] = 1;
+            bits.forEachSetBit(nodeId, bit -> {
+                array[bit] = 1;
             });
             return array;
         }
@@ -21,9 +21,7 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -34,7 +32,7 @@ import java.util.stream.Collectors;
 
 class GenerateFeaturesTask implements Runnable {
     private final Partition partition;
-    private final HugeObjectArray<HugeAtomicBitSet> output;
+    private final NodeBitMatrix output;
     private final Graph graph;
     private final Random rng;
     private final GenerateFeaturesConfig generateFeaturesConfig;
@@ -47,7 +45,7 @@ class GenerateFeaturesTask implements Runnable {
         Graph graph,
         long randomSeed,
         GenerateFeaturesConfig config,
-        HugeObjectArray<HugeAtomicBitSet> output,
+        NodeBitMatrix output,
         ProgressTracker progressTracker
     ) {
         this.partition = partition;
@@ -59,7 +57,7 @@ class GenerateFeaturesTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<HugeAtomicBitSet> compute(
+    static NodeBitMatrix compute(
         GenerateFeaturesConfig generateFeatures,
         Graph graph,
         List<Partition> partition,
@@ -71,7 +69,7 @@ class GenerateFeaturesTask implements Runnable {
     ) {
         progressTracker.beginSubTask("Generate base node property features");
 
-        var output = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var output = NodeBitMatrix.create(graph.nodeCount(), generateFeatures.dimension(), concurrency);
 
         var tasks = partition.stream()
             .map(p -> new GenerateFeaturesTask(
@@ -102,16 +100,12 @@ class GenerateFeaturesTask implements Runnable {
         int densityLevel = generateFeaturesConfig.densityLevel();
 
         partition.consume(nodeId -> {
-            var generatedFeatures = HugeAtomicBitSet.create(dimension);
-
             rng.setSeed(this.randomSeed ^ graph.toOriginalNodeId(nodeId));
 
             var randomInts = rng.ints(densityLevel, 0, dimension);
-            randomInts.forEach(generatedFeatures::set);
-
-            totalFeatureCount += generatedFeatures.cardinality();
+            randomInts.forEach(feature -> output.set(nodeId, feature));
 
-            output.set(nodeId, generatedFeatures);
+            totalFeatureCount += output.cardinality(nodeId);
         });
 
         progressTracker.logProgress(partition.nodeCount());
@@ -24,8 +24,6 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.schema.GraphSchema;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -88,7 +86,7 @@ public class HashGNN extends Algorithm<HashGNNResult> {
             : List.of(graphCopy);
 
         var embeddingsB = constructInputEmbeddings(rangePartition);
-        int embeddingDimension = (int) embeddingsB.get(0).size();
+        int embeddingDimension = embeddingsB.dimension();
 
         double avgInputActiveFeatures = currentTotalFeatureCount.doubleValue() / graph.nodeCount();
         progressTracker.logInfo(formatWithLocale(
@@ -96,8 +94,7 @@ public class HashGNN extends Algorithm<HashGNNResult> {
             avgInputActiveFeatures
         ));
 
-        var embeddingsA = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
-        embeddingsA.setAll(unused -> HugeAtomicBitSet.create(embeddingDimension));
+        var embeddingsA = NodeBitMatrix.create(graph.nodeCount(), embeddingDimension, parameters.concurrency());
 
         double avgDegree = graph.relationshipCount() / (double) graph.nodeCount();
         double upperBoundNeighborExpectedBits = embeddingDimension == 0
@@ -114,9 +111,7 @@ public class HashGNN extends Algorithm<HashGNNResult> {
 
             var currentEmbeddings = iteration % 2 == 0 ? embeddingsA : embeddingsB;
             var previousEmbeddings = iteration % 2 == 0 ? embeddingsB : embeddingsA;
-            for (long i = 0; i < currentEmbeddings.size(); i++) {
-                currentEmbeddings.get(i).clear();
-            }
+            currentEmbeddings.clear();
 
             double scaledNeighborInfluence = graph.relationshipCount() == 0 ? 1.0 : (currentTotalFeatureCount.doubleValue() / graph.nodeCount()) * parameters.neighborInfluence() / upperBoundNeighborExpectedBits;
             currentTotalFeatureCount.setValue(0);
@@ -170,14 +165,14 @@ public class HashGNN extends Algorithm<HashGNNResult> {
                 terminationFlag
             );
             return (NodePropertyValues) EmbeddingsToNodePropertyValues.fromDense(denseVectors);
-        }).orElseGet(() -> EmbeddingsToNodePropertyValues.fromBinary(binaryOutputVectors, embeddingDimension));
+        }).orElseGet(() -> EmbeddingsToNodePropertyValues.fromBinary(binaryOutputVectors));
 
         progressTracker.endSubTask("HashGNN");
 
         return new HashGNNResult(outputVectors);
     }
 
-    private HugeObjectArray<HugeAtomicBitSet> constructInputEmbeddings(List<Partition> partition) {
+    private NodeBitMatrix constructInputEmbeddings(List<Partition> partition) {
         // User input parsing proves that if FeatureProperties is empty
         // then GenerateFeatures is not
         if (parameters.featureProperties().isEmpty()) {
@@ -23,30 +23,36 @@ import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.BitSetIterator;
 import org.apache.commons.math3.primes.Primes;
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 
 import java.util.SplittableRandom;
 
 public final class HashGNNCompanion {
     static void hashArgMin(
-        HugeAtomicBitSet bitSet,
+        NodeBitMatrix embeddings,
+        long wordOffset,
         int[] hashes,
-        HashGNN.MinAndArgmin result,
-        HashGNN.MinAndArgmin temp
+        HashGNN.MinAndArgmin result
     ) {
-        temp.argMin = -1;
-        temp.min = Integer.MAX_VALUE;
-        bitSet.forEachSetBit(bit -> {
-            int hash = hashes[(int) bit];
-
-            if (hash < temp.min) {
-                temp.min = hash;
-                temp.argMin = (int) bit;
+        int argMin = -1;
+        int minHash = Integer.MAX_VALUE;
+        int wordsPerNode = embeddings.wordsPerNode();
+        for (int i = 0; i < wordsPerNode; i++) {
+            long word = embeddings.word(wordOffset + i);
+            while (word != 0) {
+                int bit = i * Long.SIZE + Long.numberOfTrailingZeros(word);
+                int hash = hashes[bit];
+
+                if (hash < minHash) {
+                    minHash = hash;
+                    argMin = bit;
+                }
+
+                word &= word - 1;
             }
-        });
+        }
 
-        result.min = temp.min;
-        result.argMin = temp.argMin;
+        result.min = minHash;
+        result.argMin = argMin;
     }
 
     static void hashArgMin(BitSet bitSet, int[] hashes, HashGNN.MinAndArgmin result) {
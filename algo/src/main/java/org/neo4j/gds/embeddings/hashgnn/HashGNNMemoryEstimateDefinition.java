@@ -24,7 +24,6 @@ import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.Optional;
@@ -45,14 +44,8 @@ public class HashGNNMemoryEstimateDefinition implements AlgorithmMemoryEstimateD
 
         MemoryEstimations.Builder builder = MemoryEstimations.builder(HashGNN.class.getSimpleName());
 
-        builder.perNode(
-            "Embeddings cache 1",
-            n -> HugeObjectArray.memoryEstimation(n, HugeAtomicBitSet.memoryEstimation(binaryDimension))
-        );
-        builder.perNode(
-            "Embeddings cache 2",
-            n -> HugeObjectArray.memoryEstimation(n, HugeAtomicBitSet.memoryEstimation(binaryDimension))
-        );
+        builder.perNode("Embeddings cache 1", n -> NodeBitMatrix.memoryEstimation(n, binaryDimension));
+        builder.perNode("Embeddings cache 2", n -> NodeBitMatrix.memoryEstimation(n, binaryDimension));
 
         builder.perGraphDimension("Hashes cache", (dims, concurrency) -> MemoryRange.of(
             embeddingDensity * HashTask.Hashes.memoryEstimation(
@@ -68,9 +61,9 @@ public class HashGNNMemoryEstimateDefinition implements AlgorithmMemoryEstimateD
         if (outputDimension.isPresent()) {
             builder.perNode("Embeddings output", denseResultEstimation);
         } else {
-            // in the sparse case we store the bitset, but we convert the result to double[] before returning to the user
+            // in the sparse case we store the bit matrix, but we convert the result to double[] before returning to the user
             builder.rangePerNode("Embeddings output", n -> MemoryRange.of(
-                HugeObjectArray.memoryEstimation(n, MemoryUsage.sizeOfBitset(binaryDimension)),
+                NodeBitMatrix.memoryEstimation(n, binaryDimension),
                 denseResultEstimation.applyAsLong(n)
             ));
         }
@@ -24,8 +24,6 @@ import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -42,8 +40,8 @@ class MinHashTask implements Runnable {
     private final int embeddingDimension;
     private final DegreePartition partition;
     private final List<Graph> concurrentGraphs;
-    private final HugeObjectArray<HugeAtomicBitSet> currentEmbeddings;
-    private final HugeObjectArray<HugeAtomicBitSet> previousEmbeddings;
+    private final NodeBitMatrix currentEmbeddings;
+    private final NodeBitMatrix previousEmbeddings;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private long totalFeatureCount = 0;
@@ -53,8 +51,8 @@ class MinHashTask implements Runnable {
         DegreePartition partition,
         List<Graph> graphs,
         int embeddingDimension,
-        HugeObjectArray<HugeAtomicBitSet> currentEmbeddings,
-        HugeObjectArray<HugeAtomicBitSet> previousEmbeddings,
+        NodeBitMatrix currentEmbeddings,
+        NodeBitMatrix previousEmbeddings,
         List<HashTask.Hashes> hashes,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker
@@ -76,8 +74,8 @@ class MinHashTask implements Runnable {
         int concurrency,
         int embeddingDensity,
         int embeddingDimension,
-        HugeObjectArray<HugeAtomicBitSet> currentEmbeddings,
-        HugeObjectArray<HugeAtomicBitSet> previousEmbeddings,
+        NodeBitMatrix currentEmbeddings,
+        NodeBitMatrix previousEmbeddings,
         List<HashTask.Hashes> hashes,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag,
@@ -118,7 +116,6 @@ class MinHashTask implements Runnable {
         var neighborsVector = new BitSet(embeddingDimension);
         var selfMinAndArgMin = new HashGNN.MinAndArgmin();
         var neighborsMinAndArgMin = new HashGNN.MinAndArgmin();
-        var tempMinAndArgMin = new HashGNN.MinAndArgmin();
 
         terminationFlag.assertRunning();
 
@@ -128,8 +125,12 @@ class MinHashTask implements Runnable {
         var preAggregationHashes = hashesForK.preAggregationHashes();
 
         partition.consume(nodeId -> {
-            var currentEmbedding = currentEmbeddings.get(nodeId);
-            hashArgMin(previousEmbeddings.get(nodeId), selfAggregationHashes, selfMinAndArgMin, tempMinAndArgMin);
+            hashArgMin(
+                previousEmbeddings,
+                previousEmbeddings.wordOffset(nodeId),
+                selfAggregationHashes,
+                selfMinAndArgMin
+            );
 
             neighborsVector.clear();
 
@@ -137,12 +138,11 @@ class MinHashTask implements Runnable {
                 var preAggregationHashesForRel = preAggregationHashes.get(i);
                 var currentGraph = concurrentGraphs.get(i);
                 currentGraph.forEachRelationship(nodeId, (src, trg) -> {
-                    var prevTargetEmbedding = previousEmbeddings.get(trg);
                     hashArgMin(
-                        prevTargetEmbedding,
+                        previousEmbeddings,
+                        previousEmbeddings.wordOffset(trg),
                         preAggregationHashesForRel,
-                        neighborsMinAndArgMin,
-                        tempMinAndArgMin
+                        neighborsMinAndArgMin
                     );
 
                     int argMin = neighborsMinAndArgMin.argMin;
@@ -157,7 +157,7 @@ class MinHashTask implements Runnable {
             hashArgMin(neighborsVector, neighborsAggregationHashes, neighborsMinAndArgMin);
             int argMin = (neighborsMinAndArgMin.min < selfMinAndArgMin.min) ? neighborsMinAndArgMin.argMin : selfMinAndArgMin.argMin;
             if (argMin != -1) {
-                if (!currentEmbedding.getAndSet(argMin)) {
+                if (!currentEmbeddings.getAndSet(currentEmbeddings.wordOffset(nodeId), argMin)) {
                     totalFeatureCount++;
                 }
             }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.hashgnn;
+
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Stores one bit set of a fixed dimension per node in a single paged array of words.
+ * The bits of a node occupy {@link #wordsPerNode()} consecutive words, starting at {@link #wordOffset(long)}.
+ * Since no word is shared between two nodes, the bits of different nodes can be written concurrently
+ * without contention. Setting bits of the same node concurrently is safe as well.
+ */
+final class NodeBitMatrix {
+
+    private final HugeAtomicLongArray words;
+    private final long nodeCount;
+    private final int dimension;
+    private final int wordsPerNode;
+
+    static long memoryEstimation(long nodeCount, int dimension) {
+        long wordCount = nodeCount * wordsPerNode(dimension);
+        return MemoryUsage.sizeOfInstance(NodeBitMatrix.class) + HugeAtomicLongArray.memoryEstimation(wordCount);
+    }
+
+    static NodeBitMatrix create(long nodeCount, int dimension, int concurrency) {
+        int wordsPerNode = wordsPerNode(dimension);
+        var words = HugeAtomicLongArray.of(nodeCount * wordsPerNode, ParalleLongPageCreator.passThrough(concurrency));
+        return new NodeBitMatrix(words, nodeCount, dimension, wordsPerNode);
+    }
+
+    private static int wordsPerNode(int dimension) {
+        return Math.toIntExact(BitUtil.ceilDiv(dimension, Long.SIZE));
+    }
+
+    private NodeBitMatrix(HugeAtomicLongArray words, long nodeCount, int dimension, int wordsPerNode) {
+        this.words = words;
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+        this.wordsPerNode = wordsPerNode;
+    }
+
+    long nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of bits per node.
+     */
+    int dimension() {
+        return dimension;
+    }
+
+    int wordsPerNode() {
+        return wordsPerNode;
+    }
+
+    /**
+     * Returns the index of the first word holding the bits of the given node.
+     */
+    long wordOffset(long nodeId) {
+        return nodeId * wordsPerNode;
+    }
+
+    long word(long wordIndex) {
+        return words.get(wordIndex);
+    }
+
+    boolean get(long nodeId, int bit) {
+        assert bit < dimension;
+        return (words.get(wordOffset(nodeId) + (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    void set(long nodeId, int bit) {
+        getAndSet(wordOffset(nodeId), bit);
+    }
+
+    /**
+     * Sets the bit of the node whose bits start at the given word offset.
+     *
+     * @return the state of the bit before it was set
+     */
+    boolean getAndSet(long wordOffset, int bit) {
+        assert bit < dimension;
+
+        long wordIndex = wordOffset + (bit >>> 6);
+        long bitmask = 1L << bit;
+
+        long oldWord = words.get(wordIndex);
+        while (true) {
+            long newWord = oldWord | bitmask;
+            if (newWord == oldWord) {
+                // already set
+                return true;
+            }
+            long currentWord = words.compareAndExchange(wordIndex, oldWord, newWord);
+            if (currentWord == oldWord) {
+                // CAS successful
+                return false;
+            }
+            // CAS unsuccessful, try again
+            oldWord = currentWord;
+        }
+    }
+
+    long cardinality(long nodeId) {
+        long wordOffset = wordOffset(nodeId);
+        long setBitCount = 0;
+        for (int i = 0; i < wordsPerNode; i++) {
+            setBitCount += Long.bitCount(words.get(wordOffset + i));
+        }
+        return setBitCount;
+    }
+
+    void forEachSetBit(long nodeId, IntConsumer consumer) {
+        long wordOffset = wordOffset(nodeId);
+        for (int i = 0; i < wordsPerNode; i++) {
+            long word = words.get(wordOffset + i);
+            while (word != 0) {
+                consumer.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Clears all bits of all nodes.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    void clear() {
+        words.setAll(0);
+    }
+}
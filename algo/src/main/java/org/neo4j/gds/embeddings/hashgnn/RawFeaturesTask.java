@@ -21,9 +21,7 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
@@ -41,7 +39,7 @@ class RawFeaturesTask implements Runnable {
     private final Graph graph;
     private final List<FeatureExtractor> featureExtractors;
     private final int inputDimension;
-    private final HugeObjectArray<HugeAtomicBitSet> features;
+    private final NodeBitMatrix features;
     private final ProgressTracker progressTracker;
     private long totalFeatureCount = 0;
 
@@ -50,7 +48,7 @@ class RawFeaturesTask implements Runnable {
         Graph graph,
         List<FeatureExtractor> featureExtractors,
         int inputDimension,
-        HugeObjectArray<HugeAtomicBitSet> features,
+        NodeBitMatrix features,
         ProgressTracker progressTracker
     ) {
         this.partition = partition;
@@ -61,7 +59,7 @@ class RawFeaturesTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<HugeAtomicBitSet> compute(
+    static NodeBitMatrix compute(
         int concurrency,
         List<String> featureProperties,
         ProgressTracker progressTracker,
@@ -75,7 +73,7 @@ class RawFeaturesTask implements Runnable {
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, featureProperties);
         int inputDimension = FeatureExtraction.featureCount(featureExtractors);
 
-        var features = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var features = NodeBitMatrix.create(graph.nodeCount(), inputDimension, concurrency);
 
         var tasks = partitions.stream()
             .map(p -> new RawFeaturesTask(
@@ -103,12 +101,11 @@ class RawFeaturesTask implements Runnable {
     @Override
     public void run() {
         partition.consume(nodeId -> {
-            var nodeFeatures = HugeAtomicBitSet.create(inputDimension);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, new FeatureConsumer() {
                 @Override
                 public void acceptScalar(long nodeOffset, int offset, double value) {
                     if (value == 1.0) {
-                        nodeFeatures.set(offset);
+                        features.set(nodeId, offset);
                     } else if (value != 0.0) {
                         throw new IllegalArgumentException(formatWithLocale("Feature properties may only contain values 0 and 1 unless `binarizeFeatures` is used. Node %d and possibly other nodes have a feature property containing value %f", graph.toOriginalNodeId(nodeId), value));
                     }
@@ -119,15 +116,14 @@ class RawFeaturesTask implements Runnable {
                     for (int inputFeatureOffset = 0; inputFeatureOffset < values.length; inputFeatureOffset++) {
                         var value = values[inputFeatureOffset];
                         if (value == 1.0) {
-                            nodeFeatures.set(offset + inputFeatureOffset);
+                            features.set(nodeId, offset + inputFeatureOffset);
                         } else if (value != 0.0) {
                             throw new IllegalArgumentException(formatWithLocale("Feature properties may only contain values 0 and 1 unless `binarizeFeatures` is used. Node %d and possibly other nodes have a feature property containing value %.17f", graph.toOriginalNodeId(nodeId), value));
                         }
                     }
                 }
             });
-            totalFeatureCount += nodeFeatures.cardinality();
-            features.set(nodeId, nodeFeatures);
+            totalFeatureCount += features.cardinality(nodeId);
         });
 
         progressTracker.logProgress(partition.nodeCount());
@@ -24,16 +24,19 @@ import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.BitUtil;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodeVLongs;
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.zigZag;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-class CompressedRandomWalks {
+class CompressedRandomWalks implements RandomWalks {
     private final HugeObjectArray<byte[]> compressedWalks;
     private final HugeIntArray walkLengths;
 
@@ -87,6 +90,17 @@ class CompressedRandomWalks {
         return new CompressedWalkIterator(startIndex, endIndex, compressedWalks, walkLengths, maxWalkLength);
     }
 
+    @Override
+    public List<Iterator<long[]>> iterators(int concurrency, long sampleCount) {
+        return PartitionUtils.degreePartitionWithBatchSize(
+            size(),
+            this::walkLength,
+            BitUtil.ceilDiv(sampleCount, concurrency),
+            partition -> iterator(partition.startNode(), partition.nodeCount())
+        );
+    }
+
+    @Override
     public long size() {
         return size;
     }
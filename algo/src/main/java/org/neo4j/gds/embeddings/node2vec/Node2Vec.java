@@ -34,6 +34,8 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 public class Node2Vec extends Algorithm<Node2VecResult> {
 
@@ -44,6 +46,7 @@ public class Node2Vec extends Algorithm<Node2VecResult> {
     private final Optional<Long> maybeRandomSeed;
     private final TrainParameters trainParameters;
     private final int walkBufferSize;
+    private final boolean streamWalks;
 
 
     public Node2Vec(
@@ -55,12 +58,37 @@ public class Node2Vec extends Algorithm<Node2VecResult> {
         WalkParameters walkParameters,
         TrainParameters trainParameters,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            concurrency,
+            sourceNodes,
+            maybeRandomSeed,
+            walkBufferSize,
+            false,
+            walkParameters,
+            trainParameters,
+            progressTracker
+        );
+    }
+
+    public Node2Vec(
+        Graph graph,
+        int concurrency,
+        List<Long> sourceNodes,
+        Optional<Long> maybeRandomSeed,
+        int walkBufferSize,
+        boolean streamWalks,
+        WalkParameters walkParameters,
+        TrainParameters trainParameters,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
         this.walkParameters = walkParameters;
         this.walkBufferSize = walkBufferSize;
+        this.streamWalks = streamWalks;
         this.sourceNodes = sourceNodes;
         this.maybeRandomSeed = maybeRandomSeed;
         this.trainParameters = trainParameters;
@@ -86,10 +114,35 @@ public class Node2Vec extends Algorithm<Node2VecResult> {
             walkParameters.positiveSamplingFactor,
             walkParameters.negativeSamplingExponent
         );
-        var walks = new CompressedRandomWalks(graph.nodeCount() * walkParameters.walksPerNode);
 
         progressTracker.beginSubTask("RandomWalk");
 
+        var walks = streamWalks
+            ? streamingWalks(probabilitiesBuilder)
+            : compressedWalks(probabilitiesBuilder);
+
+        progressTracker.endSubTask("RandomWalk");
+
+        var node2VecModel = new Node2VecModel(
+            graph::toOriginalNodeId,
+            graph.nodeCount(),
+            trainParameters,
+            concurrency,
+            maybeRandomSeed,
+            walks,
+            probabilitiesBuilder.build(),
+            progressTracker
+        );
+
+        var result = node2VecModel.train();
+
+        progressTracker.endSubTask("Node2Vec");
+        return result;
+    }
+
+    private RandomWalks compressedWalks(RandomWalkProbabilities.Builder probabilitiesBuilder) {
+        var walks = new CompressedRandomWalks(graph.nodeCount() * walkParameters.walksPerNode);
+
         var tasks = walkTasks(
             walks,
             probabilitiesBuilder,
@@ -117,23 +170,48 @@ public class Node2Vec extends Algorithm<Node2VecResult> {
             .orElse(0L));
 
         progressTracker.endSubTask("create walks");
-        progressTracker.endSubTask("RandomWalk");
+        return walks;
+    }
 
-        var node2VecModel = new Node2VecModel(
-            graph::toOriginalNodeId,
-            graph.nodeCount(),
-            trainParameters,
+    /**
+     * Walks are only generated once up front to compute the sampling probabilities.
+     * They are regenerated from the same seed in every training iteration instead of being stored.
+     */
+    private RandomWalks streamingWalks(RandomWalkProbabilities.Builder probabilitiesBuilder) {
+        var cumulativeWeightsSupplier = RandomWalkCompanion.cumulativeWeights(
+            graph,
             concurrency,
-            maybeRandomSeed,
-            walks,
-            probabilitiesBuilder.build(),
+            DefaultPool.INSTANCE,
             progressTracker
         );
+        var walks = new StreamingRandomWalks(
+            graph,
+            sourceNodes,
+            cumulativeWeightsSupplier,
+            walkParameters,
+            walkBufferSize,
+            maybeRandomSeed.orElseGet(() -> new Random().nextLong()),
+            terminationFlag
+        );
 
-        var result = node2VecModel.train();
+        progressTracker.beginSubTask("create walks");
+        var walkCount = new LongAdder();
+        var tasks = walks.walkIterators(concurrency, progressTracker)
+            .stream()
+            .map(walkIterator -> (Runnable) () -> {
+                long localWalkCount = 0;
+                while (walkIterator.hasNext()) {
+                    probabilitiesBuilder.registerWalk(walkIterator.next());
+                    localWalkCount++;
+                }
+                walkCount.add(localWalkCount);
+            })
+            .collect(Collectors.toList());
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(tasks).run();
+        walks.setSize(walkCount.sum());
+        progressTracker.endSubTask("create walks");
 
-        progressTracker.endSubTask("Node2Vec");
-        return result;
+        return walks;
     }
 
     private List<Node2VecRandomWalkTask> walkTasks(
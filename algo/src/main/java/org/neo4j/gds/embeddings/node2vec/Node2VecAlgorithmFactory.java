@@ -53,6 +53,7 @@ public class Node2VecAlgorithmFactory<CONFIG extends Node2VecBaseConfig> extends
             configuration.sourceNodes(),
             configuration.randomSeed(),
             configuration.walkBufferSize(),
+            configuration.streamWalks(),
             configuration.walkParameters(),
             configuration.trainParameters(),
             progressTracker
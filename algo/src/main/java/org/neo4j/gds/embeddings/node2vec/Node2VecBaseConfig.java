@@ -75,6 +75,14 @@ public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionCo
         return 1;
     }
 
+    /**
+     * If enabled, the random walks are not stored but regenerated from the random seed in every iteration.
+     * This trades additional computation for memory proportional to the number of walks.
+     */
+    default boolean streamWalks() {
+        return false;
+    }
+
     @Configuration.Ignore
     @Override
     default List<Long> sourceNodes() {
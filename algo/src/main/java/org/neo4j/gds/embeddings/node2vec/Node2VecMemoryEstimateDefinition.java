@@ -33,12 +33,21 @@ public final class Node2VecMemoryEstimateDefinition implements AlgorithmMemoryEs
         int walksPerNode = configuration.walksPerNode();
         int walkLength = configuration.walkLength();
         int embeddingDimension = configuration.embeddingDimension();
-        return MemoryEstimations.builder(Node2Vec.class)
-            .perNode("random walks", (nodeCount) -> {
+        var builder = MemoryEstimations.builder(Node2Vec.class);
+        if (configuration.streamWalks()) {
+            var walkBufferSize = configuration.walkBufferSize();
+            builder.perThread(
+                "random walk buffer",
+                MemoryUsage.sizeOfObjectArray(walkBufferSize) + walkBufferSize * MemoryUsage.sizeOfLongArray(walkLength)
+            );
+        } else {
+            builder.perNode("random walks", (nodeCount) -> {
                 var numberOfRandomWalks = nodeCount * walksPerNode;
                 var randomWalkMemoryUsage = MemoryUsage.sizeOfLongArray(walkLength);
                 return HugeObjectArray.memoryEstimation(numberOfRandomWalks, randomWalkMemoryUsage);
-            })
+            });
+        }
+        return builder
             .add("probability cache", randomWalksMemoryEstimation())
             .add("model", modelMemoryEstimation(embeddingDimension))
             .build();
@@ -21,9 +21,7 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.ml.core.functions.Sigmoid;
 import org.neo4j.gds.ml.core.tensor.FloatVector;
 
@@ -32,6 +30,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
 
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
@@ -51,7 +50,7 @@ public class Node2VecModel {
     private final int negativeSamplingRate;
     private final EmbeddingInitializer embeddingInitializer;
     private final int concurrency;
-    private final CompressedRandomWalks walks;
+    private final RandomWalks walks;
     private final RandomWalkProbabilities randomWalkProbabilities;
     private final ProgressTracker progressTracker;
     private final long randomSeed;
@@ -64,7 +63,7 @@ public class Node2VecModel {
         TrainParameters trainParameters,
         int concurrency,
         Optional<Long> maybeRandomSeed,
-        CompressedRandomWalks walks,
+        RandomWalks walks,
         RandomWalkProbabilities randomWalkProbabilities,
         ProgressTracker progressTracker
     ) {
@@ -98,7 +97,7 @@ public class Node2VecModel {
         EmbeddingInitializer embeddingInitializer,
         int concurrency,
         Optional<Long> maybeRandomSeed,
-        CompressedRandomWalks walks,
+        RandomWalks walks,
         RandomWalkProbabilities randomWalkProbabilities,
         ProgressTracker progressTracker
     ) {
@@ -136,29 +135,23 @@ public class Node2VecModel {
                 initialLearningRate - iteration * learningRateAlpha
             );
 
-            var tasks = PartitionUtils.degreePartitionWithBatchSize(
-                walks.size(),
-                walks::walkLength,
-                BitUtil.ceilDiv(randomWalkProbabilities.sampleCount(), concurrency),
-                partition -> {
-                    var positiveSampleProducer = new PositiveSampleProducer(
-                        walks.iterator(partition.startNode(), partition.nodeCount()),
+            var tasks = walks.iterators(concurrency, randomWalkProbabilities.sampleCount())
+                .stream()
+                .map(walkIterator -> new TrainingTask(
+                    centerEmbeddings,
+                    contextEmbeddings,
+                    new PositiveSampleProducer(
+                        walkIterator,
                         randomWalkProbabilities.positiveSamplingProbabilities(),
                         windowSize
-                    );
-
-                    return new TrainingTask(
-                        centerEmbeddings,
-                        contextEmbeddings,
-                        positiveSampleProducer,
-                        negativeSamples,
-                        learningRate,
-                        negativeSamplingRate,
-                        embeddingDimension,
-                        progressTracker
-                    );
-                }
-            );
+                    ),
+                    negativeSamples,
+                    learningRate,
+                    negativeSamplingRate,
+                    embeddingDimension,
+                    progressTracker
+                ))
+                .collect(Collectors.toList());
 
             RunWithConcurrency.builder()
                 .concurrency(concurrency)
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The random walks a {@link Node2VecModel} is trained on.
+ */
+interface RandomWalks {
+
+    /**
+     * The total number of walks.
+     */
+    long size();
+
+    /**
+     * Splits the walks into independent iterators that can be trained on in parallel.
+     * Every walk is returned by exactly one of the iterators.
+     * The arrays returned by the iterators are only valid until the next call to {@code next}.
+     *
+     * @param concurrency the number of threads the iterators are consumed by
+     * @param sampleCount the total number of positive samples contained in the walks
+     */
+    List<Iterator<long[]>> iterators(int concurrency, long sampleCount);
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import com.carrotsearch.hppc.AbstractIterator;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.traversal.NextNodeSupplier;
+import org.neo4j.gds.traversal.RandomWalkCompanion;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Random walks that are never stored but regenerated whenever they are iterated.
+ * As the sampler is reseeded for every start node, each pass produces exactly the same walks,
+ * no matter which thread generates them.
+ * Walks are generated in batches of {@code walkBufferSize}, so at most one batch per thread is kept in memory.
+ */
+final class StreamingRandomWalks implements RandomWalks {
+
+    private final Graph graph;
+    private final List<Long> sourceNodes;
+    private final RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier;
+    private final WalkParameters walkParameters;
+    private final int walkBufferSize;
+    private final long randomSeed;
+    private final TerminationFlag terminationFlag;
+
+    private long size = 0L;
+
+    StreamingRandomWalks(
+        Graph graph,
+        List<Long> sourceNodes,
+        RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+        WalkParameters walkParameters,
+        int walkBufferSize,
+        long randomSeed,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.cumulativeWeightSupplier = cumulativeWeightSupplier;
+        this.walkParameters = walkParameters;
+        this.walkBufferSize = walkBufferSize;
+        this.randomSeed = randomSeed;
+        this.terminationFlag = terminationFlag;
+    }
+
+    void setSize(long size) {
+        this.size = size;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public List<Iterator<long[]>> iterators(int concurrency, long sampleCount) {
+        return new ArrayList<>(walkIterators(concurrency, ProgressTracker.NULL_TRACKER));
+    }
+
+    /**
+     * Creates {@code concurrency} iterators sharing one supply of start nodes.
+     * Progress is logged once per start node.
+     */
+    List<WalkIterator> walkIterators(int concurrency, ProgressTracker progressTracker) {
+        var nextNodeSupplier = RandomWalkCompanion.nextNodeSupplier(graph, sourceNodes);
+        var iterators = new ArrayList<WalkIterator>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            var localGraph = graph.concurrentCopy();
+            var sampler = RandomWalkSampler.create(
+                localGraph,
+                cumulativeWeightSupplier,
+                walkParameters.walkLength,
+                walkParameters.returnFactor,
+                walkParameters.inOutFactor,
+                randomSeed
+            );
+            iterators.add(new WalkIterator(localGraph, nextNodeSupplier, sampler, progressTracker));
+        }
+        return iterators;
+    }
+
+    final class WalkIterator extends AbstractIterator<long[]> {
+        private final Graph graph;
+        private final NextNodeSupplier nextNodeSupplier;
+        private final RandomWalkSampler sampler;
+        private final ProgressTracker progressTracker;
+        private final long[][] batch;
+
+        private int batchSize;
+        private int batchIndex;
+        private long currentNode;
+        private int remainingWalks;
+
+        WalkIterator(
+            Graph graph,
+            NextNodeSupplier nextNodeSupplier,
+            RandomWalkSampler sampler,
+            ProgressTracker progressTracker
+        ) {
+            this.graph = graph;
+            this.nextNodeSupplier = nextNodeSupplier;
+            this.sampler = sampler;
+            this.progressTracker = progressTracker;
+            this.batch = new long[walkBufferSize][];
+            this.batchSize = 0;
+            this.batchIndex = 0;
+            this.remainingWalks = 0;
+        }
+
+        @Override
+        protected long[] fetch() {
+            if (batchIndex == batchSize && !fillBatch()) {
+                return done();
+            }
+            var walk = batch[batchIndex];
+            batch[batchIndex++] = null;
+            return walk;
+        }
+
+        private boolean fillBatch() {
+            batchIndex = 0;
+            batchSize = 0;
+
+            if (!terminationFlag.running()) {
+                return false;
+            }
+
+            while (batchSize < batch.length) {
+                if (remainingWalks == 0 && !nextStartNode()) {
+                    break;
+                }
+                batch[batchSize++] = sampler.walk(currentNode);
+                if (--remainingWalks == 0) {
+                    progressTracker.logProgress();
+                }
+            }
+
+            return batchSize > 0;
+        }
+
+        private boolean nextStartNode() {
+            while (true) {
+                var nodeId = nextNodeSupplier.nextNode();
+                if (nodeId == NextNodeSupplier.NO_MORE_NODES) {
+                    return false;
+                }
+                if (graph.degree(nodeId) == 0) {
+                    progressTracker.logProgress();
+                    continue;
+                }
+                sampler.prepareForNewNode(nodeId);
+                currentNode = nodeId;
+                remainingWalks = walkParameters.walksPerNode;
+                return true;
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.PivotSampling;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -40,14 +41,30 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
     private final HugeAtomicDoubleArray inverseFarness;
 
     private final Graph graph;
+    private final Optional<PivotSampling> pivotSampling;
 
     public HarmonicCentrality(
         Graph graph,
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, Optional.empty(), executorService, progressTracker);
+    }
+
+    /**
+     * If a {@link PivotSampling} is given, the MSBFS only runs from the pivots
+     * and the sums of inverse distances are extrapolated from them.
+     */
+    public HarmonicCentrality(
+        Graph graph,
+        int concurrency,
+        Optional<PivotSampling> pivotSampling,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
+        this.pivotSampling = pivotSampling;
         this.graph = graph;
         this.concurrency = concurrency;
         this.executorService = executorService;
@@ -64,16 +81,24 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
             inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
         };
 
-        MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
-            graph.nodeCount(),
-            graph,
-            consumer
-        ).run(concurrency, executorService);
+        pivotSampling
+            .map(sampling -> MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+                graph.nodeCount(),
+                graph,
+                consumer,
+                sampling.pivots()
+            ))
+            .orElseGet(() -> MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
+                graph.nodeCount(),
+                graph,
+                consumer
+            ))
+            .run(concurrency, executorService);
 
         var tasks = PartitionUtils.rangePartition(
             concurrency,
             nodeCount,
-            partition -> (Runnable) () -> partition.consume(nodeId -> inverseFarness.update(nodeId, currentValue -> currentValue / (double) (nodeCount - 1))),
+            partition -> (Runnable) () -> partition.consume(nodeId -> inverseFarness.update(nodeId, this::normalize)),
             Optional.empty()
         );
 
@@ -81,7 +106,13 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
 
         progressTracker.endSubTask();
 
-        return new HarmonicResult(inverseFarness);
+        return new HarmonicResult(inverseFarness, pivotSampling.map(PivotSampling::approximationError));
+    }
+
+    private double normalize(long nodeId, double inverseFarness) {
+        return pivotSampling
+            .map(sampling -> sampling.extrapolate(nodeId, inverseFarness))
+            .orElse(inverseFarness) / (double) (nodeCount - 1);
     }
 
 }
@@ -23,6 +23,7 @@ import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.msbfs.PivotSampling;
 
 public class HarmonicCentralityAlgorithmFactory<CONFIG extends HarmonicCentralityBaseConfig> extends GraphAlgorithmFactory<HarmonicCentrality, CONFIG> {
     @Override
@@ -39,6 +40,11 @@ public class HarmonicCentralityAlgorithmFactory<CONFIG extends HarmonicCentralit
         return new HarmonicCentrality(
             graph,
             configuration.concurrency(),
+            configuration.samplingSize().map(samplingSize -> PivotSampling.create(
+                graph.nodeCount(),
+                samplingSize,
+                configuration.samplingSeed()
+            )),
             DefaultPool.INSTANCE,
             progressTracker
         );
@@ -19,9 +19,32 @@
  */
 package org.neo4j.gds.harmonic;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 
 public interface HarmonicCentralityBaseConfig  extends AlgoBaseConfig
 {
+    /**
+     * If set, the BFS only runs from this many randomly sampled pivots and the scores are extrapolated.
+     */
+    Optional<Long> samplingSize();
+
+    Optional<Long> samplingSeed();
+
+    @Value.Check
+    default void validateSamplingSize() {
+        samplingSize().ifPresent(samplingSize -> {
+            if (samplingSize < 2) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingSize' must be at least 2, got %d.",
+                    samplingSize
+                ));
+            }
+        });
+    }
 }
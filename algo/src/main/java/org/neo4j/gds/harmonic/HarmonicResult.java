@@ -24,14 +24,17 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 
+import java.util.Optional;
 import java.util.function.LongToDoubleFunction;
 
 public class HarmonicResult implements CentralityAlgorithmResult {
 
     private final HugeAtomicDoubleArray centralities;
+    private final Optional<Double> approximationError;
 
-    HarmonicResult(HugeAtomicDoubleArray centralities) {
+    HarmonicResult(HugeAtomicDoubleArray centralities, Optional<Double> approximationError) {
         this.centralities = centralities;
+        this.approximationError = approximationError;
     }
 
     @Override
@@ -43,4 +46,11 @@ public class HarmonicResult implements CentralityAlgorithmResult {
     public LongToDoubleFunction centralityScoreProvider() {
         return centralities::get;
     }
+
+    /**
+     * The absolute error bound of the scores, only present if pivots were sampled.
+     */
+    public Optional<Double> approximationError() {
+        return approximationError;
+    }
 }
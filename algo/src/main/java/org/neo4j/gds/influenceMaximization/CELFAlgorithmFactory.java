@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.influenceMaximization;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.DefaultPool;
@@ -27,7 +28,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
-public class CELFAlgorithmFactory<CONFIG extends InfluenceMaximizationBaseConfig> extends GraphAlgorithmFactory<CELF, CONFIG> {
+public class CELFAlgorithmFactory<CONFIG extends InfluenceMaximizationBaseConfig> extends GraphAlgorithmFactory<Algorithm<CELFResult>, CONFIG> {
 
     public static final int DEFAULT_BATCH_SIZE = 10;
 
@@ -37,11 +38,24 @@ public class CELFAlgorithmFactory<CONFIG extends InfluenceMaximizationBaseConfig
     }
 
     @Override
-    public CELF build(
+    public Algorithm<CELFResult> build(
         Graph graph,
         CONFIG configuration,
         ProgressTracker progressTracker
     ) {
+        if (configuration.method() == InfluenceMaximizationMethod.REVERSE_INFLUENCE_SAMPLING) {
+            return new ReverseInfluenceSampling(
+                graph,
+                configuration.seedSetSize(),
+                configuration.propagationProbability(),
+                configuration.epsilon(),
+                configuration.l(),
+                DefaultPool.INSTANCE,
+                configuration.concurrency(),
+                configuration.randomSeed().orElse(0L),
+                progressTracker
+            );
+        }
         return new CELF(
             graph,
             configuration.seedSetSize(),
@@ -57,6 +71,13 @@ public class CELFAlgorithmFactory<CONFIG extends InfluenceMaximizationBaseConfig
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.method() == InfluenceMaximizationMethod.REVERSE_INFLUENCE_SAMPLING) {
+            return Tasks.task(
+                "ReverseInfluenceSampling",
+                Tasks.leaf("Sampling"),
+                Tasks.leaf("NodeSelection", config.seedSetSize())
+            );
+        }
         return Tasks.task(
             "CELF",
             Tasks.leaf("Greedy", graph.nodeCount()),
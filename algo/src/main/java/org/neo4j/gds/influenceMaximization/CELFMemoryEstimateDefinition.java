@@ -21,6 +21,8 @@ package org.neo4j.gds.influenceMaximization;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -34,6 +36,9 @@ public final class CELFMemoryEstimateDefinition implements AlgorithmMemoryEstima
 
     @Override
     public MemoryEstimation memoryEstimation(InfluenceMaximizationBaseConfig configuration) {
+        if (configuration.method() == InfluenceMaximizationMethod.REVERSE_INFLUENCE_SAMPLING) {
+            return reverseInfluenceSamplingEstimation(configuration.seedSetSize());
+        }
         MemoryEstimations.Builder builder = MemoryEstimations.builder(CELF.class);
 
         //CELF class
@@ -58,6 +63,31 @@ public final class CELFMemoryEstimateDefinition implements AlgorithmMemoryEstima
         return builder.build();
     }
 
+    /**
+     * The size of the reverse reachable sets depends on the spread of the optimal seed set,
+     * so only the structures that scale with the graph are estimated.
+     * Directed graphs without an inverse index are transposed into a CSR before sampling,
+     * which is not needed for undirected or inverse indexed graphs.
+     */
+    private MemoryEstimation reverseInfluenceSamplingEstimation(int seedSetSize) {
+        return MemoryEstimations.builder(ReverseInfluenceSampling.class)
+            .fixed("seedSet", MemoryUsage.sizeOfLongDoubleScatterMap(seedSetSize))
+            .perNode("coverage", HugeLongArray::memoryEstimation)
+            .perNode("inverted index offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("inverted index cursors", HugeLongArray::memoryEstimation)
+            .add("coverage priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .rangePerGraphDimension("transposed relationships", (dimensions, concurrency) -> MemoryRange.of(
+                0,
+                HugeAtomicLongArray.memoryEstimation(dimensions.nodeCount())
+                + HugeLongArray.memoryEstimation(dimensions.nodeCount() + 1)
+                + HugeLongArray.memoryEstimation(dimensions.relCountUpperBound())
+            ))
+            .perThread("visited", MemoryEstimations.builder(ReverseReachableSets.class)
+                .perNode("visited", MemoryUsage::sizeOfBitset)
+                .build())
+            .build();
+    }
+
     private MemoryEstimations.Builder ICInitMemoryEstimationBuilder() {
         return MemoryEstimations.builder(ICLazyForwardTask.class)
             .perNode("active", MemoryUsage::sizeOfBitset)
@@ -38,4 +38,26 @@ public interface InfluenceMaximizationBaseConfig extends AlgoBaseConfig, RandomS
         return 100;
     }
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.influenceMaximization.InfluenceMaximizationMethod#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.influenceMaximization.InfluenceMaximizationMethod#toString")
+    default InfluenceMaximizationMethod method() {
+        return InfluenceMaximizationMethod.MONTE_CARLO;
+    }
+
+    /**
+     * Approximation error of the reverse influence sampling method.
+     */
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double epsilon() {
+        return 0.1;
+    }
+
+    /**
+     * The reverse influence sampling method meets its approximation guarantee with probability at least 1 - 1/n^l.
+     */
+    @Configuration.DoubleRange(min = 0, minInclusive = false)
+    default double l() {
+        return 1;
+    }
+
 }
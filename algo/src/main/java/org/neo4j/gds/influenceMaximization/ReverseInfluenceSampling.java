@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongDoubleScatterMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Influence maximization based on reverse influence sampling (IMM, Tang et al. 2015).
+ * <p>
+ * Instead of simulating cascades from candidate seeds, random reverse reachable sets are sampled
+ * and the seeds are selected by greedy maximum coverage over these sets.
+ * The expected spread of a seed set is the node count times the fraction of sets it covers.
+ * The number of sets is derived from {@code epsilon} and {@code l}, such that the spread of the
+ * selected seeds is at least {@code (1 - 1/e - epsilon)} times the optimum with probability
+ * at least {@code 1 - 1/n^l}.
+ */
+public class ReverseInfluenceSampling extends Algorithm<CELFResult> {
+
+    private final Graph graph;
+    private final int seedSetCount;
+    private final double propagationProbability;
+    private final double epsilon;
+    private final double l;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final long randomSeed;
+
+    public ReverseInfluenceSampling(
+        Graph graph,
+        int seedSetCount,
+        double propagationProbability,
+        double epsilon,
+        double l,
+        ExecutorService executorService,
+        int concurrency,
+        long randomSeed,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.seedSetCount = (int) Math.min(seedSetCount, graph.nodeCount()); // k <= nodeCount
+        this.propagationProbability = propagationProbability;
+        this.epsilon = epsilon;
+        this.l = l;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public CELFResult compute() {
+        progressTracker.beginSubTask();
+        if (seedSetCount == 0) {
+            progressTracker.endSubTask();
+            return new CELFResult(new LongDoubleScatterMap());
+        }
+
+        progressTracker.beginSubTask();
+        var sets = new ReverseReachableSets(
+            graph,
+            propagationProbability,
+            randomSeed,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+        sampleSets(sets);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask(seedSetCount);
+        var seedSetNodes = new LongDoubleScatterMap(seedSetCount);
+        selectSeeds(sets, seedSetNodes, true);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return new CELFResult(seedSetNodes);
+    }
+
+    /**
+     * The sampling phase of IMM. A lower bound of the optimal spread is estimated by
+     * halving a guess until the seeds selected on the sampled sets confirm it.
+     * The final number of sets is inversely proportional to that lower bound.
+     */
+    private void sampleSets(ReverseReachableSets sets) {
+        double n = Math.max(graph.nodeCount(), 2);
+        double logN = Math.log(n);
+        // boost l so that both phases together hold with probability 1 - 1/n^l
+        double adjustedL = l * (1 + Math.log(2) / logN);
+        double logBinomial = logBinomial(graph.nodeCount(), seedSetCount);
+
+        double epsilonPrime = Math.sqrt(2) * epsilon;
+        double lambdaPrime = (2 + 2.0 / 3.0 * epsilonPrime)
+                             * (logBinomial + adjustedL * logN + Math.log(Math.log(n) / Math.log(2)))
+                             * n / (epsilonPrime * epsilonPrime);
+
+        double lowerBound = 1;
+        int rounds = (int) Math.ceil(Math.log(n) / Math.log(2));
+        var seedSetNodes = new LongDoubleScatterMap(seedSetCount);
+        for (int i = 1; i < rounds; i++) {
+            terminationFlag.assertRunning();
+            double x = n / Math.pow(2, i);
+            sets.sampleUntil((long) Math.ceil(lambdaPrime / x));
+
+            seedSetNodes.clear();
+            double spread = selectSeeds(sets, seedSetNodes, false);
+            if (spread >= (1 + epsilonPrime) * x) {
+                lowerBound = spread / (1 + epsilonPrime);
+                break;
+            }
+        }
+
+        double e = 1 - 1 / Math.E;
+        double alpha = Math.sqrt(adjustedL * logN + Math.log(2));
+        double beta = Math.sqrt(e * (logBinomial + adjustedL * logN + Math.log(2)));
+        double lambdaStar = 2 * n * Math.pow(e * alpha + beta, 2) / (epsilon * epsilon);
+        terminationFlag.assertRunning();
+        sets.sampleUntil((long) Math.ceil(lambdaStar / lowerBound));
+    }
+
+    /**
+     * Greedy maximum coverage over the sampled sets.
+     * Coverage counts only decrease, so stale counts in the queue are refreshed lazily once they reach the top.
+     *
+     * @return the estimated spread of the selected seeds
+     */
+    private double selectSeeds(ReverseReachableSets sets, LongDoubleScatterMap seedSetNodes, boolean logProgress) {
+        long nodeCount = graph.nodeCount();
+        long setCount = sets.setCount();
+
+        // inverted index from nodes to the sets containing them
+        var coverage = HugeLongArray.newArray(nodeCount);
+        for (long index = 0; index < sets.memberCount(); index++) {
+            coverage.addTo(sets.member(index), 1);
+        }
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId + 1, offsets.get(nodeId) + coverage.get(nodeId));
+        }
+        var setsOfNode = HugeLongArray.newArray(sets.memberCount());
+        var cursors = HugeLongArray.newArray(nodeCount);
+        cursors.setAll(offsets::get);
+        for (long setIndex = 0; setIndex < setCount; setIndex++) {
+            for (long index = sets.start(setIndex); index < sets.end(setIndex); index++) {
+                long member = sets.member(index);
+                setsOfNode.set(cursors.get(member), setIndex);
+                cursors.addTo(member, 1);
+            }
+        }
+
+        var queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return (Double.compare(costValues.get(a), costValues.get(b)) == 0) // when equal costs
+                    ? a < b                                                        // the smaller node ID is less
+                    : costValues.get(a) > costValues.get(b);                       // otherwise compare the costs
+            }
+        };
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            queue.add(nodeId, coverage.get(nodeId));
+        }
+
+        var covered = new BitSet(setCount);
+        long coveredSets = 0;
+        for (int i = 0; i < seedSetCount; i++) {
+            long seedNode = queue.top();
+            while (queue.cost(seedNode) != coverage.get(seedNode)) {
+                queue.set(seedNode, coverage.get(seedNode));
+                seedNode = queue.top();
+            }
+            queue.pop();
+
+            long gain = coverage.get(seedNode);
+            for (long offset = offsets.get(seedNode); offset < offsets.get(seedNode + 1); offset++) {
+                long setIndex = setsOfNode.get(offset);
+                if (covered.get(setIndex)) {
+                    continue;
+                }
+                covered.set(setIndex);
+                for (long index = sets.start(setIndex); index < sets.end(setIndex); index++) {
+                    coverage.addTo(sets.member(index), -1);
+                }
+            }
+            coveredSets += gain;
+
+            seedSetNodes.put(seedNode, (double) gain * nodeCount / setCount);
+            if (logProgress) {
+                progressTracker.logProgress();
+            }
+        }
+
+        return (double) coveredSets * nodeCount / setCount;
+    }
+
+    private static double logBinomial(long n, int k) {
+        double logBinomial = 0;
+        for (int i = 0; i < k; i++) {
+            logBinomial += Math.log((double) (n - i) / (i + 1));
+        }
+        return logBinomial;
+    }
+}
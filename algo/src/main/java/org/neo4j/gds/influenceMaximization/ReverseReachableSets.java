@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Paged store of random reverse reachable sets under the independent cascade model.
+ * <p>
+ * A reverse reachable set contains the nodes that activate a uniformly chosen target node in one
+ * random cascade, that is all nodes reaching the target over relationships that are live with the
+ * propagation probability. The sets are stored back to back in one paged array, the set with
+ * index {@code i} occupies the members from {@code start(i)} until {@code end(i)}.
+ * <p>
+ * The content of a set only depends on its index, the random seed and the order of the incoming
+ * relationships. Thus, for undirected and inverse indexed graphs the store is independent of the
+ * concurrency used for sampling.
+ * <p>
+ * Every sampling task buffers its sets locally before they are copied into the paged store, so
+ * while a batch of sets is flushed, its members are held twice.
+ */
+final class ReverseReachableSets {
+
+    private final Graph graph;
+    private final IncomingRelationships incomingRelationships;
+    private final double propagationProbability;
+    private final long randomSeed;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    private HugeLongArray offsets;
+    private HugeLongArray members;
+    private long setCount;
+
+    ReverseReachableSets(
+        Graph graph,
+        double propagationProbability,
+        long randomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.propagationProbability = propagationProbability;
+        this.randomSeed = randomSeed;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+        this.offsets = HugeLongArray.newArray(1);
+        this.members = HugeLongArray.newArray(0);
+        this.setCount = 0;
+        this.incomingRelationships = incomingRelationships();
+    }
+
+    long setCount() {
+        return setCount;
+    }
+
+    long memberCount() {
+        return offsets.get(setCount);
+    }
+
+    long start(long setIndex) {
+        return offsets.get(setIndex);
+    }
+
+    long end(long setIndex) {
+        return offsets.get(setIndex + 1);
+    }
+
+    long member(long index) {
+        return members.get(index);
+    }
+
+    /**
+     * Samples new sets in parallel until the store holds at least {@code targetSetCount} sets.
+     */
+    void sampleUntil(long targetSetCount) {
+        if (targetSetCount <= setCount) {
+            return;
+        }
+        long firstSetIndex = setCount;
+        List<SamplingTask> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            targetSetCount - firstSetIndex,
+            partition -> new SamplingTask(firstSetIndex + partition.startNode(), partition.nodeCount()),
+            Optional.empty()
+        );
+        run(tasks);
+
+        long memberOffset = memberCount();
+        for (var task : tasks) {
+            task.memberOffset = memberOffset;
+            memberOffset += task.localMembers.size();
+        }
+        offsets = grow(offsets, targetSetCount + 1);
+        members = grow(members, memberOffset);
+        run(tasks.stream().map(task -> (Runnable) task::flush).collect(Collectors.toList()));
+
+        setCount = targetSetCount;
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private static HugeLongArray grow(HugeLongArray array, long minSize) {
+        if (array.size() >= minSize) {
+            return array;
+        }
+        return array.copyOf(ArrayUtil.oversizeHuge(minSize, Long.BYTES));
+    }
+
+    private IncomingRelationships incomingRelationships() {
+        if (graph.characteristics().isUndirected()) {
+            return Graph::forEachRelationship;
+        }
+        if (graph.characteristics().isInverseIndexed()) {
+            return Graph::forEachInverseRelationship;
+        }
+        return transposedRelationships();
+    }
+
+    /**
+     * Builds the incoming relationships of all nodes in a CSR layout.
+     */
+    private IncomingRelationships transposedRelationships() {
+        var nodeCount = graph.nodeCount();
+        var positions = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        run(perNode(localGraph -> nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            positions.getAndAdd(target, 1);
+            return true;
+        })));
+
+        var transposedOffsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            transposedOffsets.set(nodeId, offset);
+            offset += positions.getAndReplace(nodeId, offset);
+        }
+        transposedOffsets.set(nodeCount, offset);
+
+        var sources = HugeLongArray.newArray(offset);
+        run(perNode(localGraph -> nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            sources.set(positions.getAndAdd(target, 1), source);
+            return true;
+        })));
+
+        return (localGraph, nodeId, consumer) -> {
+            long end = transposedOffsets.get(nodeId + 1);
+            for (long index = transposedOffsets.get(nodeId); index < end; index++) {
+                if (!consumer.accept(nodeId, sources.get(index))) {
+                    return;
+                }
+            }
+        };
+    }
+
+    private List<Runnable> perNode(Function<Graph, LongConsumer> nodeTask) {
+        return PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            (Partition partition) -> (Runnable) () -> partition.consume(nodeTask.apply(graph.concurrentCopy())),
+            Optional.empty()
+        );
+    }
+
+    private final class SamplingTask implements Runnable {
+        private final long firstSetIndex;
+        private final long setCount;
+        private final Graph localGraph;
+        // The local buffers are int indexed, so the members of all sets that a
+        // single task samples in one call of sampleUntil are limited to 2^31.
+        private final LongArrayList localMembers;
+        private final LongArrayList localEnds;
+        private long memberOffset;
+
+        private SamplingTask(long firstSetIndex, long setCount) {
+            this.firstSetIndex = firstSetIndex;
+            this.setCount = setCount;
+            this.localGraph = graph.concurrentCopy();
+            this.localMembers = new LongArrayList();
+            this.localEnds = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            var visited = new BitSet(graph.nodeCount());
+            for (long setIndex = firstSetIndex; setIndex < firstSetIndex + setCount; setIndex++) {
+                sample(setIndex, visited);
+            }
+            progressTracker.logProgress(setCount);
+        }
+
+        private void sample(long setIndex, BitSet visited) {
+            var random = new SplittableRandom(randomSeed + setIndex);
+            int head = localMembers.size();
+            long target = random.nextLong(graph.nodeCount());
+            localMembers.add(target);
+            visited.set(target);
+
+            RelationshipConsumer activate = (nodeId, source) -> {
+                if (!visited.get(source) && random.nextDouble() < propagationProbability) {
+                    visited.set(source);
+                    localMembers.add(source);
+                }
+                return true;
+            };
+            for (int next = head; next < localMembers.size(); next++) {
+                incomingRelationships.forEach(localGraph, localMembers.get(next), activate);
+            }
+
+            for (int index = head; index < localMembers.size(); index++) {
+                visited.clear(localMembers.get(index));
+            }
+            localEnds.add(localMembers.size());
+        }
+
+        private void flush() {
+            var buffer = localMembers.buffer;
+            for (int index = 0; index < localMembers.size(); index++) {
+                members.set(memberOffset + index, buffer[index]);
+            }
+            for (int set = 0; set < localEnds.size(); set++) {
+                offsets.set(firstSetIndex + set + 1, memberOffset + localEnds.get(set));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IncomingRelationships {
+        void forEach(Graph localGraph, long nodeId, RelationshipConsumer consumer);
+    }
+}
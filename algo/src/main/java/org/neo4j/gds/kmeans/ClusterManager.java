@@ -122,5 +122,23 @@ abstract class ClusterManager {
     }
 
     public abstract void assignSeededCentroids(List<List<Double>> seededCentroids);
+
+    /**
+     * Copies the value of {@code nodeId} into {@code buffer}.
+     * Values of a different length than the buffer are returned as they are stored.
+     */
+    static float[] floatArrayValue(NodePropertyValues values, long nodeId, float[] buffer) {
+        int length = values.copyFloatArrayValue(nodeId, buffer, 0);
+        return length == buffer.length ? buffer : values.floatArrayValue(nodeId);
+    }
+
+    /**
+     * Copies the value of {@code nodeId} into {@code buffer}.
+     * Values of a different length than the buffer are returned as they are stored.
+     */
+    static double[] doubleArrayValue(NodePropertyValues values, long nodeId, double[] buffer) {
+        int length = values.copyDoubleArrayValue(nodeId, buffer, 0);
+        return length == buffer.length ? buffer : values.doubleArrayValue(nodeId);
+    }
 }
 
@@ -27,10 +27,13 @@ import java.util.List;
 
 class DoubleClusterManager extends ClusterManager {
     private final double[][] centroids;
+    // the manager is shared by all tasks, every thread reads node values into its own buffer
+    private final ThreadLocal<double[]> buffer;
 
     DoubleClusterManager(NodePropertyValues values, int dimensions, int k) {
         super(values, dimensions, k);
         this.centroids = new double[k][dimensions];
+        this.buffer = ThreadLocal.withInitial(() -> new double[dimensions]);
     }
 
     @Override
@@ -59,10 +62,27 @@ class DoubleClusterManager extends ClusterManager {
 
     @Override
     public double euclidean(long nodeId, int centroidId) {
-        double[] left = nodePropertyValues.doubleArrayValue(nodeId);
+        return euclidean(ClusterManager.doubleArrayValue(nodePropertyValues, nodeId, buffer.get()), centroidId);
+    }
+
+    @Override
+    public int findClosestCentroid(long nodeId) {
+        double[] value = ClusterManager.doubleArrayValue(nodePropertyValues, nodeId, buffer.get());
+        int community = 0;
+        double smallestDistance = Double.MAX_VALUE;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double distance = euclidean(value, centroidId);
+            if (Double.compare(distance, smallestDistance) < 0) {
+                smallestDistance = distance;
+                community = centroidId;
+            }
+        }
+        return community;
+    }
+
+    private double euclidean(double[] left, int centroidId) {
         double[] right = centroids[centroidId];
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
-
     }
 
     @Override
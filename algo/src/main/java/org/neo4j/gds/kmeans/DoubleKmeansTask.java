@@ -29,6 +29,7 @@ import java.util.Arrays;
 final class DoubleKmeansTask extends KmeansTask {
 
     private final double[][] communityCoordinateSums;
+    private final double[] buffer;
 
     DoubleKmeansTask(
         KmeansSampler.SamplerType samplerType,
@@ -51,6 +52,7 @@ final class DoubleKmeansTask extends KmeansTask {
             partition
         );
         this.communityCoordinateSums = new double[k][dimensions];
+        this.buffer = new double[dimensions];
 
     }
 
@@ -68,7 +70,7 @@ final class DoubleKmeansTask extends KmeansTask {
 
     @Override
     void updateAfterAssignmentToCentroid(long nodeId, int community) {
-        var property = nodePropertyValues.doubleArrayValue(nodeId);
+        var property = ClusterManager.doubleArrayValue(nodePropertyValues, nodeId, buffer);
         communities.set(nodeId, community);
         for (int j = 0; j < dimensions; ++j) {
             communityCoordinateSums[community][j] += property[j];
@@ -27,10 +27,13 @@ import java.util.List;
 
 class FloatClusterManager extends ClusterManager {
     private final float[][] centroids;
+    // the manager is shared by all tasks, every thread reads node values into its own buffer
+    private final ThreadLocal<float[]> buffer;
 
     FloatClusterManager(NodePropertyValues values, int dimensions, int k) {
         super(values, dimensions, k);
         this.centroids = new float[k][dimensions];
+        this.buffer = ThreadLocal.withInitial(() -> new float[dimensions]);
     }
 
     @Override
@@ -76,7 +79,25 @@ class FloatClusterManager extends ClusterManager {
 
     @Override
     public double euclidean(long nodeId, int centroidId) {
-        float[] left = nodePropertyValues.floatArrayValue(nodeId);
+        return euclidean(ClusterManager.floatArrayValue(nodePropertyValues, nodeId, buffer.get()), centroidId);
+    }
+
+    @Override
+    public int findClosestCentroid(long nodeId) {
+        float[] value = ClusterManager.floatArrayValue(nodePropertyValues, nodeId, buffer.get());
+        int community = 0;
+        double smallestDistance = Double.MAX_VALUE;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double distance = euclidean(value, centroidId);
+            if (Double.compare(distance, smallestDistance) < 0) {
+                smallestDistance = distance;
+                community = centroidId;
+            }
+        }
+        return community;
+    }
+
+    private double euclidean(float[] left, int centroidId) {
         float[] right = centroids[centroidId];
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
     }
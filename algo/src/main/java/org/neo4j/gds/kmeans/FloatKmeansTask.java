@@ -29,6 +29,7 @@ import java.util.Arrays;
 final class FloatKmeansTask extends KmeansTask {
 
     private final float[][] communityCoordinateSums;
+    private final float[] buffer;
 
     FloatKmeansTask(
         KmeansSampler.SamplerType samplerType,
@@ -51,6 +52,7 @@ final class FloatKmeansTask extends KmeansTask {
             partition
         );
         this.communityCoordinateSums = new float[k][dimensions];
+        this.buffer = new float[dimensions];
     }
 
     float[] getCentroidContribution(int ith) {
@@ -67,7 +69,7 @@ final class FloatKmeansTask extends KmeansTask {
 
     @Override
     void updateAfterAssignmentToCentroid(long nodeId, int community) {
-        var property = nodePropertyValues.floatArrayValue(nodeId);
+        var property = ClusterManager.floatArrayValue(nodePropertyValues, nodeId, buffer);
         communities.set(nodeId, community);
         for (int j = 0; j < dimensions; ++j) {
             communityCoordinateSums[community][j] += property[j];
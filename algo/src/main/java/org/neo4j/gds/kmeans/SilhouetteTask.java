@@ -148,6 +148,9 @@ public abstract class SilhouetteTask implements Runnable {
 
 class DoubleSilhouetteTask extends SilhouetteTask {
 
+    private final double[] leftBuffer;
+    private final double[] rightBuffer;
+
     DoubleSilhouetteTask(
         NodePropertyValues nodePropertyValues,
         HugeIntArray communities,
@@ -168,19 +171,24 @@ class DoubleSilhouetteTask extends SilhouetteTask {
             partition,
             progressTracker
         );
+        this.leftBuffer = new double[dimensions];
+        this.rightBuffer = new double[dimensions];
     }
 
 
     @Override
     double distance(long nodeA, long nodeB) {
-        double[] left = nodePropertyValues.doubleArrayValue(nodeA);
-        double[] right = nodePropertyValues.doubleArrayValue(nodeB);
+        double[] left = ClusterManager.doubleArrayValue(nodePropertyValues, nodeA, leftBuffer);
+        double[] right = ClusterManager.doubleArrayValue(nodePropertyValues, nodeB, rightBuffer);
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
     }
 }
 
 class FloatSilhouetteTask extends SilhouetteTask {
 
+    private final float[] leftBuffer;
+    private final float[] rightBuffer;
+
     FloatSilhouetteTask(
         NodePropertyValues nodePropertyValues,
         HugeIntArray communities,
@@ -201,12 +209,14 @@ class FloatSilhouetteTask extends SilhouetteTask {
             partition,
             progressTracker
         );
+        this.leftBuffer = new float[dimensions];
+        this.rightBuffer = new float[dimensions];
     }
 
     @Override
     double distance(long nodeA, long nodeB) {
-        float[] left = nodePropertyValues.floatArrayValue(nodeA);
-        float[] right = nodePropertyValues.floatArrayValue(nodeB);
+        float[] left = ClusterManager.floatArrayValue(nodePropertyValues, nodeA, leftBuffer);
+        float[] right = ClusterManager.floatArrayValue(nodePropertyValues, nodeB, rightBuffer);
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
 
     }
@@ -24,6 +24,10 @@ import org.neo4j.gds.spanningtree.SpanningTreeBaseConfig;
 
 @Configuration
 public interface KSpanningTreeBaseConfig extends SpanningTreeBaseConfig {
+    @Override
+    @Configuration.ConvertWith(method = "org.neo4j.gds.config.SourceNodeConfig#parseSourceNode")
+    long sourceNode();
+
     long k();
 
     @Configuration.Ignore
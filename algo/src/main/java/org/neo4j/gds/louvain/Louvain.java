@@ -20,19 +20,12 @@
 package org.neo4j.gds.louvain;
 
 import org.neo4j.gds.Algorithm;
-import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.coarsening.GraphCoarsening;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.loading.construction.GraphFactory;
-import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.OriginalIdNodePropertyValues;
-import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationResult;
@@ -213,49 +206,17 @@ public final class Louvain extends Algorithm<LouvainResult> {
         ModularityOptimizationResult modularityOptimizationResult,
         long maxCommunityId
     ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(concurrency)
-            .build();
-
-        terminationFlag.assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimizationResult.communityId(nodeId));
-            return true;
-        });
-
-        terminationFlag.assertRunning();
-
-        IdMap idMap = nodesBuilder.build().idMap();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .relationshipType(RelationshipType.of("IGNORED"))
-            .orientation(rootGraph.schema().direction().toOrientation())
-            .addPropertyConfig(GraphFactory.PropertyConfig.builder()
-                .propertyKey("property")
-                .aggregation(Aggregation.SUM)
-                .build())
-            .executorService(executorService)
-            .build();
-
-        // using degreePartitioning did not show an improvement -- assuming as tasks are too small
-        var relationshipCreators = PartitionUtils.rangePartition(
+        return new GraphCoarsening(
+            workingGraph,
+            modularityOptimizationResult::communityId,
+            maxCommunityId,
+            rootGraph.schema().direction(),
+            true,
             concurrency,
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimizationResult,
-                    workingGraph.concurrentCopy(),
-                    partition
-                ),
-            Optional.empty()
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build());
+            executorService,
+            terminationFlag,
+            ProgressTracker.NULL_TRACKER
+        ).run();
     }
 
     private boolean hasConverged() {
@@ -271,45 +232,4 @@ public final class Louvain extends Algorithm<LouvainResult> {
     private int levels() {
         return this.ranLevels == 0 ? 1 : this.ranLevels;
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimizationResult modularityOptimizationResult;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimizationResult modularityOptimizationResult,
-            RelationshipIterator relationshipIterator,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimizationResult = modularityOptimizationResult;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-        }
-
-        @Override
-        public void run() {
-            partition.consume(nodeId -> {
-                long communityId = modularityOptimizationResult.communityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    //ignore scaling alltogether
-                        relationshipsBuilder.add(
-                            communityId,
-                            modularityOptimizationResult.communityId(target),
-                            property
-                        );
-
-
-                    return true;
-                });
-            });
-        }
-    }
 }
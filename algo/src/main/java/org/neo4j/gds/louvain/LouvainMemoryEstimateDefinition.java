@@ -20,18 +20,8 @@
 package org.neo4j.gds.louvain;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
-import org.neo4j.gds.ImmutableRelationshipProjections;
-import org.neo4j.gds.NodeProjections;
-import org.neo4j.gds.Orientation;
-import org.neo4j.gds.RelationshipProjection;
-import org.neo4j.gds.RelationshipProjections;
-import org.neo4j.gds.RelationshipType;
-import org.neo4j.gds.api.CSRGraphStoreFactory;
-import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.coarsening.GraphCoarsening;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.Aggregation;
-import org.neo4j.gds.core.GraphDimensions;
-import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -50,34 +40,8 @@ public class LouvainMemoryEstimateDefinition implements AlgorithmMemoryEstimateD
                 "modularityOptimization()",
                 new ModularityOptimizationMemoryEstimateDefinition().memoryEstimation(null)
             )
-            .rangePerGraphDimension("subGraph", (graphDimensions, concurrency) -> {
-                ImmutableGraphDimensions.Builder dimensionsBuilder = ImmutableGraphDimensions
-                    .builder()
-                    .from(graphDimensions);
-
-                GraphDimensions sparseDimensions = dimensionsBuilder.build();
-
-                // Louvain creates a new graph every iteration, this graph has one relationship property
-                RelationshipProjections relationshipProjections = ImmutableRelationshipProjections.builder()
-                    .putProjection(
-                        RelationshipType.of("AGGREGATE"),
-                        RelationshipProjection.builder()
-                            .type("AGGREGATE")
-                            .orientation(Orientation.UNDIRECTED)
-                            .aggregation(Aggregation.SUM)
-                            .addProperty("prop", "prop", DefaultValue.of(0.0))
-                            .build()
-                    )
-                    .build();
-
-                long maxGraphSize = CSRGraphStoreFactory
-                    .getMemoryEstimation(NodeProjections.all(), relationshipProjections, false)
-                    .estimate(sparseDimensions, concurrency)
-                    .memoryUsage()
-                    .max;
-
-                return MemoryRange.of(1L, maxGraphSize); // rough estimate of graph size
-            })
+            // Louvain creates a new graph every level, it has a single relationship property
+            .rangePerGraphDimension("subGraph", (graphDimensions, concurrency) -> GraphCoarsening.memoryRange(graphDimensions))
             .rangePerNode("dendrograms", (nodeCount) -> MemoryRange.of(
                 HugeLongArray.memoryEstimation(nodeCount),
                 HugeLongArray.memoryEstimation(nodeCount) * (includeIntermediateCommunities ? maxLevels : Math.min(2, maxLevels))
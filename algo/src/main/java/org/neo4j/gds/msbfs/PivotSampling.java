@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.ml.core.samplers.UniformSampler;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * A uniform sample of source nodes for approximating distance based centralities.
+ * <p>
+ * Instead of running a BFS from every node, the BFS only runs from the sampled pivots and the
+ * per-node sums are extrapolated from the pivots to all other nodes, following
+ * <a href="https://arxiv.org/abs/cs/0009005">Eppstein and Wang: Fast Approximation of Centrality</a>.
+ */
+public final class PivotSampling {
+
+    private final long nodeCount;
+    private final long[] pivots;
+    private final BitSet isPivot;
+
+    private PivotSampling(long nodeCount, long[] pivots) {
+        this.nodeCount = nodeCount;
+        this.pivots = pivots;
+        this.isPivot = new BitSet(nodeCount);
+        for (long pivot : pivots) {
+            isPivot.set(pivot);
+        }
+    }
+
+    public static PivotSampling create(long nodeCount, long samplingSize, Optional<Long> randomSeed) {
+        var sampler = new UniformSampler(randomSeed.orElseGet(() -> new SplittableRandom().nextLong()));
+        var pivots = sampler
+            .sample(LongStream.range(0, nodeCount), nodeCount, Math.toIntExact(Math.min(samplingSize, nodeCount)))
+            .toArray();
+        Arrays.sort(pivots);
+        return new PivotSampling(nodeCount, pivots);
+    }
+
+    /**
+     * The sorted source nodes to run the BFS from.
+     */
+    public long[] pivots() {
+        return pivots;
+    }
+
+    /**
+     * The number of pivots other than the given node, i.e. the number of sampled distances to that node.
+     */
+    public long sampleCount(long nodeId) {
+        return isPivot.get(nodeId) ? pivots.length - 1 : pivots.length;
+    }
+
+    /**
+     * Extrapolates a sum over the sampled distances of a node to a sum over all other nodes.
+     */
+    public double extrapolate(long nodeId, double sampledSum) {
+        long sampleCount = sampleCount(nodeId);
+        if (sampleCount == 0) {
+            return 0.0D;
+        }
+        return sampledSum * (nodeCount - 1) / sampleCount;
+    }
+
+    /**
+     * The Hoeffding bound on the mean of the sampled terms of every node.
+     * With probability at least {@code 1 - 1/n}, the extrapolated mean of every node is within this error
+     * times the range of a single term from the exact mean.
+     */
+    public double approximationError() {
+        if (pivots.length >= nodeCount) {
+            return 0.0D;
+        }
+        long minSampleCount = Math.max(pivots.length - 1, 1);
+        return Math.sqrt(Math.log(2.0D * nodeCount * nodeCount) / (2.0D * minSampleCount));
+    }
+}
@@ -161,6 +161,6 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
     public MemoryEstimation memoryEstimation(PageRankConfig configuration) {
         return Pregel.memoryEstimation(new PregelSchema.Builder()
             .add(PageRankComputation.PAGE_RANK, ValueType.DOUBLE)
-            .build(), false, false);
+            .build(), false, false, configuration.combineMessages(), configuration.useActiveFrontier());
     }
 }
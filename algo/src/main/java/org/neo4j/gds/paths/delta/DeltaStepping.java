@@ -21,16 +21,17 @@ package org.neo4j.gds.paths.delta;
 
 import com.carrotsearch.hppc.DoubleArrayList;
 import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
 import com.carrotsearch.hppc.procedures.LongProcedure;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.paths.PathResult;
@@ -52,14 +53,15 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     private static final int NO_BIN = Integer.MAX_VALUE;
     private static final int BIN_SIZE_THRESHOLD = 1000;
     private static final int BATCH_SIZE = 64;
-
+    private static final int INITIAL_FRONTIER_CAPACITY = 1024;
 
     private final Graph graph;
     private final long startNode;
     private final double delta;
     private final int concurrency;
 
-    private final HugeLongArray frontier;
+    // The frontier holds the nodes of the current bin only, each of them once, and grows on demand.
+    private HugeLongArray frontier;
     private final TentativeDistances distances;
 
     private final ExecutorService executorService;
@@ -98,7 +100,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         this.concurrency = concurrency;
         this.executorService = executorService;
 
-        this.frontier = HugeLongArray.newArray(graph.relationshipCount());
+        this.frontier = HugeLongArray.newArray(initialFrontierCapacity(graph.nodeCount()));
         if (storePredecessors) {
             this.distances = TentativeDistances.distanceAndPredecessors(
                 graph.nodeCount(),
@@ -112,6 +114,10 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
     }
 
+    static long initialFrontierCapacity(long nodeCount) {
+        return Math.max(1, Math.min(nodeCount, INITIAL_FRONTIER_CAPACITY));
+    }
+
     @Override
     public PathFindingResult compute() {
         progressTracker.beginSubTask();
@@ -119,13 +125,16 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
 
         var frontierIndex = new AtomicLong(0);
         var frontierSize = new AtomicLong(1);
+        // A node is relaxed several times within a bin, but is added to the frontier only once.
+        var inFrontier = HugeAtomicBitSet.create(graph.nodeCount());
 
         this.frontier.set(currentBin, startNode);
+        inFrontier.set(startNode);
         this.distances.set(startNode, -1, 0);
 
         var relaxTasks = IntStream
             .range(0, concurrency)
-            .mapToObj(i -> new DeltaSteppingTask(graph, frontier, distances, delta, frontierIndex))
+            .mapToObj(i -> new DeltaSteppingTask(graph, frontier, inFrontier, distances, delta, frontierIndex))
             .collect(Collectors.toList());
 
         while (currentBin != NO_BIN) {
@@ -148,9 +157,20 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             frontierIndex.set(0);
             relaxTasks.forEach(task -> task.setPhase(Phase.SYNC));
 
+            // The frontier has been fully consumed in phase 1, so we can
+            // replace it with a larger one before merging the local bins.
+            // The local bins may contain duplicates, but the frontier never
+            // holds more than all nodes.
+            int nextBin = currentBin;
+            ensureFrontierCapacity(Math.min(
+                graph.nodeCount(),
+                relaxTasks.stream().mapToLong(task -> task.binSize(nextBin)).sum()
+            ));
+
             for (var task : relaxTasks) {
                 task.setPhase(Phase.SYNC);
                 task.setBinIndex(currentBin);
+                task.setFrontier(frontier);
             }
             ParallelUtil.run(relaxTasks, executorService);
             progressTracker.endSubTask();
@@ -162,6 +182,13 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         return new PathFindingResult(pathResults(distances, startNode, concurrency), progressTracker::endSubTask);
     }
 
+    private void ensureFrontierCapacity(long size) {
+        if (size > frontier.size()) {
+            frontier.release();
+            frontier = HugeLongArray.newArray(ArrayUtil.oversizeHuge(size, Long.BYTES));
+        }
+    }
+
     enum Phase {
         RELAX,
         SYNC
@@ -169,7 +196,8 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
 
     private static class DeltaSteppingTask implements Runnable {
         private final Graph graph;
-        private final HugeLongArray frontier;
+        private HugeLongArray frontier;
+        private final HugeAtomicBitSet inFrontier;
         private final TentativeDistances distances;
         private final double delta;
         private int binIndex;
@@ -187,6 +215,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         DeltaSteppingTask(
             Graph graph,
             HugeLongArray frontier,
+            HugeAtomicBitSet inFrontier,
             TentativeDistances distances,
             double delta,
             AtomicLong frontierIndex
@@ -194,6 +223,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
 
             this.graph = graph.concurrentCopy();
             this.frontier = frontier;
+            this.inFrontier = inFrontier;
             this.distances = distances;
             this.delta = delta;
             this.frontierIndex = frontierIndex;
@@ -223,6 +253,14 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             this.frontierLength = frontierLength;
         }
 
+        void setFrontier(HugeLongArray frontier) {
+            this.frontier = frontier;
+        }
+
+        long binSize(int bin) {
+            return bin < localBins.length && localBins[bin] != null ? localBins[bin].size() : 0;
+        }
+
         int minNonEmptyBin() {
             for (int i = binIndex; i < localBins.length; i++) {
                 if (localBins[i] != null && !localBins[i].isEmpty()) {
@@ -239,6 +277,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
 
                 for (long idx = offset; idx < limit; idx++) {
                     var nodeId = frontier.get(idx);
+                    inFrontier.clear(nodeId);
                     if (distances.distance(nodeId) >= delta * binIndex) {
                         relaxNode(nodeId);
                     }
@@ -289,15 +328,29 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
 
         private void updateFrontier() {
             if (binIndex < localBins.length && localBins[binIndex] != null && !localBins[binIndex].isEmpty()) {
-                var size = localBins[binIndex].size();
+                // skip the nodes that are already in the frontier, either
+                // from another local bin or from earlier in this one
+                var bin = localBins[binIndex];
+                var buffer = bin.buffer;
+                int size = 0;
+                for (int i = 0; i < bin.size(); i++) {
+                    if (!inFrontier.getAndSet(buffer[i])) {
+                        buffer[size++] = buffer[i];
+                    }
+                }
                 var offset = frontierIndex.getAndAdd(size);
 
-                for (LongCursor longCursor : localBins[binIndex]) {
-                    long index = offset + longCursor.index;
-                    frontier.set(index, longCursor.value);
+                for (int i = 0; i < size; i++) {
+                    frontier.set(offset + i, buffer[i]);
                 }
 
-                localBins[binIndex].elementsCount = 0;
+                if (bin.size() < BIN_SIZE_THRESHOLD) {
+                    localBins[binIndex].elementsCount = 0;
+                } else {
+                    // the nodes are in the frontier now, large local bins
+                    // should not hold on to their memory
+                    localBins[binIndex] = null;
+                }
             }
         }
     }
@@ -20,12 +20,14 @@
 package org.neo4j.gds.paths.delta;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
+import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaBaseConfig;
 
 public class DeltaSteppingMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefinition<AllShortestPathsDeltaBaseConfig> {
@@ -37,15 +39,17 @@ public class DeltaSteppingMemoryEstimateDefinition implements AlgorithmMemoryEst
             var builder = MemoryEstimations.builder(DeltaStepping.class)
                 .perNode("distance array", HugeAtomicDoubleArray::memoryEstimation)
                 .rangePerGraphDimension("shared bin", (dimensions, concurrency) -> {
-                    // This is the average case since it is likely that we visit most nodes
-                    // in one of the iterations due to power-law distributions.
-                    var lowerBound = HugeLongArray.memoryEstimation(dimensions.nodeCount());
-                    // This is the worst-case, which we will most likely never hit since the
-                    // graph needs to be complete to reach all nodes from all threads.
-                    var upperBound = HugeLongArray.memoryEstimation(dimensions.relCountUpperBound());
+                    // The shared bin only holds the nodes of the current bin and grows on demand.
+                    // If all bins are small, it never grows beyond its initial capacity.
+                    var lowerBound = HugeLongArray.memoryEstimation(DeltaStepping.initialFrontierCapacity(dimensions.nodeCount()));
+                    // A node can be relaxed several times within a bin, but the shared bin is deduplicated
+                    // on insert. If most nodes end up in a single bin, e.g. for a large delta,
+                    // the shared bin grows to hold each of them once.
+                    var upperBound = HugeLongArray.memoryEstimation(ArrayUtil.oversizeHuge(dimensions.nodeCount(), Long.BYTES));
 
                     return MemoryRange.of(lowerBound, Math.max(lowerBound, upperBound));
                 })
+                .perNode("shared bin membership", HugeAtomicBitSet::memoryEstimation)
                 .rangePerGraphDimension("local bins", (dimensions, concurrency) -> {
                     // We don't know how many buckets we have per thread since it depends on the delta
                     // and the average path length within the graph. We try some bounds instead ...
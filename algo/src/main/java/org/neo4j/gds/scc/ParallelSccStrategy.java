@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.scc.Scc.UNORDERED;
+
+/**
+ * Parallel strongly connected components following the approach described in [1].
+ * <p>
+ * Trivial components are trimmed first. A forward-backward search from a high degree pivot then
+ * extracts the component that typically dominates real world graphs. The remaining nodes are resolved
+ * by repeated coloring rounds as introduced in [2]: every node is colored with the largest node id
+ * that can reach it and every node whose color is its own id collects its component with a backward
+ * search over the nodes of the same color.
+ * <p>
+ * Backward searches use the inverse index if the graph has one. Otherwise, a transposed adjacency is built upfront.
+ * <p>
+ * [1] Sungpack Hong, Nicole C. Rodia and Kunle Olukotun. "On Fast Parallel Detection of Strongly Connected
+ * Components (SCC) in Small-World Graphs", SC 2013.
+ * <p>
+ * [2] Simona Orzan. "On Distributed Verification and Verified Distribution", PhD thesis, 2004.
+ */
+final class ParallelSccStrategy {
+
+    // trimming stops once a round removes less than this share of the remaining nodes,
+    // long chains are cheaper to resolve by coloring than by one trimming round per node
+    private static final double MIN_TRIM_RATIO = 0.01;
+
+    private static final long NO_PIVOT = -1L;
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+    private final List<Partition> partitions;
+
+    private final HugeLongArray components;
+    private final HugeAtomicBitSet assigned;
+    // traversals only visit the nodes of the current frontier, so that every level costs time proportional to its size
+    private HugeLongArray frontier;
+    private long frontierSize;
+    private HugeLongArray nextFrontier;
+    private final AtomicLong nextFrontierSize;
+    // guards against adding a node to the next frontier twice
+    private final HugeAtomicBitSet inNextFrontier;
+    private long unassignedNodes;
+
+    ParallelSccStrategy(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+        this.partitions = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            Function.identity(),
+            Optional.empty()
+        );
+
+        var nodeCount = graph.nodeCount();
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+        this.inNextFrontier = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    HugeLongArray compute() {
+        components.fill(UNORDERED);
+        unassignedNodes = graph.nodeCount();
+
+        var incoming = incomingRelationships();
+
+        trim(incoming);
+        forwardBackward(incoming);
+        trim(incoming);
+        if (unassignedNodes > 0) {
+            color(incoming);
+        }
+
+        return components;
+    }
+
+    /**
+     * Assigns every node without unassigned incoming or outgoing neighbours to its own component.
+     */
+    private void trim(IncomingRelationships incoming) {
+        long trimmed;
+        do {
+            trimmed = runParallel((localGraph, nodeId) -> {
+                if (assigned.get(nodeId)) {
+                    return 0;
+                }
+                if (hasUnassignedNeighbour(localGraph::forEachRelationship, nodeId) &&
+                    hasUnassignedNeighbour((node, consumer) -> incoming.forEach(localGraph, node, consumer), nodeId)) {
+                    return 0;
+                }
+                return assign(nodeId, nodeId) ? 1 : 0;
+            });
+            unassignedNodes -= trimmed;
+        } while (trimmed > 0 && trimmed >= unassignedNodes * MIN_TRIM_RATIO);
+    }
+
+    /**
+     * Assigns the component of the pivot, which is the intersection of the nodes reachable from the pivot
+     * and the nodes that can reach the pivot.
+     */
+    private void forwardBackward(IncomingRelationships incoming) {
+        long pivot = pivot();
+        if (pivot == NO_PIVOT) {
+            return;
+        }
+
+        var reachable = HugeAtomicBitSet.create(graph.nodeCount());
+        reachable.set(pivot);
+        addToNextFrontier(pivot);
+        traverse((localGraph, nodeId) -> {
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                if (!assigned.get(target) && !reachable.getAndSet(target)) {
+                    addToNextFrontier(target);
+                }
+                return true;
+            });
+            return 0;
+        });
+
+        assign(pivot, pivot);
+        unassignedNodes--;
+        addToNextFrontier(pivot);
+        unassignedNodes -= traverse((localGraph, nodeId) -> {
+            var assignedNodes = new MutableLong();
+            incoming.forEach(localGraph, nodeId, (node, neighbour) -> {
+                if (reachable.get(neighbour) && assign(neighbour, pivot)) {
+                    addToNextFrontier(neighbour);
+                    assignedNodes.increment();
+                }
+                return true;
+            });
+            return assignedNodes.longValue();
+        });
+        progressTracker.logProgress();
+    }
+
+    /**
+     * Assigns the remaining nodes by repeated rounds of color propagation and backward searches.
+     * Every round assigns at least one component per color.
+     * Rounds only visit the nodes that are still unassigned, which are kept in a list that shrinks every round.
+     */
+    private void color(IncomingRelationships incoming) {
+        var colors = HugeAtomicLongArray.of(graph.nodeCount(), ParalleLongPageCreator.passThrough(concurrency));
+
+        var remaining = HugeLongArray.newArray(unassignedNodes);
+        long remainingSize = 0;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (!assigned.get(nodeId)) {
+                remaining.set(remainingSize++, nodeId);
+            }
+        }
+
+        while (unassignedNodes > 0) {
+            runParallel(remainingSize, remaining::get, (localGraph, nodeId) -> {
+                colors.set(nodeId, nodeId);
+                addToNextFrontier(nodeId);
+                return 0;
+            });
+
+            // propagate the largest color along outgoing relationships
+            traverse((localGraph, nodeId) -> {
+                long color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (!assigned.get(target) && raise(colors, target, color)) {
+                        addToNextFrontier(target);
+                    }
+                    return true;
+                });
+                return 0;
+            });
+
+            // nodes that kept their own color are the roots of their component
+            unassignedNodes -= runParallel(remainingSize, remaining::get, (localGraph, nodeId) -> {
+                if (colors.get(nodeId) == nodeId && assign(nodeId, nodeId)) {
+                    addToNextFrontier(nodeId);
+                    return 1;
+                }
+                return 0;
+            });
+
+            unassignedNodes -= traverse((localGraph, nodeId) -> {
+                long color = colors.get(nodeId);
+                var assignedNodes = new MutableLong();
+                incoming.forEach(localGraph, nodeId, (node, neighbour) -> {
+                    if (!assigned.get(neighbour) && colors.get(neighbour) == color && assign(neighbour, color)) {
+                        addToNextFrontier(neighbour);
+                        assignedNodes.increment();
+                    }
+                    return true;
+                });
+                return assignedNodes.longValue();
+            });
+
+            long keptNodes = 0;
+            for (long index = 0; index < remainingSize; index++) {
+                long nodeId = remaining.get(index);
+                if (!assigned.get(nodeId)) {
+                    remaining.set(keptNodes++, nodeId);
+                }
+            }
+            remainingSize = keptNodes;
+        }
+    }
+
+    private long pivot() {
+        long pivot = NO_PIVOT;
+        int maxDegree = -1;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (!assigned.get(nodeId)) {
+                int degree = graph.degree(nodeId);
+                if (degree > maxDegree) {
+                    maxDegree = degree;
+                    pivot = nodeId;
+                }
+            }
+        }
+        return pivot;
+    }
+
+    private boolean assign(long nodeId, long componentId) {
+        if (assigned.getAndSet(nodeId)) {
+            return false;
+        }
+        components.set(nodeId, componentId);
+        return true;
+    }
+
+    private boolean hasUnassignedNeighbour(Neighbours neighbours, long nodeId) {
+        var found = new MutableBoolean();
+        neighbours.forEach(nodeId, (node, neighbour) -> {
+            if (neighbour != node && !assigned.get(neighbour)) {
+                found.setTrue();
+                return false;
+            }
+            return true;
+        });
+        return found.booleanValue();
+    }
+
+    private static boolean raise(HugeAtomicLongArray colors, long nodeId, long color) {
+        long current = colors.get(nodeId);
+        while (color > current) {
+            long witness = colors.compareAndExchange(nodeId, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * Thread-safe, adds every node at most once per level.
+     */
+    private void addToNextFrontier(long nodeId) {
+        if (!inNextFrontier.getAndSet(nodeId)) {
+            nextFrontier.set(nextFrontierSize.getAndIncrement(), nodeId);
+        }
+    }
+
+    /**
+     * Runs the task for the nodes added to the next frontier, level by level, until no more nodes are added.
+     *
+     * @return the number of nodes assigned by the task
+     */
+    private long traverse(NodeTask task) {
+        long assignedNodes = 0;
+        while (nextFrontierSize.get() > 0) {
+            var visited = frontier;
+            frontier = nextFrontier;
+            nextFrontier = visited;
+            frontierSize = nextFrontierSize.getAndSet(0);
+
+            // nodes of the current level may be added to the next level again
+            var currentFrontier = frontier;
+            runParallel(frontierSize, currentFrontier::get, (localGraph, nodeId) -> {
+                inNextFrontier.clear(nodeId);
+                return 0;
+            });
+            assignedNodes += runParallel(frontierSize, currentFrontier::get, task);
+        }
+        return assignedNodes;
+    }
+
+    /**
+     * Runs the task for all nodes in parallel.
+     *
+     * @return the number of nodes assigned by the task
+     */
+    private long runParallel(NodeTask task) {
+        return runParallel(partitions, index -> index, task);
+    }
+
+    /**
+     * Runs the task in parallel for the nodes returned by {@code nodes} for the indices {@code [0, count)}.
+     *
+     * @return the number of nodes assigned by the task
+     */
+    private long runParallel(long count, LongUnaryOperator nodes, NodeTask task) {
+        var partitions = PartitionUtils.rangePartition(concurrency, count, Function.identity(), Optional.empty());
+        return runParallel(partitions, nodes, task);
+    }
+
+    private long runParallel(List<Partition> partitions, LongUnaryOperator nodes, NodeTask task) {
+        var assignedNodes = new LongAdder();
+        var tasks = partitions.stream()
+            .map(partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                long localAssignedNodes = 0;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long index = partition.startNode(); index < end; index++) {
+                    localAssignedNodes += task.apply(localGraph, nodes.applyAsLong(index));
+                }
+                if (localAssignedNodes > 0) {
+                    assignedNodes.add(localAssignedNodes);
+                    progressTracker.logProgress(localAssignedNodes);
+                }
+            })
+            .collect(Collectors.toList());
+
+        ParallelUtil.run(tasks, executorService);
+        terminationFlag.assertRunning();
+
+        return assignedNodes.sum();
+    }
+
+    private IncomingRelationships incomingRelationships() {
+        if (graph.characteristics().isUndirected()) {
+            return Graph::forEachRelationship;
+        }
+        if (graph.characteristics().isInverseIndexed()) {
+            return Graph::forEachInverseRelationship;
+        }
+        return transposedRelationships();
+    }
+
+    /**
+     * Builds the incoming relationships of all nodes in a CSR layout.
+     */
+    private IncomingRelationships transposedRelationships() {
+        var nodeCount = graph.nodeCount();
+        var positions = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        runParallel((localGraph, nodeId) -> {
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                positions.getAndAdd(target, 1);
+                return true;
+            });
+            return 0;
+        });
+
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += positions.getAndReplace(nodeId, offset);
+        }
+        offsets.set(nodeCount, offset);
+
+        var sources = HugeLongArray.newArray(offset);
+        runParallel((localGraph, nodeId) -> {
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                sources.set(positions.getAndAdd(target, 1), source);
+                return true;
+            });
+            return 0;
+        });
+
+        return (localGraph, nodeId, consumer) -> {
+            long end = offsets.get(nodeId + 1);
+            for (long index = offsets.get(nodeId); index < end; index++) {
+                if (!consumer.accept(nodeId, sources.get(index))) {
+                    return;
+                }
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface NodeTask {
+        /**
+         * @return the number of nodes assigned to a component
+         */
+        long apply(Graph localGraph, long nodeId);
+    }
+
+    @FunctionalInterface
+    private interface Neighbours {
+        void forEach(long nodeId, RelationshipConsumer consumer);
+    }
+
+    @FunctionalInterface
+    private interface IncomingRelationships {
+        void forEach(Graph localGraph, long nodeId, RelationshipConsumer consumer);
+    }
+}
@@ -23,4 +23,10 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    /**
+     * Whether to use the parallel forward-backward algorithm instead of the sequential Tarjan.
+     */
+    default boolean parallel() {
+        return false;
+    }
 }
@@ -21,9 +21,11 @@ package org.neo4j.gds.scc;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -32,7 +34,11 @@ public class SccMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefin
 
     @Override
     public MemoryEstimation memoryEstimation(SccCommonBaseConfig configuration) {
-        var builder = MemoryEstimations.builder(Scc.class);
+        if (configuration.parallel()) {
+            return parallelMemoryEstimation();
+        }
+
+        var builder = MemoryEstimations.builder(SequentialSccStrategy.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
             .perNode("connectedComponents", HugeLongArray::memoryEstimation)
@@ -53,4 +59,30 @@ public class SccMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefin
         return builder.build();
     }
 
+    private static MemoryEstimation parallelMemoryEstimation() {
+        var builder = MemoryEstimations.builder(ParallelSccStrategy.class);
+        builder
+            .perNode("components", HugeLongArray::memoryEstimation)
+            .perNode("assigned", HugeAtomicBitSet::memoryEstimation)
+            .perNode("frontiers", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("inNextFrontier", HugeAtomicBitSet::memoryEstimation)
+            .perNode("reachable", HugeAtomicBitSet::memoryEstimation)
+            .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+            .perNode("remaining", HugeLongArray::memoryEstimation);
+
+        builder.rangePerGraphDimension("transposed relationships", ((graphDimensions, concurrency) -> {
+            long nodeCount = graphDimensions.nodeCount();
+            long relationshipCount = graphDimensions.relCountUpperBound();
+            return MemoryRange.of(
+                0,
+                //only needed if the graph has neither an inverse index nor is undirected
+                HugeLongArray.memoryEstimation(nodeCount + 1) +
+                HugeAtomicLongArray.memoryEstimation(nodeCount) +
+                HugeLongArray.memoryEstimation(relationshipCount)
+            );
+        }));
+
+        return builder.build();
+    }
+
 }
@@ -25,6 +25,8 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 final class DoubleArrayPropertySimilarityComputer implements SimilarityComputer {
     private final NodePropertyValues nodePropertyValues;
     private final DoubleArraySimilarityMetric metric;
+    // computers are shared between threads, every thread reads both values into its own buffers
+    private final ThreadLocal<double[][]> buffers;
 
     DoubleArrayPropertySimilarityComputer(NodePropertyValues nodePropertyValues, DoubleArraySimilarityMetric metric) {
         this.metric = metric;
@@ -32,15 +34,32 @@ final class DoubleArrayPropertySimilarityComputer implements SimilarityComputer
             throw new IllegalArgumentException("The property is not of type DOUBLE_ARRAY");
         }
         this.nodePropertyValues = nodePropertyValues;
+        this.buffers = ThreadLocal.withInitial(() -> new double[][]{new double[0], new double[0]});
     }
 
     @Override
     public double similarity(long firstNodeId, long secondNodeId) {
-        var left = nodePropertyValues.doubleArrayValue(firstNodeId);
-        var right = nodePropertyValues.doubleArrayValue(secondNodeId);
+        var buffers = this.buffers.get();
+        var left = read(firstNodeId, buffers, 0);
+        var right = read(secondNodeId, buffers, 1);
         return metric.compute(left, right);
     }
 
+    private double[] read(long nodeId, double[][] buffers, int slot) {
+        var buffer = buffers[slot];
+        int length = nodePropertyValues.copyDoubleArrayValue(nodeId, buffer, 0);
+        if (length == buffer.length) {
+            return buffer;
+        }
+        if (length < 0) {
+            return nodePropertyValues.doubleArrayValue(nodeId);
+        }
+        buffer = new double[length];
+        buffers[slot] = buffer;
+        nodePropertyValues.copyDoubleArrayValue(nodeId, buffer, 0);
+        return buffer;
+    }
+
     @Override
     public boolean isSymmetric() {
         return metric.isSymmetric();
@@ -25,6 +25,8 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 final class FloatArrayPropertySimilarityComputer implements SimilarityComputer {
     private final NodePropertyValues nodePropertyValues;
     private final FloatArraySimilarityMetric metric;
+    // computers are shared between threads, every thread reads both values into its own buffers
+    private final ThreadLocal<float[][]> buffers;
 
     FloatArrayPropertySimilarityComputer(NodePropertyValues nodePropertyValues, FloatArraySimilarityMetric metric) {
         this.metric = metric;
@@ -32,15 +34,32 @@ final class FloatArrayPropertySimilarityComputer implements SimilarityComputer {
             throw new IllegalArgumentException("The property is not of type FLOAT_ARRAY");
         }
         this.nodePropertyValues = nodePropertyValues;
+        this.buffers = ThreadLocal.withInitial(() -> new float[][]{new float[0], new float[0]});
     }
 
     @Override
     public double similarity(long firstNodeId, long secondNodeId) {
-        var left = nodePropertyValues.floatArrayValue(firstNodeId);
-        var right = nodePropertyValues.floatArrayValue(secondNodeId);
+        var buffers = this.buffers.get();
+        var left = read(firstNodeId, buffers, 0);
+        var right = read(secondNodeId, buffers, 1);
         return metric.compute(left, right);
     }
 
+    private float[] read(long nodeId, float[][] buffers, int slot) {
+        var buffer = buffers[slot];
+        int length = nodePropertyValues.copyFloatArrayValue(nodeId, buffer, 0);
+        if (length == buffer.length) {
+            return buffer;
+        }
+        if (length < 0) {
+            return nodePropertyValues.floatArrayValue(nodeId);
+        }
+        buffer = new float[length];
+        buffers[slot] = buffer;
+        nodePropertyValues.copyFloatArrayValue(nodeId, buffer, 0);
+        return buffer;
+    }
+
     @Override
     public boolean isSymmetric() {
         return metric.isSymmetric();
@@ -61,6 +61,20 @@ public final class NullCheckingNodePropertyValues implements NodePropertyValues
         return value;
     }
 
+    @Override
+    public int copyDoubleArrayValue(long nodeId, double[] target, int targetOffset) {
+        int length = properties.copyDoubleArrayValue(nodeId, target, targetOffset);
+        check(nodeId, length);
+        return length;
+    }
+
+    @Override
+    public int copyFloatArrayValue(long nodeId, float[] target, int targetOffset) {
+        int length = properties.copyFloatArrayValue(nodeId, target, targetOffset);
+        check(nodeId, length);
+        return length;
+    }
+
     @Override
     public long[] longArrayValue(long nodeId) {
         var value = properties.longArrayValue(nodeId);
@@ -97,14 +111,24 @@ public final class NullCheckingNodePropertyValues implements NodePropertyValues
         return properties.nodeCount();
     }
 
+    private void check(long nodeId, int copiedLength) {
+        if (copiedLength < 0) {
+            throw missingValue(nodeId);
+        }
+    }
+
     private void check(long nodeId, @Nullable Object value) {
         if (value == null) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "Missing `%s` node property `%s` for node with id `%s`.",
-                properties.valueType().cypherName(),
-                name,
-                idMap.toOriginalNodeId(nodeId)
-            ));
+            throw missingValue(nodeId);
         }
     }
+
+    private IllegalArgumentException missingValue(long nodeId) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Missing `%s` node property `%s` for node with id `%s`.",
+            properties.valueType().cypherName(),
+            name,
+            idMap.toOriginalNodeId(nodeId)
+        ));
+    }
 }
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * In every round, each component picks its cheapest relationship to another component
+ * and all picked relationships are added to the forest at once.
+ * Components are tracked in a {@link HugeAtomicDisjointSetStruct}, so the number of components
+ * at least halves per round. Ties are broken by the node ids of the relationship, which keeps
+ * the picked relationships cycle free.
+ * <p>
+ * Unlike {@link Prim}, no start node is required. Every connected component of the graph
+ * becomes one tree of the forest, rooted at its node with the smallest id.
+ * The head of the returned {@link SpanningTree} is the root of the tree containing node {@code 0}.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+    private static final long NONE = -1;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    private final HugeAtomicDisjointSetStruct components;
+    // component of each node at the start of the current round
+    private final HugeLongArray componentOf;
+    // the node holding the cheapest outgoing relationship of each component
+    private final HugeAtomicLongArray cheapestNode;
+    // the cheapest relationship of each node leading to another component
+    private final HugeLongArray cheapestTarget;
+    private final HugeDoubleArray cheapestWeight;
+    // nodes without relationships to other components, which stays true as components only grow
+    private final HugeAtomicBitSet exhausted;
+
+    private final HugeLongArray forestSources;
+    private final HugeLongArray forestTargets;
+    private final HugeDoubleArray forestWeights;
+    private final AtomicLong forestSize;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.minMax = minMax;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+
+        var nodeCount = graph.nodeCount();
+        this.components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        this.componentOf = HugeLongArray.newArray(nodeCount);
+        this.cheapestNode = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.cheapestTarget = HugeLongArray.newArray(nodeCount);
+        this.cheapestWeight = HugeDoubleArray.newArray(nodeCount);
+        this.exhausted = HugeAtomicBitSet.create(nodeCount);
+        this.forestSources = HugeLongArray.newArray(nodeCount);
+        this.forestTargets = HugeLongArray.newArray(nodeCount);
+        this.forestWeights = HugeDoubleArray.newArray(nodeCount);
+        this.forestSize = new AtomicLong();
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("SpanningForest");
+
+        long addedRelationships;
+        do {
+            terminationFlag.assertRunning();
+            run(partition -> () -> partition.consume(nodeId -> {
+                componentOf.set(nodeId, components.setIdOf(nodeId));
+                cheapestNode.set(nodeId, NONE);
+            }));
+            run(CheapestRelationshipTask::new);
+
+            long forestSizeBefore = forestSize.get();
+            run(partition -> () -> partition.consume(this::mergeComponent));
+            addedRelationships = forestSize.get() - forestSizeBefore;
+        } while (addedRelationships > 0);
+
+        var spanningForest = orientForest();
+        progressTracker.endSubTask("SpanningForest");
+        return spanningForest;
+    }
+
+    private void run(Function<Partition, Runnable> taskCreator) {
+        List<Runnable> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            taskCreator,
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * Adds the cheapest relationship of a component to the forest.
+     * If two components picked the same relationship, only the one with the smaller id adds it.
+     */
+    private void mergeComponent(long nodeId) {
+        if (componentOf.get(nodeId) != nodeId) {
+            return;
+        }
+        long source = cheapestNode.get(nodeId);
+        if (source == NONE) {
+            return;
+        }
+        long target = cheapestTarget.get(source);
+
+        long otherComponent = componentOf.get(target);
+        if (otherComponent < nodeId && cheapestNode.get(otherComponent) == target && cheapestTarget.get(target) == source) {
+            return;
+        }
+
+        components.union(source, target);
+        long index = forestSize.getAndIncrement();
+        forestSources.set(index, source);
+        forestTargets.set(index, target);
+        forestWeights.set(index, cheapestWeight.get(source));
+    }
+
+    private static boolean isCheaper(double weight, long source, long target, double otherWeight, long otherSource, long otherTarget) {
+        int byWeight = Double.compare(weight, otherWeight);
+        if (byWeight != 0) {
+            return byWeight < 0;
+        }
+        long min = Math.min(source, target);
+        long otherMin = Math.min(otherSource, otherTarget);
+        if (min != otherMin) {
+            return min < otherMin;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    /**
+     * Turns the forest relationships into parent pointers by traversing each tree from its smallest node.
+     */
+    private SpanningTree orientForest() {
+        var nodeCount = graph.nodeCount();
+        var relationshipCount = forestSize.get();
+
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long i = 0; i < relationshipCount; i++) {
+            offsets.addTo(forestSources.get(i) + 1, 1);
+            offsets.addTo(forestTargets.get(i) + 1, 1);
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(nodeId + 1, offsets.get(nodeId));
+        }
+        var adjacency = HugeLongArray.newArray(2 * relationshipCount);
+        var cursors = HugeLongArray.newArray(nodeCount);
+        cursors.setAll(offsets::get);
+        for (long i = 0; i < relationshipCount; i++) {
+            long source = forestSources.get(i);
+            long target = forestTargets.get(i);
+            adjacency.set(cursors.get(source), i);
+            cursors.addTo(source, 1);
+            adjacency.set(cursors.get(target), i);
+            cursors.addTo(target, 1);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        parent.fill(NONE);
+        var costToParent = HugeDoubleArray.newArray(nodeCount);
+        var visited = new BitSet(nodeCount);
+        var queue = cursors;
+        double totalWeight = 0;
+
+        for (long root = 0; root < nodeCount; root++) {
+            if (visited.get(root)) {
+                continue;
+            }
+            visited.set(root);
+            long head = 0;
+            long tail = 0;
+            queue.set(tail++, root);
+            while (head < tail) {
+                long node = queue.get(head++);
+                for (long offset = offsets.get(node); offset < offsets.get(node + 1); offset++) {
+                    long relationship = adjacency.get(offset);
+                    long other = forestSources.get(relationship) == node
+                        ? forestTargets.get(relationship)
+                        : forestSources.get(relationship);
+                    if (visited.get(other)) {
+                        continue;
+                    }
+                    visited.set(other);
+                    // revert the weight inversion of the maximum objective
+                    double cost = minMax.applyAsDouble(forestWeights.get(relationship));
+                    parent.set(other, node);
+                    costToParent.set(other, cost);
+                    totalWeight += cost;
+                    queue.set(tail++, other);
+                }
+            }
+        }
+
+        return new SpanningTree(
+            nodeCount > 0 ? 0 : NONE,
+            nodeCount,
+            nodeCount,
+            parent,
+            costToParent::get,
+            totalWeight
+        );
+    }
+
+    private final class CheapestRelationshipTask implements Runnable {
+        private final Partition partition;
+        private final Graph localGraph;
+        private long source;
+        private long cheapestTargetOfSource;
+        private double cheapestWeightOfSource;
+
+        private CheapestRelationshipTask(Partition partition) {
+            this.partition = partition;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                if (exhausted.get(nodeId)) {
+                    return;
+                }
+                long component = componentOf.get(nodeId);
+                source = nodeId;
+                cheapestTargetOfSource = NONE;
+                cheapestWeightOfSource = Double.MAX_VALUE;
+
+                localGraph.forEachRelationship(nodeId, 0.0D, (s, t, w) -> {
+                    if (componentOf.get(t) == component) {
+                        return true;
+                    }
+                    // invert weight to calculate maximum
+                    double weight = minMax.applyAsDouble(w);
+                    if (cheapestTargetOfSource == NONE || isCheaper(weight, s, t, cheapestWeightOfSource, s, cheapestTargetOfSource)) {
+                        cheapestTargetOfSource = t;
+                        cheapestWeightOfSource = weight;
+                    }
+                    return true;
+                });
+                progressTracker.logProgress(localGraph.degree(nodeId));
+
+                if (cheapestTargetOfSource == NONE) {
+                    exhausted.set(nodeId);
+                    return;
+                }
+                cheapestTarget.set(nodeId, cheapestTargetOfSource);
+                cheapestWeight.set(nodeId, cheapestWeightOfSource);
+                offerToComponent(component, nodeId);
+            });
+        }
+
+        private void offerToComponent(long component, long nodeId) {
+            double weight = cheapestWeight.get(nodeId);
+            long target = cheapestTarget.get(nodeId);
+            while (true) {
+                long current = cheapestNode.get(component);
+                if (current != NONE && !isCheaper(
+                    weight,
+                    nodeId,
+                    target,
+                    cheapestWeight.get(current),
+                    current,
+                    cheapestTarget.get(current)
+                )) {
+                    return;
+                }
+                if (cheapestNode.compareAndSet(component, current, nodeId)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -69,6 +69,19 @@ public class SpanningTree {
 
     public long parent(long nodeId) {return parent.get(nodeId);}
 
+    /**
+     * The number of relationships of the tree, or of all trees for a spanning forest.
+     */
+    public long relationshipCount() {
+        long relationshipCount = 0;
+        for (long i = 0; i < nodeCount; i++) {
+            if (parent.get(i) != -1) {
+                relationshipCount++;
+            }
+        }
+        return relationshipCount;
+    }
+
     public double costToParent(long nodeId) {
         return costToParent.applyAsDouble(nodeId);
     }
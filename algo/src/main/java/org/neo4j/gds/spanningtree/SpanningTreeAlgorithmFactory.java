@@ -19,20 +19,21 @@
  */
 package org.neo4j.gds.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
-public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig> extends GraphAlgorithmFactory<Prim, CONFIG> {
+import java.util.function.DoubleUnaryOperator;
+
+public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig> extends GraphAlgorithmFactory<Algorithm<SpanningTree>, CONFIG> {
 
     public Prim build(Graph graph, SpanningTreeParameters parameters, ProgressTracker progressTracker) {
-        if (!graph.schema().isUndirected()) {
-            throw new IllegalArgumentException(
-                "The Spanning Tree algorithm works only with undirected graphs. Please orient the edges properly");
-        }
+        validateUndirected(graph);
         return new Prim(
             graph,
             parameters.objective(),
@@ -41,8 +42,35 @@ public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig>
         );
     }
 
+    /**
+     * Builds the parallel {@link Boruvka} variant, which computes a spanning forest
+     * over all connected components instead of a single tree rooted at a source node.
+     */
+    public Boruvka buildForest(
+        Graph graph,
+        DoubleUnaryOperator objective,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        validateUndirected(graph);
+        return new Boruvka(graph, objective, concurrency, DefaultPool.INSTANCE, progressTracker);
+    }
+
+    private static void validateUndirected(Graph graph) {
+        if (!graph.schema().isUndirected()) {
+            throw new IllegalArgumentException(
+                "The Spanning Tree algorithm works only with undirected graphs. Please orient the edges properly");
+        }
+    }
+
+    /**
+     * Runs {@link Boruvka} when no source node is configured and {@link Prim} otherwise.
+     */
     @Override
-    public Prim build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+    public Algorithm<SpanningTree> build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+        if (configuration.forest()) {
+            return buildForest(graph, configuration.objective(), configuration.concurrency(), progressTracker);
+        }
         return build(graph, configuration.toParameters(), progressTracker);
     }
 
@@ -60,8 +88,13 @@ public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig>
         return Tasks.leaf(taskName(), graph.relationshipCount());
     }
 
+    public Task forestProgressTask() {
+        // the number of Borůvka rounds is not known upfront
+        return Tasks.leaf("SpanningForest");
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
-        return progressTask(graph);
+        return config.forest() ? forestProgressTask() : progressTask(graph);
     }
 }
@@ -19,11 +19,15 @@
  */
 package org.neo4j.gds.spanningtree;
 
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.config.SourceNodeConfig;
 
+import java.util.Collection;
 import java.util.function.DoubleUnaryOperator;
 
 public interface SpanningTreeBaseConfig extends
@@ -31,6 +35,34 @@ public interface SpanningTreeBaseConfig extends
     RelationshipWeightConfig,
     SourceNodeConfig {
 
+    long NO_SOURCE_NODE = -1;
+
+    /**
+     * Without a source node, a spanning forest over all connected components is computed.
+     */
+    @Override
+    @Configuration.ConvertWith(method = "org.neo4j.gds.config.SourceNodeConfig#parseSourceNode")
+    default long sourceNode() {
+        return NO_SOURCE_NODE;
+    }
+
+    @Configuration.Ignore
+    default boolean forest() {
+        return sourceNode() == NO_SOURCE_NODE;
+    }
+
+    @Override
+    @Configuration.GraphStoreValidationCheck
+    default void validateSourceNode(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!forest()) {
+            SourceNodeConfig.super.validateSourceNode(graphStore, selectedLabels, selectedRelationshipTypes);
+        }
+    }
+
     @Configuration.ConvertWith(method = "org.neo4j.gds.spanningtree.SpanningTreeCompanion#parse")
     @Configuration.ToMapValue("org.neo4j.gds.spanningtree.SpanningTreeCompanion#toString")
     default DoubleUnaryOperator objective() {
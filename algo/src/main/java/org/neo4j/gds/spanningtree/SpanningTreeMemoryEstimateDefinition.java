@@ -20,9 +20,13 @@
 package org.neo4j.gds.spanningtree;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 
@@ -36,8 +40,22 @@ public class SpanningTreeMemoryEstimateDefinition implements AlgorithmMemoryEsti
             .build();
     }
 
+    public MemoryEstimation forestMemoryEstimation() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .add("Components", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("Component snapshot", HugeLongArray::memoryEstimation)
+            .perNode("Cheapest node per component", HugeAtomicLongArray::memoryEstimation)
+            .perNode("Cheapest target", HugeLongArray::memoryEstimation)
+            .perNode("Cheapest weight", HugeDoubleArray::memoryEstimation)
+            .perNode("Exhausted nodes", HugeAtomicBitSet::memoryEstimation)
+            .perNode("Forest relationships", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount) + HugeDoubleArray.memoryEstimation(nodeCount))
+            .perNode("Parent array", HugeLongArray::memoryEstimation)
+            .perNode("Cost to parent", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
     @Override
     public MemoryEstimation memoryEstimation(SpanningTreeBaseConfig configuration) {
-        return memoryEstimation();
+        return configuration.forest() ? forestMemoryEstimation() : memoryEstimation();
     }
 }
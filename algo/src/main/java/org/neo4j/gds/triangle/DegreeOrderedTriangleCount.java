@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
+
+/**
+ * Counts triangles exactly on a degree-ordered orientation of the graph.
+ * <p>
+ * Nodes are ranked by their degree, ties are broken by node id.
+ * Every relationship is kept only in the direction of the higher ranked node,
+ * which bounds the number of kept relationships per node by {@code sqrt(2m)}.
+ * Every triangle {@code (u, v, w)} with {@code u < v < w} by rank is then found exactly once,
+ * by intersecting the oriented neighbors of {@code u} and {@code v}.
+ * <p>
+ * The oriented graph is stored as a temporary CSR and processed in degree-weighted chunks,
+ * which are claimed by the threads one at a time.
+ *
+ * https://doi.org/10.1007/11427186_54
+ */
+final class DegreeOrderedTriangleCount {
+
+    // the number of chunks per thread, more chunks balance the load better at the cost of more claims
+    private static final int CHUNKS_PER_THREAD = 16;
+
+    private final Graph graph;
+    private final int concurrency;
+    private final long maxDegree;
+    private final HugeAtomicLongArray triangleCounts;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final long nodeCount;
+
+    DegreeOrderedTriangleCount(
+        Graph graph,
+        int concurrency,
+        long maxDegree,
+        HugeAtomicLongArray triangleCounts,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.maxDegree = maxDegree;
+        this.triangleCounts = triangleCounts;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.nodeCount = graph.nodeCount();
+    }
+
+    TriangleCountResult compute() {
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        forEachPartition(partitions, (localGraph, partition) -> partition.consume(node -> {
+            if (localGraph.degree(node) > maxDegree) {
+                triangleCounts.set(node, EXCLUDED_NODE_TRIANGLE_COUNT);
+            } else {
+                offsets.set(node + 1, forEachOrientedNeighbor(localGraph, node, neighbor -> {}));
+            }
+        }));
+        terminationFlag.assertRunning();
+
+        for (long node = 1; node <= nodeCount; node++) {
+            offsets.addTo(node, offsets.get(node - 1));
+        }
+
+        var targets = HugeLongArray.newArray(offsets.get(nodeCount));
+        forEachPartition(partitions, (localGraph, partition) -> partition.consume(node -> {
+            if (localGraph.degree(node) <= maxDegree) {
+                var position = new long[]{offsets.get(node)};
+                forEachOrientedNeighbor(localGraph, node, neighbor -> targets.set(position[0]++, neighbor));
+            }
+        }));
+        terminationFlag.assertRunning();
+
+        long globalTriangles = countTriangles(offsets, targets);
+        return TriangleCountResult.of(triangleCounts, globalTriangles);
+    }
+
+    private void forEachPartition(List<Partition> partitions, PartitionConsumer consumer) {
+        var tasks = partitions.stream()
+            .map(partition -> (Runnable) () -> consumer.accept(graph.concurrentCopy(), partition))
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, executorService);
+    }
+
+    /**
+     * Calls the consumer for all distinct neighbors that are ranked higher than the given node, ordered by id.
+     *
+     * @return the number of such neighbors
+     */
+    private int forEachOrientedNeighbor(Graph localGraph, long node, NeighborConsumer consumer) {
+        int degree = localGraph.degree(node);
+        var count = new int[1];
+        var previous = new long[]{-1};
+        localGraph.forEachRelationship(node, (source, target) -> {
+            // skip parallel relationships, self loops are skipped by the ranking
+            if (target == previous[0]) {
+                return true;
+            }
+            previous[0] = target;
+            int targetDegree = localGraph.degree(target);
+            if (targetDegree <= maxDegree && (targetDegree > degree || (targetDegree == degree && target > source))) {
+                consumer.accept(target);
+                count[0]++;
+            }
+            return true;
+        });
+        return count[0];
+    }
+
+    private long countTriangles(HugeLongArray offsets, HugeLongArray targets) {
+        long orientedRelationshipCount = offsets.get(nodeCount);
+        long batchSize = Math.max(
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            BitUtil.ceilDiv(orientedRelationshipCount, (long) concurrency * CHUNKS_PER_THREAD)
+        );
+        var chunks = PartitionUtils.degreePartitionWithBatchSize(
+            nodeCount,
+            node -> (int) (offsets.get(node + 1) - offsets.get(node)),
+            batchSize,
+            Function.identity()
+        );
+
+        var nextChunk = new AtomicInteger();
+        var globalTriangles = new LongAdder();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new CountTask(offsets, targets, chunks, nextChunk, globalTriangles));
+        ParallelUtil.run(tasks, executorService);
+        terminationFlag.assertRunning();
+
+        return globalTriangles.longValue();
+    }
+
+    @FunctionalInterface
+    private interface PartitionConsumer {
+        void accept(Graph localGraph, Partition partition);
+    }
+
+    @FunctionalInterface
+    private interface NeighborConsumer {
+        void accept(long neighbor);
+    }
+
+    private final class CountTask implements Runnable {
+        private final HugeLongArray offsets;
+        private final HugeLongArray targets;
+        private final List<DegreePartition> chunks;
+        private final AtomicInteger nextChunk;
+        private final LongAdder globalTriangles;
+        // the oriented neighbors of the current node, decoded once per node
+        private long[] neighbors;
+
+        private CountTask(
+            HugeLongArray offsets,
+            HugeLongArray targets,
+            List<DegreePartition> chunks,
+            AtomicInteger nextChunk,
+            LongAdder globalTriangles
+        ) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.chunks = chunks;
+            this.nextChunk = nextChunk;
+            this.globalTriangles = globalTriangles;
+            this.neighbors = new long[0];
+        }
+
+        @Override
+        public void run() {
+            long triangles = 0;
+            int chunkIndex;
+            while ((chunkIndex = nextChunk.getAndIncrement()) < chunks.size() && terminationFlag.running()) {
+                var chunk = chunks.get(chunkIndex);
+                long end = chunk.startNode() + chunk.nodeCount();
+                for (long node = chunk.startNode(); node < end; node++) {
+                    triangles += countTriangles(node);
+                }
+                progressTracker.logProgress(chunk.nodeCount());
+            }
+            globalTriangles.add(triangles);
+        }
+
+        private long countTriangles(long u) {
+            long start = offsets.get(u);
+            int degree = (int) (offsets.get(u + 1) - start);
+            if (neighbors.length < degree) {
+                neighbors = new long[ArrayUtil.oversize(degree, Long.BYTES)];
+            }
+            for (int i = 0; i < degree; i++) {
+                neighbors[i] = targets.get(start + i);
+            }
+
+            long trianglesOfu = 0;
+            for (int i = 0; i < degree; i++) {
+                long v = neighbors[i];
+                long trianglesOfv = 0;
+                long position = offsets.get(v);
+                long end = offsets.get(v + 1);
+                int neighborIndex = 0;
+                // both lists are sorted by id
+                while (neighborIndex < degree && position < end) {
+                    long w = neighbors[neighborIndex];
+                    long x = targets.get(position);
+                    if (w < x) {
+                        neighborIndex++;
+                    } else if (w > x) {
+                        position++;
+                    } else {
+                        triangleCounts.getAndAdd(w, 1);
+                        trianglesOfv++;
+                        neighborIndex++;
+                        position++;
+                    }
+                }
+                if (trianglesOfv > 0) {
+                    triangleCounts.getAndAdd(v, trianglesOfv);
+                    trianglesOfu += trianglesOfv;
+                }
+            }
+            if (trianglesOfu > 0) {
+                triangleCounts.getAndAdd(u, trianglesOfu);
+            }
+            return trianglesOfu;
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
 import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -64,6 +66,9 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
     private final HugeAtomicLongArray triangleCounts;
     private final long maxDegree;
     private final int concurrency;
+    private final Optional<Double> samplingRate;
+    private final Optional<Long> randomSeed;
+    private final boolean degreeOrdered;
     private long globalTriangleCount;
 
     private final LongAdder globalTriangleCounter;
@@ -74,13 +79,74 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         long maxDegree,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        return create(
+            graph,
+            concurrency,
+            maxDegree,
+            Optional.empty(),
+            Optional.empty(),
+            false,
+            executorService,
+            progressTracker
+        );
+    }
+
+    /**
+     * @param samplingRate if present, the triangles are estimated by checking this fraction
+     *                     of the wedges of every node, see {@link WedgeSamplingTriangleCount}.
+     */
+    public static IntersectingTriangleCount create(
+        Graph graph,
+        int concurrency,
+        long maxDegree,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        return create(
+            graph,
+            concurrency,
+            maxDegree,
+            samplingRate,
+            randomSeed,
+            false,
+            executorService,
+            progressTracker
+        );
+    }
+
+    /**
+     * @param degreeOrdered if true, the triangles are counted exactly on a temporary degree-ordered
+     *                      orientation of the graph, see {@link DegreeOrderedTriangleCount}.
+     */
+    public static IntersectingTriangleCount create(
+        Graph graph,
+        int concurrency,
+        long maxDegree,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed,
+        boolean degreeOrdered,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         var factory = RelationshipIntersectFactoryLocator
             .lookup(graph)
             .orElseThrow(
                 () -> new IllegalArgumentException("No relationship intersect factory registered for graph: " + graph.getClass())
             );
-        return new IntersectingTriangleCount(graph, factory, concurrency, maxDegree, executorService, progressTracker);
+        return new IntersectingTriangleCount(
+            graph,
+            factory,
+            concurrency,
+            maxDegree,
+            samplingRate,
+            randomSeed,
+            degreeOrdered,
+            executorService,
+            progressTracker
+        );
     }
 
     private IntersectingTriangleCount(
@@ -88,6 +154,9 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         RelationshipIntersectFactory intersectFactory,
         int concurrency,
         long maxDegree,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed,
+        boolean degreeOrdered,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +165,9 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         this.intersectFactory = intersectFactory;
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
+        this.samplingRate = samplingRate;
+        this.randomSeed = randomSeed;
+        this.degreeOrdered = degreeOrdered;
         this.intersectConfig = ImmutableRelationshipIntersectConfig.of(maxDegree);
         this.triangleCounts = HugeAtomicLongArray.of(graph.nodeCount(), ParalleLongPageCreator.passThrough(concurrency));
         this.executorService = executorService;
@@ -106,6 +178,37 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
     @Override
     public TriangleCountResult compute() {
         progressTracker.beginSubTask();
+        if (samplingRate.isPresent()) {
+            var result = new WedgeSamplingTriangleCount(
+                graph,
+                concurrency,
+                maxDegree,
+                samplingRate.get(),
+                randomSeed.orElseGet(() -> new SplittableRandom().nextLong()),
+                triangleCounts,
+                executorService,
+                progressTracker,
+                terminationFlag
+            ).compute();
+            globalTriangleCount = result.globalTriangles();
+            progressTracker.endSubTask();
+            return result;
+        }
+        if (degreeOrdered) {
+            var result = new DegreeOrderedTriangleCount(
+                graph,
+                concurrency,
+                maxDegree,
+                triangleCounts,
+                executorService,
+                progressTracker,
+                terminationFlag
+            ).compute();
+            globalTriangleCount = result.globalTriangles();
+            progressTracker.endSubTask();
+            return result;
+        }
+
         queue.set(0);
         globalTriangleCounter.reset();
         // create tasks
@@ -42,6 +42,9 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRate(),
+            parameters.randomSeed(),
+            parameters.degreeOrdered(),
             DefaultPool.INSTANCE,
             progressTracker
         );
@@ -58,7 +61,7 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation();
+        return new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation(configuration);
     }
 
     @Override
@@ -20,19 +20,45 @@
 package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 
 public class IntersectingTriangleCountMemoryEstimateDefinition  implements AlgorithmMemoryEstimateDefinition<TriangleCountBaseConfig> {
     public MemoryEstimation memoryEstimation() {
-        return MemoryEstimations
+        return memoryEstimation(false);
+    }
+
+    public MemoryEstimation memoryEstimation(boolean sampled) {
+        return memoryEstimation(sampled, false);
+    }
+
+    public MemoryEstimation memoryEstimation(boolean sampled, boolean degreeOrdered) {
+        var builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
-            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation);
+        if (sampled) {
+            builder.perNode("triangle-estimates", HugeDoubleArray::memoryEstimation);
+        }
+        if (degreeOrdered) {
+            // every undirected relationship is kept once, in the direction of its higher ranked node
+            builder
+                .perNode("oriented-offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+                .perGraphDimension(
+                    "oriented-targets",
+                    (dimensions, concurrency) -> MemoryRange.of(
+                        HugeLongArray.memoryEstimation(dimensions.relCountUpperBound() / 2)
+                    )
+                );
+        }
+        return builder.build();
     }
+
     @Override
     public MemoryEstimation memoryEstimation(TriangleCountBaseConfig configuration) {
-        return memoryEstimation();
+        return memoryEstimation(configuration.samplingRate().isPresent(), configuration.degreeOrdered());
     }
 }
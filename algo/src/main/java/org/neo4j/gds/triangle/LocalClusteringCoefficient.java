@@ -24,7 +24,6 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
-import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -39,6 +38,8 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
     private final int concurrency;
     private final long maxDegree;
     private final NodePropertyValues triangleCountProperty;
+    private final Optional<Double> samplingRate;
+    private final Optional<Long> randomSeed;
 
     private final Graph graph;
 
@@ -52,11 +53,25 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         long maxDegree,
         @Nullable String seedProperty,
         ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, maxDegree, seedProperty, Optional.empty(), Optional.empty(), progressTracker);
+    }
+
+    LocalClusteringCoefficient(
+        Graph graph,
+        int concurrency,
+        long maxDegree,
+        @Nullable String seedProperty,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
+        this.samplingRate = samplingRate;
+        this.randomSeed = randomSeed;
 
         this.triangleCountProperty =
             Optional.ofNullable(seedProperty)
@@ -69,8 +84,12 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         progressTracker.beginSubTask();
 
         if (null == triangleCountProperty) {
-            HugeAtomicLongArray triangleCounts = computeTriangleCounts();
-            calculateCoefficients(triangleCounts::get);
+            var triangleCounts = computeTriangleCounts();
+            // estimates are used unrounded, as the coefficient of a node is its fraction of closed wedges
+            LongToDoubleFunction triangles = triangleCounts.estimate()
+                .map(estimate -> (LongToDoubleFunction) estimate.localTriangles()::get)
+                .orElseGet(() -> triangleCounts.localTriangles()::get);
+            calculateCoefficients(triangles);
         } else {
             calculateCoefficients(triangleCountProperty::doubleValue);
         }
@@ -110,16 +129,18 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         progressTracker.endSubTask();
     }
 
-    private HugeAtomicLongArray computeTriangleCounts() {
+    private TriangleCountResult computeTriangleCounts() {
         var intersectingTriangleCount = IntersectingTriangleCount.create(
             graph,
             concurrency,
             maxDegree,
+            samplingRate,
+            randomSeed,
             DefaultPool.INSTANCE,
             progressTracker
         );
 
-        return intersectingTriangleCount.compute().localTriangles();
+        return intersectingTriangleCount.compute();
     }
 
     private double calculateCoefficient(double triangles, int degree) {
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
@@ -26,17 +27,19 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.ConfigNodesValidations;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.core.StringIdentifierValidations;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
-public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, SeedConfig {
+public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, SeedConfig, RandomSeedConfig {
 
     String SEED_PROPERTY_KEY = "triangleCountProperty";
 
@@ -51,6 +54,24 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Se
         return StringIdentifierValidations.validateNoWhiteCharacter(input, SEED_PROPERTY_KEY);
     }
 
+    /**
+     * If set, the triangles are estimated by checking this fraction of the wedges of every node.
+     */
+    Optional<Double> samplingRate();
+
+    @Value.Check
+    default void validateSamplingRate() {
+        samplingRate().ifPresent(samplingRate -> {
+            TriangleCountBaseConfig.validateSamplingRate(samplingRate);
+            if (seedProperty() != null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The 'samplingRate' parameter cannot be used together with '%s'.",
+                    SEED_PROPERTY_KEY
+                ));
+            }
+        });
+    }
+
     @Override
     @Configuration.GraphStoreValidationCheck
     default void validateSeedProperty(
@@ -81,6 +102,12 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Se
 
     @Configuration.Ignore
     default LocalClusteringCoefficientParameters toParameters() {
-        return LocalClusteringCoefficientParameters.create(concurrency(), Long.MAX_VALUE, seedProperty());
+        return LocalClusteringCoefficientParameters.create(
+            concurrency(),
+            Long.MAX_VALUE,
+            seedProperty(),
+            samplingRate(),
+            randomSeed()
+        );
     }
 }
@@ -46,6 +46,8 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
             parameters.concurrency(),
             parameters.maxDegree(),
             parameters.seedProperty(),
+            parameters.samplingRate(),
+            parameters.randomSeed(),
             progressTracker
         );
     }
@@ -27,6 +27,10 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 
 public class LocalClusteringCoefficientMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefinition<LocalClusteringCoefficientBaseConfig> {
     public MemoryEstimation memoryEstimationWithoutConfig(@Nullable String seedProperty) {
+        return memoryEstimationWithoutConfig(seedProperty, false);
+    }
+
+    public MemoryEstimation memoryEstimationWithoutConfig(@Nullable String seedProperty, boolean sampled) {
         MemoryEstimations.Builder builder = MemoryEstimations
             .builder(LocalClusteringCoefficient.class)
             .perNode("local-clustering-coefficient", HugeDoubleArray::memoryEstimation);
@@ -34,7 +38,7 @@ public class LocalClusteringCoefficientMemoryEstimateDefinition implements Algor
         if (seedProperty == null) {
             builder.add(
                 "computed-triangle-counts",
-                new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation()
+                new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation(sampled)
             );
         }
         return builder.build();
@@ -42,6 +46,6 @@ public class LocalClusteringCoefficientMemoryEstimateDefinition implements Algor
 
     @Override
     public MemoryEstimation memoryEstimation(LocalClusteringCoefficientBaseConfig configuration) {
-        return memoryEstimationWithoutConfig(configuration.seedProperty());
+        return memoryEstimationWithoutConfig(configuration.seedProperty(), configuration.samplingRate().isPresent());
     }
 }
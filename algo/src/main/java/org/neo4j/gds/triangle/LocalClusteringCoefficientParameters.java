@@ -22,20 +22,42 @@ package org.neo4j.gds.triangle;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.Optional;
+
 @Parameters
 public final class LocalClusteringCoefficientParameters {
     private final int concurrency;
     private final long maxDegree;
     private final String seedProperty;
+    private final Optional<Double> samplingRate;
+    private final Optional<Long> randomSeed;
 
-    private LocalClusteringCoefficientParameters(int concurrency, long maxDegree, String seedProperty) {
+    private LocalClusteringCoefficientParameters(
+        int concurrency,
+        long maxDegree,
+        String seedProperty,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed
+    ) {
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
         this.seedProperty = seedProperty;
+        this.samplingRate = samplingRate;
+        this.randomSeed = randomSeed;
     }
 
     public static LocalClusteringCoefficientParameters create(int concurrency, long maxDegree, @Nullable String seedProperty) {
-        return new LocalClusteringCoefficientParameters(concurrency, maxDegree, seedProperty);
+        return create(concurrency, maxDegree, seedProperty, Optional.empty(), Optional.empty());
+    }
+
+    public static LocalClusteringCoefficientParameters create(
+        int concurrency,
+        long maxDegree,
+        @Nullable String seedProperty,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed
+    ) {
+        return new LocalClusteringCoefficientParameters(concurrency, maxDegree, seedProperty, samplingRate, randomSeed);
     }
 
     int concurrency() {
@@ -49,4 +71,12 @@ public final class LocalClusteringCoefficientParameters {
     String seedProperty() {
         return seedProperty;
     }
+
+    Optional<Double> samplingRate() {
+        return samplingRate;
+    }
+
+    Optional<Long> randomSeed() {
+        return randomSeed;
+    }
 }
@@ -25,21 +25,35 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
-public interface TriangleCountBaseConfig extends AlgoBaseConfig {
+public interface TriangleCountBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
 
     default long maxDegree() {
         return Long.MAX_VALUE;
     }
 
+    /**
+     * If set, the triangles are estimated by checking this fraction of the wedges of every node.
+     */
+    Optional<Double> samplingRate();
+
+    /**
+     * If true, the triangles are counted exactly on a degree-ordered orientation of the graph.
+     */
+    default boolean degreeOrdered() {
+        return false;
+    }
+
     @Value.Check
     default void validateMaxDegree() {
         if (maxDegree() < 2) {
@@ -47,6 +61,29 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         }
     }
 
+    @Value.Check
+    default void validateSamplingRate() {
+        samplingRate().ifPresent(TriangleCountBaseConfig::validateSamplingRate);
+    }
+
+    @Value.Check
+    default void validateDegreeOrdered() {
+        if (degreeOrdered() && samplingRate().isPresent()) {
+            throw new IllegalArgumentException(
+                "The 'degreeOrdered' parameter cannot be used together with 'samplingRate'."
+            );
+        }
+    }
+
+    static void validateSamplingRate(double samplingRate) {
+        if (samplingRate <= 0 || samplingRate > 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The 'samplingRate' parameter must be in the range (0, 1], got %s.",
+                samplingRate
+            ));
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateTargetRelIsUndirected(
         GraphStore graphStore,
@@ -68,6 +105,12 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
 
     @Configuration.Ignore
     default TriangleCountParameters toParameters() {
-        return TriangleCountParameters.create(concurrency(), maxDegree());
+        return TriangleCountParameters.create(
+            concurrency(),
+            maxDegree(),
+            samplingRate(),
+            randomSeed(),
+            degreeOrdered()
+        );
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+
+/**
+ * Triangle counts estimated by wedge sampling, together with the standard error of the global count.
+ * Confidence intervals are derived from the normal approximation.
+ */
+@ValueClass
+public interface TriangleCountEstimate {
+
+    // the z-score of a two-sided 95% confidence interval
+    double Z_95 = 1.96;
+
+    // value at index `i` is the estimated number of triangles for node with id `i`
+    HugeDoubleArray localTriangles();
+
+    double globalTriangles();
+
+    double globalStandardError();
+
+    default double globalLowerBound() {
+        return Math.max(0, globalTriangles() - Z_95 * globalStandardError());
+    }
+
+    default double globalUpperBound() {
+        return globalTriangles() + Z_95 * globalStandardError();
+    }
+
+    static TriangleCountEstimate of(
+        HugeDoubleArray localTriangles,
+        double globalTriangles,
+        double globalStandardError
+    ) {
+        return ImmutableTriangleCountEstimate
+            .builder()
+            .localTriangles(localTriangles)
+            .globalTriangles(globalTriangles)
+            .globalStandardError(globalStandardError)
+            .build();
+    }
+}
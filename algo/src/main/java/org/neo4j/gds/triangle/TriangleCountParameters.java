@@ -21,18 +21,42 @@ package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.Optional;
+
 @Parameters
 public final class TriangleCountParameters {
 
     public static TriangleCountParameters create(int concurrency, long maxDegree) {
-        return new TriangleCountParameters(concurrency, maxDegree);
+        return create(concurrency, maxDegree, Optional.empty(), Optional.empty(), false);
+    }
+
+    public static TriangleCountParameters create(
+        int concurrency,
+        long maxDegree,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed,
+        boolean degreeOrdered
+    ) {
+        return new TriangleCountParameters(concurrency, maxDegree, samplingRate, randomSeed, degreeOrdered);
     }
     private final int concurrency;
     private final long maxDegree;
+    private final Optional<Double> samplingRate;
+    private final Optional<Long> randomSeed;
+    private final boolean degreeOrdered;
 
-    private TriangleCountParameters(int concurrency, long maxDegree) {
+    private TriangleCountParameters(
+        int concurrency,
+        long maxDegree,
+        Optional<Double> samplingRate,
+        Optional<Long> randomSeed,
+        boolean degreeOrdered
+    ) {
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
+        this.samplingRate = samplingRate;
+        this.randomSeed = randomSeed;
+        this.degreeOrdered = degreeOrdered;
     }
 
     public int concurrency() {
@@ -42,4 +66,16 @@ public final class TriangleCountParameters {
     public long maxDegree() {
         return maxDegree;
     }
+
+    public Optional<Double> samplingRate() {
+        return samplingRate;
+    }
+
+    public Optional<Long> randomSeed() {
+        return randomSeed;
+    }
+
+    public boolean degreeOrdered() {
+        return degreeOrdered;
+    }
 }
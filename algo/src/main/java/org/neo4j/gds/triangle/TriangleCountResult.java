@@ -22,6 +22,8 @@ package org.neo4j.gds.triangle;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 
+import java.util.Optional;
+
 @ValueClass
 public interface TriangleCountResult {
     // value at index `i` is number of triangles for node with id `i`
@@ -29,6 +31,9 @@ public interface TriangleCountResult {
 
     long globalTriangles();
 
+    // only present if the triangles have been sampled, the counts above are then rounded estimates
+    Optional<TriangleCountEstimate> estimate();
+
     static TriangleCountResult of(
         HugeAtomicLongArray triangles,
         long globalTriangles
@@ -39,4 +44,17 @@ public interface TriangleCountResult {
             .globalTriangles(globalTriangles)
             .build();
     }
+
+    static TriangleCountResult of(
+        HugeAtomicLongArray triangles,
+        long globalTriangles,
+        TriangleCountEstimate estimate
+    ) {
+        return ImmutableTriangleCountResult
+            .builder()
+            .localTriangles(triangles)
+            .globalTriangles(globalTriangles)
+            .estimate(estimate)
+            .build();
+    }
 }
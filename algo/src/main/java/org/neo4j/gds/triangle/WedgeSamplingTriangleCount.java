@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
+
+/**
+ * Estimates the triangle counts by wedge sampling.
+ * <p>
+ * A wedge is a pair of distinct neighbors of a node, and it is closed if the two neighbors are adjacent.
+ * The number of triangles of a node equals its number of closed wedges.
+ * A global budget of {@code samplingRate * W} wedges, where {@code W} is the total number of wedges, is shared among
+ * the nodes proportionally to their wedge counts. The fractional part of a node's share is rounded randomly,
+ * so that nodes with only a few wedges do not each cost a whole sample and the budget holds in expectation.
+ * Every closed sample then accounts for {@code 1 / samplingRate} triangles, which gives an unbiased estimate
+ * of the local triangle count.
+ * Nodes are sampled independently, so the variance of the global count is the sum of the local variances.
+ * Only the global standard error is reported, the local variances are not kept.
+ * <p>
+ * Closure is checked against the decoded, sorted adjacency list of the lower degree endpoint.
+ * Samples are processed in chunks ordered by that endpoint, so every adjacency list is decoded at most once per chunk
+ * and each check is a binary search.
+ *
+ * http://www.cs.cmu.edu/~ukang/papers/DoulionKDD2009.pdf
+ * https://arxiv.org/abs/1309.3321
+ */
+final class WedgeSamplingTriangleCount {
+
+    private static final int BATCH_SIZE = 64;
+    private static final int SAMPLE_CHUNK_SIZE = 1 << 12;
+
+    private final Graph graph;
+    private final int concurrency;
+    private final long maxDegree;
+    private final double samplingRate;
+    private final long randomSeed;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final long nodeCount;
+    private final AtomicLong queue;
+
+    private final HugeAtomicLongArray triangleCounts;
+    private final HugeDoubleArray estimates;
+    private final DoubleAdder globalEstimate;
+    private final DoubleAdder globalVariance;
+
+    WedgeSamplingTriangleCount(
+        Graph graph,
+        int concurrency,
+        long maxDegree,
+        double samplingRate,
+        long randomSeed,
+        HugeAtomicLongArray triangleCounts,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.maxDegree = maxDegree;
+        this.samplingRate = samplingRate;
+        this.randomSeed = randomSeed;
+        this.triangleCounts = triangleCounts;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.nodeCount = graph.nodeCount();
+        this.queue = new AtomicLong();
+        this.estimates = HugeDoubleArray.newArray(nodeCount);
+        this.globalEstimate = new DoubleAdder();
+        this.globalVariance = new DoubleAdder();
+    }
+
+    TriangleCountResult compute() {
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, SamplingTask::new), executorService);
+
+        // every triangle is counted once by each of its nodes
+        double globalTriangles = globalEstimate.sum() / 3;
+        double globalStandardError = Math.sqrt(globalVariance.sum()) / 3;
+
+        return TriangleCountResult.of(
+            triangleCounts,
+            Math.round(globalTriangles),
+            TriangleCountEstimate.of(estimates, globalTriangles, globalStandardError)
+        );
+    }
+
+    private final class SamplingTask implements Runnable {
+        private final Graph localGraph;
+        private long[] neighbors;
+        private int neighborCount;
+        private long[] adjacency;
+        private int adjacencyCount;
+        private final long[] samples;
+        private double estimateSum;
+        private double varianceSum;
+
+        private SamplingTask() {
+            this.localGraph = graph.concurrentCopy();
+            this.neighbors = new long[BATCH_SIZE];
+            this.adjacency = new long[BATCH_SIZE];
+            this.samples = new long[SAMPLE_CHUNK_SIZE];
+        }
+
+        @Override
+        public void run() {
+            long start;
+            while ((start = queue.getAndAdd(BATCH_SIZE)) < nodeCount && terminationFlag.running()) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    sample(nodeId);
+                }
+                progressTracker.logProgress(end - start);
+            }
+            globalEstimate.add(estimateSum);
+            globalVariance.add(varianceSum);
+        }
+
+        private void sample(long nodeId) {
+            int degree = localGraph.degree(nodeId);
+            if (degree > maxDegree) {
+                triangleCounts.set(nodeId, EXCLUDED_NODE_TRIANGLE_COUNT);
+                estimates.set(nodeId, EXCLUDED_NODE_TRIANGLE_COUNT);
+                return;
+            }
+
+            collectNeighbors(nodeId, degree);
+            long wedges = (long) neighborCount * (neighborCount - 1) / 2;
+            // the share of the global budget of this node
+            double expectedSamples = samplingRate * wedges;
+
+            double estimate;
+            double variance;
+            if (expectedSamples >= wedges) {
+                estimate = closedWedges();
+                variance = 0;
+            } else {
+                var random = new SplittableRandom(randomSeed + nodeId);
+                long sampleSize = (long) expectedSamples;
+                if (random.nextDouble() < expectedSamples - sampleSize) {
+                    sampleSize++;
+                }
+
+                long closed = 0;
+                for (long sampled = 0; sampled < sampleSize; sampled += SAMPLE_CHUNK_SIZE) {
+                    closed += closedSamples(random, (int) Math.min(SAMPLE_CHUNK_SIZE, sampleSize - sampled));
+                }
+
+                estimate = closed / samplingRate;
+                // the Agresti-Coull adjustment avoids a zero variance if none or all of the samples are closed
+                double closedProbability = (closed + 2.0) / (sampleSize + 4.0);
+                variance = (double) wedges * wedges * closedProbability
+                           * (1 - Math.min(expectedSamples, 1) * closedProbability) / expectedSamples;
+            }
+
+            triangleCounts.set(nodeId, Math.round(estimate));
+            estimates.set(nodeId, estimate);
+            estimateSum += estimate;
+            varianceSum += variance;
+        }
+
+        /**
+         * Collects the distinct neighbors that can be part of a triangle, i.e. all except the node itself
+         * and those which are excluded by their degree.
+         */
+        private void collectNeighbors(long nodeId, int degree) {
+            if (neighbors.length < degree) {
+                neighbors = new long[ArrayUtil.oversize(degree, Long.BYTES)];
+            }
+            neighborCount = 0;
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                // skip self loops and parallel relationships
+                if (target == source || (neighborCount > 0 && neighbors[neighborCount - 1] == target)) {
+                    return true;
+                }
+                if (localGraph.degree(target) <= maxDegree) {
+                    neighbors[neighborCount++] = target;
+                }
+                return true;
+            });
+        }
+
+        /**
+         * Decodes the adjacency list of the given node, which is sorted by target id.
+         */
+        private void decodeAdjacency(long nodeId) {
+            int degree = localGraph.degree(nodeId);
+            if (adjacency.length < degree) {
+                adjacency = new long[ArrayUtil.oversize(degree, Long.BYTES)];
+            }
+            adjacencyCount = 0;
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                adjacency[adjacencyCount++] = target;
+                return true;
+            });
+        }
+
+        /**
+         * Counts the closed wedges among {@code sampleCount} uniformly sampled wedges.
+         * The samples are sorted by their lower degree endpoint, so that its adjacency list is decoded once.
+         */
+        private long closedSamples(SplittableRandom random, int sampleCount) {
+            for (int i = 0; i < sampleCount; i++) {
+                int first = random.nextInt(neighborCount);
+                int second = random.nextInt(neighborCount - 1);
+                if (second >= first) {
+                    second++;
+                }
+                if (localGraph.degree(neighbors[first]) > localGraph.degree(neighbors[second])) {
+                    int tmp = first;
+                    first = second;
+                    second = tmp;
+                }
+                samples[i] = (long) first * neighborCount + second;
+            }
+            Arrays.sort(samples, 0, sampleCount);
+
+            long closed = 0;
+            int decoded = -1;
+            for (int i = 0; i < sampleCount; i++) {
+                int first = (int) (samples[i] / neighborCount);
+                int second = (int) (samples[i] % neighborCount);
+                if (first != decoded) {
+                    decodeAdjacency(neighbors[first]);
+                    decoded = first;
+                }
+                if (Arrays.binarySearch(adjacency, 0, adjacencyCount, neighbors[second]) >= 0) {
+                    closed++;
+                }
+            }
+            return closed;
+        }
+
+        /**
+         * Counts all closed wedges by merging the sorted neighbors with the adjacency list of every neighbor.
+         */
+        private long closedWedges() {
+            long closed = 0;
+            for (int first = 0; first < neighborCount; first++) {
+                decodeAdjacency(neighbors[first]);
+                // only count the neighbors after the current one, so that every wedge is counted once
+                int second = first + 1;
+                int position = 0;
+                while (second < neighborCount && position < adjacencyCount) {
+                    long candidate = neighbors[second];
+                    long target = adjacency[position];
+                    if (candidate < target) {
+                        second++;
+                    } else if (candidate > target) {
+                        position++;
+                    } else {
+                        closed++;
+                        second++;
+                        position++;
+                    }
+                }
+            }
+            return closed;
+        }
+    }
+}
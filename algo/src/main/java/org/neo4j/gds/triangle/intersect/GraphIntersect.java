@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.IntersectionConsumer;
 import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.collections.ArrayUtil;
 
 import java.util.function.IntPredicate;
 
@@ -37,16 +38,24 @@ import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
 
 public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements RelationshipIntersect {
 
+    // Matches the block size of the packed and var-long adjacency lists.
+    private static final int TARGET_BUFFER_SIZE = 64;
+
     private final IntPredicate degreeFilter;
-    private CURSOR origNeighborsOfa;
-    private CURSOR helpingCursorOfa;
-    private CURSOR helpingCursorOfb;
+    private CURSOR neighborsOfa;
+    private CURSOR neighborsOfb;
 
+    // distinct neighbors of `a` that are smaller than `a`, decoded once per `a`
+    private long[] lowerNeighborsOfa;
+    // bulk decoding buffer for the neighbors of `b`
+    private final long[] targetBuffer;
 
     protected GraphIntersect(long maxDegree) {
         this.degreeFilter = maxDegree < Long.MAX_VALUE
             ? (degree) -> degree <= maxDegree
             : (ignore) -> true;
+        this.lowerNeighborsOfa = new long[TARGET_BUFFER_SIZE];
+        this.targetBuffer = new long[TARGET_BUFFER_SIZE];
     }
 
     @Override
@@ -57,101 +66,80 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
             return;
         }
 
-        origNeighborsOfa = cursorForNode(origNeighborsOfa, a, degreeOfa);
-
-        triangles(a, degreeOfa, origNeighborsOfa, consumer);
-    }
+        neighborsOfa = cursorForNode(neighborsOfa, a, degreeOfa);
+        int lowerDegreeOfa = decodeLowerNeighbors(a, degreeOfa, neighborsOfa);
 
-    private void triangles(
-        long a,
-        int degreeOfa,
-        CURSOR neighborsOfa,
-        IntersectionConsumer consumer
-    ) {
-        long b = next(neighborsOfa);
-        while (b != NOT_FOUND && b < a) {
+        for (int bIndex = 0; bIndex < lowerDegreeOfa; bIndex++) {
+            long b = lowerNeighborsOfa[bIndex];
             var degreeOfb = degree(b);
             if (degreeFilter.test(degreeOfb)) {
-                helpingCursorOfb = cursorForNode(
-                    helpingCursorOfb,
-                    b,
-                    degreeOfb
-                );
-
-                helpingCursorOfa = cursorForNode(helpingCursorOfa, a, degreeOfa);
-
-                triangles(
-                    a,
-                    b,
-                    helpingCursorOfa,
-                    helpingCursorOfb,
-                    consumer
-                ); //find all triangles involving the edge (a-b)
+                neighborsOfb = cursorForNode(neighborsOfb, b, degreeOfb);
+                // the neighbors of `a` that are smaller than `b` are exactly the first `bIndex` ones
+                triangles(a, b, bIndex, neighborsOfb, consumer); //find all triangles involving the edge (a-b)
             }
-
-            b = next(neighborsOfa);
-        }
-
-    }
-
-    private void triangles(long a, long b, CURSOR neighborsOfa, CURSOR neighborsOfb, IntersectionConsumer consumer) {
-        long c = next(neighborsOfb);
-        long currentOfa = next(neighborsOfa);
-        while (c != NOT_FOUND && currentOfa != NOT_FOUND && c < b) {
-            var degreeOfc = degree(c);
-            if (degreeFilter.test(degreeOfc)) {
-                currentOfa = advance(neighborsOfa, currentOfa, c);
-                //now print all triangles a-b-c  (taking into consideration the parallel edges of c)
-                checkForAndEmitTriangle(consumer, a, b, currentOfa, c);
-
-            }
-            c = next(neighborsOfb);
-        }
-    }
-
-    private void checkForAndEmitTriangle(
-        IntersectionConsumer consumer,
-        long a,
-        long b,
-        long currentOfa,
-        long c
-    ) {
-        // if Ca = Cb there exists a triangle
-        // Ca might also be NOT_FOUND, we ignore those as well
-
-        if (currentOfa == c) {
-            consumer.accept(c, b, a); // triangle is s.t that c < b < a
-        }
-    }
-
-    private long advance(CURSOR adjacencyList, long start, long target) {
-        long current = start;
-        while (current != NOT_FOUND && current < target) {
-            current = next(adjacencyList);
         }
-        return current;
     }
-    private long next(CURSOR adjacencyList) {
 
-        if (!adjacencyList.hasNextVLong()) {
-            return NOT_FOUND;
+    /**
+     * Decodes the distinct neighbors of {@code a} that are smaller than {@code a}
+     * into {@link #lowerNeighborsOfa} and returns their number.
+     */
+    private int decodeLowerNeighbors(long a, int degreeOfa, CURSOR neighborsOfa) {
+        if (lowerNeighborsOfa.length < degreeOfa) {
+            lowerNeighborsOfa = new long[ArrayUtil.oversize(degreeOfa, Long.BYTES)];
         }
-        var value = adjacencyList.nextVLong();
-
-        while (peek(adjacencyList) == value) {
-            adjacencyList.nextVLong();
+        long[] neighbors = lowerNeighborsOfa;
+
+        int count = 0;
+        long previous = NOT_FOUND;
+        int decoded;
+        while ((decoded = neighborsOfa.nextVLongs(targetBuffer)) > 0) {
+            for (int i = 0; i < decoded; i++) {
+                long b = targetBuffer[i];
+                if (b >= a) {
+                    return count;
+                }
+                // skip parallel relationships
+                if (b != previous) {
+                    neighbors[count++] = b;
+                    previous = b;
+                }
+            }
         }
-
-        return value;
+        return count;
     }
 
-    private long peek(CURSOR adjacencyList) {
-
-        if (!adjacencyList.hasNextVLong()) {
-            return NOT_FOUND;
+    private void triangles(long a, long b, int lowerDegreeOfa, CURSOR neighborsOfb, IntersectionConsumer consumer) {
+        long[] neighborsOfa = lowerNeighborsOfa;
+        long[] buffer = targetBuffer;
+
+        int posOfa = 0;
+        long previous = NOT_FOUND;
+        int decoded;
+        while ((decoded = neighborsOfb.nextVLongs(buffer)) > 0) {
+            for (int i = 0; i < decoded; i++) {
+                long c = buffer[i];
+                if (c >= b) {
+                    return;
+                }
+                // skip parallel relationships
+                if (c == previous) {
+                    continue;
+                }
+                previous = c;
+
+                while (posOfa < lowerDegreeOfa && neighborsOfa[posOfa] < c) {
+                    posOfa++;
+                }
+                if (posOfa == lowerDegreeOfa) {
+                    return;
+                }
+                // if Ca = Cb there exists a triangle
+                if (neighborsOfa[posOfa] == c && degreeFilter.test(degree(c))) {
+                    consumer.accept(c, b, a); // triangle is s.t that c < b < a
+                }
+            }
         }
-
-        return adjacencyList.peekVLong();
     }
 
     private @NotNull CURSOR copyCursor(@NotNull CURSOR source, @Nullable CURSOR destination) {
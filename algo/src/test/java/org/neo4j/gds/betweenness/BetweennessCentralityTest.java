@@ -19,12 +19,15 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
@@ -147,6 +150,101 @@ class BetweennessCentralityTest {
         );
     }
 
+    @ParameterizedTest(name = "graph={1}, concurrency={0}, samplingSize={2}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#testArguments")
+    void multiSource(int concurrency, TestGraph graph, int samplingSize, Map<String, Double> expectedResult) {
+        HugeAtomicDoubleArray actualResult = new BetweennessCentrality(
+            graph,
+            new RandomDegreeSelectionStrategy(samplingSize, Optional.of(42L)),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            concurrency,
+            true,
+            Optional.empty(),
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+
+        assertEquals(expectedResult.size(), actualResult.size());
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), 1e-9, variable)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void multiSourceShouldMatchSingleSource(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42)
+            .build()
+            .generate();
+
+        var expected = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+        var actual = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            concurrency,
+            true,
+            Optional.empty(),
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId)).isCloseTo(expected.get(nodeId), Offset.offset(1e-6));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void adaptiveSamplingShouldBeWithinErrorBound(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42)
+            .build()
+            .generate();
+        double epsilon = 0.01;
+
+        var expected = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+        var result = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            concurrency,
+            false,
+            Optional.of(AdaptiveSamplingParameters.create(epsilon, 0.1, Optional.empty(), Optional.of(42L))),
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.approximationError()).hasValueSatisfying(error -> assertThat(error).isLessThanOrEqualTo(epsilon));
+
+        double pairs = (double) graph.nodeCount() * (graph.nodeCount() - 1);
+        var actual = result.centralities();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId) / pairs).isCloseTo(expected.get(nodeId) / pairs, Offset.offset(epsilon));
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void noSampling(int concurrency) {
@@ -170,7 +268,7 @@ class BetweennessCentralityTest {
 
     @Test
     void testShouldLogProgress() {
-        var parameters = BetweennessCentralityParameters.create(4, Optional.of(2L), Optional.empty(), false);
+        var parameters = BetweennessCentralityParameters.create(4, Optional.of(2L), Optional.empty(), false, false, Optional.empty());
         var factory = new BetweennessCentralityFactory<>();
         var log = Neo4jProxy.testLog();
         var testGraph = fromGdl(DIAMOND, "diamond");
@@ -195,7 +293,7 @@ class BetweennessCentralityTest {
 
     @Test
     void testShouldLogProgressNoSampling() {
-        var parameters = BetweennessCentralityParameters.create(4, Optional.empty(), Optional.empty(), false);
+        var parameters = BetweennessCentralityParameters.create(4, Optional.empty(), Optional.empty(), false, false, Optional.empty());
         var factory = new BetweennessCentralityFactory<>();
         var log = Neo4jProxy.testLog();
         var testGraph = fromGdl(DIAMOND, "diamond");
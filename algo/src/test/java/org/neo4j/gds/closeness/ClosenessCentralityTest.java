@@ -22,6 +22,9 @@ package org.neo4j.gds.closeness;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -31,8 +34,10 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.msbfs.PivotSampling;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -107,6 +112,76 @@ class ClosenessCentralityTest {
         assertThat(result.applyAsDouble(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
     }
 
+    @Test
+    void shouldBeExactWhenAllNodesArePivots() {
+        var exact = new ClosenessCentrality(
+            graph,
+            4,
+            new DefaultCentralityComputer(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        var sampled = new ClosenessCentrality(
+            graph,
+            4,
+            new DefaultCentralityComputer(),
+            Optional.of(PivotSampling.create(graph.nodeCount(), graph.nodeCount(), Optional.of(42L))),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(exact.approximationError()).isEmpty();
+        assertThat(sampled.approximationError()).contains(0.0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(sampled.centralityScoreProvider().applyAsDouble(nodeId))
+                .isCloseTo(exact.centralityScoreProvider().applyAsDouble(nodeId), Offset.offset(1e-9));
+        }
+    }
+
+    @Test
+    void shouldApproximateWithPivotSampling() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .seed(42L)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var exact = new ClosenessCentrality(
+            randomGraph,
+            4,
+            new WassermanFaustCentralityComputer(randomGraph.nodeCount()),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+
+        var sampledResult = new ClosenessCentrality(
+            randomGraph,
+            4,
+            new WassermanFaustCentralityComputer(randomGraph.nodeCount()),
+            Optional.of(PivotSampling.create(randomGraph.nodeCount(), 300, Optional.of(42L))),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var sampled = sampledResult.centralityScoreProvider();
+
+        assertThat(sampledResult.approximationError()).hasValueSatisfying(error -> assertThat(error).isBetween(0.0, 1.0));
+
+        double relativeErrorSum = 0;
+        long nonZeroCount = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            double exactScore = exact.applyAsDouble(nodeId);
+            if (exactScore > 0) {
+                relativeErrorSum += Math.abs(sampled.applyAsDouble(nodeId) - exactScore) / exactScore;
+                nonZeroCount++;
+            }
+        }
+        assertThat(relativeErrorSum / nonZeroCount).isLessThan(0.05);
+    }
+
     @Test
     void shouldLogProgress() {
         var progressTask = new ClosenessCentralityAlgorithmFactory<>().progressTask(graph.nodeCount());
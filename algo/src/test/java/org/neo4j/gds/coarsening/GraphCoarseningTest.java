@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.coarsening;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+@GdlExtension
+class GraphCoarseningTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (a)-[:R {weight: 1.0}]->(b)" +
+        ", (b)-[:R {weight: 2.0}]->(c)" +
+        ", (a)-[:R {weight: 3.0}]->(c)";
+
+    @GdlGraph(graphNamePrefix = "directed", orientation = Orientation.NATURAL)
+    private static final String DIRECTED_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @Test
+    void shouldSumWeightsAndKeepSelfLoops() {
+        var coarseGraph = coarsen(graph, Direction.UNDIRECTED, true, 4);
+
+        assertGraphEquals(
+            fromGdl(
+                "(c0), (c2), " +
+                "(c0)-[:_IGNORED_ {w: 2.0}]->(c0), " +
+                "(c0)-[:_IGNORED_ {w: 5.0}]->(c2), " +
+                "(c2)-[:_IGNORED_ {w: 5.0}]->(c0)"
+            ),
+            coarseGraph
+        );
+    }
+
+    @Test
+    void shouldDropSelfLoops() {
+        var coarseGraph = coarsen(graph, Direction.UNDIRECTED, false, 4);
+
+        assertGraphEquals(
+            fromGdl(
+                "(c0), (c2), " +
+                "(c0)-[:_IGNORED_ {w: 5.0}]->(c2), " +
+                "(c2)-[:_IGNORED_ {w: 5.0}]->(c0)"
+            ),
+            coarseGraph
+        );
+    }
+
+    @Test
+    void shouldKeepDirection() {
+        var coarseGraph = coarsen(directedGraph, Direction.DIRECTED, true, 4);
+
+        assertGraphEquals(
+            fromGdl(
+                "(c0), (c2), " +
+                "(c0)-[:_IGNORED_ {w: 1.0}]->(c0), " +
+                "(c0)-[:_IGNORED_ {w: 5.0}]->(c2)"
+            ),
+            coarseGraph
+        );
+        assertThat(coarseGraph.schema().direction()).isEqualTo(Direction.DIRECTED);
+    }
+
+    @Test
+    void shouldUseCommunityIdsAsOriginalIds() {
+        var coarseGraph = coarsen(graph, Direction.UNDIRECTED, true, 1);
+
+        assertThat(coarseGraph.nodeCount()).isEqualTo(2);
+        assertThat(coarseGraph.toOriginalNodeId(0)).isEqualTo(0L);
+        assertThat(coarseGraph.toOriginalNodeId(1)).isEqualTo(2L);
+        assertThat(coarseGraph.toMappedNodeId(2L)).isEqualTo(1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldProduceSortedAdjacencyLists(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .seed(42L)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var communities = HugeLongArray.newArray(randomGraph.nodeCount());
+        communities.setAll(nodeId -> nodeId % 97);
+
+        var coarseGraph = new GraphCoarsening(
+            randomGraph,
+            communities::get,
+            96,
+            Direction.UNDIRECTED,
+            true,
+            concurrency,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(coarseGraph.nodeCount()).isEqualTo(97);
+
+        double totalWeight = 0;
+        for (long nodeId = 0; nodeId < coarseGraph.nodeCount(); nodeId++) {
+            List<Long> targets = new ArrayList<>();
+            double[] weight = {0};
+            coarseGraph.forEachRelationship(nodeId, 0.0, (source, target, property) -> {
+                targets.add(target);
+                weight[0] += property;
+                return true;
+            });
+            assertThat(targets).isSorted().doesNotHaveDuplicates();
+            totalWeight += weight[0];
+        }
+        assertThat(totalWeight).isEqualTo((double) randomGraph.relationshipCount());
+    }
+
+    @Test
+    void shouldSplitLargeCommunitiesAcrossTasks() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .seed(42L)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        // half of the nodes form a single community with more relationships than a batch
+        var communities = HugeLongArray.newArray(randomGraph.nodeCount());
+        communities.setAll(nodeId -> nodeId < 5_000 ? 0 : nodeId % 10 + 1);
+
+        var sequential = new GraphCoarsening(
+            randomGraph,
+            communities::get,
+            10,
+            Direction.UNDIRECTED,
+            true,
+            1,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var parallel = new GraphCoarsening(
+            randomGraph,
+            communities::get,
+            10,
+            Direction.UNDIRECTED,
+            true,
+            4,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(parallel.relationshipCount()).isEqualTo(sequential.relationshipCount());
+        for (long nodeId = 0; nodeId < sequential.nodeCount(); nodeId++) {
+            assertThat(relationships(parallel, nodeId)).isEqualTo(relationships(sequential, nodeId));
+        }
+    }
+
+    private static List<String> relationships(Graph graph, long nodeId) {
+        List<String> relationships = new ArrayList<>();
+        graph.forEachRelationship(nodeId, 0.0, (source, target, property) -> {
+            relationships.add(target + ":" + property);
+            return true;
+        });
+        return relationships;
+    }
+
+    private Graph coarsen(TestGraph graph, Direction direction, boolean includeSelfLoops, int concurrency) {
+        var communities = HugeLongArray.newArray(graph.nodeCount());
+        communities.set(graph.toMappedNodeId("a"), 0);
+        communities.set(graph.toMappedNodeId("b"), 0);
+        communities.set(graph.toMappedNodeId("c"), 2);
+
+        return new GraphCoarsening(
+            graph,
+            communities::get,
+            2,
+            direction,
+            includeSelfLoops,
+            concurrency,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+    }
+}
@@ -30,11 +30,11 @@ class FastRPMemoryEstimateDefinitionTest {
     @ParameterizedTest(name = "NodeCount: {0}, concurrency: {1}")
     @CsvSource(
         {
-            "100, 1, 159_808",
-            "100, 8, 159_808",
-            "100, 128, 159_808",
-            "250_000, 8, 399_001_096",
-            "1_000_000, 128, 1_596_003_856"
+            "100, 1, 153_880",
+            "100, 8, 153_880",
+            "100, 128, 153_880",
+            "250_000, 8, 384_029_560",
+            "1_000_000, 128, 1_536_117_448"
         }
     )
     void shouldComputeMemoryEstimation(long nodeCount, int concurrency, long expectedMemory) {
@@ -44,6 +44,20 @@ class FastRPMemoryEstimateDefinitionTest {
             .hasSameMinAndMaxEqualTo(expectedMemory);
     }
 
+    @ParameterizedTest(name = "NodeCount: {0}, iterations: {1}")
+    @CsvSource(
+        {
+            "100, 2, 154_144",
+            "250_000, 2, 384_123_544"
+        }
+    )
+    void shouldComputeMemoryEstimationWhenExtendingSeedEmbeddings(long nodeCount, int iterations, long expectedMemory) {
+        var fastRPMemoryEstimation = new FastRPMemoryEstimateDefinition();
+        assertThat(fastRPMemoryEstimation.memoryEstimation(128, 0, 0, iterations + 1))
+            .memoryRange(nodeCount, 4)
+            .hasSameMinAndMaxEqualTo(expectedMemory);
+    }
+
     @Test
     void shouldHaveCorrectDescription() {
         var fastRPMemoryEstimation = new FastRPMemoryEstimateDefinition();
@@ -61,6 +61,29 @@ class FastRPStreamConfigTest {
             .withMessageContaining(messagePart);
     }
 
+    @Test
+    void requiresSeedPropertyAndRandomSeedForChangedNodes() {
+        var withoutSeedProperty = CypherMapWrapper.create(
+            Map.of(
+                "embeddingDimension", 64,
+                "randomSeed", 42L,
+                "changedNodes", List.of(0L)
+            )
+        );
+        assertThatIllegalArgumentException().isThrownBy(() -> FastRPStreamConfig.of(withoutSeedProperty))
+            .withMessageContaining("`changedNodes` can only be specified together with a `seedProperty`");
+
+        var withoutRandomSeed = CypherMapWrapper.create(
+            Map.of(
+                "embeddingDimension", 64,
+                "seedProperty", "embedding",
+                "changedNodes", List.of(0L)
+            )
+        );
+        assertThatIllegalArgumentException().isThrownBy(() -> FastRPStreamConfig.of(withoutRandomSeed))
+            .withMessageContaining("A `randomSeed` is required");
+    }
+
     private static Stream<Arguments> invalidWeights() {
         return Stream.of(
             Arguments.of(List.of(), "must not be empty"),
@@ -37,6 +37,7 @@ import org.neo4j.gds.core.loading.ArrayIdMap;
 import org.neo4j.gds.core.loading.LabelInformationBuilders;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.FixedStrideFloatArrayNodePropertyValues;
 import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -111,7 +112,7 @@ class FastRPTest {
         var scalarProperties = List.of("f1", "f2", "f3");
         var scalarEmbeddings = embeddings(scalarGraph, scalarProperties);
         for (int i = 0; i < arrayGraph.nodeCount(); i++) {
-            assertThat(arrayEmbeddings.get(i)).contains(scalarEmbeddings.get(i));
+            assertThat(arrayEmbeddings.floatArrayValue(i)).contains(scalarEmbeddings.floatArrayValue(i));
         }
     }
 
@@ -148,14 +149,14 @@ class FastRPTest {
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
         HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 2);
+        randomVectors.setAll(fastRP.currentEmbedding(-1)::get);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        var embeddings = fastRP.embeddings();
 
         float[] expected = randomVectors.get(1);
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).isEqualTo(expected);
+        assertThat(embeddings.floatArrayValue(0)).isEqualTo(expected);
     }
 
     @Test
@@ -191,9 +192,9 @@ class FastRPTest {
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
         HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        randomVectors.setAll(fastRP.currentEmbedding(-1)::get);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        var embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
@@ -201,7 +202,7 @@ class FastRPTest {
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.floatArrayValue(0)).containsExactly(expected);
     }
 
     @Test
@@ -255,7 +256,7 @@ class FastRPTest {
 
         fastRP.addInitialVectorsToEmbedding();
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        var embeddings = fastRP.embeddings();
 
 
         var expected0 = new float[embeddingDimension];
@@ -271,9 +272,9 @@ class FastRPTest {
         expected2[5] = -3.0f * scale2;
         expected2[4] = -0.5f * scale2;
 
-        assertThat(embeddings.get(0)).containsExactly(expected0, Offset.offset(1e-6f));
-        assertThat(embeddings.get(1)).containsExactly(expected1, Offset.offset(1e-6f));
-        assertThat(embeddings.get(2)).containsExactly(expected2, Offset.offset(1e-6f));
+        assertThat(embeddings.floatArrayValue(0)).containsExactly(expected0, Offset.offset(1e-6f));
+        assertThat(embeddings.floatArrayValue(1)).containsExactly(expected1, Offset.offset(1e-6f));
+        assertThat(embeddings.floatArrayValue(2)).containsExactly(expected2, Offset.offset(1e-6f));
     }
 
     @Test
@@ -327,17 +328,17 @@ class FastRPTest {
 
         assertThat(initialPropComponentOfNodeVector1)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(0), parameters.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).floatArrayValue(0), parameters.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector2)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(1), parameters.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).floatArrayValue(1), parameters.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector3)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(2), parameters.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).floatArrayValue(2), parameters.propertyDimension()),
                 Offset.offset(1e-6f)
             );
     }
@@ -372,7 +373,7 @@ class FastRPTest {
         );
 
         concurrentFastRP.compute();
-        HugeObjectArray<float[]> concurrentEmbeddings = concurrentFastRP.embeddings();
+        var concurrentEmbeddings = concurrentFastRP.embeddings();
 
         FastRP sequentialFastRP = new FastRP(
             graph,
@@ -385,10 +386,11 @@ class FastRPTest {
         );
 
         sequentialFastRP.compute();
-        HugeObjectArray<float[]> sequentialEmbeddings = sequentialFastRP.embeddings();
+        var sequentialEmbeddings = sequentialFastRP.embeddings();
 
         graph.forEachNode(nodeId -> {
-            assertThat(concurrentEmbeddings.get(nodeId)).containsExactly(sequentialEmbeddings.get(nodeId));
+            assertThat(concurrentEmbeddings.floatArrayValue(nodeId))
+                .containsExactly(sequentialEmbeddings.floatArrayValue(nodeId));
             return true;
         });
     }
@@ -427,9 +429,9 @@ class FastRPTest {
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
         HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        randomVectors.setAll(fastRP.currentEmbedding(-1)::get);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        var embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
@@ -437,7 +439,7 @@ class FastRPTest {
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.floatArrayValue(0)).containsExactly(expected);
     }
 
     @Test
@@ -472,7 +474,7 @@ class FastRPTest {
 
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = fastRP.currentEmbedding(-1);
+        var randomVectors = fastRP.currentEmbedding(-1);
 
         for (int i = 0; i < graph.nodeCount(); i++) {
             float[] embedding = randomVectors.get(i);
@@ -528,8 +530,8 @@ class FastRPTest {
 
         var embeddings = fastRP.embeddings();
 
-        for (int i = 0; i < embeddings.size(); i++) {
-            assertThat(embeddings.get(i)).containsOnly(0f);
+        for (int i = 0; i < embeddings.nodeCount(); i++) {
+            assertThat(embeddings.floatArrayValue(i)).containsOnly(0f);
         }
     }
 
@@ -683,6 +685,115 @@ class FastRPTest {
         }
     }
 
+    @Nested
+    @GdlExtension
+    class Extend {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:N { seed: [0.5, 0.5, 0.5, 0.5] })" +
+            ", (b:N { seed: [0.5, 0.5, 0.5, 0.5] })" +
+            ", (c:N { seed: [0.5, 0.5, 0.5, 0.5] })" +
+            ", (d:N { seed: [0.5, 0.5, 0.5, 0.5] })" +
+            ", (e:N { seed: [0.5, 0.5, 0.5, 0.5] })" +
+            ", (f:N)" +
+            ", (a)-[:REL]->(b)" +
+            ", (b)-[:REL]->(c)" +
+            ", (c)-[:REL]->(d)" +
+            ", (d)-[:REL]->(e)" +
+            ", (f)-[:REL]->(a)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Test
+        void shouldOnlyRecomputeAffectedNodes() {
+            var iterationWeights = List.<Number>of(1.0D, 1.0D);
+            var fullParameters = FastRPParameters.create(
+                List.of(),
+                iterationWeights,
+                4,
+                0,
+                Optional.empty(),
+                0.0F,
+                0
+            );
+            var extendParameters = FastRPParameters.create(
+                List.of(),
+                iterationWeights,
+                4,
+                0,
+                Optional.empty(),
+                0.0F,
+                0,
+                Optional.of("seed"),
+                List.of(idFunction.of("e"))
+            );
+
+            var fullEmbeddings = new FastRP(
+                graph,
+                fullParameters,
+                4,
+                1,
+                List.of(),
+                ProgressTracker.NULL_TRACKER,
+                Optional.of(42L)
+            ).compute().embeddings();
+            var extendedEmbeddings = new FastRP(
+                graph,
+                extendParameters,
+                4,
+                1,
+                List.of(),
+                ProgressTracker.NULL_TRACKER,
+                Optional.of(42L)
+            ).compute().embeddings();
+
+            // `e` changed, `c` and `d` reach it within two hops, `f` has no seed embedding
+            for (var variable : List.of("c", "d", "e", "f")) {
+                long nodeId = graph.toMappedNodeId(idFunction.of(variable));
+                assertThat(extendedEmbeddings.floatArrayValue(nodeId))
+                    .containsExactly(fullEmbeddings.floatArrayValue(nodeId));
+            }
+            for (var variable : List.of("a", "b")) {
+                long nodeId = graph.toMappedNodeId(idFunction.of(variable));
+                assertThat(extendedEmbeddings.floatArrayValue(nodeId)).containsExactly(0.5f, 0.5f, 0.5f, 0.5f);
+            }
+        }
+
+        @Test
+        void shouldFailOnSeedEmbeddingsOfWrongDimension() {
+            var parameters = FastRPParameters.create(
+                List.of(),
+                List.of(1.0D),
+                8,
+                0,
+                Optional.empty(),
+                0.0F,
+                0,
+                Optional.of("seed"),
+                List.of()
+            );
+
+            var fastRP = new FastRP(
+                graph,
+                parameters,
+                4,
+                1,
+                List.of(),
+                ProgressTracker.NULL_TRACKER,
+                Optional.of(42L)
+            );
+
+            assertThatThrownBy(fastRP::compute)
+                .hasMessageContaining("has dimension 4, but `embeddingDimension` is 8");
+        }
+    }
+
     @Test
     void shouldBeDeterministicGivenSameOriginalIds() {
         long nodeCount = 1000;
@@ -782,15 +893,15 @@ class FastRPTest {
 
         double cosineSum = 0;
         for (long originalNodeId = 0; originalNodeId < nodeCount; originalNodeId++) {
-            var firstVector = firstEmbeddings.get(firstGraph.toMappedNodeId(originalNodeId));
-            var secondVector = secondEmbeddings.get(secondGraph.toMappedNodeId(originalNodeId));
+            var firstVector = firstEmbeddings.floatArrayValue(firstGraph.toMappedNodeId(originalNodeId));
+            var secondVector = secondEmbeddings.floatArrayValue(secondGraph.toMappedNodeId(originalNodeId));
             double cosine = Intersections.cosine(firstVector, secondVector, secondVector.length);
             cosineSum += cosine;
         }
         assertThat(cosineSum / nodeCount).isCloseTo(1, Offset.offset(0.000001));
     }
 
-    private HugeObjectArray<float[]> embeddings(Graph graph, List<String> properties) {
+    private FixedStrideFloatArrayNodePropertyValues embeddings(Graph graph, List<String> properties) {
         var concurrency = 4;
         var minBatchSize = 10_000;
         var parameters = FastRPParameters.create(
@@ -21,8 +21,6 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -55,7 +53,7 @@ class BinarizeTaskTest {
     void shouldPerformHyperplaneRounding() {
         var partition = new Partition(0, graph.nodeCount());
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, List.of("f1", "f2"));
-        var features = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var features = NodeBitMatrix.create(graph.nodeCount(), 4, 1);
         var propertyEmbeddings = new double[][]{{-0.3, 0.1, 0.8, -0.3}, {0.6, 0.2, -0.1, -0.2}};
 
         new BinarizeTask(
@@ -72,20 +70,20 @@ class BinarizeTaskTest {
         var idC = graph.toMappedNodeId(idFunction.of("c"));
 
         // computed by taking prop matrix * embedding matrix in python
-        assertThat(features.get(idA).get(0)).isTrue();
-        assertThat(features.get(idA).get(1)).isTrue();
-        assertThat(features.get(idA).get(2)).isTrue();
-        assertThat(features.get(idA).get(3)).isFalse();
+        assertThat(features.get(idA, 0)).isTrue();
+        assertThat(features.get(idA, 1)).isTrue();
+        assertThat(features.get(idA, 2)).isTrue();
+        assertThat(features.get(idA, 3)).isFalse();
 
-        assertThat(features.get(idB).get(0)).isTrue();
-        assertThat(features.get(idB).get(1)).isTrue();
-        assertThat(features.get(idB).get(2)).isFalse();
-        assertThat(features.get(idB).get(3)).isTrue();
+        assertThat(features.get(idB, 0)).isTrue();
+        assertThat(features.get(idB, 1)).isTrue();
+        assertThat(features.get(idB, 2)).isFalse();
+        assertThat(features.get(idB, 3)).isTrue();
 
-        assertThat(features.get(idC).get(0)).isFalse();
-        assertThat(features.get(idC).get(1)).isFalse();
-        assertThat(features.get(idC).get(2)).isTrue();
-        assertThat(features.get(idC).get(3)).isFalse();
+        assertThat(features.get(idC, 0)).isFalse();
+        assertThat(features.get(idC, 1)).isFalse();
+        assertThat(features.get(idC, 2)).isTrue();
+        assertThat(features.get(idC, 3)).isFalse();
 
     }
 
@@ -94,7 +92,7 @@ class BinarizeTaskTest {
     void shouldPerformHyperplaneRoundingWithThreshold() {
         var partition = new Partition(0, graph.nodeCount());
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, List.of("f1", "f2"));
-        var features = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var features = NodeBitMatrix.create(graph.nodeCount(), 4, 1);
         var propertyEmbeddings = new double[][]{{-0.3, 0.1, 0.8, -0.3}, {0.6, 0.2, -0.1, -0.2}};
 
         new BinarizeTask(
@@ -111,20 +109,20 @@ class BinarizeTaskTest {
         var idC = graph.toMappedNodeId(idFunction.of("c"));
 
         // computed by taking prop matrix * embedding matrix in python and checking product > threshold
-        assertThat(features.get(idA).get(0)).isFalse();
-        assertThat(features.get(idA).get(1)).isFalse();
-        assertThat(features.get(idA).get(2)).isTrue();
-        assertThat(features.get(idA).get(3)).isFalse();
-
-        assertThat(features.get(idB).get(0)).isTrue();
-        assertThat(features.get(idB).get(1)).isFalse();
-        assertThat(features.get(idB).get(2)).isFalse();
-        assertThat(features.get(idB).get(3)).isFalse();
-
-        assertThat(features.get(idC).get(0)).isFalse();
-        assertThat(features.get(idC).get(1)).isFalse();
-        assertThat(features.get(idC).get(2)).isTrue();
-        assertThat(features.get(idC).get(3)).isFalse();
+        assertThat(features.get(idA, 0)).isFalse();
+        assertThat(features.get(idA, 1)).isFalse();
+        assertThat(features.get(idA, 2)).isTrue();
+        assertThat(features.get(idA, 3)).isFalse();
+
+        assertThat(features.get(idB, 0)).isTrue();
+        assertThat(features.get(idB, 1)).isFalse();
+        assertThat(features.get(idB, 2)).isFalse();
+        assertThat(features.get(idB, 3)).isFalse();
+
+        assertThat(features.get(idC, 0)).isFalse();
+        assertThat(features.get(idC, 1)).isFalse();
+        assertThat(features.get(idC, 2)).isTrue();
+        assertThat(features.get(idC, 3)).isFalse();
 
     }
 
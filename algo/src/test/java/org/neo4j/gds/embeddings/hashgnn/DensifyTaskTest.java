@@ -21,7 +21,6 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -34,19 +33,16 @@ class DensifyTaskTest {
 
         var partition = new Partition(0, nodeCount);
         var denseFeatures = HugeObjectArray.newArray(double[].class, nodeCount);
-        var binaryFeatures = HugeObjectArray.newArray(HugeAtomicBitSet.class, nodeCount);
-        binaryFeatures.set(0, HugeAtomicBitSet.create(3));
-        binaryFeatures.get(0).set(0);
-        binaryFeatures.get(0).set(1);
-        binaryFeatures.get(0).set(2);
+        var binaryFeatures = NodeBitMatrix.create(nodeCount, 3, 1);
+        binaryFeatures.set(0, 0);
+        binaryFeatures.set(0, 1);
+        binaryFeatures.set(0, 2);
 
-        binaryFeatures.set(1, HugeAtomicBitSet.create(3));
-        binaryFeatures.get(1).set(0);
-        binaryFeatures.get(1).set(1);
+        binaryFeatures.set(1, 0);
+        binaryFeatures.set(1, 1);
 
-        binaryFeatures.set(2, HugeAtomicBitSet.create(3));
-        binaryFeatures.get(2).set(0);
-        binaryFeatures.get(2).set(2);
+        binaryFeatures.set(2, 0);
+        binaryFeatures.set(2, 2);
         var projectionMatrix = new float[][]{
             {1.1f, 1.0f, -1.0f, 0.0f, 0.0f},
             {0.0f, -0.9f, 1.0f, 0.0f, 1.0f},
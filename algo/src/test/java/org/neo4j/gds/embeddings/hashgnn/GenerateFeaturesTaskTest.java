@@ -66,17 +66,16 @@ class GenerateFeaturesTaskTest {
             totalFeatureCount
         );
 
-        assertThat(output.size()).isEqualTo(graph.nodeCount());
+        assertThat(output.nodeCount()).isEqualTo(graph.nodeCount());
+        assertThat(output.dimension()).isEqualTo(embeddingDimension);
         assertThat(totalFeatureCount.getValue()).isCloseTo(
             densityLevel * graph.nodeCount(),
             Percentage.withPercentage(10)
         );
 
         for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
-            var features = output.get(nodeId);
-            assertThat(features.size()).isEqualTo(embeddingDimension);
-            assertThat(features.cardinality()).isGreaterThanOrEqualTo(1);
-            assertThat(features.cardinality()).isLessThanOrEqualTo(densityLevel);
+            assertThat(output.cardinality(nodeId)).isGreaterThanOrEqualTo(1);
+            assertThat(output.cardinality(nodeId)).isLessThanOrEqualTo(densityLevel);
         }
     }
 
@@ -20,7 +20,6 @@
 package org.neo4j.gds.embeddings.hashgnn;
 
 import org.junit.jupiter.api.Test;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -49,15 +48,14 @@ class HashGNNCompanionTest {
     void shouldHashArgMin() {
         var rng = new SplittableRandom();
 
-        var bitSet = HugeAtomicBitSet.create(10);
-        bitSet.set(3);
-        bitSet.set(9);
+        var embeddings = NodeBitMatrix.create(2, 10, 1);
+        embeddings.set(1, 3);
+        embeddings.set(1, 9);
 
         var hashes = IntStream.generate(() -> rng.nextInt(0, Integer.MAX_VALUE)).limit(10).toArray();
         var resMinArgMin = new HashGNN.MinAndArgmin();
-        var tempMinArgMin = new HashGNN.MinAndArgmin();
 
-        HashGNNCompanion.hashArgMin(bitSet, hashes, resMinArgMin, tempMinArgMin);
+        HashGNNCompanion.hashArgMin(embeddings, embeddings.wordOffset(1), hashes, resMinArgMin);
 
         assertThat(resMinArgMin.min).isEqualTo(Math.min(hashes[3], hashes[9]));
         assertThat(resMinArgMin.argMin).isEqualTo(hashes[3] <= hashes[9] ? 3 : 9);
@@ -36,17 +36,17 @@ class HashGNNMemoryEstimateDefinitionTest {
     @ParameterizedTest
     @CsvSource(value = {
         // BASE
-        "    10,  4,  10_000, 20_000, 1,   5_924_072, 86_324_072",
+        "    10,  4,  10_000, 20_000, 1,   3_964_096, 84_804_088",
         // Should increase fairly little with higher density
-        "   100,  4,  10_000, 20_000, 1,   7_038_992, 87_438_992",
+        "   100,  4,  10_000, 20_000, 1,   5_079_016, 85_919_008",
         // Should increase fairly little with more iterations
-        "    10, 16,  10_000, 20_000, 1,   5_924_072, 86_324_072",
+        "    10, 16,  10_000, 20_000, 1,   3_964_096, 84_804_088",
         // Should increase almost linearly with node count
-        "    10,  4, 100_000, 20_000, 1,  58_124_432, 862_124_432",
+        "    10,  4, 100_000, 20_000, 1,  38_524_096, 846_924_208",
         // Should be unaffected by relationship count
-        "    10,  4,  10_000, 80_000, 1,   5_924_072, 86_324_072",
+        "    10,  4,  10_000, 80_000, 1,   3_964_096, 84_804_088",
         // Should be unaffected by concurrency
-        "    10,  4,  10_000, 20_000, 8,  5_924_072, 86_324_072",
+        "    10,  4,  10_000, 20_000, 8,   3_964_096, 84_804_088",
     })
     void shouldEstimateMemory(
         int embeddingDensity,
@@ -78,7 +78,7 @@ class HashGNNMemoryEstimateDefinitionTest {
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(10_000,20_000,8)
-            .hasSameMinAndMaxEqualTo(12_404_072);
+            .hasSameMinAndMaxEqualTo(10_884_088);
     }
 
     @Test
@@ -130,6 +130,6 @@ class HashGNNMemoryEstimateDefinitionTest {
         //It is a range because the non-context features need to be converted to double[],
         // while the context can remain as bitSet
         var minOutputRatio = (double) smallEstimation.min / bigEstimation.min;
-        assertThat(minOutputRatio).isCloseTo(0.42, Offset.offset(0.01));
+        assertThat(minOutputRatio).isCloseTo(0.125, Offset.offset(0.01));
     }
 }
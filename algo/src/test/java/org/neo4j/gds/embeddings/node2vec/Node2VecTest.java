@@ -55,10 +55,16 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.ml.core.tensor.FloatVector;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.traversal.RandomWalkCompanion;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.SplittableRandom;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -129,6 +135,67 @@ class Node2VecTest {
         );
     }
 
+    @Test
+    void shouldProduceEmbeddingsWhenStreamingWalks() {
+        int embeddingDimension = 16;
+        var walkParameters = new WalkParameters(10, 80, 1.0, 1.0, 0.001, 0.75);
+        var trainParameters = new TrainParameters(
+            0.025,
+            0.0001,
+            2,
+            10,
+            5,
+            embeddingDimension,
+            EmbeddingInitializer.NORMALIZED
+        );
+
+        var result = new Node2Vec(
+            graph,
+            4,
+            NO_SOURCE_NODES,
+            NO_RANDOM_SEED,
+            7,
+            true,
+            walkParameters,
+            trainParameters,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.lossPerIteration()).hasSize(2);
+        graph.forEachNode(node -> {
+                assertEquals(embeddingDimension, result.embeddings().get(node).data().length);
+                return true;
+            }
+        );
+    }
+
+    @Test
+    void streamedWalksShouldBeRegeneratedIdentically() {
+        var walkParameters = new WalkParameters(3, 10, 1.0, 1.0, 0.001, 0.75);
+        var walks = new StreamingRandomWalks(
+            graph,
+            NO_SOURCE_NODES,
+            RandomWalkCompanion.cumulativeWeights(graph, 1, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER),
+            walkParameters,
+            2,
+            42L,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var firstPass = collectWalks(walks.iterators(1, 0L));
+        var secondPass = collectWalks(walks.iterators(1, 0L));
+
+        // the two isolated nodes do not start any walks
+        assertThat(firstPass).hasSize(3 * walkParameters.walksPerNode);
+        assertThat(secondPass).containsExactlyElementsOf(firstPass);
+    }
+
+    private static List<List<Long>> collectWalks(List<Iterator<long[]>> iterators) {
+        var walks = new ArrayList<List<Long>>();
+        iterators.forEach(iterator -> iterator.forEachRemaining(walk -> walks.add(Arrays.stream(walk).boxed().collect(Collectors.toList()))));
+        return walks;
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
         "true,4",
@@ -22,12 +22,18 @@ package org.neo4j.gds.harmonic;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.msbfs.PivotSampling;
+
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -73,5 +79,64 @@ public class HarmonicCentralityTest {
         assertThat(result.applyAsDouble(mappedId.of("d"))).isEqualTo(0.25, within(0.1));
         assertThat(result.applyAsDouble(mappedId.of("e"))).isEqualTo(0.25, within(0.1));
     }
-    
+
+    @Test
+    void shouldBeExactWhenAllNodesArePivots() {
+        var exact = new HarmonicCentrality(
+            graph,
+            1,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        var sampled = new HarmonicCentrality(
+            graph,
+            1,
+            Optional.of(PivotSampling.create(graph.nodeCount(), graph.nodeCount(), Optional.of(42L))),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(exact.approximationError()).isEmpty();
+        assertThat(sampled.approximationError()).contains(0.0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(sampled.centralityScoreProvider().applyAsDouble(nodeId))
+                .isEqualTo(exact.centralityScoreProvider().applyAsDouble(nodeId), within(1e-9));
+        }
+    }
+
+    @Test
+    void shouldStayWithinApproximationError() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .seed(42L)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var exact = new HarmonicCentrality(
+            randomGraph,
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+
+        var sampledResult = new HarmonicCentrality(
+            randomGraph,
+            4,
+            Optional.of(PivotSampling.create(randomGraph.nodeCount(), 300, Optional.of(42L))),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var sampled = sampledResult.centralityScoreProvider();
+
+        assertThat(sampledResult.approximationError()).isPresent();
+        double approximationError = sampledResult.approximationError().get();
+        assertThat(approximationError).isBetween(0.0, 1.0);
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            assertThat(sampled.applyAsDouble(nodeId)).isEqualTo(exact.applyAsDouble(nodeId), within(approximationError));
+        }
+    }
 }
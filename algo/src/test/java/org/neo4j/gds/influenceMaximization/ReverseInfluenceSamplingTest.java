@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.assertj.Extractors.removingThreadId;
+import static org.neo4j.gds.assertj.Extractors.replaceTimings;
+
+@GdlExtension
+class ReverseInfluenceSamplingTest {
+
+    private static final String STAR =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:R]->(b) " +
+        ", (a)-[:R]->(c) " +
+        ", (a)-[:R]->(d) " +
+        ", (a)-[:R]->(e) " +
+        ", (a)-[:R]->(f) ";
+
+    @GdlGraph(orientation = Orientation.NATURAL)
+    private static final String DB_CYPHER = STAR;
+
+    @GdlGraph(orientation = Orientation.NATURAL, indexInverse = true, graphNamePrefix = "inverse")
+    private static final String INVERSE_CYPHER = STAR;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph inverseGraph;
+
+    @Test
+    void shouldSelectCenterOfStar() {
+        var result = new ReverseInfluenceSampling(
+            graph,
+            2,
+            1.0,
+            0.1,
+            1,
+            DefaultPool.INSTANCE,
+            2,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // with certain propagation every reverse reachable set contains the center
+        var seedSetNodes = result.seedSetNodes();
+        assertThat(seedSetNodes.size()).isEqualTo(2);
+        assertThat(seedSetNodes.get(graph.toMappedNodeId("a"))).isEqualTo(6.0);
+        assertThat(seedSetNodes.get(graph.toMappedNodeId("b"))).isEqualTo(0.0);
+        assertThat(result.totalSpread()).isEqualTo(6.0);
+    }
+
+    @Test
+    void shouldUseInverseIndex() {
+        var result = new ReverseInfluenceSampling(
+            inverseGraph,
+            1,
+            1.0,
+            0.1,
+            1,
+            DefaultPool.INSTANCE,
+            2,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.seedSetNodes().get(inverseGraph.toMappedNodeId("a"))).isEqualTo(6.0);
+    }
+
+    @Test
+    void shouldBeIndependentOfConcurrency() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .seed(42L)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var sequential = new ReverseInfluenceSampling(
+            randomGraph,
+            10,
+            0.1,
+            0.5,
+            1,
+            DefaultPool.INSTANCE,
+            1,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var parallel = new ReverseInfluenceSampling(
+            randomGraph,
+            10,
+            0.1,
+            0.5,
+            1,
+            DefaultPool.INSTANCE,
+            4,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(parallel.seedSetNodes()).isEqualTo(sequential.seedSetNodes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchSpreadOfMonteCarlo(int concurrency) {
+        var reverseInfluenceSampling = new ReverseInfluenceSampling(
+            graph,
+            1,
+            0.5,
+            0.1,
+            1,
+            DefaultPool.INSTANCE,
+            concurrency,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // the center activates each of the 5 leaves with probability 0.5
+        assertThat(reverseInfluenceSampling.seedSetNodes().get(graph.toMappedNodeId("a")))
+            .isCloseTo(1 + 5 * 0.5, within(0.25));
+    }
+
+    @Test
+    void shouldLogProgress() {
+        var config = InfluenceMaximizationStreamConfigImpl.builder()
+            .seedSetSize(2)
+            .method(InfluenceMaximizationMethod.REVERSE_INFLUENCE_SAMPLING)
+            .build();
+
+        var factory = new CELFAlgorithmFactory<>();
+
+        var progressTask = factory.progressTask(graph, config);
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TaskProgressTracker(progressTask, log, 1, EmptyTaskRegistryFactory.INSTANCE);
+
+        var algorithm = factory.build(graph, config, progressTracker);
+        assertThat(algorithm).isInstanceOf(ReverseInfluenceSampling.class);
+        algorithm.compute();
+
+        assertThat(log.getMessages(TestLog.INFO))
+            .extracting(removingThreadId())
+            .extracting(replaceTimings())
+            .contains(
+                "ReverseInfluenceSampling :: Start",
+                "ReverseInfluenceSampling :: Sampling :: Start",
+                "ReverseInfluenceSampling :: Sampling :: Finished",
+                "ReverseInfluenceSampling :: NodeSelection :: Start",
+                "ReverseInfluenceSampling :: NodeSelection 50%",
+                "ReverseInfluenceSampling :: NodeSelection 100%",
+                "ReverseInfluenceSampling :: NodeSelection :: Finished",
+                "ReverseInfluenceSampling :: Finished"
+            );
+    }
+}
@@ -27,8 +27,8 @@ class LeidenMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 18361384,25830376",
-        "4, 20789008,34314976"
+        "1, 17803952,26037272",
+        "4, 20231576,34521872"
     })
     void shouldEstimateMemory(int concurrency,long expectedMin, long expectedMax) {
         var estimate = new LeidenMemoryEstimateDefinition().memoryEstimation(null, false, 3);
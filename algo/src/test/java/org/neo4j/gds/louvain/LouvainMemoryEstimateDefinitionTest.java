@@ -40,20 +40,20 @@ class LouvainMemoryEstimateDefinitionTest {
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
 
-            arguments(1, 1, true, 6414145, 23057704),
-            arguments(1, 1, false, 6414145, 23057704),
-            arguments(1, 10, true, 6414145, 30258064),
-            arguments(1, 10, false, 6414145, 23857744),
-
-            arguments(4, 1, true, 6417433, 29057968),
-            arguments(4, 1, false, 6417433, 29057968),
-            arguments(4, 10, true, 6417433, 36258328),
-            arguments(4, 10, false, 6417433, 29858008),
-
-            arguments(42, 1, true, 6459081, 105061312),
-            arguments(42, 1, false, 6459081, 105061312),
-            arguments(42, 10, true, 6459081, 112261672),
-            arguments(42, 10, false, 6459081, 105861352)
+            arguments(1, 1, true, 6414320, 19602016),
+            arguments(1, 1, false, 6414320, 19602016),
+            arguments(1, 10, true, 6414320, 26802376),
+            arguments(1, 10, false, 6414320, 20402056),
+
+            arguments(4, 1, true, 6417608, 25602280),
+            arguments(4, 1, false, 6417608, 25602280),
+            arguments(4, 10, true, 6417608, 32802640),
+            arguments(4, 10, false, 6417608, 26402320),
+
+            arguments(42, 1, true, 6459256, 101605624),
+            arguments(42, 1, false, 6459256, 101605624),
+            arguments(42, 10, true, 6459256, 108805984),
+            arguments(42, 10, false, 6459256, 102405664)
 
         );
     }
@@ -27,7 +27,7 @@ import org.neo4j.gds.core.GraphDimensions;
 class DeltaSteppingMemoryEstimateDefinitionTest {
 
     @ParameterizedTest
-    @CsvSource({"10_000,100_000,260216,1280216", "100_000,1_000_000,2600216,12800216"})
+    @CsvSource({"10_000,100_000,189736,571544", "100_000,1_000_000,1820984,5712792"})
     void memoryEstimation(long nodeCount, long relationshipCount, long expectedMin, long expectedMax) {
         var dimensions = GraphDimensions.builder().nodeCount(nodeCount).relCountUpperBound(relationshipCount).build();
 
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
@@ -349,8 +350,10 @@ final class DeltaSteppingTest {
 
     private DeltaSteppingTest() {}
 
-    @Test
-    void shouldGiveSameResultsAsDijkstra() {
+    // a large delta puts all nodes into few bins, which grows the frontier beyond its initial capacity
+    @ParameterizedTest
+    @ValueSource(doubles = {2.0, 100.0})
+    void shouldGiveSameResultsAsDijkstra(double delta) {
         int nodeCount = 3_000;
         long seed = 42L;
         long start = 42;
@@ -368,6 +371,7 @@ final class DeltaSteppingTest {
         var config = AllShortestPathsDeltaStreamConfigImpl.builder()
             .concurrency(concurrency)
             .sourceNode(start)
+            .delta(delta)
             .build();
         var deltaStepping = DeltaStepping.of(
             newGraph,
@@ -380,23 +384,23 @@ final class DeltaSteppingTest {
             .singleSource(newGraph, config, true, Optional.empty(), ProgressTracker.NULL_TRACKER)
             .compute();
 
-        double[] delta = new double[nodeCount];
+        double[] deltaCosts = new double[nodeCount];
         double[] djikstra = new double[nodeCount];
 
         double deltaSum = 0;
         double dijkstraSum = 0;
 
         for (var path : deltaStepping.pathSet()) {
-            delta[(int) path.targetNode()] = path.totalCost();
+            deltaCosts[(int) path.targetNode()] = path.totalCost();
         }
 
         for (var path : dijkstraAlgo.pathSet()) {
             djikstra[(int) path.targetNode()] = path.totalCost();
         }
         for (int i = 0; i < nodeCount; ++i) {
-            deltaSum += delta[i];
+            deltaSum += deltaCosts[i];
             dijkstraSum += djikstra[i];
-            assertThat(djikstra[i]).isCloseTo(delta[i], Offset.offset(1e-5));
+            assertThat(djikstra[i]).isCloseTo(deltaCosts[i], Offset.offset(1e-5));
 
         }
         assertThat(deltaSum).isCloseTo(dijkstraSum, Offset.offset(1e-5));
@@ -20,10 +20,15 @@
 package org.neo4j.gds.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -106,6 +111,41 @@ class SccTest {
         assertCC(components);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testParallel(int concurrency) {
+        var scc = new Scc(graph, true, concurrency, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER);
+        assertCC(scc.compute());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void parallelShouldMatchSequential(boolean inverseIndex) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .inverseIndex(inverseIndex)
+            .seed(42)
+            .build()
+            .generate();
+
+        var expected = new Scc(randomGraph, ProgressTracker.NULL_TRACKER).compute();
+        var actual = new Scc(randomGraph, true, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        // component ids may differ, but both need to induce the same partition
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, __ -> actualComponent))
+                .isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, __ -> expectedComponent))
+                .isEqualTo(expectedComponent);
+        }
+    }
+
     private void assertCC(HugeLongArray components) {
         IdFunction idFunction = graph::toMappedNodeId;
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ *         a                  a                  a
+ *     1 /   \ 2            /  \                  \
+ *      /     \            /    \                  \
+ *     b --3-- c          b      c          b       c
+ *     |       |  =min=>  |      |  =max=>  |       |
+ *     4       5          |      |          |       |
+ *     |       |          |      |          |       |
+ *     d --6-- e          d      e          d-------e
+ */
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)";
+
+    @GdlGraph(orientation = Orientation.NATURAL, graphNamePrefix = "directed")
+    private static final String DIRECTED_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testMinimum(int concurrency) {
+        var forest = new Boruvka(
+            graph,
+            Prim.MIN_OPERATOR,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(forest.totalWeight()).isEqualTo(12L);
+        assertThat(forest.parent(graph.toMappedNodeId("a"))).isEqualTo(-1L);
+        assertThat(forest.parent(graph.toMappedNodeId("b"))).isEqualTo(graph.toMappedNodeId("a"));
+        assertThat(forest.parent(graph.toMappedNodeId("c"))).isEqualTo(graph.toMappedNodeId("a"));
+        assertThat(forest.parent(graph.toMappedNodeId("d"))).isEqualTo(graph.toMappedNodeId("b"));
+        assertThat(forest.parent(graph.toMappedNodeId("e"))).isEqualTo(graph.toMappedNodeId("c"));
+        assertThat(forest.costToParent(graph.toMappedNodeId("e"))).isEqualTo(5.0);
+        assertThat(forest.parent(graph.toMappedNodeId("y"))).isEqualTo(-1L);
+        assertThat(forest.parent(graph.toMappedNodeId("z"))).isEqualTo(-1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testMaximum(int concurrency) {
+        var forest = new Boruvka(
+            graph,
+            Prim.MAX_OPERATOR,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(forest.totalWeight()).isEqualTo(17L);
+        assertThat(forest.parent(graph.toMappedNodeId("a"))).isEqualTo(-1L);
+        assertThat(forest.parent(graph.toMappedNodeId("b"))).isEqualTo(graph.toMappedNodeId("d"));
+        assertThat(forest.parent(graph.toMappedNodeId("c"))).isEqualTo(graph.toMappedNodeId("a"));
+        assertThat(forest.parent(graph.toMappedNodeId("d"))).isEqualTo(graph.toMappedNodeId("e"));
+        assertThat(forest.parent(graph.toMappedNodeId("e"))).isEqualTo(graph.toMappedNodeId("c"));
+        assertThat(forest.costToParent(graph.toMappedNodeId("b"))).isEqualTo(4.0);
+        assertThat(forest.parent(graph.toMappedNodeId("y"))).isEqualTo(-1L);
+        assertThat(forest.parent(graph.toMappedNodeId("z"))).isEqualTo(-1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPrimOnEveryComponent(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(3)
+            .seed(42L)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .build()
+            .generate();
+
+        for (DoubleUnaryOperator objective : new DoubleUnaryOperator[]{Prim.MIN_OPERATOR, Prim.MAX_OPERATOR}) {
+            var forest = new Boruvka(
+                randomGraph,
+                objective,
+                concurrency,
+                DefaultPool.INSTANCE,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+
+            assertThat(forest.totalWeight())
+                .isCloseTo(primForestWeight(randomGraph, objective, forest), within(1e-6));
+        }
+    }
+
+    @Test
+    void shouldFailOnDirectedGraphs() {
+        assertThatThrownBy(() -> new SpanningTreeAlgorithmFactory<>().buildForest(
+            directedGraph,
+            Prim.MIN_OPERATOR,
+            1,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected graphs");
+    }
+
+    private static double primForestWeight(Graph graph, DoubleUnaryOperator objective, SpanningTree forest) {
+        double totalWeight = 0;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (forest.parent(nodeId) == -1) {
+                totalWeight += new Prim(graph, objective, nodeId, ProgressTracker.NULL_TRACKER).compute().totalWeight();
+            }
+        }
+        return totalWeight;
+    }
+}
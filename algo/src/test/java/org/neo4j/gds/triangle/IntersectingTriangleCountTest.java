@@ -27,12 +27,17 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
@@ -505,6 +510,100 @@ class IntersectingTriangleCountTest {
             .returns(0L, t -> t.get(testGraph.toMappedNodeId("y")));
     }
 
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void samplingAllWedgesShouldBeExact(int concurrency) {
+        var graph = randomGraph();
+
+        var expected = compute(graph, concurrency, Long.MAX_VALUE);
+        var actual = compute(graph, concurrency, Long.MAX_VALUE, Optional.of(1.0));
+
+        assertThat(actual.globalTriangles()).isEqualTo(expected.globalTriangles());
+        assertThat(actual.estimate()).hasValueSatisfying(estimate -> {
+            assertThat(estimate.globalStandardError()).isEqualTo(0);
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(actual.localTriangles().get(nodeId)).isEqualTo(expected.localTriangles().get(nodeId));
+                assertThat(estimate.localTriangles().get(nodeId)).isEqualTo(expected.localTriangles().get(nodeId));
+            }
+        });
+    }
+
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void sampledEstimateShouldBeCloseToExactCount(int concurrency) {
+        var graph = randomGraph();
+
+        var expected = compute(graph, concurrency, Long.MAX_VALUE).globalTriangles();
+        var actual = compute(graph, concurrency, Long.MAX_VALUE, Optional.of(0.2));
+
+        assertThat(actual.estimate()).hasValueSatisfying(estimate -> {
+            assertThat(estimate.globalStandardError()).isPositive();
+            assertThat(estimate.globalLowerBound()).isLessThan(estimate.globalUpperBound());
+            // four standard errors instead of the 95% interval to keep the test stable
+            assertThat(estimate.globalTriangles()).isCloseTo(expected, within(4 * estimate.globalStandardError()));
+        });
+    }
+
+    @Test
+    void sampledEstimateShouldNotDependOnConcurrency() {
+        var graph = randomGraph();
+
+        var sequential = compute(graph, 1, Long.MAX_VALUE, Optional.of(0.2)).estimate().orElseThrow();
+        var parallel = compute(graph, 4, Long.MAX_VALUE, Optional.of(0.2)).estimate().orElseThrow();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(parallel.localTriangles().get(nodeId)).isEqualTo(sequential.localTriangles().get(nodeId));
+        }
+    }
+
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void degreeOrderedShouldMatchDefaultCount(int concurrency) {
+        var graph = randomGraph();
+
+        for (long maxDegree : new long[]{Long.MAX_VALUE, 20}) {
+            var expected = compute(graph, concurrency, maxDegree);
+            var actual = IntersectingTriangleCount.create(
+                graph,
+                concurrency,
+                maxDegree,
+                Optional.empty(),
+                Optional.empty(),
+                true,
+                DefaultPool.INSTANCE,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+
+            assertThat(actual.globalTriangles()).isEqualTo(expected.globalTriangles());
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(actual.localTriangles().get(nodeId)).isEqualTo(expected.localTriangles().get(nodeId));
+            }
+        }
+    }
+
+    private static Graph randomGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(20)
+            .seed(42)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+    }
+
+    private TriangleCountResult compute(Graph graph, int concurrency, long maxDegree, Optional<Double> samplingRate) {
+        return IntersectingTriangleCount.create(
+            graph,
+            concurrency,
+            maxDegree,
+            samplingRate,
+            Optional.of(42L),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
     private TriangleCountResult compute(Graph graph) {
         return compute(graph, 4, Long.MAX_VALUE);
     }
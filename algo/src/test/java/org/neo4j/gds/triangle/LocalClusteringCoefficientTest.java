@@ -36,6 +36,7 @@ import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -330,6 +331,36 @@ class LocalClusteringCoefficientTest {
         assertEquals(0, result.localClusteringCoefficients().get(14)); // o
     }
 
+    @Test
+    void samplingAllWedgesShouldMatchExactCoefficients() {
+        var graph = TestSupport.fromGdl("CREATE" +
+            " (a)-[:T]->(b)-[:T]->(b)-[:T]->(c)-[:T]->(a)" +
+            ", (c)-[:T]->(d)-[:T]->(e)-[:T]->(f)-[:T]->(d)" +
+            ", (f)-[:T]->(g)-[:T]->(h)-[:T]->(f)" +
+            ", (h)-[:T]->(i)-[:T]->(j)-[:T]->(k)-[:T]->(e)" +
+            ", (o)", Orientation.UNDIRECTED).graph();
+
+        var expected = compute(graph);
+        var actual = new LocalClusteringCoefficient(
+            graph,
+            4,
+            Long.MAX_VALUE,
+            null,
+            Optional.of(1.0),
+            Optional.of(42L),
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertEquals(expected.averageClusteringCoefficient(), actual.averageClusteringCoefficient(), 1e-10);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(
+                expected.localClusteringCoefficients().get(nodeId),
+                actual.localClusteringCoefficients().get(nodeId),
+                1e-10
+            );
+        }
+    }
+
     private LocalClusteringCoefficientResult compute(Graph graph) {
         var localClusteringCoefficient = new LocalClusteringCoefficient(
             graph,
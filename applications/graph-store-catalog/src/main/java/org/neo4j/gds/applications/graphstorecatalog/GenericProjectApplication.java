@@ -19,11 +19,15 @@
  */
 package org.neo4j.gds.applications.graphstorecatalog;
 
+import org.neo4j.gds.AdjacencyFormat;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphLoaderContext;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.ImmutableGraphLoaderContext;
 import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.loading.CSRGraphStore;
 import org.neo4j.gds.core.loading.GraphProjectResult;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
 import org.neo4j.gds.core.utils.ProgressTimer;
@@ -36,6 +40,8 @@ import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.gds.transaction.TransactionContext;
 import org.neo4j.graphdb.GraphDatabaseService;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -149,7 +155,8 @@ public class GenericProjectApplication<RESULT extends GraphProjectResult, CONFIG
 
             resultBuilder
                 .withNodeCount(graphStore.nodeCount())
-                .withRelationshipCount(graphStore.relationshipCount());
+                .withRelationshipCount(graphStore.relationshipCount())
+                .withAdjacencyFormats(adjacencyFormats(graphStore));
 
             graphStoreCatalogService.set(configuration, graphStore);
         }
@@ -157,6 +164,19 @@ public class GenericProjectApplication<RESULT extends GraphProjectResult, CONFIG
         return resultBuilder.build();
     }
 
+    private static Map<RelationshipType, AdjacencyFormat> adjacencyFormats(GraphStore graphStore) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            return Map.of();
+        }
+        var adjacencyFormats = new HashMap<RelationshipType, AdjacencyFormat>();
+        ((CSRGraphStore) graphStore).getUnion().relationshipTopologies().forEach((relationshipType, topology) -> topology
+            .adjacencyList()
+            .memoryInfo()
+            .adjacencyFormat()
+            .ifPresent(adjacencyFormat -> adjacencyFormats.put(relationshipType, adjacencyFormat)));
+        return adjacencyFormats;
+    }
+
     /**
      * Public because EstimationCLI tests needs it. Should redesign something here I think
      */
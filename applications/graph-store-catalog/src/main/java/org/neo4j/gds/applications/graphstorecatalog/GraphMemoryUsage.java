@@ -141,6 +141,7 @@ public final class GraphMemoryUsage {
             unionGraph.relationshipTopologies().forEach((relationshipType, adjacency) -> {
                 var mi = adjacency.adjacencyList().memoryInfo();
                 var out = new HashMap<>();
+                mi.adjacencyFormat().ifPresent(adjacencyFormat -> out.put("adjacencyFormat", adjacencyFormat.name()));
                 out.put("pages", mi.pages());
                 out.put("bytesTotal", mi.bytesTotal().orElse(0));
                 out.put("bytesOnHeap", mi.bytesOnHeap().orElse(0));
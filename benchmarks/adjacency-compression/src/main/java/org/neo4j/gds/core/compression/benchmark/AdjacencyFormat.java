@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.benchmark;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.gds.utils.GdsFeatureToggles.AdjacencyPackingStrategy;
+
+/**
+ * The adjacency list implementations that can be selected through {@link GdsFeatureToggles}.
+ * Every benchmark fork runs in its own JVM, so the toggles are set once per trial and reset afterwards.
+ */
+public enum AdjacencyFormat {
+    VAR_LONG {
+        @Override
+        void enable() {
+        }
+    },
+    PACKED_BLOCK_ALIGNED_TAIL {
+        @Override
+        void enable() {
+            enablePacked(AdjacencyPackingStrategy.BLOCK_ALIGNED_TAIL);
+        }
+    },
+    PACKED_VAR_LONG_TAIL {
+        @Override
+        void enable() {
+            enablePacked(AdjacencyPackingStrategy.VAR_LONG_TAIL);
+        }
+    },
+    PACKED_TAIL {
+        @Override
+        void enable() {
+            enablePacked(AdjacencyPackingStrategy.PACKED_TAIL);
+        }
+    },
+    PACKED_INLINED_HEAD_PACKED_TAIL {
+        @Override
+        void enable() {
+            enablePacked(AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL);
+        }
+    },
+    MIXED {
+        @Override
+        void enable() {
+            GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.toggle(true);
+        }
+    },
+    UNCOMPRESSED {
+        @Override
+        void enable() {
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(true);
+        }
+    };
+
+    abstract void enable();
+
+    static void reset() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+        GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.reset();
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.reset();
+        GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
+    }
+
+    private static void enablePacked(AdjacencyPackingStrategy packingStrategy) {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(true);
+        GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(packingStrategy);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.benchmark;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to build an adjacency list in the given format from an edge list,
+ * and how many bytes per relationship the resulting list occupies.
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AdjacencyListBuildBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class EdgeList {
+
+        @Param({"4"})
+        public int concurrency;
+
+        long[] sources;
+        long[] targets;
+
+        @Setup(Level.Trial)
+        public void setup(AdjacencyListState state) {
+            var relationshipCount = Math.toIntExact(state.graph.relationshipCount());
+            this.sources = new long[relationshipCount];
+            this.targets = new long[relationshipCount];
+
+            var index = new int[]{0};
+            state.graph.forEachNode(source -> {
+                state.graph.forEachRelationship(source, (s, target) -> {
+                    sources[index[0]] = s;
+                    targets[index[0]] = target;
+                    index[0]++;
+                    return true;
+                });
+                return true;
+            });
+        }
+    }
+
+    /**
+     * The footprint is reported as a secondary result next to the build time.
+     * In single shot mode, every iteration builds exactly one list, so the counter is not accumulated.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        long bytes;
+        long relationships;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            relationships = 0;
+        }
+
+        public double bytesPerEdge() {
+            return relationships == 0 ? 0 : (double) bytes / relationships;
+        }
+    }
+
+    @Benchmark
+    public SingleTypeRelationships build(AdjacencyListState state, EdgeList edgeList, Footprint footprint) {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(state.graph)
+            .relationshipType(RelationshipType.of("REL"))
+            .concurrency(edgeList.concurrency)
+            .build();
+
+        var sources = edgeList.sources;
+        var targets = edgeList.targets;
+        for (int i = 0; i < sources.length; i++) {
+            relationshipsBuilder.addFromInternal(sources[i], targets[i]);
+        }
+
+        var relationships = relationshipsBuilder.build();
+
+        footprint.bytes = relationships.topology().adjacencyList().memoryInfo().bytesTotal().orElse(0);
+        footprint.relationships = relationships.topology().elementCount();
+
+        return relationships;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.benchmark;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+
+/**
+ * Measures the seek performance of the cursors by intersecting the adjacency lists of each relationship's end nodes,
+ * similar to what triangle counting does.
+ * Adjacency lists are sorted, so an intersection is a merge that jumps ahead with {@code advance} or {@code skipUntil}.
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AdjacencyListIntersectionBenchmark {
+
+    @Benchmark
+    public long advance(AdjacencyListState state) {
+        return intersectAll(state, false);
+    }
+
+    @Benchmark
+    public long skipUntil(AdjacencyListState state) {
+        return intersectAll(state, true);
+    }
+
+    private static long intersectAll(AdjacencyListState state, boolean strict) {
+        var adjacencyList = state.adjacencyList;
+        AdjacencyCursor outer = null;
+        AdjacencyCursor left = null;
+        AdjacencyCursor right = null;
+        long intersections = 0;
+        for (long node = 0; node < state.nodeCount; node++) {
+            outer = adjacencyList.adjacencyCursor(outer, node);
+            while (outer.hasNextVLong()) {
+                var neighbour = outer.nextVLong();
+                if (neighbour <= node) {
+                    continue;
+                }
+                left = adjacencyList.adjacencyCursor(left, node);
+                right = adjacencyList.adjacencyCursor(right, neighbour);
+                intersections += intersect(left, right, strict);
+            }
+        }
+        return intersections;
+    }
+
+    /**
+     * Counts the common targets of both cursors.
+     * With {@code strict} seeking, the cursor is moved to the first target larger than the last match,
+     * which also skips over duplicate targets of multi graphs.
+     */
+    private static long intersect(AdjacencyCursor left, AdjacencyCursor right, boolean strict) {
+        if (!left.hasNextVLong() || !right.hasNextVLong()) {
+            return 0;
+        }
+        long count = 0;
+        long leftTarget = left.nextVLong();
+        long rightTarget = right.nextVLong();
+        while (leftTarget != NOT_FOUND && rightTarget != NOT_FOUND) {
+            if (leftTarget == rightTarget) {
+                count++;
+                leftTarget = next(left, leftTarget, strict);
+                rightTarget = next(right, rightTarget, strict);
+            } else if (leftTarget < rightTarget) {
+                leftTarget = seek(left, rightTarget, strict);
+            } else {
+                rightTarget = seek(right, leftTarget, strict);
+            }
+        }
+        return count;
+    }
+
+    private static long next(AdjacencyCursor cursor, long current, boolean strict) {
+        if (strict) {
+            return cursor.skipUntil(current);
+        }
+        return cursor.hasNextVLong() ? cursor.nextVLong() : NOT_FOUND;
+    }
+
+    private static long seek(AdjacencyCursor cursor, long target, boolean strict) {
+        // skipUntil(target - 1) finds the first target >= target, the same position advance(target) lands on
+        return strict ? cursor.skipUntil(target - 1) : cursor.advance(target);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.benchmark;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast all adjacency lists can be decoded, target by target and in bulk.
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AdjacencyListScanBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    @Benchmark
+    public long nextVLong(AdjacencyListState state) {
+        var adjacencyList = state.adjacencyList;
+        AdjacencyCursor cursor = null;
+        long checksum = 0;
+        for (long node = 0; node < state.nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                checksum += cursor.nextVLong();
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long nextVLongs(AdjacencyListState state) {
+        var adjacencyList = state.adjacencyList;
+        var buffer = new long[BATCH_SIZE];
+        AdjacencyCursor cursor = null;
+        long checksum = 0;
+        for (long node = 0; node < state.nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            int count;
+            while ((count = cursor.nextVLongs(buffer)) > 0) {
+                for (int i = 0; i < count; i++) {
+                    checksum += buffer[i];
+                }
+            }
+        }
+        return checksum;
+    }
+}
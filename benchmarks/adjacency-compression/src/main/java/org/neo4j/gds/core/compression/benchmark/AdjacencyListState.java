@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.benchmark;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A synthetic graph, generated by {@link RandomGraphGenerator}, whose adjacency list is stored in the given {@link AdjacencyFormat}.
+ * The same seed is used for every format, so all formats encode the exact same graph.
+ */
+@State(Scope.Benchmark)
+public class AdjacencyListState {
+
+    static final long SEED = 42L;
+
+    @Param({"VAR_LONG", "PACKED_VAR_LONG_TAIL", "PACKED_BLOCK_ALIGNED_TAIL", "PACKED_TAIL", "PACKED_INLINED_HEAD_PACKED_TAIL", "MIXED", "UNCOMPRESSED"})
+    public AdjacencyFormat format;
+
+    @Param({"UNIFORM", "RANDOM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    HugeGraph graph;
+    AdjacencyList adjacencyList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        format.enable();
+        this.graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .seed(SEED)
+            .build()
+            .generate();
+        this.adjacencyList = graph.relationshipTopology().adjacencyList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // off-heap pages of packed lists are freed by their cleaner once the graph is collected
+        this.adjacencyList = null;
+        this.graph = null;
+        AdjacencyFormat.reset();
+    }
+}
@@ -66,6 +66,30 @@ public interface AdjacencyCursor {
      */
     long peekVLong();
 
+    /**
+     * Read and decode up to {@code length} target ids into {@code buffer}, starting at {@code offset}.
+     * Returns the number of target ids that have been written, which is {@code 0} iff the cursor is exhausted.
+     * The cursor is advanced by the number of written targets, equivalent to calling {@link #nextVLong()} that many times.
+     *
+     * Implementations should override this to copy decoded blocks in bulk instead of decoding target by target.
+     */
+    default int nextVLongs(long[] buffer, int offset, int length) {
+        int written = 0;
+        while (written < length && hasNextVLong()) {
+            buffer[offset + written++] = nextVLong();
+        }
+        return written;
+    }
+
+    /**
+     * Read and decode up to {@code buffer.length} target ids into {@code buffer}.
+     *
+     * @see #nextVLongs(long[], int, int)
+     */
+    default int nextVLongs(long[] buffer) {
+        return nextVLongs(buffer, 0, buffer.length);
+    }
+
     /**
      * Return how many targets are still left to be decoded.
      */
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.api.properties.nodes;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
@@ -30,6 +31,7 @@ public interface DoubleArrayNodePropertyValues extends NodePropertyValues {
     @Override
     double[] doubleArrayValue(long nodeId);
 
+
     @Override
     default float[] floatArrayValue(long nodeId) {
         double[] doubleArray = doubleArrayValue(nodeId);
@@ -69,4 +71,14 @@ public interface DoubleArrayNodePropertyValues extends NodePropertyValues {
         }
         return Optional.of(value.length);
     }
+
+    static int copyDoubleArray(double @Nullable [] value, double[] target, int targetOffset) {
+        if (value == null) {
+            return -1;
+        }
+        if (value.length <= target.length - targetOffset) {
+            System.arraycopy(value, 0, target, targetOffset, value.length);
+        }
+        return value.length;
+    }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.api.properties.nodes;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
@@ -30,6 +31,7 @@ public interface FloatArrayNodePropertyValues extends NodePropertyValues {
     @Override
     float[] floatArrayValue(long nodeId);
 
+
     @Override
     default double[] doubleArrayValue(long nodeId) {
         float[] floatArray = floatArrayValue(nodeId);
@@ -70,4 +72,14 @@ public interface FloatArrayNodePropertyValues extends NodePropertyValues {
         }
         return Optional.of(value.length);
     }
+
+    static int copyFloatArray(float @Nullable [] value, float[] target, int targetOffset) {
+        if (value == null) {
+            return -1;
+        }
+        if (value.length <= target.length - targetOffset) {
+            System.arraycopy(value, 0, target, targetOffset, value.length);
+        }
+        return value.length;
+    }
 }
@@ -55,6 +55,28 @@ public interface NodePropertyValues extends PropertyValues {
         throw unsupportedTypeException(ValueType.LONG_ARRAY);
     }
 
+    /**
+     * Copies the value of {@code nodeId} into {@code target}, starting at {@code targetOffset}, if it fits.
+     * Returns the length of the value or {@code -1} if the node has no value.
+     * Nothing is copied if the returned length exceeds the space left in {@code target}.
+     *
+     * Implementations that store the values contiguously copy them without allocating an intermediate array.
+     */
+    default int copyDoubleArrayValue(long nodeId, double[] target, int targetOffset) {
+        return DoubleArrayNodePropertyValues.copyDoubleArray(doubleArrayValue(nodeId), target, targetOffset);
+    }
+
+    /**
+     * Copies the value of {@code nodeId} into {@code target}, starting at {@code targetOffset}, if it fits.
+     * Returns the length of the value or {@code -1} if the node has no value.
+     * Nothing is copied if the returned length exceeds the space left in {@code target}.
+     *
+     * Implementations that store the values contiguously copy them without allocating an intermediate array.
+     */
+    default int copyFloatArrayValue(long nodeId, float[] target, int targetOffset) {
+        return FloatArrayNodePropertyValues.copyFloatArray(floatArrayValue(nodeId), target, targetOffset);
+    }
+
     @Nullable
     Object getObject(long nodeId);
 
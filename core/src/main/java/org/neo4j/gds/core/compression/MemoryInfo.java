@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.compression;
 
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.compression.common.ImmutableHistogram;
 
@@ -51,6 +52,12 @@ public interface MemoryInfo {
             .reduce(Long::sum);
     }
 
+    /**
+     * The format in which the adjacency list is stored.
+     * Empty if the adjacency list is composed of lists with different formats.
+     */
+    Optional<AdjacencyFormat> adjacencyFormat();
+
     /**
      * The number of pages this adjacency list occupies.
      */
@@ -161,6 +168,7 @@ public interface MemoryInfo {
 
     default MemoryInfo merge(MemoryInfo other) {
         return ImmutableMemoryInfo.builder()
+            .adjacencyFormat(adjacencyFormat().filter(format -> other.adjacencyFormat().equals(Optional.of(format))))
             .pages(pages() + other.pages())
             .bytesOnHeap(LongStream.concat(bytesOnHeap().stream(), other.bytesOnHeap().stream()).reduce(Long::sum))
             .bytesOffHeap(LongStream.concat(bytesOffHeap().stream(), other.bytesOffHeap().stream())
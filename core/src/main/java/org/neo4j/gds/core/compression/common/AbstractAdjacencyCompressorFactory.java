@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.compression.common;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.api.compress.AdjacencyCompressor;
@@ -38,6 +39,7 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
     private final LongSupplier nodeCountSupplier;
     private final AdjacencyListBuilder<TARGET_PAGE, ? extends AdjacencyList> adjacencyBuilder;
     private final AdjacencyListBuilder<PROPERTY_PAGE, ? extends AdjacencyProperties>[] propertyBuilders;
+    private final EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
     private final LongAdder relationshipCounter;
@@ -50,11 +52,13 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
         LongSupplier nodeCountSupplier,
         AdjacencyListBuilder<TARGET_PAGE, ? extends AdjacencyList> adjacencyBuilder,
         AdjacencyListBuilder<PROPERTY_PAGE, ? extends AdjacencyProperties>[] propertyBuilders,
+        EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
         boolean noAggregation,
         Aggregation[] aggregations
     ) {
         this.adjacencyBuilder = adjacencyBuilder;
         this.propertyBuilders = propertyBuilders;
+        this.encodedPropertyBuilders = encodedPropertyBuilders;
         this.nodeCountSupplier = nodeCountSupplier;
         this.noAggregation = noAggregation;
         this.aggregations = aggregations;
@@ -67,6 +71,7 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
         this.adjacencyDegrees = HugeIntArray.newArray(nodeCount);
         this.adjacencyOffsets = HugeLongArray.newArray(nodeCount);
         this.propertyOffsets = HugeLongArray.newArray(nodeCount);
+        initEncodedPropertyBuilders(nodeCount);
     }
 
     @Override
@@ -74,6 +79,17 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
         this.adjacencyDegrees = degrees;
         this.adjacencyOffsets = adjacencyOffsets;
         this.propertyOffsets = propertyOffsets;
+        initEncodedPropertyBuilders(degrees.size());
+    }
+
+    private void initEncodedPropertyBuilders(long nodeCount) {
+        if (this.encodedPropertyBuilders != null) {
+            for (var encodedPropertyBuilder : this.encodedPropertyBuilders) {
+                if (encodedPropertyBuilder != null) {
+                    encodedPropertyBuilder.init(nodeCount);
+                }
+            }
+        }
     }
 
     @Override
@@ -88,10 +104,15 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
             .adjacency(adjacencyBuilder.build(this.adjacencyDegrees, this.adjacencyOffsets, allowReordering));
 
         var propertyBuilders = this.propertyBuilders;
+        var encodedPropertyBuilders = this.encodedPropertyBuilders;
         var propertyOffsets = this.propertyOffsets;
-        for (var propertyBuilder : propertyBuilders) {
-            var properties = propertyBuilder.build(this.adjacencyDegrees, propertyOffsets, allowReordering);
-            builder.addProperty(properties);
+        for (int i = 0; i < propertyBuilders.length; i++) {
+            if (encodedPropertyBuilders != null && encodedPropertyBuilders[i] != null) {
+                builder.addProperty(encodedPropertyBuilders[i].build(this.adjacencyDegrees));
+            } else {
+                var properties = propertyBuilders[i].build(this.adjacencyDegrees, propertyOffsets, allowReordering);
+                builder.addProperty(properties);
+            }
         }
 
         return builder.relationshipCount(relationshipCounter.longValue()).build();
@@ -100,6 +121,7 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
     protected abstract AdjacencyCompressor createCompressorFromInternalState(
         AdjacencyListBuilder<TARGET_PAGE, ? extends AdjacencyList> adjacencyBuilder,
         AdjacencyListBuilder<PROPERTY_PAGE, ? extends AdjacencyProperties>[] propertyBuilders,
+        EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
         boolean noAggregation,
         Aggregation[] aggregations,
         HugeIntArray adjacencyDegrees,
@@ -112,6 +134,7 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
         return this.createCompressorFromInternalState(
             this.adjacencyBuilder,
             this.propertyBuilders,
+            this.encodedPropertyBuilders,
             this.noAggregation,
             this.aggregations,
             this.adjacencyDegrees,
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.compress.AdjacencyListBuilder;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+/**
+ * Writes the sorted relationship properties of one adjacency list.
+ *
+ * Uncompressed properties share a single offset: the first one is allocated
+ * and all other are written at the same address.
+ * Properties with a configured compression are written by their own {@link EncodedAdjacencyPropertiesBuilder.Encoder}.
+ * Every compressor owns a writer, it must not be shared between threads.
+ */
+public final class AdjacencyPropertiesWriter implements AutoCloseable {
+
+    public static @Nullable AdjacencyPropertiesWriter of(
+        AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+        EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
+        HugeLongArray propertyOffsets
+    ) {
+        int propertyCount = propertyBuilders.length;
+        if (propertyCount == 0) {
+            return null;
+        }
+
+        int firstProperty = -1;
+        AdjacencyListBuilder.Allocator<long[]> firstAllocator = null;
+        @SuppressWarnings("unchecked")
+        AdjacencyListBuilder.PositionalAllocator<long[]>[] otherAllocators = new AdjacencyListBuilder.PositionalAllocator[propertyCount];
+        var encoders = new EncodedAdjacencyPropertiesBuilder.Encoder[propertyCount];
+
+        for (int i = 0; i < propertyCount; i++) {
+            if (encodedPropertyBuilders != null && encodedPropertyBuilders[i] != null) {
+                encoders[i] = encodedPropertyBuilders[i].newEncoder();
+            } else if (firstAllocator == null) {
+                firstProperty = i;
+                firstAllocator = propertyBuilders[i].newAllocator();
+            } else {
+                otherAllocators[i] = propertyBuilders[i].newPositionalAllocator();
+            }
+        }
+
+        return new AdjacencyPropertiesWriter(firstProperty, firstAllocator, otherAllocators, encoders, propertyOffsets);
+    }
+
+    private final int firstProperty;
+    private final @Nullable AdjacencyListBuilder.Allocator<long[]> firstAllocator;
+    private final AdjacencyListBuilder.PositionalAllocator<long[]>[] otherAllocators;
+    private final EncodedAdjacencyPropertiesBuilder.Encoder[] encoders;
+    private final HugeLongArray propertyOffsets;
+    private final ModifiableSlice<long[]> slice;
+
+    private AdjacencyPropertiesWriter(
+        int firstProperty,
+        @Nullable AdjacencyListBuilder.Allocator<long[]> firstAllocator,
+        AdjacencyListBuilder.PositionalAllocator<long[]>[] otherAllocators,
+        EncodedAdjacencyPropertiesBuilder.Encoder[] encoders,
+        HugeLongArray propertyOffsets
+    ) {
+        this.firstProperty = firstProperty;
+        this.firstAllocator = firstAllocator;
+        this.otherAllocators = otherAllocators;
+        this.encoders = encoders;
+        this.propertyOffsets = propertyOffsets;
+        this.slice = ModifiableSlice.create();
+    }
+
+    public void write(long nodeId, long[][] properties, int degree) {
+        long address = 0L;
+        if (this.firstAllocator != null) {
+            var slice = this.slice;
+            address = this.firstAllocator.allocate(degree, slice);
+            System.arraycopy(properties[this.firstProperty], 0, slice.slice(), slice.offset(), degree);
+            this.propertyOffsets.set(nodeId, address);
+        }
+
+        for (int i = 0; i < properties.length; i++) {
+            if (this.encoders[i] != null) {
+                this.encoders[i].encode(nodeId, properties[i], degree);
+            } else if (this.otherAllocators[i] != null) {
+                this.otherAllocators[i].writeAt(address, properties[i], degree);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.firstAllocator != null) {
+            this.firstAllocator.close();
+        }
+        for (var otherAllocator : this.otherAllocators) {
+            if (otherAllocator != null) {
+                otherAllocator.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.PropertyCompression;
+import org.neo4j.gds.core.loading.DoubleCodec;
+import org.neo4j.gds.core.loading.TrimmingDoubleCodec;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+
+/**
+ * Relationship properties that are stored byte-encoded by a {@link DoubleCodec}.
+ *
+ * For {@link PropertyCompression#LOSSLESS} the values of one adjacency list are XOR-ed
+ * with their predecessor before they are trimmed, similar to the Gorilla time series compression.
+ * Subsequent values that are equal or close to each other share their leading bytes,
+ * which are then omitted from the encoding.
+ * The cursor has to decode the values of an adjacency list in order.
+ *
+ * @see EncodedAdjacencyPropertiesBuilder
+ */
+public final class EncodedAdjacencyProperties implements AdjacencyProperties {
+
+    private final byte[][] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+    private final PropertyCompression compression;
+    private final DoubleCodec codec;
+
+    EncodedAdjacencyProperties(
+        byte[][] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        PropertyCompression compression,
+        DoubleCodec codec
+    ) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.compression = compression;
+        this.codec = codec;
+    }
+
+    public PropertyCompression compression() {
+        return compression;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = rawPropertyCursor();
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(pages, codec, compression == PropertyCompression.LOSSLESS);
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private final byte[][] pages;
+        private final DoubleCodec codec;
+        private final boolean xorEncoded;
+        private final MutableDouble value;
+
+        private byte[] currentPage;
+        private int offset;
+        private int remaining;
+        private long previous;
+
+        private Cursor(byte[][] pages, DoubleCodec codec, boolean xorEncoded) {
+            this.pages = pages;
+            this.codec = codec;
+            this.xorEncoded = xorEncoded;
+            this.value = new MutableDouble();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.currentPage = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            this.offset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            this.remaining = degree;
+            this.previous = 0L;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            remaining--;
+            if (xorEncoded) {
+                // residues are arbitrary bit patterns and must not be round-tripped through a double
+                previous ^= TrimmingDoubleCodec.decompressBits(currentPage, offset);
+                offset += codec.compressedSize(currentPage, offset);
+                return previous;
+            }
+            offset = codec.decompressDouble(currentPage, offset, value);
+            return Double.doubleToRawLongBits(value.doubleValue());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.PropertyCompression;
+import org.neo4j.gds.core.loading.DictionaryDoubleCodec;
+import org.neo4j.gds.core.loading.DoubleCodec;
+import org.neo4j.gds.core.loading.ReducedPrecisionDoubleCodec;
+import org.neo4j.gds.core.loading.TrimmingDoubleCodec;
+
+import java.util.List;
+
+/**
+ * Builds {@link EncodedAdjacencyProperties} for a single relationship property.
+ *
+ * Encoded properties do not share their offsets with the other properties of the same relationship type,
+ * since the encoded size of an adjacency list depends on its values.
+ * The builder is thread-safe, every importing thread uses its own {@link Encoder}.
+ */
+public final class EncodedAdjacencyPropertiesBuilder {
+
+    // header byte and up to 8 payload bytes, see TrimmingDoubleCodec and DictionaryDoubleCodec
+    private static final int MAX_BYTES_PER_VALUE = 1 + Double.BYTES;
+
+    /**
+     * Returns a builder for every property that has a {@link PropertyMapping#compression()} configured
+     * and {@code null} for the other properties.
+     * If no property is compressed, {@code null} is returned.
+     */
+    public static EncodedAdjacencyPropertiesBuilder @Nullable [] of(
+        PropertyMappings propertyMappings,
+        MemoryTracker memoryTracker
+    ) {
+        List<PropertyMapping> mappings = propertyMappings.mappings();
+        EncodedAdjacencyPropertiesBuilder[] builders = null;
+        for (int i = 0; i < mappings.size(); i++) {
+            var compression = mappings.get(i).compression();
+            if (compression != PropertyCompression.NONE) {
+                if (builders == null) {
+                    builders = new EncodedAdjacencyPropertiesBuilder[mappings.size()];
+                }
+                builders[i] = new EncodedAdjacencyPropertiesBuilder(compression, memoryTracker);
+            }
+        }
+        return builders;
+    }
+
+    private final PropertyCompression compression;
+    private final DoubleCodec codec;
+    private final BumpAllocator<byte[]> allocator;
+    private final MemoryTracker memoryTracker;
+
+    private HugeLongArray offsets;
+    private EncodedAdjacencyProperties properties;
+
+    EncodedAdjacencyPropertiesBuilder(PropertyCompression compression, MemoryTracker memoryTracker) {
+        this.compression = compression;
+        this.codec = codec(compression);
+        this.allocator = new BumpAllocator<>(Factory.INSTANCE);
+        this.memoryTracker = memoryTracker;
+    }
+
+    private static DoubleCodec codec(PropertyCompression compression) {
+        switch (compression) {
+            case LOSSLESS:
+                return TrimmingDoubleCodec.instance();
+            case DICTIONARY:
+                return new DictionaryDoubleCodec();
+            case FLOAT:
+                return ReducedPrecisionDoubleCodec.float32();
+            case BFLOAT16:
+                return ReducedPrecisionDoubleCodec.bfloat16();
+            default:
+                throw new IllegalArgumentException("No codec for property compression " + compression);
+        }
+    }
+
+    /**
+     * Allocates the offsets. Subsequent calls are ignored, which allows
+     * multiple compressor factories to share the same builder.
+     */
+    public synchronized void init(long nodeCount) {
+        if (this.offsets == null) {
+            this.offsets = HugeLongArray.newArray(nodeCount);
+        }
+    }
+
+    public Encoder newEncoder() {
+        assert this.offsets != null : "The builder must be initialized before creating encoders";
+        return new Encoder(allocator.newLocalAllocator(), offsets, memoryTracker);
+    }
+
+    /**
+     * Subsequent calls return the same instance. Pages are never reordered.
+     */
+    public synchronized EncodedAdjacencyProperties build(HugeIntArray degrees) {
+        if (this.properties == null) {
+            this.properties = new EncodedAdjacencyProperties(
+                allocator.intoPages(),
+                degrees,
+                offsets,
+                compression,
+                codec
+            );
+        }
+        return this.properties;
+    }
+
+    public final class Encoder {
+
+        private final BumpAllocator.LocalAllocator<byte[]> allocator;
+        private final HugeLongArray offsets;
+        private final MemoryTracker memoryTracker;
+        private final ModifiableSlice<byte[]> slice;
+
+        private byte[] buffer;
+
+        private Encoder(
+            BumpAllocator.LocalAllocator<byte[]> allocator,
+            HugeLongArray offsets,
+            MemoryTracker memoryTracker
+        ) {
+            this.allocator = allocator;
+            this.offsets = offsets;
+            this.memoryTracker = memoryTracker;
+            this.slice = ModifiableSlice.create();
+            this.buffer = new byte[0];
+        }
+
+        /**
+         * Encodes the first {@code degree} values, which are the raw bits of the property values
+         * in the same order as the targets of the adjacency list of {@code nodeId}.
+         */
+        public void encode(long nodeId, long[] values, int degree) {
+            int maxLength = degree * MAX_BYTES_PER_VALUE;
+            if (buffer.length < maxLength) {
+                buffer = new byte[ArrayUtil.oversize(maxLength, Byte.BYTES)];
+            }
+
+            int length = 0;
+            if (compression == PropertyCompression.LOSSLESS) {
+                long previous = 0L;
+                for (int i = 0; i < degree; i++) {
+                    length = TrimmingDoubleCodec.compressBits(previous ^ values[i], buffer, length);
+                    previous = values[i];
+                }
+            } else {
+                for (int i = 0; i < degree; i++) {
+                    length = codec.compressDouble(values[i], buffer, length);
+                }
+            }
+
+            this.memoryTracker.recordHeapAllocation(length);
+            long address = allocator.insertInto(length, slice);
+            System.arraycopy(buffer, 0, slice.slice(), slice.offset(), length);
+            this.offsets.set(nodeId, address);
+        }
+    }
+
+    enum Factory implements BumpAllocator.Factory<byte[]> {
+        INSTANCE;
+
+        @Override
+        public byte[][] newEmptyPages() {
+            return new byte[0][];
+        }
+
+        @Override
+        public byte[] newPage(int length) {
+            return new byte[length];
+        }
+    }
+}
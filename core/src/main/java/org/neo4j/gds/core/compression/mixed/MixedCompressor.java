@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.compression.mixed;
 
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
@@ -32,6 +33,7 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.ImmutableMemoryInfo;
 import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.common.EncodedAdjacencyPropertiesBuilder;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.packed.Address;
 import org.neo4j.gds.core.compression.packed.AdjacencyPacking;
@@ -49,7 +51,7 @@ public final class MixedCompressor implements AdjacencyCompressor {
      * will use var-long compression. We picked 8 blocks, i.e. a degree of 512, based on intense
      * research ... and by that we mean we tried a few different values and this one seemed to work.
      */
-    private static final int PACKING_DEGREE_THRESHOLD = AdjacencyPacking.BLOCK_SIZE * 8;
+    public static final int PACKING_DEGREE_THRESHOLD = AdjacencyPacking.BLOCK_SIZE * 8;
 
     private final AdjacencyCompressor packedCompressor;
     private final AdjacencyCompressor vLongCompressor;
@@ -91,11 +93,14 @@ public final class MixedCompressor implements AdjacencyCompressor {
         MemoryTracker memoryTracker
     ) {
         var relationshipCounter = new LongAdder();
+        // encoded properties use their own offsets and can be shared by both compressors
+        var encodedPropertyBuilders = EncodedAdjacencyPropertiesBuilder.of(propertyMappings, memoryTracker);
 
         var packedCompressorFactory = PackedCompressor.factory(
             nodeCountSupplier,
             packedAdjacencyListBuilder,
             propertyMappings,
+            encodedPropertyBuilders,
             aggregations,
             noAggregation,
             memoryTracker
@@ -105,6 +110,7 @@ public final class MixedCompressor implements AdjacencyCompressor {
             nodeCountSupplier,
             vlongAdjacencyListBuilder,
             propertyMappings,
+            encodedPropertyBuilders,
             aggregations,
             noAggregation,
             memoryTracker
@@ -182,6 +188,11 @@ public final class MixedCompressor implements AdjacencyCompressor {
             for (int i = 0; i < packedAdjacencyList.properties().size(); i++) {
                 var left = packedAdjacencyList.properties().get(i);
                 var right = vlongAdjacencyList.properties().get(i);
+                if (left == right) {
+                    // shared encoded properties already cover all nodes
+                    mixedAdjacencyProperties.add(left);
+                    continue;
+                }
                 var mixedProperties = new MixedAdjacencyProperties(vlongAdjacencyList.adjacency(), left, right);
                 mixedAdjacencyProperties.add(mixedProperties);
             }
@@ -199,6 +210,7 @@ public final class MixedCompressor implements AdjacencyCompressor {
             MemoryInfo vlong
         ) {
             return ImmutableMemoryInfo.builder()
+                .adjacencyFormat(AdjacencyFormat.MIXED)
                 .pages(packed.pages() + vlong.pages())
                 .pageSizes(vlong.pageSizes().merge(packed.pageSizes()))
                 // We use the vlong on heap data structures (pages, offsets and degrees),
@@ -88,6 +88,21 @@ final class BlockAlignedTailUnpacker {
         return block[this.idxInBlock];
     }
 
+    void next(long[] buffer, int offset, int length) {
+        // The caller guarantees that at least `length` targets are left,
+        // so we can copy whole decoded blocks without per-target checks.
+        while (length > 0) {
+            if (this.idxInBlock == BLOCK_SIZE) {
+                decompressBlock();
+            }
+            int count = Math.min(BLOCK_SIZE - this.idxInBlock, length);
+            System.arraycopy(this.block, this.idxInBlock, buffer, offset, count);
+            this.idxInBlock += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
     long advanceBy(int steps) {
         // Due to delta encoded target ids, we can't yet skip blocks
         // as we need to decompress all the previous blocks to get
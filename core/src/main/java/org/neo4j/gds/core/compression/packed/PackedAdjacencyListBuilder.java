@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.compression.packed;
 
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.ModifiableSlice;
@@ -80,6 +81,7 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
 
         var memoryInfoBuilder = MemoryInfoUtil
             .builder(memoryTracker, Optional.of(this.memoryTracker.blockStatistics()))
+            .adjacencyFormat(AdjacencyFormat.PACKED)
             .pages(allocationSizes.length)
             .bytesOffHeap(bytesOffHeap);
 
@@ -32,6 +32,8 @@ import org.neo4j.gds.api.compress.ModifiableSlice;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.AbstractAdjacencyCompressorFactory;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.common.AdjacencyPropertiesWriter;
+import org.neo4j.gds.core.compression.common.EncodedAdjacencyPropertiesBuilder;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -49,6 +51,29 @@ public final class PackedCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations,
         boolean noAggregation,
         MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            propertyMappings,
+            EncodedAdjacencyPropertiesBuilder.of(propertyMappings, memoryTracker),
+            aggregations,
+            noAggregation,
+            memoryTracker
+        );
+    }
+
+    /**
+     * Allows sharing the encoded property builders with another compressor factory, e.g. in {@link org.neo4j.gds.core.compression.mixed.MixedCompressor}.
+     */
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<Address, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker
     ) {
         AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings
             .numberOfMappings()];
@@ -58,6 +83,7 @@ public final class PackedCompressor implements AdjacencyCompressor {
             nodeCountSupplier,
             adjacencyListBuilderFactory.newAdjacencyListBuilder(memoryTracker),
             propertyBuilders,
+            encodedPropertyBuilders,
             noAggregation,
             aggregations,
             memoryTracker
@@ -72,6 +98,7 @@ public final class PackedCompressor implements AdjacencyCompressor {
             LongSupplier nodeCountSupplier,
             AdjacencyListBuilder<Address, ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
             MemoryTracker memoryTracker
@@ -80,6 +107,7 @@ public final class PackedCompressor implements AdjacencyCompressor {
                 nodeCountSupplier,
                 adjacencyBuilder,
                 propertyBuilders,
+                encodedPropertyBuilders,
                 noAggregation,
                 aggregations
             );
@@ -91,35 +119,18 @@ public final class PackedCompressor implements AdjacencyCompressor {
         protected AdjacencyCompressor createCompressorFromInternalState(
             AdjacencyListBuilder<Address, ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
             HugeIntArray adjacencyDegrees,
             HugeLongArray adjacencyOffsets,
             HugeLongArray propertyOffsets
         ) {
-            AdjacencyListBuilder.Allocator<long[]> firstAllocator;
-            AdjacencyListBuilder.PositionalAllocator<long[]>[] otherAllocators;
-
-            if (propertyBuilders.length > 0) {
-                firstAllocator = propertyBuilders[0].newAllocator();
-                //noinspection unchecked
-                otherAllocators = new AdjacencyListBuilder.PositionalAllocator[propertyBuilders.length - 1];
-                Arrays.setAll(
-                    otherAllocators,
-                    i -> propertyBuilders[i + 1].newPositionalAllocator()
-                );
-            } else {
-                firstAllocator = null;
-                otherAllocators = null;
-            }
-
             return new PackedCompressor(
                 adjacencyBuilder.newAllocator(),
-                firstAllocator,
-                otherAllocators,
+                AdjacencyPropertiesWriter.of(propertyBuilders, encodedPropertyBuilders, propertyOffsets),
                 adjacencyDegrees,
                 adjacencyOffsets,
-                propertyOffsets,
                 noAggregation,
                 aggregations,
                 this.memoryTracker
@@ -128,44 +139,36 @@ public final class PackedCompressor implements AdjacencyCompressor {
     }
 
     private final AdjacencyListBuilder.Allocator<Address> adjacencyAllocator;
-    private final @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator;
-    private final AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators;
+    private final @Nullable AdjacencyPropertiesWriter propertiesWriter;
     private final HugeIntArray adjacencyDegrees;
     private final HugeLongArray adjacencyOffsets;
-    private final HugeLongArray propertyOffsets;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
     private final MemoryTracker memoryTracker;
 
     private final ModifiableSlice<Address> adjacencySlice;
-    private final ModifiableSlice<long[]> propertySlice;
     private final MutableInt degree;
 
     private final GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy;
 
     private PackedCompressor(
         AdjacencyListBuilder.Allocator<Address> adjacencyAllocator,
-        @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator,
-        AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators,
+        @Nullable AdjacencyPropertiesWriter propertiesWriter,
         HugeIntArray adjacencyDegrees,
         HugeLongArray adjacencyOffsets,
-        HugeLongArray propertyOffsets,
         boolean noAggregation,
         Aggregation[] aggregations,
         MemoryTracker memoryTracker
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
-        this.firstPropertyAllocator = firstPropertyAllocator;
-        this.otherPropertyAllocators = otherPropertyAllocators;
+        this.propertiesWriter = propertiesWriter;
         this.adjacencyDegrees = adjacencyDegrees;
         this.adjacencyOffsets = adjacencyOffsets;
-        this.propertyOffsets = propertyOffsets;
         this.noAggregation = noAggregation;
         this.aggregations = aggregations;
         this.memoryTracker = memoryTracker;
 
         this.adjacencySlice = ModifiableSlice.create();
-        this.propertySlice = ModifiableSlice.create();
         this.degree = new MutableInt(0);
 
         this.packingStrategy = GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get();
@@ -249,7 +252,8 @@ public final class PackedCompressor implements AdjacencyCompressor {
 
         degree = this.degree.intValue();
 
-        copyProperties(sortedProperties, degree, nodeId);
+        assert this.propertiesWriter != null;
+        this.propertiesWriter.write(nodeId, sortedProperties, degree);
 
         this.adjacencyDegrees.set(nodeId, degree);
         this.adjacencyOffsets.set(nodeId, offset);
@@ -316,21 +320,6 @@ public final class PackedCompressor implements AdjacencyCompressor {
         return degree;
     }
 
-    private void copyProperties(long[][] properties, int degree, long nodeId) {
-        assert this.firstPropertyAllocator != null;
-        assert this.otherPropertyAllocators != null;
-
-        var slice = this.propertySlice;
-        long address = this.firstPropertyAllocator.allocate(degree, slice);
-        System.arraycopy(properties[0], 0, slice.slice(), slice.offset(), degree);
-
-        for (int i = 1; i < properties.length; i++) {
-            this.otherPropertyAllocators[i - 1].writeAt(address, properties[i], degree);
-        }
-
-        this.propertyOffsets.set(nodeId, address);
-    }
-
     @Override
     public void close() {
 
@@ -80,6 +80,14 @@ public final class PackedTailCursor implements AdjacencyCursor {
         return decompressingReader.peek();
     }
 
+    @Override
+    public int nextVLongs(long[] buffer, int offset, int length) {
+        int count = Math.min(length, remaining());
+        this.currentPosition += count;
+        this.decompressingReader.next(buffer, offset, count);
+        return count;
+    }
+
     @Override
     public long skipUntil(long targetId) {
         long next;
@@ -31,6 +31,8 @@ import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
 import org.neo4j.gds.api.compress.ModifiableSlice;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.AbstractAdjacencyCompressorFactory;
+import org.neo4j.gds.core.compression.common.AdjacencyPropertiesWriter;
+import org.neo4j.gds.core.compression.common.EncodedAdjacencyPropertiesBuilder;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.utils.AscendingLongComparator;
 import org.neo4j.gds.collections.ha.HugeIntArray;
@@ -59,6 +61,7 @@ public final class RawCompressor implements AdjacencyCompressor {
             nodeCountSupplier,
             adjacencyListBuilderFactory.newAdjacencyListBuilder(memoryTracker),
             propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder.of(propertyMappings, memoryTracker),
             noAggregation,
             aggregations,
             memoryTracker
@@ -71,6 +74,7 @@ public final class RawCompressor implements AdjacencyCompressor {
             LongSupplier nodeCountSupplier,
             AdjacencyListBuilder<long[], ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
             MemoryTracker memoryTracker
@@ -79,6 +83,7 @@ public final class RawCompressor implements AdjacencyCompressor {
                 nodeCountSupplier,
                 adjacencyBuilder,
                 propertyBuilders,
+                encodedPropertyBuilders,
                 noAggregation,
                 aggregations
             );
@@ -88,35 +93,18 @@ public final class RawCompressor implements AdjacencyCompressor {
         protected AdjacencyCompressor createCompressorFromInternalState(
             AdjacencyListBuilder<long[], ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
             HugeIntArray adjacencyDegrees,
             HugeLongArray adjacencyOffsets,
             HugeLongArray propertyOffsets
         ) {
-            AdjacencyListBuilder.Allocator<long[]> firstAllocator;
-            AdjacencyListBuilder.PositionalAllocator<long[]>[] otherAllocators;
-
-            if (propertyBuilders.length > 0) {
-                firstAllocator = propertyBuilders[0].newAllocator();
-                //noinspection unchecked
-                otherAllocators = new AdjacencyListBuilder.PositionalAllocator[propertyBuilders.length - 1];
-                Arrays.setAll(
-                    otherAllocators,
-                    i -> propertyBuilders[i + 1].newPositionalAllocator()
-                );
-            } else {
-                firstAllocator = null;
-                otherAllocators = null;
-            }
-
             return new RawCompressor(
                 adjacencyBuilder.newAllocator(),
-                firstAllocator,
-                otherAllocators,
+                AdjacencyPropertiesWriter.of(propertyBuilders, encodedPropertyBuilders, propertyOffsets),
                 adjacencyDegrees,
                 adjacencyOffsets,
-                propertyOffsets,
                 noAggregation,
                 aggregations
             );
@@ -124,11 +112,9 @@ public final class RawCompressor implements AdjacencyCompressor {
     }
 
     private final AdjacencyListBuilder.Allocator<long[]> adjacencyAllocator;
-    private final @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator;
-    private final AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators;
+    private final @Nullable AdjacencyPropertiesWriter propertiesWriter;
     private final HugeIntArray adjacencyDegrees;
     private final HugeLongArray adjacencyOffsets;
-    private final HugeLongArray propertyOffsets;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
 
@@ -136,20 +122,16 @@ public final class RawCompressor implements AdjacencyCompressor {
 
     private RawCompressor(
         AdjacencyListBuilder.Allocator<long[]> adjacencyAllocator,
-        @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator,
-        AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators,
+        @Nullable AdjacencyPropertiesWriter propertiesWriter,
         HugeIntArray adjacencyDegrees,
         HugeLongArray adjacencyOffsets,
-        HugeLongArray propertyOffsets,
         boolean noAggregation,
         Aggregation[] aggregations
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
-        this.firstPropertyAllocator = firstPropertyAllocator;
-        this.otherPropertyAllocators = otherPropertyAllocators;
+        this.propertiesWriter = propertiesWriter;
         this.adjacencyDegrees = adjacencyDegrees;
         this.adjacencyOffsets = adjacencyOffsets;
-        this.propertyOffsets = propertyOffsets;
         this.noAggregation = noAggregation;
         this.aggregations = aggregations;
 
@@ -177,16 +159,8 @@ public final class RawCompressor implements AdjacencyCompressor {
     @Override
     public void close() {
         this.adjacencyAllocator.close();
-        if (this.firstPropertyAllocator != null) {
-            this.firstPropertyAllocator.close();
-        }
-        if (this.otherPropertyAllocators != null) {
-            for (var otherPropertyAllocator : this.otherPropertyAllocators) {
-                // TODO: Do we need this null check here?
-                if (otherPropertyAllocator != null) {
-                    otherPropertyAllocator.close();
-                }
-            }
+        if (this.propertiesWriter != null) {
+            this.propertiesWriter.close();
         }
     }
 
@@ -303,7 +277,8 @@ public final class RawCompressor implements AdjacencyCompressor {
 
         long address = copy(targets, degree);
 
-        copyProperties(sortedProperties, degree, nodeId);
+        assert this.propertiesWriter != null;
+        this.propertiesWriter.write(nodeId, sortedProperties, degree);
 
         this.adjacencyDegrees.set(nodeId, degree);
         this.adjacencyOffsets.set(nodeId, address);
@@ -317,19 +292,4 @@ public final class RawCompressor implements AdjacencyCompressor {
         System.arraycopy(data, 0, slice.slice(), slice.offset(), degree);
         return address;
     }
-
-    private void copyProperties(long[][] properties, int degree, long nodeId) {
-        assert this.firstPropertyAllocator != null;
-        assert this.otherPropertyAllocators != null;
-
-        var slice = this.slice;
-        long address = this.firstPropertyAllocator.allocate(degree, slice);
-        System.arraycopy(properties[0], 0, slice.slice(), slice.offset(), degree);
-
-        for (int i = 1; i < properties.length; i++) {
-            this.otherPropertyAllocators[i - 1].writeAt(address, properties[i], degree);
-        }
-
-        this.propertyOffsets.set(nodeId, address);
-    }
 }
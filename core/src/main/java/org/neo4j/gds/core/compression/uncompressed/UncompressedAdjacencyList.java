@@ -249,6 +249,14 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             return currentPage[offset];
         }
 
+        @Override
+        public int nextVLongs(long[] buffer, int offset, int length) {
+            int count = Math.min(length, limit - this.offset);
+            System.arraycopy(currentPage, this.offset, buffer, offset, count);
+            this.offset += count;
+            return count;
+        }
+
         @Override
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof Cursor
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.compression.uncompressed;
 
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.ModifiableSlice;
@@ -71,6 +72,7 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
 
         var memoryInfoBuilder = MemoryInfoUtil
             .builder(memoryTracker, Optional.empty())
+            .adjacencyFormat(AdjacencyFormat.UNCOMPRESSED)
             .pages(pages.length)
             .bytesOffHeap(0);
 
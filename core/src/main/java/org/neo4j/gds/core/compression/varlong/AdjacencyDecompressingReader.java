@@ -89,6 +89,29 @@ final class AdjacencyDecompressingReader {
         return readNextBlock(remaining);
     }
 
+    /**
+     * Copy the next {@code length} targets into {@code buffer}.
+     * {@code remaining} is the number of targets left in the adjacency list
+     * and must be at least {@code length}.
+     */
+    void next(long[] buffer, int bufferOffset, int length, int remaining) {
+        long[] block = this.block;
+        int pos = this.pos;
+        while (length > 0) {
+            if (pos == CHUNK_SIZE) {
+                offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+                pos = 0;
+            }
+            int count = Math.min(CHUNK_SIZE - pos, length);
+            System.arraycopy(block, pos, buffer, bufferOffset, count);
+            pos += count;
+            bufferOffset += count;
+            length -= count;
+            remaining -= count;
+        }
+        this.pos = pos;
+    }
+
     private long readNextBlock(int remaining) {
         offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
         return block[0];
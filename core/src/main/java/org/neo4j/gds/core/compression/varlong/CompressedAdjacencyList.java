@@ -216,6 +216,15 @@ public final class CompressedAdjacencyList implements AdjacencyList {
             return decompress.peek(remaining);
         }
 
+        @Override
+        public int nextVLongs(long[] buffer, int offset, int length) {
+            int remaining = maxTargets - currentPosition;
+            int count = Math.min(length, remaining);
+            decompress.next(buffer, offset, count, remaining);
+            currentPosition += count;
+            return count;
+        }
+
         /**
          * Read and decode target ids until it is strictly larger than ({@literal >}) the provided {@code target}.
          * If there are no such targets before this cursor is exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
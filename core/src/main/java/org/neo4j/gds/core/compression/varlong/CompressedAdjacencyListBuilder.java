@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.compression.varlong;
 
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.ModifiableSlice;
 import org.neo4j.gds.collections.ha.HugeIntArray;
@@ -70,6 +71,7 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
 
         var memoryInfoBuilder = MemoryInfoUtil
             .builder(memoryTracker, Optional.empty())
+            .adjacencyFormat(AdjacencyFormat.VAR_LONG)
             .pages(pages.length)
             .bytesOffHeap(0);
 
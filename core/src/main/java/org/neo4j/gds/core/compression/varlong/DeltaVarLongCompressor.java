@@ -31,6 +31,8 @@ import org.neo4j.gds.api.compress.ModifiableSlice;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.AbstractAdjacencyCompressorFactory;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.common.AdjacencyPropertiesWriter;
+import org.neo4j.gds.core.compression.common.EncodedAdjacencyPropertiesBuilder;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.common.VarLongEncoding;
 import org.neo4j.gds.collections.ha.HugeIntArray;
@@ -48,6 +50,29 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations,
         boolean noAggregation,
         MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            propertyMappings,
+            EncodedAdjacencyPropertiesBuilder.of(propertyMappings, memoryTracker),
+            aggregations,
+            noAggregation,
+            memoryTracker
+        );
+    }
+
+    /**
+     * Allows sharing the encoded property builders with another compressor factory, e.g. in {@link org.neo4j.gds.core.compression.mixed.MixedCompressor}.
+     */
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<byte[], ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker
     ) {
         @SuppressWarnings(
             "unchecked"
@@ -59,6 +84,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             nodeCountSupplier,
             adjacencyListBuilderFactory.newAdjacencyListBuilder(memoryTracker),
             propertyBuilders,
+            encodedPropertyBuilders,
             noAggregation,
             aggregations,
             memoryTracker
@@ -71,6 +97,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             LongSupplier nodeCountSupplier,
             AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
             MemoryTracker memoryTracker
@@ -79,6 +106,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
                 nodeCountSupplier,
                 adjacencyBuilder,
                 propertyBuilders,
+                encodedPropertyBuilders,
                 noAggregation,
                 aggregations
             );
@@ -88,35 +116,18 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         protected AdjacencyCompressor createCompressorFromInternalState(
             AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            EncodedAdjacencyPropertiesBuilder @Nullable [] encodedPropertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
             HugeIntArray adjacencyDegrees,
             HugeLongArray adjacencyOffsets,
             HugeLongArray propertyOffsets
         ) {
-            AdjacencyListBuilder.Allocator<long[]> firstAllocator;
-            AdjacencyListBuilder.PositionalAllocator<long[]>[] otherAllocators;
-
-            if (propertyBuilders.length > 0) {
-                firstAllocator = propertyBuilders[0].newAllocator();
-                //noinspection unchecked
-                otherAllocators = new AdjacencyListBuilder.PositionalAllocator[propertyBuilders.length - 1];
-                Arrays.setAll(
-                    otherAllocators,
-                    i -> propertyBuilders[i + 1].newPositionalAllocator()
-                );
-            } else {
-                firstAllocator = null;
-                otherAllocators = null;
-            }
-
             return new DeltaVarLongCompressor(
                 adjacencyBuilder.newAllocator(),
-                firstAllocator,
-                otherAllocators,
+                AdjacencyPropertiesWriter.of(propertyBuilders, encodedPropertyBuilders, propertyOffsets),
                 adjacencyDegrees,
                 adjacencyOffsets,
-                propertyOffsets,
                 noAggregation,
                 aggregations
             );
@@ -124,38 +135,30 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
     }
 
     private final AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator;
-    private final @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator;
-    private final AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators;
+    private final @Nullable AdjacencyPropertiesWriter propertiesWriter;
     private final HugeIntArray adjacencyDegrees;
     private final HugeLongArray adjacencyOffsets;
-    private final HugeLongArray propertyOffsets;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
 
     private final ModifiableSlice<byte[]> adjacencySlice;
-    private final ModifiableSlice<long[]> propertySlice;
 
     private DeltaVarLongCompressor(
         AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator,
-        @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator,
-        AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators,
+        @Nullable AdjacencyPropertiesWriter propertiesWriter,
         HugeIntArray adjacencyDegrees,
         HugeLongArray adjacencyOffsets,
-        HugeLongArray propertyOffsets,
         boolean noAggregation,
         Aggregation[] aggregations
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
-        this.firstPropertyAllocator = firstPropertyAllocator;
-        this.otherPropertyAllocators = otherPropertyAllocators;
+        this.propertiesWriter = propertiesWriter;
         this.adjacencyDegrees = adjacencyDegrees;
         this.adjacencyOffsets = adjacencyOffsets;
-        this.propertyOffsets = propertyOffsets;
         this.noAggregation = noAggregation;
         this.aggregations = aggregations;
 
         this.adjacencySlice = ModifiableSlice.create();
-        this.propertySlice = ModifiableSlice.create();
     }
 
     @Override
@@ -179,16 +182,8 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
     @Override
     public void close() {
         this.adjacencyAllocator.close();
-        if (this.firstPropertyAllocator != null) {
-            this.firstPropertyAllocator.close();
-        }
-        if (this.otherPropertyAllocators != null) {
-            for (var otherPropertyAllocator : this.otherPropertyAllocators) {
-                // TODO: Do we need this null check here?
-                if (otherPropertyAllocator != null) {
-                    otherPropertyAllocator.close();
-                }
-            }
+        if (this.propertiesWriter != null) {
+            this.propertiesWriter.close();
         }
     }
 
@@ -239,26 +234,12 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         // values are now vlong encoded in the final adjacency list
         VarLongEncoding.encodeVLongs(targets, degree, slice.slice(), slice.offset());
 
-        copyProperties(sortedProperties, degree, nodeId);
+        assert this.propertiesWriter != null;
+        this.propertiesWriter.write(nodeId, sortedProperties, degree);
 
         this.adjacencyDegrees.set(nodeId, degree);
         this.adjacencyOffsets.set(nodeId, address);
 
         return degree;
     }
-
-    private void copyProperties(long[][] properties, int degree, long nodeId) {
-        assert this.firstPropertyAllocator != null;
-        assert this.otherPropertyAllocators != null;
-
-        var slice = this.propertySlice;
-        long address = this.firstPropertyAllocator.allocate(degree, slice);
-        System.arraycopy(properties[0], 0, slice.slice(), slice.offset(), degree);
-
-        for (int i = 1; i < properties.length; i++) {
-            this.otherPropertyAllocators[i - 1].writeAt(address, properties[i], degree);
-        }
-
-        this.propertyOffsets.set(nodeId, address);
-    }
 }
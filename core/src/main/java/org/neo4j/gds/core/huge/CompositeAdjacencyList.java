@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.huge;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.FilteredIdMap;
@@ -28,6 +29,7 @@ import org.neo4j.gds.core.compression.MemoryInfo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
@@ -176,7 +178,19 @@ public final class CompositeAdjacencyList implements AdjacencyList {
             .mapToLong(OptionalLong::getAsLong)
             .reduce(Long::sum);
 
-        return ImmutableMemoryInfo.builder().pages(pages).bytesOnHeap(bytesOnHeap).bytesOffHeap(bytesOffHeap).build();
+        var formats = memoryInfo
+            .stream()
+            .map(MemoryInfo::adjacencyFormat)
+            .distinct()
+            .collect(Collectors.toList());
+        var adjacencyFormat = formats.size() == 1 ? formats.get(0) : Optional.<AdjacencyFormat>empty();
+
+        return ImmutableMemoryInfo.builder()
+            .adjacencyFormat(adjacencyFormat)
+            .pages(pages)
+            .bytesOnHeap(bytesOnHeap)
+            .bytesOffHeap(bytesOffHeap)
+            .build();
     }
 
 }
@@ -23,6 +23,8 @@ import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
@@ -67,6 +69,16 @@ public abstract class FilteredNodePropertyValues implements NodePropertyValues {
         return properties.longArrayValue(translateId(nodeId));
     }
 
+    @Override
+    public int copyDoubleArrayValue(long nodeId, double[] target, int targetOffset) {
+        return properties.copyDoubleArrayValue(translateId(nodeId), target, targetOffset);
+    }
+
+    @Override
+    public int copyFloatArrayValue(long nodeId, float[] target, int targetOffset) {
+        return properties.copyFloatArrayValue(translateId(nodeId), target, targetOffset);
+    }
+
     @Override
     public Object getObject(long nodeId) {
         return properties.getObject(translateId(nodeId));
@@ -224,6 +236,36 @@ public abstract class FilteredNodePropertyValues implements NodePropertyValues {
             return properties.longArrayValue(translatedId);
         }
 
+        @Override
+        public int copyDoubleArrayValue(long nodeId, double[] target, int targetOffset) {
+            long translatedId = translateId(nodeId);
+
+            if (translatedId < 0) {
+                return DoubleArrayNodePropertyValues.copyDoubleArray(
+                    DefaultValue.DEFAULT.doubleArrayValue(),
+                    target,
+                    targetOffset
+                );
+            }
+
+            return properties.copyDoubleArrayValue(translatedId, target, targetOffset);
+        }
+
+        @Override
+        public int copyFloatArrayValue(long nodeId, float[] target, int targetOffset) {
+            long translatedId = translateId(nodeId);
+
+            if (translatedId < 0) {
+                return FloatArrayNodePropertyValues.copyFloatArray(
+                    DefaultValue.DEFAULT.floatArrayValue(),
+                    target,
+                    targetOffset
+                );
+            }
+
+            return properties.copyFloatArrayValue(translatedId, target, targetOffset);
+        }
+
         @Override
         public Object getObject(long nodeId) {
             long translatedId = translateId(nodeId);
@@ -98,6 +98,10 @@ public class HugeGraph implements CSRGraph {
 
     static final double NO_PROPERTY_VALUE = Double.NaN;
 
+    // Matches the block size of the packed adjacency lists and the chunk size
+    // of the var-long adjacency lists, so that one bulk read copies one decoded block.
+    private static final int TARGET_BUFFER_SIZE = 64;
+
     protected final IdMap idMap;
 
     protected final GraphSchema schema;
@@ -119,6 +123,9 @@ public class HugeGraph implements CSRGraph {
     private @Nullable PropertyCursor propertyCursorCache;
     private @Nullable PropertyCursor inversePropertyCursorCache;
 
+    private final long[] targetBuffer;
+    private final long[] inverseTargetBuffer;
+
     protected final boolean hasRelationshipProperty;
     protected final boolean isMultiGraph;
 
@@ -180,6 +187,9 @@ public class HugeGraph implements CSRGraph {
         this.inverseAdjacencyCursorCache = inverseAdjacency != null ? inverseAdjacency.rawAdjacencyCursor() : null;
         this.propertyCursorCache = relationshipProperty != null ? relationshipProperty.rawPropertyCursor() : null;
         this.inversePropertyCursorCache = inverseRelationshipProperty != null ? inverseRelationshipProperty.rawPropertyCursor() : null;
+
+        this.targetBuffer = new long[TARGET_BUFFER_SIZE];
+        this.inverseTargetBuffer = inverseAdjacency != null ? new long[TARGET_BUFFER_SIZE] : this.targetBuffer;
     }
 
     @Override
@@ -457,7 +467,7 @@ public class HugeGraph implements CSRGraph {
 
     private void runForEach(long sourceId, RelationshipConsumer consumer) {
         var adjacencyCursor = adjacencyCursorForIteration(sourceId);
-        consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        consumeAdjacentNodes(sourceId, adjacencyCursor, targetBuffer, consumer);
     }
 
     private void runForEach(long sourceId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
@@ -466,13 +476,13 @@ public class HugeGraph implements CSRGraph {
         } else {
             var adjacencyCursor = adjacencyCursorForIteration(sourceId);
             var propertyCursor = propertyCursorForIteration(sourceId);
-            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, targetBuffer, consumer);
         }
     }
 
     private void runForEachInverse(long sourceId, RelationshipConsumer consumer) {
         var adjacencyCursor = inverseAdjacencyCursorForIteration(sourceId);
-        consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        consumeAdjacentNodes(sourceId, adjacencyCursor, inverseTargetBuffer, consumer);
     }
 
     private void runForEachInverse(long sourceId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
@@ -481,7 +491,7 @@ public class HugeGraph implements CSRGraph {
         } else {
             var adjacencyCursor = inverseAdjacencyCursorForIteration(sourceId);
             var propertyCursor = inversePropertyCursorForIteration(sourceId);
-            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, inverseTargetBuffer, consumer);
         }
     }
 
@@ -558,33 +568,38 @@ public class HugeGraph implements CSRGraph {
             .map(properties -> ImmutableProperties.of(properties, relationshipCount, defaultPropertyValue));
     }
 
-    private void consumeAdjacentNodes(
+    private static void consumeAdjacentNodes(
         long sourceId,
         AdjacencyCursor adjacencyCursor,
+        long[] targetBuffer,
         RelationshipConsumer consumer
     ) {
-        while (adjacencyCursor.hasNextVLong()) {
-            if (!consumer.accept(sourceId, adjacencyCursor.nextVLong())) {
-                break;
+        int targetCount;
+        while ((targetCount = adjacencyCursor.nextVLongs(targetBuffer)) > 0) {
+            for (int i = 0; i < targetCount; i++) {
+                if (!consumer.accept(sourceId, targetBuffer[i])) {
+                    return;
+                }
             }
         }
     }
 
-    private void consumeAdjacentNodesWithProperty(
+    private static void consumeAdjacentNodesWithProperty(
         long sourceId,
         AdjacencyCursor adjacencyCursor,
         PropertyCursor propertyCursor,
+        long[] targetBuffer,
         RelationshipWithPropertyConsumer consumer
     ) {
-
-        while (adjacencyCursor.hasNextVLong()) {
-            long targetId = adjacencyCursor.nextVLong();
-
-            long propertyBits = propertyCursor.nextLong();
-            double property = Double.longBitsToDouble(propertyBits);
-
-            if (!consumer.accept(sourceId, targetId, property)) {
-                break;
+        int targetCount;
+        while ((targetCount = adjacencyCursor.nextVLongs(targetBuffer)) > 0) {
+            for (int i = 0; i < targetCount; i++) {
+                long propertyBits = propertyCursor.nextLong();
+                double property = Double.longBitsToDouble(propertyBits);
+
+                if (!consumer.accept(sourceId, targetBuffer[i], property)) {
+                    return;
+                }
             }
         }
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.AdjacencyFormat;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
+import org.neo4j.gds.api.compress.ImmutableAdjacencyListsWithProperties;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.BoundedHistogram;
+import org.neo4j.gds.core.compression.mixed.MixedCompressor;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A compressor factory for {@link AdjacencyFormat#AUTO} that defers the choice of the
+ * adjacency format until all relationships of the type have been buffered.
+ * <p>
+ * Packing pays off for long adjacency lists, while var-long compression is more compact for short ones.
+ * We use the same degree threshold as the {@link MixedCompressor} to tell them apart and pick
+ * <ul>
+ *     <li>{@link AdjacencyFormat#VAR_LONG} if almost all relationships belong to low degree nodes,</li>
+ *     <li>{@link AdjacencyFormat#PACKED} if almost all relationships belong to high degree nodes,</li>
+ *     <li>{@link AdjacencyFormat#MIXED} otherwise.</li>
+ * </ul>
+ */
+final class AdaptiveAdjacencyCompressorFactory implements AdjacencyCompressorFactory {
+
+    static final int DEGREE_UPPER_BOUND = MixedCompressor.PACKING_DEGREE_THRESHOLD + 1;
+
+    private static final double DENSE_SHARE_LOWER_THRESHOLD = 0.05;
+    private static final double DENSE_SHARE_UPPER_THRESHOLD = 0.95;
+
+    private final LongSupplier nodeCountSupplier;
+    private final PropertyMappings propertyMappings;
+    private final Aggregation[] aggregations;
+    private final LongAdder relationshipCounter;
+
+    private AdjacencyFormat selectedFormat;
+    private AdjacencyCompressorFactory delegate;
+
+    AdaptiveAdjacencyCompressorFactory(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations
+    ) {
+        this.nodeCountSupplier = nodeCountSupplier;
+        this.propertyMappings = propertyMappings;
+        this.aggregations = aggregations;
+        this.relationshipCounter = new LongAdder();
+    }
+
+    /**
+     * Selects the adjacency format based on the buffered degrees.
+     *
+     * @param degrees           histogram of the buffered degrees, capped at {@link #DEGREE_UPPER_BOUND}
+     * @param relationshipCount the total number of buffered relationships
+     */
+    void selectFormat(BoundedHistogram degrees, long relationshipCount) {
+        this.selectedFormat = selectFormat(degrees, relationshipCount, DEGREE_UPPER_BOUND);
+        this.delegate = AdjacencyListBehavior.forFormat(selectedFormat, nodeCountSupplier, propertyMappings, aggregations);
+    }
+
+    static AdjacencyFormat selectFormat(BoundedHistogram degrees, long relationshipCount, int degreeUpperBound) {
+        if (relationshipCount == 0) {
+            return AdjacencyFormat.VAR_LONG;
+        }
+
+        long sparseRelationships = 0;
+        for (int degree = 1; degree < degreeUpperBound; degree++) {
+            sparseRelationships += degree * degrees.frequency(degree);
+        }
+        double denseShare = (double) (relationshipCount - sparseRelationships) / relationshipCount;
+
+        if (denseShare < DENSE_SHARE_LOWER_THRESHOLD) {
+            return AdjacencyFormat.VAR_LONG;
+        }
+        if (denseShare > DENSE_SHARE_UPPER_THRESHOLD) {
+            return AdjacencyFormat.PACKED;
+        }
+        return AdjacencyFormat.MIXED;
+    }
+
+    AdjacencyFormat selectedFormat() {
+        return selectedFormat;
+    }
+
+    @Override
+    public void init() {
+        delegate().init();
+    }
+
+    @Override
+    public void init(HugeIntArray degrees, HugeLongArray adjacencyOffsets, HugeLongArray propertyOffsets) {
+        delegate().init(degrees, adjacencyOffsets, propertyOffsets);
+    }
+
+    @Override
+    public AdjacencyCompressor createCompressor() {
+        return delegate().createCompressor();
+    }
+
+    @Override
+    public LongAdder relationshipCounter() {
+        // handed out before the format is known, so the delegate's counter stays unused
+        return relationshipCounter;
+    }
+
+    @Override
+    public AdjacencyListsWithProperties build(boolean allowReordering) {
+        return ImmutableAdjacencyListsWithProperties
+            .builder()
+            .from(delegate().build(allowReordering))
+            .relationshipCount(relationshipCounter.longValue())
+            .build();
+    }
+
+    private AdjacencyCompressorFactory delegate() {
+        if (delegate == null) {
+            // no degree information available, e.g. when the factory is initialized externally
+            this.selectedFormat = AdjacencyListBehavior.configuredFormat();
+            this.delegate = AdjacencyListBehavior.forFormat(selectedFormat, nodeCountSupplier, propertyMappings, aggregations);
+        }
+        return delegate;
+    }
+}
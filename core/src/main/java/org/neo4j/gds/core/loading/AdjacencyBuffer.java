@@ -29,6 +29,7 @@ import org.neo4j.gds.api.compress.AdjacencyCompressor;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.api.compress.LongArrayBuffer;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.BoundedHistogram;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
 import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -237,6 +238,15 @@ public final class AdjacencyBuffer {
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
     ) {
+        if (adjacencyCompressorFactory instanceof AdaptiveAdjacencyCompressorFactory) {
+            var degrees = new BoundedHistogram(AdaptiveAdjacencyCompressorFactory.DEGREE_UPPER_BOUND);
+            long relationshipCount = 0;
+            for (var chunkedAdjacencyList : chunkedAdjacencyLists) {
+                relationshipCount += chunkedAdjacencyList.recordDegrees(degrees, AdaptiveAdjacencyCompressorFactory.DEGREE_UPPER_BOUND);
+            }
+            ((AdaptiveAdjacencyCompressorFactory) adjacencyCompressorFactory).selectFormat(degrees, relationshipCount);
+        }
+
         adjacencyCompressorFactory.init();
 
         var tasks = new ArrayList<AdjacencyListBuilderTask>(chunkedAdjacencyLists.length + 1);
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
@@ -53,17 +54,53 @@ public interface AdjacencyListBehavior {
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations
+    ) {
+        return forFormat(configuredFormat(), nodeCountSupplier, propertyMappings, aggregations);
+    }
+
+    /**
+     * Creates the compressor factory for the given adjacency format.
+     * {@link AdjacencyFormat#DEFAULT} uses the format configured via {@link GdsFeatureToggles},
+     * {@link AdjacencyFormat#AUTO} selects the format from the degree distribution, once all relationships are buffered.
+     */
+    static AdjacencyCompressorFactory forFormat(
+        AdjacencyFormat adjacencyFormat,
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations
     ) {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
+        switch (adjacencyFormat) {
+            case DEFAULT:
+                return forFormat(configuredFormat(), nodeCountSupplier, propertyMappings, aggregations);
+            case AUTO:
+                return new AdaptiveAdjacencyCompressorFactory(nodeCountSupplier, propertyMappings, aggregations);
+            case VAR_LONG:
+                return compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case PACKED:
+                return packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case MIXED:
+                return mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case UNCOMPRESSED:
+                return uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            default:
+                throw new IllegalArgumentException("Unsupported adjacency format: " + adjacencyFormat);
+        }
+    }
+
+    /**
+     * The adjacency format that is configured for the whole JVM via {@link GdsFeatureToggles}.
+     */
+    static AdjacencyFormat configuredFormat() {
         return GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
-            ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+            ? AdjacencyFormat.PACKED
             : GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.isEnabled()
-                ? mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                ? AdjacencyFormat.MIXED
                 : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-                    ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                    : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+                    ? AdjacencyFormat.UNCOMPRESSED
+                    : AdjacencyFormat.VAR_LONG;
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.immutables.builder.Builder;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyProperties;
@@ -95,6 +96,8 @@ public final class CSRGraphStore implements GraphStore {
 
     private ZonedDateTime modificationTime;
 
+    private volatile @Nullable Runnable modificationListener;
+
     private CSRGraphStore(
         DatabaseInfo databaseInfo,
         Capabilities capabilities,
@@ -434,14 +437,16 @@ public final class CSRGraphStore implements GraphStore {
         Topology topology,
         Optional<RelationshipPropertyStore> properties
     ) {
-        var newRelationships = SingleTypeRelationships
-            .builder()
-            .from(relationships.get(relationshipType))
-            .inverseTopology(topology)
-            .inverseProperties(properties)
-            .build();
+        updateGraphStore(graphStore -> {
+            var newRelationships = SingleTypeRelationships
+                .builder()
+                .from(graphStore.relationships.get(relationshipType))
+                .inverseTopology(topology)
+                .inverseProperties(properties)
+                .build();
 
-        relationships.put(relationshipType, newRelationships);
+            graphStore.relationships.put(relationshipType, newRelationships);
+        });
     }
 
     @Override
@@ -575,9 +580,23 @@ public final class CSRGraphStore implements GraphStore {
         return nodes.nodeCount();
     }
 
-    private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
-        updateFunction.accept(this);
-        this.modificationTime = TimeUtil.now();
+    /**
+     * Registers a callback that is run after every modification of this graph store.
+     * The callback is run outside of the store's monitor and replaces any previously registered one.
+     */
+    void onModification(@Nullable Runnable modificationListener) {
+        this.modificationListener = modificationListener;
+    }
+
+    private void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
+        synchronized (this) {
+            updateFunction.accept(this);
+            this.modificationTime = TimeUtil.now();
+        }
+        var listener = this.modificationListener;
+        if (listener != null) {
+            listener.run();
+        }
     }
 
     private CSRGraph createGraph(
@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.hsa.HugeSparseCollections;
 import org.neo4j.gds.collections.hsl.HugeSparseIntList;
 import org.neo4j.gds.collections.hsl.HugeSparseLongArrayList;
 import org.neo4j.gds.collections.hsl.HugeSparseLongList;
+import org.neo4j.gds.core.compression.BoundedHistogram;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -237,6 +238,22 @@ public final class ChunkedAdjacencyLists {
         return targetLists.contains(index);
     }
 
+    /**
+     * Records the number of buffered targets of every source into the given histogram.
+     * Values larger than {@code upperBound} are recorded as {@code upperBound}.
+     * The recorded values are not pre-aggregated and might be larger than the final degrees.
+     *
+     * @return the total number of buffered targets
+     */
+    public long recordDegrees(BoundedHistogram histogram, int upperBound) {
+        var total = new long[]{0};
+        lengths.forAll((index, length) -> {
+            histogram.record(Math.min(length, upperBound));
+            total[0] += length;
+        });
+        return total[0];
+    }
+
     public void consume(Consumer consumer) {
         new CompositeDrainingIterator(targetLists, properties, positions, lastValues, lengths).consume(consumer);
     }
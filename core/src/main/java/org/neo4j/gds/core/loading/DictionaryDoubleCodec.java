@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lossless codec for properties with a small number of distinct values, e.g. weights from a fixed scale.
+ *
+ * The first {@link #MAX_ENTRIES} distinct values are assigned an entry in a dictionary that is shared
+ * by all threads writing with this codec instance. Values in the dictionary are encoded as
+ * a variable length integer of {@code index + 1} and use one byte for the first 127 distinct values
+ * and two bytes for all other entries.
+ * Values that did not fit into the dictionary are written as a zero byte followed by the 8 raw bytes.
+ *
+ * Unlike the other codecs, an instance of this codec is stateful and the
+ * compressed data can only be decompressed by the same instance that compressed it.
+ */
+public final class DictionaryDoubleCodec extends DoubleCodec {
+
+    static final int MAX_ENTRIES = (1 << 14) - 1;
+
+    private static final int ESCAPE = 0;
+    private static final int ENTRY = 1;
+
+    private final Map<Long, Integer> index;
+    private final long[] values;
+    private final AtomicInteger size;
+
+    public DictionaryDoubleCodec() {
+        this.index = new ConcurrentHashMap<>();
+        this.values = new long[MAX_ENTRIES];
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * The number of distinct values that are stored in the dictionary.
+     */
+    public int size() {
+        return Math.min(size.get(), MAX_ENTRIES);
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        Integer entry = index.get(doubleBits);
+        if (entry == null && size.get() < MAX_ENTRIES) {
+            entry = index.computeIfAbsent(doubleBits, this::newEntry);
+        }
+        // a full dictionary is never grown, unknown values are escaped instead
+        if (entry == null) {
+            out[outPos++] = ESCAPE;
+            return NoopDoubleCodec.instance().compressDouble(doubleBits, out, outPos);
+        }
+        // entries are stored with an offset of one to keep 0 as the escape marker
+        int code = entry + 1;
+        if (code < 0x80) {
+            out[outPos++] = (byte) code;
+        } else {
+            out[outPos++] = (byte) (0x80 | (code & 0x7F));
+            out[outPos++] = (byte) (code >>> 7);
+        }
+        return outPos;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        int code = data[pos] & 0xFF;
+        if (code == ESCAPE) {
+            return NoopDoubleCodec.instance().decompressDouble(data, pos + 1, out);
+        }
+        if (code < 0x80) {
+            out.setValue(Double.longBitsToDouble(values[code - 1]));
+            return pos + 1;
+        }
+        code = (code & 0x7F) | ((data[pos + 1] & 0xFF) << 7);
+        out.setValue(Double.longBitsToDouble(values[code - 1]));
+        return pos + 2;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        int code = data[pos] & 0xFF;
+        if (code == ESCAPE) {
+            return 1 + Double.BYTES;
+        }
+        return code < 0x80 ? 1 : 2;
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return type == ESCAPE ? "ESCAPED" : "DICTIONARY";
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        int size = compressedSize(data, pos);
+        int type = data[pos] == ESCAPE ? ESCAPE : ENTRY;
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + size))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(size)
+            .compressedType(type)
+            .compressionDescription(describeCompression(type))
+            .build();
+    }
+
+    private Integer newEntry(Long bits) {
+        int entry = size.getAndIncrement();
+        if (entry >= MAX_ENTRIES) {
+            // returning null leaves the map untouched
+            return null;
+        }
+        values[entry] = bits;
+        return entry;
+    }
+}
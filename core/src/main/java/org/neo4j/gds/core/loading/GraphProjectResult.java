@@ -19,8 +19,12 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.neo4j.gds.AdjacencyFormat;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.config.GraphProjectConfig;
 
+import java.util.Map;
+
 /*
  public fields because Neo4j needs to render them
  not pretty having it here in core, but with UI responsibilities
@@ -50,6 +54,7 @@ public class GraphProjectResult {
         protected long nodeCount;
         protected long relationshipCount;
         protected long projectMillis;
+        protected Map<RelationshipType, AdjacencyFormat> adjacencyFormats = Map.of();
 
         protected Builder(GraphProjectConfig config) {
             this.graphName = config.graphName();
@@ -65,6 +70,11 @@ public class GraphProjectResult {
             return this;
         }
 
+        public Builder<T> withAdjacencyFormats(Map<RelationshipType, AdjacencyFormat> adjacencyFormats) {
+            this.adjacencyFormats = adjacencyFormats;
+            return this;
+        }
+
         public void withProjectMillis(long projectMillis) {
             this.projectMillis = projectMillis;
         }
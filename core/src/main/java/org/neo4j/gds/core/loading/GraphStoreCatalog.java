@@ -26,18 +26,29 @@ import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.utils.TimeUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.logging.Log;
 
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,6 +64,14 @@ public final class GraphStoreCatalog {
     // we make the log injectable
     private static Optional<Log> log = Optional.empty();
 
+    // spilling is opt-in, without a spill store all graphs stay resident
+    private static volatile Optional<GraphStoreSpillStore> spillStore = Optional.empty();
+    private static volatile long residentMemoryCapacity = 0;
+    private static volatile ToLongFunction<GraphStore> memoryEstimation = GraphStoreCatalog::estimateMemoryUsage;
+
+    private static final AtomicLong accessClock = new AtomicLong();
+    private static final AtomicLong evictionCount = new AtomicLong();
+
     private GraphStoreCatalog() {
     }
 
@@ -68,11 +87,89 @@ public final class GraphStoreCatalog {
         GraphStoreCatalog.log = Optional.of(log);
     }
 
+    /**
+     * Limit the memory that is used by graphs kept in memory.
+     * Whenever the resident graphs are estimated to use more than {@code residentMemoryCapacity} bytes,
+     * the least recently used graphs are written to a snapshot using the given spill store and dropped from memory.
+     * The most recently used graph always stays resident, even if it exceeds the capacity on its own.
+     * Spilled graphs are transparently reloaded on the next {@code get}.
+     * Listing and dropping graphs does not load their snapshots, spilled graphs are represented
+     * by the metadata and degree distribution that were captured when they were spilled.
+     *
+     * Snapshots are written and read without a catalog wide lock, only requests for the graph
+     * that is currently being reloaded wait for it.
+     *
+     * A graph store that is mutated after it was spilled, e.g. by an algorithm that obtained it before the eviction,
+     * is made resident again, so that the mutation is not lost when the evicted reference is dropped.
+     */
+    public static void enableSpilling(long residentMemoryCapacity, GraphStoreSpillStore spillStore) {
+        enableSpilling(residentMemoryCapacity, spillStore, GraphStoreCatalog::estimateMemoryUsage);
+    }
+
+    @TestOnly
+    static void enableSpilling(
+        long residentMemoryCapacity,
+        GraphStoreSpillStore spillStore,
+        ToLongFunction<GraphStore> memoryEstimation
+    ) {
+        if (residentMemoryCapacity < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The resident memory capacity must be positive, but got %d",
+                residentMemoryCapacity
+            ));
+        }
+        GraphStoreCatalog.memoryEstimation = memoryEstimation;
+        GraphStoreCatalog.residentMemoryCapacity = residentMemoryCapacity;
+        GraphStoreCatalog.spillStore = Optional.of(spillStore);
+        enforceCapacity();
+    }
+
+    /**
+     * Reload all spilled graphs and keep every graph in memory from now on.
+     */
+    public static void disableSpilling() {
+        var store = spillStore;
+        GraphStoreCatalog.spillStore = Optional.empty();
+        GraphStoreCatalog.residentMemoryCapacity = 0;
+        store.ifPresent(s -> userCatalogs.values().forEach(userCatalog -> userCatalog.reloadAll(s)));
+    }
+
+    /**
+     * Stop spilling and drop all spilled graphs together with their snapshots, without loading them.
+     * Meant for shutting down, where reloading the snapshots would only cost time and heap.
+     */
+    public static void discardSpilledGraphs() {
+        var store = spillStore;
+        GraphStoreCatalog.spillStore = Optional.empty();
+        GraphStoreCatalog.residentMemoryCapacity = 0;
+        store.ifPresent(s -> userCatalogs.values().forEach(userCatalog -> userCatalog.discardSpilled(s)));
+    }
+
+    public static long evictionCount() {
+        return evictionCount.get();
+    }
+
+    public static Optional<GraphResidency> residency(String username, String databaseName, String graphName) {
+        return getUserCatalog(username).residency(UserCatalog.UserCatalogKey.of(databaseName, graphName));
+    }
+
     public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
+        return find(request, graphName, UserCatalog::get);
+    }
+
+    /**
+     * Looks up the graph like {@link #get(CatalogRequest, String)}, but does not load spilled graphs
+     * nor affect the recency of the graph. For a spilled graph, only its metadata is available.
+     */
+    public static GraphStoreWithConfig peek(CatalogRequest request, String graphName) {
+        return find(request, graphName, UserCatalog::peek);
+    }
+
+    private static GraphStoreWithConfig find(CatalogRequest request, String graphName, Lookup lookup) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
         var ownCatalog = getUserCatalog(request.username());
 
-        var maybeGraph = ownCatalog.get(userCatalogKey, request.restrictSearchToUsernameCatalog());
+        var maybeGraph = lookup.find(ownCatalog, userCatalogKey, request.restrictSearchToUsernameCatalog());
         if (maybeGraph != null) {
             return maybeGraph;
         }
@@ -80,15 +177,11 @@ public final class GraphStoreCatalog {
         var usersWithMatchingGraphs = userCatalogs
             .entrySet()
             .stream()
-            .flatMap(
-                e -> Stream
-                    .ofNullable(e.getValue().get(userCatalogKey, false))
-                    .map(graph -> Map.entry(e.getKey(), graph))
-            )
+            .filter(e -> e.getValue().exists(userCatalogKey))
             .collect(Collectors.toList());
 
         if (usersWithMatchingGraphs.size() == 1) {
-            return usersWithMatchingGraphs.get(0).getValue();
+            return lookup.find(usersWithMatchingGraphs.get(0).getValue(), userCatalogKey, true);
         }
 
         if (usersWithMatchingGraphs.isEmpty()) {
@@ -132,7 +225,8 @@ public final class GraphStoreCatalog {
         var usersWithMatchingGraphs = userCatalogs
             .entrySet()
             .stream()
-            .flatMap(e -> Stream.ofNullable(e.getValue().get(userCatalogKey, false)).map(graph -> e.getKey()))
+            .filter(e -> e.getValue().exists(userCatalogKey))
+            .map(Map.Entry::getKey)
             .collect(Collectors.toSet());
 
         if (usersWithMatchingGraphs.isEmpty() && failOnMissing) {
@@ -193,6 +287,8 @@ public final class GraphStoreCatalog {
             return userCatalog;
         });
 
+        enforceCapacity();
+
         listeners.forEach(
             listener -> ExceptionUtil.safeRunWithLogException(
                 log.orElseGet(Neo4jProxy::testLog),
@@ -223,7 +319,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores().values().size())
+            .mapToInt(UserCatalog::size)
             .sum();
     }
 
@@ -231,7 +327,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores(databaseId).values().size())
+            .mapToInt(userCatalog -> userCatalog.size(databaseId))
             .sum();
     }
 
@@ -260,13 +356,19 @@ public final class GraphStoreCatalog {
     }
 
     public static void removeAllLoadedGraphs() {
+        userCatalogs.values().forEach(userCatalog -> userCatalog.remove(key -> true));
         userCatalogs.clear();
     }
 
     public static void removeAllLoadedGraphs(DatabaseId databaseId) {
-        userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(databaseId.databaseName()));
+        userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(
+            userCatalogKey -> userCatalogKey.databaseName().equals(databaseId.databaseName())
+        ));
     }
 
+    /**
+     * Spilled graphs are not loaded, their graph stores only provide the metadata of the graph.
+     */
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username) {
         return getUserCatalog(username).getGraphStores();
     }
@@ -286,6 +388,123 @@ public final class GraphStoreCatalog {
         return userCatalogs.getOrDefault(username, UserCatalog.EMPTY);
     }
 
+    private static @Nullable GraphStoreWithConfig reload(
+        UserCatalog userCatalog,
+        UserCatalog.UserCatalogKey userCatalogKey
+    ) {
+        var store = spillStore;
+        if (store.isEmpty()) {
+            // spilling was disabled concurrently, which reloads all graphs
+            return userCatalog.graphsByName.get(userCatalogKey);
+        }
+        var graphStoreWithConfig = userCatalog.reload(userCatalogKey, store.get());
+        enforceCapacity();
+        return graphStoreWithConfig;
+    }
+
+    /**
+     * Called after an evicted graph store has been mutated, the mutation would otherwise not be part of the snapshot.
+     */
+    private static void repin(
+        UserCatalog userCatalog,
+        UserCatalog.UserCatalogKey userCatalogKey,
+        GraphStore graphStore
+    ) {
+        var store = spillStore;
+        if (store.isPresent() && userCatalog.repin(userCatalogKey, graphStore, store.get())) {
+            enforceCapacity();
+        }
+    }
+
+    /**
+     * Spills least recently used graphs until the resident graphs fit into {@code residentMemoryCapacity}.
+     *
+     * No lock is held while snapshots are written. A graph is claimed for spilling by moving its entry
+     * from {@code RESIDENT} to {@code SPILLING}, claimed graphs no longer count towards the resident memory.
+     * Concurrent callers therefore see each other's reservations and do not spill more than necessary.
+     */
+    private static void enforceCapacity() {
+        var store = spillStore;
+        if (store.isEmpty()) {
+            return;
+        }
+
+        while (true) {
+            long residentBytes = 0;
+            int residentGraphs = 0;
+            UserCatalog leastRecentlyUsedCatalog = null;
+            UserCatalog.UserCatalogKey leastRecentlyUsedKey = null;
+            UserCatalog.Entry leastRecentlyUsedEntry = null;
+
+            for (var userCatalog : userCatalogs.values()) {
+                for (var catalogEntry : userCatalog.entriesByName.entrySet()) {
+                    var entry = catalogEntry.getValue();
+                    var graphStoreWithConfig = userCatalog.graphsByName.get(catalogEntry.getKey());
+                    if (entry.residency.get() != Residency.RESIDENT || graphStoreWithConfig == null) {
+                        continue;
+                    }
+                    residentBytes += entry.sizeInBytes(graphStoreWithConfig.graphStore());
+                    residentGraphs++;
+                    if (leastRecentlyUsedEntry == null || entry.tick < leastRecentlyUsedEntry.tick) {
+                        leastRecentlyUsedCatalog = userCatalog;
+                        leastRecentlyUsedKey = catalogEntry.getKey();
+                        leastRecentlyUsedEntry = entry;
+                    }
+                }
+            }
+
+            // the most recently used graph stays resident, even if it exceeds the capacity on its own
+            if (residentBytes <= residentMemoryCapacity || residentGraphs < 2) {
+                return;
+            }
+
+            var graphName = leastRecentlyUsedKey.graphName();
+            try {
+                if (leastRecentlyUsedCatalog.spill(leastRecentlyUsedKey, leastRecentlyUsedEntry, store.get())) {
+                    evictionCount.incrementAndGet();
+                    log.ifPresent(l -> l.info(
+                        "Spilled graph `%s` to disk to stay within the catalog capacity",
+                        graphName
+                    ));
+                }
+                // otherwise the graph was claimed, replaced or mutated concurrently, re-evaluate the catalog
+            } catch (RuntimeException e) {
+                log.ifPresent(l -> l.warn(formatWithLocale("Could not spill graph `%s` to disk", graphName), e));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Falls back to the uncompressed size of ids, topology and properties if the memory usage of the
+     * graph store cannot be determined.
+     */
+    private static long estimateMemoryUsage(GraphStore graphStore) {
+        var sizeInBytes = MemoryUsage.sizeOf(graphStore);
+        if (sizeInBytes >= 0) {
+            return sizeInBytes;
+        }
+        return MemoryUsage.sizeOfLongArray(graphStore.nodeCount()) * (2L + graphStore.nodePropertyKeys().size())
+               + MemoryUsage.sizeOfLongArray(graphStore.relationshipCount())
+                 * (1L + graphStore.relationshipPropertyKeys().size());
+    }
+
+    private enum Residency {
+        RESIDENT,
+        // a snapshot is being written, the graph is still resident but no longer counts towards the capacity
+        SPILLING,
+        SPILLED
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        @Nullable GraphStoreWithConfig find(
+            UserCatalog userCatalog,
+            UserCatalog.UserCatalogKey userCatalogKey,
+            boolean failOnMissing
+        );
+    }
+
     @ValueClass
     public interface GraphStoreWithUserNameAndConfig {
 
@@ -296,6 +515,22 @@ public final class GraphStoreCatalog {
         GraphProjectConfig config();
     }
 
+    @ValueClass
+    public interface GraphResidency {
+
+        /**
+         * Whether the graph currently only exists as an on-disk snapshot.
+         */
+        boolean spilled();
+
+        ZonedDateTime lastAccessTime();
+
+        /**
+         * How often the graph has been spilled to disk since it was added to the catalog.
+         */
+        long evictionCount();
+    }
+
     static class UserCatalog {
 
         @ValueClass
@@ -318,6 +553,10 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, GraphStoreWithConfig> graphsByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, SpilledGraph> spilledGraphsByName = new ConcurrentHashMap<>();
+
+        private final Map<UserCatalogKey, Entry> entriesByName = new ConcurrentHashMap<>();
+
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
         private void set(
@@ -331,7 +570,7 @@ public final class GraphStoreCatalog {
             }
             GraphStoreWithConfig graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, config);
 
-            if (!overwrite && graphsByName.containsKey(userCatalogKey)) {
+            if (!overwrite && exists(userCatalogKey)) {
                 throw new IllegalStateException(
                     formatWithLocale(
                         "Graph name %s already loaded",
@@ -340,6 +579,10 @@ public final class GraphStoreCatalog {
                 );
             }
             graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            deleteSnapshot(spilledGraphsByName.remove(userCatalogKey));
+            var entry = new Entry();
+            watchResident(entry, graphStore);
+            entriesByName.put(userCatalogKey, entry);
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -347,7 +590,7 @@ public final class GraphStoreCatalog {
             if (userCatalogKey == null || degreeDistribution == null) {
                 throw new IllegalArgumentException("Both name and degreeDistribution must be not null");
             }
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 throw new IllegalArgumentException(
                     formatWithLocale(
                         "Cannot set degreeDistribution because graph %s does not exist",
@@ -365,13 +608,224 @@ public final class GraphStoreCatalog {
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
+            if (graphStoreWithConfig == null && spilledGraphsByName.containsKey(userCatalogKey)) {
+                graphStoreWithConfig = GraphStoreCatalog.reload(this, userCatalogKey);
+            }
+
             if (graphStoreWithConfig == null && failOnMissing) {
                 throw graphNotFoundException(userCatalogKey);
             }
 
+            if (graphStoreWithConfig != null) {
+                touch(userCatalogKey);
+            }
+
+            return graphStoreWithConfig;
+        }
+
+        private @Nullable GraphStoreWithConfig peek(UserCatalogKey userCatalogKey, boolean failOnMissing) {
+            var graphStoreWithConfig = peek(userCatalogKey);
+            if (graphStoreWithConfig == null && failOnMissing) {
+                throw graphNotFoundException(userCatalogKey);
+            }
+            return graphStoreWithConfig;
+        }
+
+        /**
+         * Returns the graph without affecting its recency.
+         * Spilled graphs are not loaded, they are represented by the metadata captured when they were spilled.
+         */
+        private @Nullable GraphStoreWithConfig peek(UserCatalogKey userCatalogKey) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            if (graphStoreWithConfig != null) {
+                return graphStoreWithConfig;
+            }
+
+            var spilledGraph = spilledGraphsByName.get(userCatalogKey);
+            if (spilledGraph == null) {
+                return null;
+            }
+            return GraphStoreWithConfig.of(spilledGraph.metadata, spilledGraph.config);
+        }
+
+        private @Nullable GraphStoreWithConfig reload(UserCatalogKey userCatalogKey, GraphStoreSpillStore store) {
+            var entry = entriesByName.get(userCatalogKey);
+            if (entry == null) {
+                return graphsByName.get(userCatalogKey);
+            }
+
+            // only requests for this graph wait while its snapshot is read
+            synchronized (entry) {
+                var spilledGraph = spilledGraphsByName.get(userCatalogKey);
+                if (spilledGraph == null) {
+                    // another thread reloaded the graph while we were waiting for it
+                    return graphsByName.get(userCatalogKey);
+                }
+
+                return makeResident(userCatalogKey, entry, spilledGraph, spilledGraph.load(store), store);
+            }
+        }
+
+        private boolean repin(UserCatalogKey userCatalogKey, GraphStore graphStore, GraphStoreSpillStore store) {
+            var entry = entriesByName.get(userCatalogKey);
+            if (entry == null) {
+                return false;
+            }
+
+            synchronized (entry) {
+                if (entry.residency.get() == Residency.SPILLING) {
+                    var resident = graphsByName.get(userCatalogKey);
+                    if (resident != null && resident.graphStore() == graphStore) {
+                        // the snapshot that is being written might miss the mutation, the spill discards it
+                        entry.modifiedWhileSpilling = true;
+                    }
+                    return false;
+                }
+
+                var spilledGraph = spilledGraphsByName.get(userCatalogKey);
+                if (spilledGraph == null || spilledGraph.evicted.get() != graphStore) {
+                    // the graph has been reloaded, removed or replaced in the meantime
+                    return false;
+                }
+
+                makeResident(userCatalogKey, entry, spilledGraph, graphStore, store);
+                return true;
+            }
+        }
+
+        /**
+         * Must be called while holding the monitor of the entry.
+         */
+        private GraphStoreWithConfig makeResident(
+            UserCatalogKey userCatalogKey,
+            Entry entry,
+            SpilledGraph spilledGraph,
+            GraphStore graphStore,
+            GraphStoreSpillStore store
+        ) {
+            watchResident(entry, graphStore);
+            var graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, spilledGraph.config);
+            // publish the resident graph before removing the snapshot, so that the graph is never missing
+            graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            spilledGraphsByName.remove(userCatalogKey);
+            entry.residency.set(Residency.RESIDENT);
+            store.delete(spilledGraph.snapshot);
+            entry.touch();
+
             return graphStoreWithConfig;
         }
 
+        private void reloadAll(GraphStoreSpillStore store) {
+            spilledGraphsByName.keySet().forEach(userCatalogKey -> reload(userCatalogKey, store));
+        }
+
+        private void discardSpilled(GraphStoreSpillStore store) {
+            spilledGraphsByName.forEach((userCatalogKey, spilledGraph) -> {
+                var entry = entriesByName.get(userCatalogKey);
+                if (entry == null) {
+                    return;
+                }
+                synchronized (entry) {
+                    // skip graphs that were reloaded or replaced while we were waiting for them
+                    if (spilledGraphsByName.remove(userCatalogKey, spilledGraph)) {
+                        removeDegreeDistribution(userCatalogKey);
+                        entriesByName.remove(userCatalogKey, entry);
+                        store.delete(spilledGraph.snapshot);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Writes the snapshot without holding any lock, the entry is claimed by moving it to {@code SPILLING}.
+         *
+         * @return false if the entry could not be claimed, or if the graph was dropped, replaced or mutated
+         *     while its snapshot was written; the graph stays resident in that case
+         */
+        private boolean spill(UserCatalogKey userCatalogKey, Entry entry, GraphStoreSpillStore store) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null || !entry.residency.compareAndSet(Residency.RESIDENT, Residency.SPILLING)) {
+                return false;
+            }
+
+            var graphStore = graphStoreWithConfig.graphStore();
+            Path snapshot;
+            try {
+                // listing spilled graphs must not load them, so compute what would be listed while we still can
+                degreeDistributionByName.computeIfAbsent(
+                    userCatalogKey,
+                    key -> DegreeDistribution.compute(graphStore.getUnion(), TerminationFlag.RUNNING_TRUE)
+                );
+                // watch before taking the snapshot, so that no mutation can slip in between snapshot and eviction
+                if (graphStore instanceof CSRGraphStore) {
+                    ((CSRGraphStore) graphStore).onModification(() -> {
+                        entry.invalidateSizeInBytes();
+                        GraphStoreCatalog.repin(this, userCatalogKey, graphStore);
+                    });
+                }
+
+                snapshot = store.spill(graphStoreWithConfig.config(), graphStore);
+            } catch (RuntimeException e) {
+                stayResident(entry, graphStore);
+                throw e;
+            }
+
+            synchronized (entry) {
+                if (entriesByName.get(userCatalogKey) != entry
+                    || graphsByName.get(userCatalogKey) != graphStoreWithConfig
+                    || entry.modifiedWhileSpilling) {
+                    stayResident(entry, graphStore);
+                    store.delete(snapshot);
+                    return false;
+                }
+
+                // publish the snapshot before dropping the resident graph, so that the graph is never missing
+                spilledGraphsByName.put(
+                    userCatalogKey,
+                    new SpilledGraph(graphStoreWithConfig.config(), snapshot, graphStore)
+                );
+                graphsByName.remove(userCatalogKey);
+                entry.evictions++;
+                entry.residency.set(Residency.SPILLED);
+            }
+            return true;
+        }
+
+        private static void stayResident(Entry entry, GraphStore graphStore) {
+            watchResident(entry, graphStore);
+            entry.modifiedWhileSpilling = false;
+            entry.residency.set(Residency.RESIDENT);
+        }
+
+        /**
+         * Mutations, e.g. by mutate procedures, change the memory usage of the graph store,
+         * so its size is estimated again on the next capacity check.
+         */
+        private static void watchResident(Entry entry, GraphStore graphStore) {
+            if (graphStore instanceof CSRGraphStore) {
+                ((CSRGraphStore) graphStore).onModification(entry::invalidateSizeInBytes);
+            }
+        }
+
+        private void touch(UserCatalogKey userCatalogKey) {
+            var entry = entriesByName.get(userCatalogKey);
+            if (entry != null) {
+                entry.touch();
+            }
+        }
+
+        private Optional<GraphResidency> residency(UserCatalogKey userCatalogKey) {
+            var entry = entriesByName.get(userCatalogKey);
+            if (entry == null || !exists(userCatalogKey)) {
+                return Optional.empty();
+            }
+            return Optional.of(ImmutableGraphResidency.of(
+                spilledGraphsByName.containsKey(userCatalogKey),
+                entry.time,
+                entry.evictions
+            ));
+        }
+
         private NoSuchElementException graphNotFoundException(UserCatalogKey userCatalogKey) {
             var graphName = userCatalogKey.graphName();
 
@@ -385,14 +839,28 @@ public final class GraphStoreCatalog {
         }
 
         private Optional<Map<String, Object>> getDegreeDistribution(UserCatalogKey userCatalogKey) {
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 return Optional.empty();
             }
             return Optional.ofNullable(degreeDistributionByName.get(userCatalogKey));
         }
 
         private boolean exists(UserCatalogKey userCatalogKey) {
-            return userCatalogKey != null && graphsByName.containsKey(userCatalogKey);
+            return userCatalogKey != null && (
+                graphsByName.containsKey(userCatalogKey) || spilledGraphsByName.containsKey(userCatalogKey)
+            );
+        }
+
+        private int size() {
+            return graphsByName.size() + spilledGraphsByName.size();
+        }
+
+        private int size(DatabaseId databaseId) {
+            return (int) keys().filter(key -> key.databaseName().equals(databaseId.databaseName())).count();
+        }
+
+        private Stream<UserCatalogKey> keys() {
+            return Stream.concat(graphsByName.keySet().stream(), spilledGraphsByName.keySet().stream()).distinct();
         }
 
         private boolean remove(
@@ -400,24 +868,47 @@ public final class GraphStoreCatalog {
             Consumer<GraphStoreWithConfig> removedGraphConsumer,
             boolean failOnMissing
         ) {
-            return Optional.ofNullable(get(userCatalogKey, failOnMissing))
-                .map(graphStoreWithConfig -> {
-                    removedGraphConsumer.accept(graphStoreWithConfig);
+            var graphStoreWithConfig = peek(userCatalogKey);
+            if (graphStoreWithConfig == null && failOnMissing) {
+                throw graphNotFoundException(userCatalogKey);
+            }
+
+            return Optional.ofNullable(graphStoreWithConfig)
+                .map(graph -> {
+                    removedGraphConsumer.accept(graph);
                     removeDegreeDistribution(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
+                    deleteSnapshot(spilledGraphsByName.remove(userCatalogKey));
+                    entriesByName.remove(userCatalogKey);
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
         }
 
-        private void remove(String databaseName) {
-            graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+        private void remove(Predicate<UserCatalogKey> filter) {
+            graphsByName.keySet().removeIf(filter);
+            spilledGraphsByName.entrySet().removeIf(entry -> {
+                if (filter.test(entry.getKey())) {
+                    deleteSnapshot(entry.getValue());
+                    return true;
+                }
+                return false;
+            });
+            entriesByName.keySet().removeIf(filter);
+        }
+
+        private static void deleteSnapshot(@Nullable SpilledGraph spilledGraph) {
+            if (spilledGraph != null) {
+                spillStore.ifPresent(store -> store.delete(spilledGraph.snapshot));
+            }
+        }
+
+        private Stream<GraphStoreWithConfig> graphs() {
+            return keys().map(this::peek).filter(Objects::nonNull);
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
-            return graphsByName
-                .values()
-                .stream()
+            return graphs()
                 .map(
                     graphStoreWithConfig -> ImmutableGraphStoreWithUserNameAndConfig.of(
                         graphStoreWithConfig.graphStore(),
@@ -428,8 +919,7 @@ public final class GraphStoreCatalog {
         }
 
         private Map<GraphProjectConfig, GraphStore> getGraphStores() {
-            return graphsByName.values()
-                .stream()
+            return graphs()
                 .collect(
                     Collectors.toMap(
                         GraphStoreWithConfig::config,
@@ -439,16 +929,71 @@ public final class GraphStoreCatalog {
         }
 
         private Map<GraphProjectConfig, GraphStore> getGraphStores(DatabaseId databaseId) {
-            return graphsByName.entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().databaseName().equals(databaseId.databaseName()))
+            return keys()
+                .filter(key -> key.databaseName().equals(databaseId.databaseName()))
+                .map(this::peek)
+                .filter(Objects::nonNull)
                 .collect(
                     Collectors.toMap(
-                        entry -> entry.getValue().config(),
-                        entry -> entry.getValue().graphStore()
+                        GraphStoreWithConfig::config,
+                        GraphStoreWithConfig::graphStore
                     )
                 );
         }
+
+        private static final class Entry {
+            private final AtomicReference<Residency> residency = new AtomicReference<>(Residency.RESIDENT);
+            private volatile long tick;
+            private volatile ZonedDateTime time;
+            // the remaining fields are only modified while holding the monitor of the entry
+            private volatile long evictions;
+            private volatile boolean modifiedWhileSpilling;
+            // estimated lazily, as it is only needed while spilling is enabled, and reset on every modification
+            private volatile long sizeInBytes = -1;
+
+            Entry() {
+                touch();
+            }
+
+            void touch() {
+                this.tick = accessClock.incrementAndGet();
+                this.time = TimeUtil.now();
+            }
+
+            long sizeInBytes(GraphStore graphStore) {
+                var size = sizeInBytes;
+                if (size < 0) {
+                    size = memoryEstimation.applyAsLong(graphStore);
+                    sizeInBytes = size;
+                }
+                return size;
+            }
+
+            void invalidateSizeInBytes() {
+                this.sizeInBytes = -1;
+            }
+        }
+
+        private static final class SpilledGraph {
+            private final GraphProjectConfig config;
+            private final Path snapshot;
+            private final SpilledGraphStore metadata;
+            // while the evicted graph store is still referenced, e.g. by a running algorithm, reuse it;
+            // mutations of it make it resident again, so a cleared reference always matches the snapshot
+            private final WeakReference<GraphStore> evicted;
+
+            SpilledGraph(GraphProjectConfig config, Path snapshot, GraphStore evicted) {
+                this.config = config;
+                this.snapshot = snapshot;
+                this.metadata = SpilledGraphStore.of(evicted);
+                this.evicted = new WeakReference<>(evicted);
+            }
+
+            GraphStore load(GraphStoreSpillStore store) {
+                var graphStore = evicted.get();
+                return graphStore != null ? graphStore : store.reload(snapshot);
+            }
+        }
     }
 
 }
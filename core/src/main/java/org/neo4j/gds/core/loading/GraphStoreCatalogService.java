@@ -68,6 +68,13 @@ public class GraphStoreCatalogService {
         return GraphStoreCatalog.get(catalogRequest, graphName.getValue());
     }
 
+    /**
+     * Like {@link #get(CatalogRequest, GraphName)}, but spilled graphs are not loaded back into memory.
+     */
+    public GraphStoreWithConfig peek(CatalogRequest catalogRequest, GraphName graphName) {
+        return GraphStoreCatalog.peek(catalogRequest, graphName.getValue());
+    }
+
     public Pair<Graph, GraphStore> getGraphWithGraphStore(
         GraphName graphName,
         AlgoBaseConfig config,
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+
+import java.nio.file.Path;
+
+/**
+ * Persists graph stores that are evicted from the {@link GraphStoreCatalog}
+ * and reads them back when they are requested again.
+ * Implementations live outside of core as they depend on a concrete file format.
+ */
+public interface GraphStoreSpillStore {
+
+    /**
+     * Write the given graph store to a local snapshot.
+     *
+     * @return the location of the snapshot, which is later passed to {@link #reload(Path)} and {@link #delete(Path)}
+     */
+    Path spill(GraphProjectConfig config, GraphStore graphStore);
+
+    /**
+     * Read a graph store from a snapshot previously written by {@link #spill(GraphProjectConfig, GraphStore)}.
+     */
+    GraphStore reload(Path snapshot);
+
+    /**
+     * Remove a snapshot that is no longer referenced by the catalog.
+     */
+    void delete(Path snapshot);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * Lossy codec that stores values with a reduced precision.
+ *
+ * {@link #float32()} stores values as single precision floats (4 bytes),
+ * {@link #bfloat16()} stores values as brain floating point numbers (2 bytes),
+ * which have the exponent range of a float but only 8 bits of significand precision.
+ * Both formats round to the nearest representable value and keep infinities and NaN.
+ */
+public final class ReducedPrecisionDoubleCodec extends DoubleCodec {
+
+    private static final DoubleCodec FLOAT32 = new ReducedPrecisionDoubleCodec(Float.BYTES, "FLOAT32", 24);
+    private static final DoubleCodec BFLOAT16 = new ReducedPrecisionDoubleCodec(Short.BYTES, "BFLOAT16", 8);
+
+    public static DoubleCodec float32() {
+        return FLOAT32;
+    }
+
+    public static DoubleCodec bfloat16() {
+        return BFLOAT16;
+    }
+
+    private final int bytes;
+    private final String description;
+    private final int significandWidth;
+
+    private ReducedPrecisionDoubleCodec(int bytes, String description, int significandWidth) {
+        this.bytes = bytes;
+        this.description = description;
+        this.significandWidth = significandWidth;
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        int floatBits = Float.floatToRawIntBits((float) Double.longBitsToDouble(doubleBits));
+        if (bytes == Short.BYTES) {
+            floatBits = toBFloat16(floatBits);
+        }
+        for (int shift = Integer.SIZE - Byte.SIZE, i = 0; i < bytes; i++, shift -= Byte.SIZE) {
+            out[outPos++] = (byte) (floatBits >>> shift);
+        }
+        return outPos;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        int floatBits = 0;
+        for (int shift = Integer.SIZE - Byte.SIZE, i = 0; i < bytes; i++, shift -= Byte.SIZE) {
+            floatBits |= (data[pos++] & 0xFF) << shift;
+        }
+        out.setValue(Float.intBitsToFloat(floatBits));
+        return pos;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        return bytes;
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return description;
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + bytes))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(bytes)
+            .compressedType(0)
+            .compressionDescription(description)
+            .build();
+    }
+
+    @Override
+    public int supportedSignificandWith() {
+        return significandWidth;
+    }
+
+    /**
+     * Round the float bits to the upper 16 bits (round half to even), the lower 16 bits are cleared.
+     */
+    private static int toBFloat16(int floatBits) {
+        if (Float.isNaN(Float.intBitsToFloat(floatBits))) {
+            // keep a quiet NaN, rounding could otherwise turn it into infinity
+            return (floatBits | 0x0040_0000) & 0xFFFF_0000;
+        }
+        int roundingBias = 0x7FFF + ((floatBits >>> 16) & 1);
+        return (floatBits + roundingBias) & 0xFFFF_0000;
+    }
+}
@@ -50,7 +50,8 @@ public final class SingleTypeRelationshipImporter {
         LongSupplier nodeCountSupplier,
         ImportSizing importSizing
     ) {
-        var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
+        var adjacencyCompressorFactory = AdjacencyListBehavior.forFormat(
+            importMetaData.projection().adjacencyFormat(),
             nodeCountSupplier,
             importMetaData.projection().properties(),
             importMetaData.aggregations()
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * Lossless codec that drops the leading and trailing zero bytes of the bit representation of a {@code double}.
+ *
+ * The compressed value starts with a header byte, where the upper four bits contain the number of
+ * leading zero bytes and the lower four bits contain the number of remaining significant bytes.
+ * The significant bytes follow the header in big-endian order.
+ * A value uses between 1 and 9 bytes.
+ *
+ * Small integral values have a lot of trailing zero bytes, e.g. {@code 1.0} is compressed into 3 bytes.
+ * The codec also works on arbitrary bit patterns, which makes it suitable for encoding the XOR
+ * of consecutive values as in the Gorilla compression scheme, see {@link #compressBits(long, byte[], int)}.
+ */
+public final class TrimmingDoubleCodec extends DoubleCodec {
+
+    private static final DoubleCodec INSTANCE = new TrimmingDoubleCodec();
+
+    private static final int ZERO = 0;
+    private static final int TRIMMED = 1;
+
+    public static DoubleCodec instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compress an arbitrary {@code long} value and write the result into {@code out}.
+     *
+     * @return the new value of {@code outPos} (NOT the number of bytes written).
+     */
+    public static int compressBits(long bits, byte[] out, int outPos) {
+        if (bits == 0L) {
+            out[outPos] = (byte) (Long.BYTES << 4);
+            return 1 + outPos;
+        }
+        int leadingZeroBytes = Long.numberOfLeadingZeros(bits) >>> 3;
+        int trailingZeroBytes = Long.numberOfTrailingZeros(bits) >>> 3;
+        int significantBytes = Long.BYTES - leadingZeroBytes - trailingZeroBytes;
+
+        out[outPos++] = (byte) ((leadingZeroBytes << 4) | significantBytes);
+        int shift = (significantBytes + trailingZeroBytes - 1) * Byte.SIZE;
+        for (int i = 0; i < significantBytes; i++) {
+            out[outPos++] = (byte) (bits >>> shift);
+            shift -= Byte.SIZE;
+        }
+        return outPos;
+    }
+
+    /**
+     * Decompress a value that has been written by {@link #compressBits(long, byte[], int)}.
+     * Use {@link #compressedSize(byte[], int)} to determine the number of bytes that have been read.
+     */
+    public static long decompressBits(byte[] data, int pos) {
+        int header = data[pos] & 0xFF;
+        int leadingZeroBytes = header >>> 4;
+        int significantBytes = header & 0xF;
+        if (significantBytes == 0) {
+            return 0L;
+        }
+
+        long bits = 0L;
+        for (int i = 1; i <= significantBytes; i++) {
+            bits = (bits << Byte.SIZE) | (data[pos + i] & 0xFFL);
+        }
+        int trailingZeroBytes = Long.BYTES - leadingZeroBytes - significantBytes;
+        return bits << (trailingZeroBytes * Byte.SIZE);
+    }
+
+    static int sizeOf(byte header) {
+        return 1 + (header & 0xF);
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        return compressBits(doubleBits, out, outPos);
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        out.setValue(Double.longBitsToDouble(decompressBits(data, pos)));
+        return pos + sizeOf(data[pos]);
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        return sizeOf(data[pos]);
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return type == ZERO ? "ZERO" : "TRIMMED";
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        int size = compressedSize(data, pos);
+        int type = (data[pos] & 0xF) == 0 ? ZERO : TRIMMED;
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + size))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(size)
+            .compressedType(type)
+            .compressionDescription(describeCompression(type))
+            .build();
+    }
+
+    private TrimmingDoubleCodec() {
+    }
+}
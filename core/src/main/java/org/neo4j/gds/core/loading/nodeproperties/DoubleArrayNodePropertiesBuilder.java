@@ -26,24 +26,35 @@ import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
 import org.neo4j.gds.collections.hsa.HugeSparseDoubleArrayArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicGrowingBitSet;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class DoubleArrayNodePropertiesBuilder implements InnerNodePropertiesBuilder {
 
+    private static final int NO_VALUES = -1;
+    private static final int MIXED_DIMENSIONS = -2;
+
     private final HugeSparseDoubleArrayArray.Builder builder;
     private final double[] defaultValue;
     private final int concurrency;
+    // the common length of all non-default values, used to pick a fixed-stride storage
+    private final AtomicInteger dimension;
+    // the original ids of the nodes with a non-default value, sparsely populated properties keep the sparse storage
+    private final HugeAtomicGrowingBitSet nodesWithValues;
 
     public DoubleArrayNodePropertiesBuilder(
         DefaultValue defaultValue,
         int concurrency
     ) {
         this.concurrency = concurrency;
+        this.dimension = new AtomicInteger(NO_VALUES);
+        this.nodesWithValues = HugeAtomicGrowingBitSet.create(0);
         this.defaultValue = defaultValue.doubleArrayValue();
         this.builder = HugeSparseDoubleArrayArray.builder(
             this.defaultValue
@@ -52,6 +63,27 @@ public class DoubleArrayNodePropertiesBuilder implements InnerNodePropertiesBuil
 
     public void set(long neoNodeId, double[] value) {
         builder.set(neoNodeId, value);
+        // default values are not stored and must not influence the storage layout
+        if (value != null && (defaultValue == null || !Arrays.equals(value, defaultValue))) {
+            // overwriting a value does not add another one
+            nodesWithValues.set(neoNodeId);
+            trackDimension(value);
+        } else {
+            nodesWithValues.clear(neoNodeId);
+        }
+    }
+
+    private void trackDimension(double[] value) {
+        int currentDimension = dimension.get();
+        if (currentDimension == value.length || currentDimension == MIXED_DIMENSIONS) {
+            return;
+        }
+        if (currentDimension == NO_VALUES && dimension.compareAndSet(NO_VALUES, value.length)) {
+            return;
+        }
+        if (dimension.get() != value.length) {
+            dimension.set(MIXED_DIMENSIONS);
+        }
     }
 
     @Override
@@ -61,12 +93,25 @@ public class DoubleArrayNodePropertiesBuilder implements InnerNodePropertiesBuil
 
     @Override
     public DoubleArrayNodePropertyValues build(long size, PartialIdMap idMap, long highestOriginalId) {
-        var propertiesByNeoIds = builder.build();
+        int dimension = this.dimension.get();
+        if (dimension > 0
+            && FixedStrideDoubleArrayNodePropertyValues.isDenseEnough(size, nodesWithValues.cardinality(), dimension)) {
+            var column = FixedStrideDoubleArrayNodePropertyValues.create(size, dimension, defaultValue);
+            drain(idMap, highestOriginalId, column::set);
+            return column.finish();
+        }
 
         var propertiesByMappedIdsBuilder = HugeSparseDoubleArrayArray.builder(
             defaultValue
         );
+        drain(idMap, highestOriginalId, propertiesByMappedIdsBuilder::set);
+        var propertyValues = propertiesByMappedIdsBuilder.build();
 
+        return new DoubleArrayStoreNodePropertyValues(propertyValues, size);
+    }
+
+    private void drain(PartialIdMap idMap, long highestOriginalId, MappedValueConsumer consumer) {
+        var propertiesByNeoIds = builder.build();
         var drainingIterator = propertiesByNeoIds.drainingIterator();
 
         var tasks = IntStream.range(0, concurrency).mapToObj(threadId -> (Runnable) () -> {
@@ -87,15 +132,16 @@ public class DoubleArrayNodePropertiesBuilder implements InnerNodePropertiesBuil
                     if (value == null || (defaultValue != null && Arrays.equals(value, defaultValue))) {
                         continue;
                     }
-                    propertiesByMappedIdsBuilder.set(mappedId, value);
+                    consumer.accept(mappedId, value);
                 }
             }
         }).collect(Collectors.toList());
         ParallelUtil.run(tasks, DefaultPool.INSTANCE);
+    }
 
-        var propertyValues = propertiesByMappedIdsBuilder.build();
-
-        return new DoubleArrayStoreNodePropertyValues(propertyValues, size);
+    @FunctionalInterface
+    private interface MappedValueConsumer {
+        void accept(long mappedId, double[] value);
     }
 
     static class DoubleArrayStoreNodePropertyValues implements DoubleArrayNodePropertyValues {
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * Stores array values that all have the same length in contiguous pages instead of one array per node.
+ * The values of one node are stored at {@code nodeId * dimension} and never cross a page boundary.
+ *
+ * Nodes without a value are tracked in a bit set and return the default value.
+ * If all nodes have a value, the bit set is dropped.
+ */
+final class FixedStrideDoubleArrayNodePropertyValues implements DoubleArrayNodePropertyValues {
+
+    // number of elements per page, the actual page size is rounded down to a multiple of the dimension
+    private static final int MAX_PAGE_ELEMENTS = 1 << 16;
+
+    private final double[][] pages;
+    private final int dimension;
+    private final int pageShift;
+    private final long pageMask;
+    private final long size;
+    private final double @Nullable [] defaultValue;
+    private @Nullable HugeAtomicBitSet hasValue;
+
+    static FixedStrideDoubleArrayNodePropertyValues create(long size, int dimension, double @Nullable [] defaultValue) {
+        assert dimension > 0;
+        int nodesPerPage = Integer.highestOneBit(Math.max(1, MAX_PAGE_ELEMENTS / dimension));
+        int pageShift = Integer.numberOfTrailingZeros(nodesPerPage);
+        int numPages = Math.toIntExact((size + nodesPerPage - 1) >>> pageShift);
+
+        var pages = new double[numPages][];
+        for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+            long nodesOnPage = Math.min(nodesPerPage, size - ((long) pageIndex << pageShift));
+            pages[pageIndex] = new double[Math.toIntExact(nodesOnPage * dimension)];
+        }
+
+        return new FixedStrideDoubleArrayNodePropertyValues(pages, dimension, pageShift, size, defaultValue);
+    }
+
+    /**
+     * Whether fixed-stride pages for {@code size} nodes, including the bit set of nodes with a value,
+     * take at most as much memory as one array per node for {@code valueCount} values.
+     * Properties that only exist on a few nodes, e.g. on a single label, are cheaper to store sparsely.
+     */
+    static boolean isDenseEnough(long size, long valueCount, int dimension) {
+        long fixedStrideSize = MemoryUsage.sizeOfDoubleArray(size * dimension) + MemoryUsage.sizeOfBitset(size);
+        long sparseSize = valueCount * (MemoryUsage.sizeOfDoubleArray(dimension) + MemoryUsage.BYTES_OBJECT_REF);
+        return fixedStrideSize <= sparseSize;
+    }
+
+    private FixedStrideDoubleArrayNodePropertyValues(
+        double[][] pages,
+        int dimension,
+        int pageShift,
+        long size,
+        double @Nullable [] defaultValue
+    ) {
+        this.pages = pages;
+        this.dimension = dimension;
+        this.pageShift = pageShift;
+        this.pageMask = (1L << pageShift) - 1;
+        this.size = size;
+        this.defaultValue = defaultValue;
+        this.hasValue = HugeAtomicBitSet.create(size);
+    }
+
+    /**
+     * Thread-safe for distinct node ids. Must only be called before {@link #finish()}.
+     */
+    void set(long nodeId, double[] value) {
+        assert value.length == dimension;
+        System.arraycopy(value, 0, pages[(int) (nodeId >>> pageShift)], (int) (nodeId & pageMask) * dimension, dimension);
+        hasValue.set(nodeId);
+    }
+
+    FixedStrideDoubleArrayNodePropertyValues finish() {
+        if (hasValue.allSet()) {
+            this.hasValue = null;
+        }
+        return this;
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        if (hasValue != null && !hasValue.get(nodeId)) {
+            return defaultValue;
+        }
+        int offset = (int) (nodeId & pageMask) * dimension;
+        return Arrays.copyOfRange(pages[(int) (nodeId >>> pageShift)], offset, offset + dimension);
+    }
+
+    @Override
+    public int copyDoubleArrayValue(long nodeId, double[] target, int targetOffset) {
+        if (hasValue != null && !hasValue.get(nodeId)) {
+            return DoubleArrayNodePropertyValues.copyDoubleArray(defaultValue, target, targetOffset);
+        }
+        int offset = (int) (nodeId & pageMask) * dimension;
+        if (dimension <= target.length - targetOffset) {
+            System.arraycopy(pages[(int) (nodeId >>> pageShift)], offset, target, targetOffset, dimension);
+        }
+        return dimension;
+    }
+
+    @Override
+    public long nodeCount() {
+        return size;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Stores array values that all have the same length in contiguous pages instead of one array per node.
+ * The values of one node are stored at {@code nodeId * dimension} and never cross a page boundary.
+ *
+ * Nodes without a value are tracked in a bit set and return the default value.
+ * If all nodes have a value, the bit set is dropped.
+ *
+ * Algorithms that produce one vector per node, like FastRP, can write into the pages directly
+ * and expose the result as node properties without copying.
+ */
+public final class FixedStrideFloatArrayNodePropertyValues implements FloatArrayNodePropertyValues {
+
+    // number of elements per page, the actual page size is rounded down to a multiple of the dimension
+    private static final int MAX_PAGE_ELEMENTS = 1 << 16;
+
+    private final float[][] pages;
+    private final int dimension;
+    private final int pageShift;
+    private final long pageMask;
+    private final long size;
+    private final float @Nullable [] defaultValue;
+    private @Nullable HugeAtomicBitSet hasValue;
+
+    /**
+     * Creates values where every node has a vector, which is initially all zeros.
+     */
+    public static FixedStrideFloatArrayNodePropertyValues create(long size, int dimension) {
+        return create(size, dimension, null, false);
+    }
+
+    static FixedStrideFloatArrayNodePropertyValues create(long size, int dimension, float @Nullable [] defaultValue) {
+        return create(size, dimension, defaultValue, true);
+    }
+
+    private static FixedStrideFloatArrayNodePropertyValues create(
+        long size,
+        int dimension,
+        float @Nullable [] defaultValue,
+        boolean trackValues
+    ) {
+        int pageShift = pageShift(dimension);
+        int nodesPerPage = 1 << pageShift;
+        int numPages = Math.toIntExact((size + nodesPerPage - 1) >>> pageShift);
+
+        var pages = new float[numPages][];
+        for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+            long nodesOnPage = Math.min(nodesPerPage, size - ((long) pageIndex << pageShift));
+            pages[pageIndex] = new float[Math.toIntExact(nodesOnPage * dimension)];
+        }
+
+        var hasValue = trackValues ? HugeAtomicBitSet.create(size) : null;
+        return new FixedStrideFloatArrayNodePropertyValues(pages, dimension, pageShift, size, defaultValue, hasValue);
+    }
+
+    /**
+     * The memory of values created by {@link #create(long, int)}.
+     */
+    public static long memoryEstimation(long size, int dimension) {
+        int pageShift = pageShift(dimension);
+        long nodesPerPage = 1L << pageShift;
+        long fullPages = size >>> pageShift;
+        long lastPageNodes = size & (nodesPerPage - 1);
+        long numPages = fullPages + (lastPageNodes > 0 ? 1 : 0);
+
+        long pagesSize = fullPages * MemoryUsage.sizeOfFloatArray(nodesPerPage * dimension);
+        if (lastPageNodes > 0) {
+            pagesSize += MemoryUsage.sizeOfFloatArray(lastPageNodes * dimension);
+        }
+
+        return MemoryUsage.sizeOfInstance(FixedStrideFloatArrayNodePropertyValues.class)
+               + MemoryUsage.sizeOfObjectArray(numPages)
+               + pagesSize;
+    }
+
+    private static int pageShift(int dimension) {
+        assert dimension > 0;
+        int nodesPerPage = Integer.highestOneBit(Math.max(1, MAX_PAGE_ELEMENTS / dimension));
+        return Integer.numberOfTrailingZeros(nodesPerPage);
+    }
+
+    /**
+     * Whether fixed-stride pages for {@code size} nodes, including the bit set of nodes with a value,
+     * take at most as much memory as one array per node for {@code valueCount} values.
+     * Properties that only exist on a few nodes, e.g. on a single label, are cheaper to store sparsely.
+     */
+    static boolean isDenseEnough(long size, long valueCount, int dimension) {
+        long fixedStrideSize = MemoryUsage.sizeOfFloatArray(size * dimension) + MemoryUsage.sizeOfBitset(size);
+        long sparseSize = valueCount * (MemoryUsage.sizeOfFloatArray(dimension) + MemoryUsage.BYTES_OBJECT_REF);
+        return fixedStrideSize <= sparseSize;
+    }
+
+    private FixedStrideFloatArrayNodePropertyValues(
+        float[][] pages,
+        int dimension,
+        int pageShift,
+        long size,
+        float @Nullable [] defaultValue,
+        @Nullable HugeAtomicBitSet hasValue
+    ) {
+        this.pages = pages;
+        this.dimension = dimension;
+        this.pageShift = pageShift;
+        this.pageMask = (1L << pageShift) - 1;
+        this.size = size;
+        this.defaultValue = defaultValue;
+        this.hasValue = hasValue;
+    }
+
+    /**
+     * The page holding the vector of the given node. Writes to the page are visible to all readers.
+     */
+    public float[] page(long nodeId) {
+        return pages[(int) (nodeId >>> pageShift)];
+    }
+
+    /**
+     * The index of the first element of the vector of the given node within its {@link #page(long)}.
+     */
+    public int offset(long nodeId) {
+        return (int) (nodeId & pageMask) * dimension;
+    }
+
+    /**
+     * Thread-safe for distinct node ids. Must only be called before {@link #finish()}.
+     */
+    public void set(long nodeId, float[] value) {
+        assert value.length == dimension;
+        System.arraycopy(value, 0, page(nodeId), offset(nodeId), dimension);
+        if (hasValue != null) {
+            hasValue.set(nodeId);
+        }
+    }
+
+    FixedStrideFloatArrayNodePropertyValues finish() {
+        if (hasValue != null && hasValue.allSet()) {
+            this.hasValue = null;
+        }
+        return this;
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        if (hasValue != null && !hasValue.get(nodeId)) {
+            return defaultValue;
+        }
+        int offset = offset(nodeId);
+        return Arrays.copyOfRange(page(nodeId), offset, offset + dimension);
+    }
+
+    @Override
+    public int copyFloatArrayValue(long nodeId, float[] target, int targetOffset) {
+        if (hasValue != null && !hasValue.get(nodeId)) {
+            return FloatArrayNodePropertyValues.copyFloatArray(defaultValue, target, targetOffset);
+        }
+        if (dimension <= target.length - targetOffset) {
+            System.arraycopy(page(nodeId), offset(nodeId), target, targetOffset, dimension);
+        }
+        return dimension;
+    }
+
+    @Override
+    public Optional<Integer> dimension() {
+        return hasValue == null ? Optional.of(dimension) : FloatArrayNodePropertyValues.super.dimension();
+    }
+
+    @Override
+    public long nodeCount() {
+        return size;
+    }
+}
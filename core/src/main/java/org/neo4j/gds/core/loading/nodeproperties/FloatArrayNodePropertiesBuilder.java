@@ -26,30 +26,62 @@ import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.collections.hsa.HugeSparseFloatArrayArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicGrowingBitSet;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class FloatArrayNodePropertiesBuilder implements InnerNodePropertiesBuilder {
 
+    private static final int NO_VALUES = -1;
+    private static final int MIXED_DIMENSIONS = -2;
+
     private final HugeSparseFloatArrayArray.Builder builder;
     private final float[] defaultValue;
     private final int concurrency;
+    // the common length of all non-default values, used to pick a fixed-stride storage
+    private final AtomicInteger dimension;
+    // the original ids of the nodes with a non-default value, sparsely populated properties keep the sparse storage
+    private final HugeAtomicGrowingBitSet nodesWithValues;
 
     public FloatArrayNodePropertiesBuilder(
         DefaultValue defaultValue,
         int concurrency
     ) {
         this.concurrency = concurrency;
+        this.dimension = new AtomicInteger(NO_VALUES);
+        this.nodesWithValues = HugeAtomicGrowingBitSet.create(0);
         this.defaultValue = defaultValue.floatArrayValue();
         this.builder = HugeSparseFloatArrayArray.builder(this.defaultValue);
     }
 
     public void set(long neoNodeId, float[] value) {
         builder.set(neoNodeId, value);
+        // default values are not stored and must not influence the storage layout
+        if (value != null && (defaultValue == null || !Arrays.equals(value, defaultValue))) {
+            // overwriting a value does not add another one
+            nodesWithValues.set(neoNodeId);
+            trackDimension(value);
+        } else {
+            nodesWithValues.clear(neoNodeId);
+        }
+    }
+
+    private void trackDimension(float[] value) {
+        int currentDimension = dimension.get();
+        if (currentDimension == value.length || currentDimension == MIXED_DIMENSIONS) {
+            return;
+        }
+        if (currentDimension == NO_VALUES && dimension.compareAndSet(NO_VALUES, value.length)) {
+            return;
+        }
+        if (dimension.get() != value.length) {
+            dimension.set(MIXED_DIMENSIONS);
+        }
     }
 
     @Override
@@ -59,12 +91,25 @@ public class FloatArrayNodePropertiesBuilder implements InnerNodePropertiesBuild
 
     @Override
     public FloatArrayNodePropertyValues build(long size, PartialIdMap idMap, long highestOriginalId) {
-        var propertiesByNeoIds = builder.build();
+        int dimension = this.dimension.get();
+        if (dimension > 0
+            && FixedStrideFloatArrayNodePropertyValues.isDenseEnough(size, nodesWithValues.cardinality(), dimension)) {
+            var column = FixedStrideFloatArrayNodePropertyValues.create(size, dimension, defaultValue);
+            drain(idMap, highestOriginalId, column::set);
+            return column.finish();
+        }
 
         var propertiesByMappedIdsBuilder = HugeSparseFloatArrayArray.builder(
             defaultValue
         );
+        drain(idMap, highestOriginalId, propertiesByMappedIdsBuilder::set);
+        var propertyValues = propertiesByMappedIdsBuilder.build();
+
+        return new FloatArrayStoreNodePropertyValues(propertyValues, size);
+    }
 
+    private void drain(PartialIdMap idMap, long highestOriginalId, MappedValueConsumer consumer) {
+        var propertiesByNeoIds = builder.build();
         var drainingIterator = propertiesByNeoIds.drainingIterator();
 
         var tasks = IntStream.range(0, concurrency).mapToObj(threadId -> (Runnable) () -> {
@@ -85,15 +130,17 @@ public class FloatArrayNodePropertiesBuilder implements InnerNodePropertiesBuild
                     if (value == null || Arrays.equals(value, defaultValue)) {
                         continue;
                     }
-                    propertiesByMappedIdsBuilder.set(mappedId, value);
+                    consumer.accept(mappedId, value);
                 }
             }
         }).collect(Collectors.toList());
 
         ParallelUtil.run(tasks, DefaultPool.INSTANCE);
-        var propertyValues = propertiesByMappedIdsBuilder.build();
+    }
 
-        return new FloatArrayStoreNodePropertyValues(propertyValues, size);
+    @FunctionalInterface
+    private interface MappedValueConsumer {
+        void accept(long mappedId, float[] value);
     }
 
     static class FloatArrayStoreNodePropertyValues implements FloatArrayNodePropertyValues {
@@ -64,6 +64,19 @@ public abstract class BoundedLongLongPriorityQueue {
         return elementCount;
     }
 
+    /**
+     * Whether the queue reached its bound, after which only elements with a better priority
+     * than {@link #worstPriority()} are accepted.
+     */
+    public boolean isFull() {
+        return elementCount == bound;
+    }
+
+    /**
+     * The priority of the element that is evicted next. The queue must not be empty.
+     */
+    public abstract double worstPriority();
+
     protected boolean add(long element1, long element2, double priority) {
         if (elementCount < bound || Double.isNaN(minValue) || priority < minValue) {
             int idx = Arrays.binarySearch(priorities, 0, elementCount, priority);
@@ -112,6 +125,11 @@ public abstract class BoundedLongLongPriorityQueue {
                 return add(element1, element2, -priority);
             }
 
+            @Override
+            public double worstPriority() {
+                return -priorities[elementCount - 1];
+            }
+
             @Override
             public void foreach(Consumer consumer) {
                 for (int i = 0; i < elementCount; i++) {
@@ -136,6 +154,11 @@ public abstract class BoundedLongLongPriorityQueue {
                 return add(element1, element2, priority);
             }
 
+            @Override
+            public double worstPriority() {
+                return priorities[elementCount - 1];
+            }
+
             @Override
             public void foreach(Consumer consumer) {
                 for (int i = 0; i < elementCount; i++) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.PropertyCompression;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EncodedAdjacencyPropertiesTest {
+
+    @ParameterizedTest
+    @EnumSource(value = PropertyCompression.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+    void shouldRoundTripProperties(PropertyCompression compression) {
+        var random = new Random(42);
+        int nodeCount = 100;
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var expected = new double[nodeCount][];
+
+        var builder = new EncodedAdjacencyPropertiesBuilder(compression, MemoryTracker.empty());
+        builder.init(nodeCount);
+        var encoder = builder.newEncoder();
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = random.nextInt(1000);
+            var values = new long[degree];
+            expected[nodeId] = new double[degree];
+            for (int i = 0; i < degree; i++) {
+                // a few distinct values with clustered weights, similar to real world data
+                expected[nodeId][i] = 1.0 + random.nextInt(20) * 0.25;
+                values[i] = Double.doubleToRawLongBits(expected[nodeId][i]);
+            }
+            encoder.encode(nodeId, values, degree);
+            degrees.set(nodeId, degree);
+        }
+
+        var properties = builder.build(degrees);
+        assertThat(properties.compression()).isEqualTo(compression);
+
+        PropertyCursor cursor = properties.rawPropertyCursor();
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = properties.propertyCursor(cursor, nodeId, Double.NaN);
+            for (double expectedValue : expected[nodeId]) {
+                assertThat(cursor.hasNextLong()).isTrue();
+                var actual = Double.longBitsToDouble(cursor.nextLong());
+                if (compression.isLossless()) {
+                    assertThat(actual).isEqualTo(expectedValue);
+                } else {
+                    assertThat(actual).isCloseTo(expectedValue, within(expectedValue / 128));
+                }
+            }
+            assertThat(cursor.hasNextLong()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldKeepArbitraryBitPatternsWithLosslessCompression() {
+        var random = new Random(1337);
+        int degree = 10_000;
+        var values = new long[degree];
+        for (int i = 0; i < degree; i++) {
+            values[i] = random.nextBoolean() ? random.nextLong() : Double.doubleToRawLongBits(Double.NaN) + i;
+        }
+
+        var builder = new EncodedAdjacencyPropertiesBuilder(PropertyCompression.LOSSLESS, MemoryTracker.empty());
+        builder.init(1);
+        builder.newEncoder().encode(0, values, degree);
+        var degrees = HugeIntArray.newArray(1);
+        degrees.set(0, degree);
+
+        var cursor = builder.build(degrees).propertyCursor(0);
+        for (long value : values) {
+            assertThat(cursor.nextLong()).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void shouldOnlyCreateBuildersForCompressedProperties() {
+        var mappings = PropertyMappings.of(
+            PropertyMapping.of("a", Aggregation.NONE),
+            PropertyMapping.fromObject(
+                "b",
+                Map.of("property", "b", "compression", "lossless")
+            )
+        );
+
+        var builders = EncodedAdjacencyPropertiesBuilder.of(mappings, MemoryTracker.empty());
+
+        assertThat(builders).hasSize(2);
+        assertThat(builders[0]).isNull();
+        assertThat(builders[1]).isNotNull();
+
+        assertThat(EncodedAdjacencyPropertiesBuilder.of(
+            PropertyMappings.of(PropertyMapping.of("a", Aggregation.NONE)),
+            MemoryTracker.empty()
+        )).isNull();
+    }
+}
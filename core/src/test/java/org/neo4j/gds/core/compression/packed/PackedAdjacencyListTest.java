@@ -30,6 +30,7 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 
 import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -45,6 +46,28 @@ class PackedAdjacencyListTest {
             .hasMessage("This page has already been freed.");
     }
 
+    @Test
+    void nextVLongsDecodesAcrossBlocks() {
+        var targets = LongStream.range(0, 3 * AdjacencyPacking.BLOCK_SIZE + 17).map(i -> i * 7).toArray();
+        var list = adjacencyList(targets.clone());
+        var cursor = list.adjacencyCursor(0);
+
+        var actual = new long[targets.length];
+        var buffer = new long[50];
+        int position = 0;
+
+        actual[position++] = cursor.nextVLong();
+        int count;
+        while ((count = cursor.nextVLongs(buffer)) > 0) {
+            System.arraycopy(buffer, 0, actual, position, count);
+            position += count;
+        }
+
+        assertThat(position).isEqualTo(targets.length);
+        assertThat(actual).containsExactly(targets);
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
     private static PackedAdjacencyList adjacencyList(long[] data) {
         var allocator = new TestAllocator();
         var slice = ModifiableSlice.<Address>create();
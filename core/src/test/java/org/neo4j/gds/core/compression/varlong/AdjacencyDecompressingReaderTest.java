@@ -144,6 +144,29 @@ class AdjacencyDecompressingReaderTest {
         // read beyond the end -- not possible since no more remaining
     }
 
+    @Test
+    void testNextBulk() {
+        var targets = LongStream.range(0, 150).map(i -> i * 3).toArray();
+        var reader = prepareAdjacencyDecompressingReader(targets);
+
+        var remaining = targets.length;
+        var buffer = new long[targets.length];
+
+        // read within the first block
+        reader.next(buffer, 0, 10, remaining);
+        remaining -= 10;
+        // read across the first and second block
+        reader.next(buffer, 10, 100, remaining);
+        remaining -= 100;
+        // interleave with single reads
+        buffer[110] = reader.next(remaining);
+        remaining -= 1;
+        // read to the end
+        reader.next(buffer, 111, remaining, remaining);
+
+        assertThat(buffer).containsExactly(targets);
+    }
+
     private AdjacencyDecompressingReader prepareAdjacencyDecompressingReader(long[] originalTargets) {
         var targets = originalTargets.clone();
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.AdjacencyFormat;
+import org.neo4j.gds.core.compression.BoundedHistogram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveAdjacencyCompressorFactoryTest {
+
+    private static final int UPPER_BOUND = AdaptiveAdjacencyCompressorFactory.DEGREE_UPPER_BOUND;
+
+    @Test
+    void shouldSelectVarLongForSparseDegrees() {
+        var histogram = new BoundedHistogram(UPPER_BOUND);
+        long relationshipCount = record(histogram, 1_000, 4);
+
+        assertThat(AdaptiveAdjacencyCompressorFactory.selectFormat(histogram, relationshipCount, UPPER_BOUND))
+            .isEqualTo(AdjacencyFormat.VAR_LONG);
+    }
+
+    @Test
+    void shouldSelectPackedForDenseDegrees() {
+        var histogram = new BoundedHistogram(UPPER_BOUND);
+        long relationshipCount = record(histogram, 10, 10_000);
+        relationshipCount += record(histogram, 10, 2);
+
+        assertThat(AdaptiveAdjacencyCompressorFactory.selectFormat(histogram, relationshipCount, UPPER_BOUND))
+            .isEqualTo(AdjacencyFormat.PACKED);
+    }
+
+    @Test
+    void shouldSelectMixedForSkewedDegrees() {
+        var histogram = new BoundedHistogram(UPPER_BOUND);
+        long relationshipCount = record(histogram, 10, 1_000);
+        relationshipCount += record(histogram, 2_000, 5);
+
+        assertThat(AdaptiveAdjacencyCompressorFactory.selectFormat(histogram, relationshipCount, UPPER_BOUND))
+            .isEqualTo(AdjacencyFormat.MIXED);
+    }
+
+    @Test
+    void shouldSelectVarLongWithoutRelationships() {
+        var histogram = new BoundedHistogram(UPPER_BOUND);
+
+        assertThat(AdaptiveAdjacencyCompressorFactory.selectFormat(histogram, 0, UPPER_BOUND))
+            .isEqualTo(AdjacencyFormat.VAR_LONG);
+    }
+
+    private static long record(BoundedHistogram histogram, int nodes, int degree) {
+        for (int i = 0; i < nodes; i++) {
+            histogram.record(Math.min(degree, UPPER_BOUND));
+        }
+        return (long) nodes * degree;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DictionaryDoubleCodecTest extends DoubleCodecTestBase {
+    DictionaryDoubleCodecTest() {
+        super(new DictionaryDoubleCodec());
+    }
+
+    @Test
+    void shouldEscapeValuesOnceTheDictionaryIsFull() {
+        var codec = new DictionaryDoubleCodec();
+        var out = new byte[10];
+
+        for (int i = 0; i < DictionaryDoubleCodec.MAX_ENTRIES; i++) {
+            codec.compressDouble(Double.doubleToLongBits(i), out, 0);
+        }
+        assertThat(codec.size()).isEqualTo(DictionaryDoubleCodec.MAX_ENTRIES);
+
+        for (int i = 0; i < 1000; i++) {
+            double value = DictionaryDoubleCodec.MAX_ENTRIES + i;
+            int end = codec.compressDouble(Double.doubleToLongBits(value), out, 0);
+            assertThat(end).isEqualTo(1 + Double.BYTES);
+            assertThat(codec.decompressDouble(out, 0)).isEqualTo(value);
+        }
+
+        // values that made it into the dictionary keep their entry
+        int end = codec.compressDouble(Double.doubleToLongBits(42.0), out, 0);
+        assertThat(end).isEqualTo(1);
+        assertThat(codec.decompressDouble(out, 0)).isEqualTo(42.0);
+        assertThat(codec.size()).isEqualTo(DictionaryDoubleCodec.MAX_ENTRIES);
+    }
+}
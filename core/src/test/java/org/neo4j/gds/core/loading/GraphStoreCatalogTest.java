@@ -22,16 +22,23 @@ package org.neo4j.gds.core.loading;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.Topology;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -50,6 +57,8 @@ class GraphStoreCatalogTest {
     private static final String USER_NAME = "alice";
     private static final String GRAPH_NAME = "graph";
     private static final GraphProjectConfig CONFIG = GraphProjectConfig.emptyWithName(USER_NAME, GRAPH_NAME);
+    // estimated memory of a single test graph when spilling is enabled
+    private static final long GRAPH_SIZE = 100;
 
     @GdlGraph
     private static final String TEST_GRAPH = "()";
@@ -459,4 +468,248 @@ class GraphStoreCatalogTest {
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
     }
+
+    @Test
+    void spillLeastRecentlyUsedGraphs() {
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> GRAPH_SIZE);
+        try {
+            var evictionsBefore = GraphStoreCatalog.evictionCount();
+
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+
+            assertThat(GraphStoreCatalog.evictionCount()).isEqualTo(evictionsBefore + 1);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of(GRAPH_NAME));
+            assertThat(GraphStoreCatalog.graphStoreCount()).isEqualTo(2);
+            assertTrue(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+            assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), GRAPH_NAME))
+                .hasValueSatisfying(residency -> {
+                    assertThat(residency.spilled()).isTrue();
+                    assertThat(residency.evictionCount()).isEqualTo(1);
+                });
+
+            // accessing the spilled graph reloads it and spills the other one
+            var reloaded = GraphStoreCatalog.get(USER_NAME, DATABASE_ID, GRAPH_NAME);
+            assertThat(reloaded.graphStore()).isSameAs(graphStore);
+            assertThat(reloaded.config()).isEqualTo(CONFIG);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of("other"));
+            assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), GRAPH_NAME))
+                .hasValueSatisfying(residency -> assertThat(residency.spilled()).isFalse());
+            assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), "other"))
+                .hasValueSatisfying(residency -> assertThat(residency.spilled()).isTrue());
+
+            // listing includes spilled graphs without reloading them
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME)).hasSize(2);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of("other"));
+
+            GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "other", graph -> {}, true);
+            assertThat(spillStore.snapshots).isEmpty();
+            assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), "other")).isEmpty();
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void listAndDropSpilledGraphsWithoutReloadingThem() {
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> GRAPH_SIZE);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+
+            var listed = GraphStoreCatalog.getGraphStores(USER_NAME).get(CONFIG);
+            assertThat(listed.nodeCount()).isEqualTo(graphStore.nodeCount());
+            assertThat(listed.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+            assertThat(listed.schema().toMap()).isEqualTo(graphStore.schema().toMap());
+            assertThatThrownBy(listed::getUnion).isInstanceOf(UnsupportedOperationException.class);
+            assertThat(GraphStoreCatalog.getDegreeDistribution(USER_NAME, DATABASE_ID, GRAPH_NAME)).isPresent();
+
+            var request = CatalogRequest.of(USER_NAME, DATABASE_ID);
+            assertThat(GraphStoreCatalog.peek(request, GRAPH_NAME).config()).isEqualTo(CONFIG);
+            GraphStoreCatalog.remove(request, GRAPH_NAME, graph -> {}, true);
+
+            assertThat(spillStore.reloads).isZero();
+            assertThat(spillStore.snapshots).isEmpty();
+            assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void mutatingAnEvictedGraphMakesItResidentAgain() {
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> GRAPH_SIZE);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of(GRAPH_NAME));
+
+            // e.g. a mutate procedure that obtained the graph store before it was evicted
+            graphStore.addNodeLabel(NodeLabel.of("Mutated"));
+
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of("other"));
+            assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), GRAPH_NAME))
+                .hasValueSatisfying(residency -> assertThat(residency.spilled()).isFalse());
+            assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, GRAPH_NAME).graphStore()).isSameAs(graphStore);
+            assertThat(spillStore.reloads).isZero();
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void addingAnInverseIndexWhileSpillingDiscardsTheSnapshot() {
+        var relType = RelationshipType.of("REL");
+        var graphWithRelationships = GdlFactory.of("(a)-[:REL]->(b)").build();
+        var spillStore = new InMemorySpillStore();
+        // e.g. an index-inverse procedure that runs while the snapshot is written
+        spillStore.beforeSpill = spilled -> {
+            spillStore.beforeSpill = ignore -> {};
+            graphWithRelationships.addInverseIndex(relType, Topology.EMPTY, Optional.empty());
+        };
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> GRAPH_SIZE);
+        try {
+            var evictionsBefore = GraphStoreCatalog.evictionCount();
+
+            GraphStoreCatalog.set(CONFIG, graphWithRelationships);
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+
+            // the first snapshot might miss the inverse index, so it is discarded and the graph is spilled again
+            assertThat(spillStore.spills).isEqualTo(2);
+            assertThat(GraphStoreCatalog.evictionCount()).isEqualTo(evictionsBefore + 1);
+            assertThat(graphWithRelationships.inverseIndexedRelationshipTypes()).containsExactly(relType);
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void disableSpillingReloadsSpilledGraphs() {
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> GRAPH_SIZE);
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+        assertThat(spillStore.snapshots).hasSize(1);
+
+        GraphStoreCatalog.disableSpilling();
+
+        assertThat(spillStore.snapshots).isEmpty();
+        assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), GRAPH_NAME))
+            .hasValueSatisfying(residency -> assertThat(residency.spilled()).isFalse());
+    }
+
+    @Test
+    void discardSpilledGraphsWithoutReloadingThem() {
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> GRAPH_SIZE);
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+        assertThat(spillStore.snapshots).containsOnlyKeys(Path.of(GRAPH_NAME));
+
+        GraphStoreCatalog.discardSpilledGraphs();
+
+        assertThat(spillStore.reloads).isZero();
+        assertThat(spillStore.snapshots).isEmpty();
+        assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        assertThat(GraphStoreCatalog.residency(USER_NAME, DATABASE_ID.databaseName(), GRAPH_NAME)).isEmpty();
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "other").graphStore()).isSameAs(otherGraphStore);
+    }
+
+    @Test
+    void spillByEstimatedMemory() {
+        var spillStore = new InMemorySpillStore();
+        var smallGraphStore = GdlFactory.of("(a)").build();
+        GraphStoreCatalog.enableSpilling(
+            2 * GRAPH_SIZE,
+            spillStore,
+            graph -> graph == smallGraphStore ? GRAPH_SIZE / 2 : GRAPH_SIZE
+        );
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "small"), smallGraphStore);
+            assertThat(spillStore.snapshots).isEmpty();
+
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of(GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void estimateTheMemoryOfMutatedGraphsAgain() {
+        var mutated = NodeLabel.of("Mutated");
+        var emptyGraphStore = GdlFactory.of("()").build();
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(
+            2 * GRAPH_SIZE,
+            spillStore,
+            graph -> graph == emptyGraphStore ? 0 : graph.nodeLabels().contains(mutated) ? 2 * GRAPH_SIZE : GRAPH_SIZE
+        );
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+            assertThat(spillStore.snapshots).isEmpty();
+
+            // e.g. a mutate procedure that grows the resident graph
+            graphStore.addNodeLabel(mutated);
+
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "empty"), emptyGraphStore);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of(GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void keepTheMostRecentlyUsedGraphResidentEvenIfItExceedsTheCapacity() {
+        var spillStore = new InMemorySpillStore();
+        GraphStoreCatalog.enableSpilling(GRAPH_SIZE, spillStore, graph -> 2 * GRAPH_SIZE);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            assertThat(spillStore.snapshots).isEmpty();
+
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+            assertThat(spillStore.snapshots).containsOnlyKeys(Path.of(GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.disableSpilling();
+        }
+    }
+
+    @Test
+    void shouldFailForNonPositiveCapacity() {
+        assertThatThrownBy(() -> GraphStoreCatalog.enableSpilling(0, new InMemorySpillStore()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The resident memory capacity must be positive, but got 0");
+    }
+
+    private static final class InMemorySpillStore implements GraphStoreSpillStore {
+        private final Map<Path, GraphStore> snapshots = new HashMap<>();
+        private int reloads = 0;
+        private int spills = 0;
+        private Consumer<GraphStore> beforeSpill = graphStore -> {};
+
+        @Override
+        public Path spill(GraphProjectConfig config, GraphStore graphStore) {
+            spills++;
+            beforeSpill.accept(graphStore);
+            var snapshot = Path.of(config.graphName());
+            snapshots.put(snapshot, graphStore);
+            return snapshot;
+        }
+
+        @Override
+        public GraphStore reload(Path snapshot) {
+            reloads++;
+            return snapshots.get(snapshot);
+        }
+
+        @Override
+        public void delete(Path snapshot) {
+            snapshots.remove(snapshot);
+        }
+    }
 }
@@ -27,11 +27,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.loading.nodeproperties.FixedStrideFloatArrayNodePropertyValues;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
+import java.util.Arrays;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 import java.util.concurrent.Executors;
@@ -163,6 +167,103 @@ final class NodePropertiesFromStoreBuilderTest {
         assertArrayEquals(defaultValue, properties.doubleArrayValue(0));
     }
 
+    @Test
+    void shouldCopyFixedLengthFloatArraysIntoBuffer() {
+        var nodeCount = 10_000;
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(null), 1);
+        for (int nodeId = 1; nodeId < nodeCount; nodeId++) {
+            builder.set(nodeId, Values.of(new float[]{nodeId, -nodeId, 0.5F}));
+        }
+        var properties = (FloatArrayNodePropertyValues) builder.build(idMap(nodeCount));
+
+        var buffer = new float[7];
+        for (int nodeId = 1; nodeId < nodeCount; nodeId++) {
+            var expected = new float[]{nodeId, -nodeId, 0.5F};
+            assertArrayEquals(expected, properties.floatArrayValue(nodeId));
+            assertThat(properties.copyFloatArrayValue(nodeId, buffer, 2)).isEqualTo(3);
+            assertArrayEquals(expected, Arrays.copyOfRange(buffer, 2, 5));
+        }
+        assertThat(properties.floatArrayValue(0)).isNull();
+        assertThat(properties.copyFloatArrayValue(0, buffer, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldKeepSparselyPopulatedFixedLengthArraysSparse() {
+        var nodeCount = 10_000;
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(null), 1);
+        builder.set(42, Values.of(new float[]{1F, 2F, 3F}));
+        builder.set(1337, Values.of(new float[]{4F, 5F, 6F}));
+        var properties = (FloatArrayNodePropertyValues) builder.build(idMap(nodeCount));
+
+        assertThat(properties).isNotInstanceOf(FixedStrideFloatArrayNodePropertyValues.class);
+        assertArrayEquals(new float[]{1F, 2F, 3F}, properties.floatArrayValue(42));
+        assertArrayEquals(new float[]{4F, 5F, 6F}, properties.floatArrayValue(1337));
+        assertThat(properties.floatArrayValue(0)).isNull();
+
+        var buffer = new float[3];
+        assertThat(properties.copyFloatArrayValue(1337, buffer, 0)).isEqualTo(3);
+        assertArrayEquals(new float[]{4F, 5F, 6F}, buffer);
+    }
+
+    @Test
+    void shouldNotCountOverwrittenValuesTwice() {
+        var nodeCount = 10_000;
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(null), 1);
+        for (int i = 0; i < nodeCount; i++) {
+            builder.set(42, Values.of(new float[]{i, 1F, 2F}));
+        }
+        var properties = (FloatArrayNodePropertyValues) builder.build(idMap(nodeCount));
+
+        // a single node has a value, no matter how often it was written
+        assertThat(properties).isNotInstanceOf(FixedStrideFloatArrayNodePropertyValues.class);
+        assertArrayEquals(new float[]{nodeCount - 1, 1F, 2F}, properties.floatArrayValue(42));
+        assertThat(properties.floatArrayValue(0)).isNull();
+    }
+
+    @Test
+    void shouldStoreDenselyPopulatedFixedLengthArraysWithFixedStride() {
+        var nodeCount = 10_000;
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(null), 1);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId += 2) {
+            builder.set(nodeId, Values.of(new float[]{nodeId, 1F, 2F}));
+        }
+        var properties = (FloatArrayNodePropertyValues) builder.build(idMap(nodeCount));
+
+        assertThat(properties).isInstanceOf(FixedStrideFloatArrayNodePropertyValues.class);
+        assertArrayEquals(new float[]{42F, 1F, 2F}, properties.floatArrayValue(42));
+        assertThat(properties.floatArrayValue(43)).isNull();
+    }
+
+    @Test
+    void shouldNotCopyArraysThatDoNotFitIntoTheBuffer() {
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(null), 1);
+        builder.set(0, Values.of(new float[]{1F, 2F, 3F}));
+        builder.set(1, Values.of(new float[]{4F, 5F, 6F}));
+        var properties = builder.build(idMap(2));
+
+        var buffer = new float[4];
+        assertThat(properties.copyFloatArrayValue(1, buffer, 2)).isEqualTo(3);
+        assertArrayEquals(new float[4], buffer);
+        assertThat(properties.copyFloatArrayValue(1, buffer, 1)).isEqualTo(3);
+        assertArrayEquals(new float[]{0F, 4F, 5F, 6F}, buffer);
+    }
+
+    @Test
+    void shouldSupportDoubleArraysOfDifferentLength() {
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(new double[0]), 1);
+        builder.set(0, Values.of(new double[]{1D}));
+        builder.set(1, Values.of(new double[]{1D, 2D}));
+        var properties = (DoubleArrayNodePropertyValues) builder.build(idMap(3));
+
+        assertArrayEquals(new double[]{1D}, properties.doubleArrayValue(0));
+        assertArrayEquals(new double[]{1D, 2D}, properties.doubleArrayValue(1));
+        assertArrayEquals(new double[0], properties.doubleArrayValue(2));
+
+        var buffer = new double[2];
+        assertThat(properties.copyDoubleArrayValue(1, buffer, 0)).isEqualTo(2);
+        assertArrayEquals(new double[]{1D, 2D}, buffer);
+    }
+
     @Test
     void dimensions() {
         var longs = createNodeProperties(2, -6L, b -> b.set(1, Values.of(69L)));
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReducedPrecisionDoubleCodecTest {
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void shouldRoundTripWithBoundedRelativeError(boolean bfloat16) {
+        var codec = bfloat16 ? ReducedPrecisionDoubleCodec.bfloat16() : ReducedPrecisionDoubleCodec.float32();
+        // half an ulp of the target precision
+        var maxRelativeError = Math.scalb(1.0, -codec.supportedSignificandWith());
+
+        var random = new Random(42);
+        var buffer = new byte[Double.BYTES];
+        for (int i = 0; i < 10_000; i++) {
+            var input = (random.nextDouble() - 0.5) * Math.scalb(1.0, random.nextInt(64) - 32);
+            var end = codec.compressDouble(Double.doubleToRawLongBits(input), buffer, 0);
+            assertThat(end).isEqualTo(bfloat16 ? 2 : 4);
+            assertThat(codec.compressedSize(buffer, 0)).isEqualTo(end);
+            var decompressed = codec.decompressDouble(buffer, 0);
+            assertThat(decompressed).isCloseTo(input, within(Math.abs(input) * maxRelativeError));
+        }
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void shouldKeepSpecialValues(boolean bfloat16) {
+        var codec = bfloat16 ? ReducedPrecisionDoubleCodec.bfloat16() : ReducedPrecisionDoubleCodec.float32();
+        var buffer = new byte[Double.BYTES];
+        for (var input : new double[]{0.0, -0.0, 1.0, -2.0, 0.5, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN}) {
+            codec.compressDouble(Double.doubleToRawLongBits(input), buffer, 0);
+            var decompressed = codec.decompressDouble(buffer, 0);
+            assertThat(Double.doubleToLongBits(decompressed)).isEqualTo(Double.doubleToLongBits(input));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1.00390625, 1.01171875})
+    void bfloat16ShouldRoundHalfToEven(double input) {
+        var codec = ReducedPrecisionDoubleCodec.bfloat16();
+        var buffer = new byte[Short.BYTES];
+        codec.compressDouble(Double.doubleToRawLongBits(input), buffer, 0);
+        // 1.00390625 = 1 + 2^-8 is exactly between 1.0 and 1.0078125 and rounds down to the even 1.0,
+        // 1.01171875 = 1 + 3 * 2^-8 is exactly between 1.0078125 and 1.015625 and rounds up to the even 1.015625
+        var expected = input == 1.00390625 ? 1.0 : 1.015625;
+        assertThat(codec.decompressDouble(buffer, 0)).isEqualTo(expected);
+    }
+}
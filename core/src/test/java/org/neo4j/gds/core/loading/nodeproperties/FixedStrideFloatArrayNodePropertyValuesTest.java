@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixedStrideFloatArrayNodePropertyValuesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 128, 1_000})
+    void shouldStoreVectorsAcrossPages(int dimension) {
+        long nodeCount = 1_000;
+        var values = FixedStrideFloatArrayNodePropertyValues.create(nodeCount, dimension);
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            values.set(nodeId, vector(nodeId, dimension));
+        }
+
+        assertThat(values.nodeCount()).isEqualTo(nodeCount);
+        assertThat(values.dimension()).hasValue(dimension);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(values.floatArrayValue(nodeId)).containsExactly(vector(nodeId, dimension));
+            assertThat(values.offset(nodeId) + dimension).isLessThanOrEqualTo(values.page(nodeId).length);
+        }
+    }
+
+    @Test
+    void shouldReadWritesToThePages() {
+        var values = FixedStrideFloatArrayNodePropertyValues.create(3, 2);
+        values.set(1, new float[]{1f, 2f});
+
+        assertThat(values.floatArrayValue(0)).containsExactly(0f, 0f);
+        assertThat(values.floatArrayValue(1)).containsExactly(1f, 2f);
+
+        var buffer = new float[4];
+        assertThat(values.copyFloatArrayValue(1, buffer, 1)).isEqualTo(2);
+        assertThat(buffer).containsExactly(0f, 1f, 2f, 0f);
+
+        values.page(1)[values.offset(1)] = 42f;
+        assertThat(values.floatArrayValue(1)).containsExactly(42f, 2f);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        long emptySize = FixedStrideFloatArrayNodePropertyValues.memoryEstimation(0, 128);
+        // 100 nodes fit on a single page of 512 nodes
+        assertThat(FixedStrideFloatArrayNodePropertyValues.memoryEstimation(100, 128) - emptySize)
+            .isEqualTo(8L + 51_216L);
+    }
+
+    private static float[] vector(long nodeId, int dimension) {
+        var vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = nodeId * 31 + i;
+        }
+        return vector;
+    }
+}
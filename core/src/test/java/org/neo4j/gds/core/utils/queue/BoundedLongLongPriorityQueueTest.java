@@ -87,6 +87,24 @@ class BoundedLongLongPriorityQueueTest {
         assertResults(expected, queue);
     }
 
+    @Test
+    void shouldExposeWorstPriorityOnceFull() {
+        BoundedLongLongPriorityQueue maxQueue = BoundedLongLongPriorityQueue.max(2);
+        maxQueue.offer(1, 1, 1.0);
+        assertFalse(maxQueue.isFull());
+        maxQueue.offer(3, 3, 3.0);
+        maxQueue.offer(2, 2, 2.0);
+        assertTrue(maxQueue.isFull());
+        assertEquals(2.0, maxQueue.worstPriority());
+
+        BoundedLongLongPriorityQueue minQueue = BoundedLongLongPriorityQueue.min(2);
+        minQueue.offer(1, 1, 1.0);
+        minQueue.offer(3, 3, 3.0);
+        minQueue.offer(2, 2, 2.0);
+        assertTrue(minQueue.isFull());
+        assertEquals(2.0, minQueue.worstPriority());
+    }
+
     private void assertResults(List<Long> expected, BoundedLongLongPriorityQueue queue) {
         List<Double> expectedPriorities = expected.stream().map(Long::doubleValue).collect(Collectors.toList());
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The format in which the adjacency list of a relationship type is stored.
+ */
+public enum AdjacencyFormat {
+
+    /**
+     * Use the format that is configured globally for the whole JVM.
+     */
+    DEFAULT,
+    /**
+     * Pick the format based on the degree distribution of the relationship type.
+     */
+    AUTO,
+    /**
+     * Delta-encoded var-long compression.
+     */
+    VAR_LONG,
+    /**
+     * Bit-packed blocks of delta-encoded targets.
+     */
+    PACKED,
+    /**
+     * Bit-packed blocks for high degree nodes, var-long compression for all others.
+     */
+    MIXED,
+    /**
+     * Plain target ids, without any compression.
+     */
+    UNCOMPRESSED;
+
+    /**
+     * Returns true iff the format describes an actual storage format, i.e., is neither {@link #DEFAULT} nor {@link #AUTO}.
+     */
+    public boolean isResolved() {
+        return this != DEFAULT && this != AUTO;
+    }
+
+    private static final List<String> VALUES = Arrays
+        .stream(AdjacencyFormat.values())
+        .map(AdjacencyFormat::name)
+        .collect(Collectors.toList());
+
+    public static AdjacencyFormat parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return AdjacencyFormat.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Adjacency format `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        }
+        else if (input instanceof AdjacencyFormat) {
+            return (AdjacencyFormat) input;
+        }
+
+        throw new IllegalArgumentException(String.format(
+            Locale.ENGLISH,
+            "Expected AdjacencyFormat or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.PropertyCompression;
 import org.neo4j.gds.utils.StringFormatting;
 
 import java.util.HashMap;
@@ -183,6 +184,15 @@ public abstract class NodeProjections extends AbstractProjections<NodeLabel, Nod
             .forEach(propertyMapping -> {
                 var propertyKey = propertyMapping.propertyKey();
 
+                if (propertyMapping.compression() != PropertyCompression.NONE) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Property compression is only supported for relationship properties, " +
+                        "found node propertyKey: `%s` with compression: `%s`.",
+                        propertyKey,
+                        propertyMapping.compression().name()
+                    ));
+                }
+
                 if (seenMappings.containsKey(propertyKey)) {
                     // we have another mapping with the same GDS key
                     var seenMapping = seenMappings.get(propertyKey);
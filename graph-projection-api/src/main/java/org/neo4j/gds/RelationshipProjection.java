@@ -56,6 +56,11 @@ public abstract class RelationshipProjection extends ElementProjection {
         return false;
     }
 
+    @Value.Default
+    public AdjacencyFormat adjacencyFormat() {
+        return AdjacencyFormat.DEFAULT;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -102,6 +107,7 @@ public abstract class RelationshipProjection extends ElementProjection {
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
     public static final String INDEX_INVERSE_KEY = "indexInverse";
+    public static final String ADJACENCY_FORMAT_KEY = "adjacencyFormat";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -117,6 +123,9 @@ public abstract class RelationshipProjection extends ElementProjection {
             boolean indexInverse = (boolean) map.get(INDEX_INVERSE_KEY);
             builder.indexInverse(indexInverse);
         }
+        if (map.containsKey(ADJACENCY_FORMAT_KEY)) {
+            builder.adjacencyFormat(AdjacencyFormat.parse(nonEmptyString(map, ADJACENCY_FORMAT_KEY)));
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.parse(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -179,6 +188,10 @@ public abstract class RelationshipProjection extends ElementProjection {
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
         value.put(INDEX_INVERSE_KEY, indexInverse());
+        // only written when set explicitly, projections without it keep their established shape
+        if (adjacencyFormat() != AdjacencyFormat.DEFAULT) {
+            value.put(ADJACENCY_FORMAT_KEY, adjacencyFormat().name());
+        }
     }
 
     @Override
@@ -216,7 +229,8 @@ public abstract class RelationshipProjection extends ElementProjection {
             ORIENTATION_KEY,
             AGGREGATION_KEY,
             PROPERTIES_KEY,
-            INDEX_INVERSE_KEY
+            INDEX_INVERSE_KEY,
+            ADJACENCY_FORMAT_KEY
         ), map.keySet());
     }
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Describes how the values of a relationship property are stored in the adjacency properties.
+ */
+public enum PropertyCompression {
+    /**
+     * Values are stored as uncompressed 8 byte doubles.
+     */
+    NONE(true),
+    /**
+     * Each value is XOR-ed with its predecessor in the adjacency list
+     * and the leading and trailing zero bytes of the result are dropped.
+     */
+    LOSSLESS(true),
+    /**
+     * Values are replaced by an index into a dictionary of distinct values.
+     * Values that do not fit into the dictionary are stored uncompressed.
+     */
+    DICTIONARY(true),
+    /**
+     * Values are stored with single precision (4 bytes).
+     */
+    FLOAT(false),
+    /**
+     * Values are stored in the bfloat16 format (2 bytes), which keeps the exponent range
+     * of a single precision value but only 8 bits of its significand.
+     */
+    BFLOAT16(false);
+
+    private final boolean lossless;
+
+    PropertyCompression(boolean lossless) {
+        this.lossless = lossless;
+    }
+
+    public boolean isLossless() {
+        return lossless;
+    }
+
+    private static final List<String> VALUES = Arrays
+        .stream(PropertyCompression.values())
+        .map(PropertyCompression::name)
+        .collect(Collectors.toList());
+
+    public static PropertyCompression parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+
+            if (VALUES.contains(inputString)) {
+                return PropertyCompression.valueOf(inputString.toUpperCase(Locale.ENGLISH));
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Property compression `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof PropertyCompression) {
+            return (PropertyCompression) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected PropertyCompression or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+}
@@ -209,6 +209,22 @@ class NodeProjectionsTest {
         }
     }
 
+    @Test
+    void shouldFailOnCompressedNodeProperties() {
+        assertThatThrownBy(() -> NodeProjections.fromObject(Map.of(
+            "A", Map.of(
+                PROPERTIES_KEY, Map.of(
+                    "prop", Map.of("compression", "float")
+                )
+            )
+        )))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Property compression is only supported for relationship properties, " +
+                "found node propertyKey: `prop` with compression: `FLOAT`."
+            );
+    }
+
     @Test
     void shouldSupportCaseInsensitiveConfigKeys() {
         NodeProjections actual = NodeProjections.fromObject(Map.of(
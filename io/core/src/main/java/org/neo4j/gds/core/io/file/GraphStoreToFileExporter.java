@@ -41,9 +41,11 @@ import org.neo4j.internal.batchimport.input.Collector;
 import org.neo4j.internal.batchimport.input.Input;
 import org.neo4j.logging.Log;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -166,9 +168,14 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
         var nodeInput = graphStoreInput.nodes(Collector.EMPTY);
         var nodeInputIterator = nodeInput.iterator();
 
+        var visitors = new ArrayList<NodeVisitor>();
         var tasks = ParallelUtil.tasks(
             concurrency,
-            (index) -> new ElementImportRunner<>(nodeVisitorSupplier.apply(index), nodeInputIterator, progressTracker)
+            (index) -> new ElementImportRunner<>(
+                register(visitors, nodeVisitorSupplier.apply(index)),
+                nodeInputIterator,
+                progressTracker
+            )
         );
 
         RunWithConcurrency.builder()
@@ -176,6 +183,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
             .tasks(tasks)
             .executor(executorService)
             .run();
+        close(visitors);
         progressTracker.endSubTask();
     }
 
@@ -187,10 +195,11 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
         var relationshipInput = graphStoreInput.relationships(Collector.EMPTY);
         var relationshipInputIterator = relationshipInput.iterator();
 
+        var visitors = new ArrayList<RelationshipVisitor>();
         var tasks = ParallelUtil.tasks(
             concurrency,
             (index) -> new ElementImportRunner<>(
-                relationshipVisitorSupplier.apply(index),
+                register(visitors, relationshipVisitorSupplier.apply(index)),
                 relationshipInputIterator,
                 progressTracker
             )
@@ -202,6 +211,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
             .executor(executorService)
             .mayInterruptIfRunning(false)
             .run();
+        close(visitors);
         progressTracker.endSubTask();
     }
 
@@ -214,10 +224,11 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
             var graphPropertyInput = graphStoreInput.graphProperties();
             var graphPropertyInputIterator = graphPropertyInput.iterator();
 
+            var visitors = new ArrayList<GraphPropertyVisitor>();
             var tasks = ParallelUtil.tasks(
                 concurrency,
                 (index) -> new ElementImportRunner<>(
-                    graphPropertyVisitorSupplier.apply(index),
+                    register(visitors, graphPropertyVisitorSupplier.apply(index)),
                     graphPropertyInputIterator,
                     progressTracker
                 )
@@ -228,10 +239,27 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
                 .tasks(tasks)
                 .executor(executorService)
                 .run();
+            close(visitors);
             progressTracker.endSubTask();
         }
     }
 
+    private static <VISITOR> VISITOR register(List<VISITOR> visitors, VISITOR visitor) {
+        visitors.add(visitor);
+        return visitor;
+    }
+
+    // visitors may buffer data or write trailing metadata, so they are closed once all tasks finished
+    private static void close(List<? extends Closeable> visitors) {
+        for (var visitor : visitors) {
+            try {
+                visitor.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     private void exportUserName() {
         try (var userInfoVisitor = userInfoVisitorSupplier.get()) {
             userInfoVisitor.export(parameters.username());
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.BLOCK_HEADER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.BYTE_ORDER;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.FOOTER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.FOOTER_MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.MAX_BLOCK_ROWS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.NODES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.RELATIONSHIPS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.VERSION;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.checksum;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.putString;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.updateChecksum;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.zigZag;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes the rows of a single element identifier, i.e. a label combination,
+ * a relationship type or a graph property, into one binary file.
+ * Rows are buffered column-wise and written as a checksummed block once
+ * {@link BinaryFileFormat#MAX_BLOCK_ROWS} rows are buffered or the writer is flushed.
+ */
+final class BinaryBlockWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final List<? extends PropertySchema> propertySchemas;
+    private final ColumnBuffer[] idColumns;
+    private final ColumnBuffer[] propertyColumns;
+    private final CRC32C fileChecksum;
+
+    private int blockRows;
+    private int blockCount;
+    private long rowCount;
+
+    private long previousId;
+    private long previousTarget;
+
+    BinaryBlockWriter(
+        Path file,
+        byte kind,
+        List<String> identifiers,
+        List<? extends PropertySchema> propertySchemas
+    ) {
+        this.propertySchemas = propertySchemas;
+        this.idColumns = columns(kind == NODES ? 1 : kind == RELATIONSHIPS ? 2 : 0);
+        this.propertyColumns = columns(propertySchemas.size());
+        this.fileChecksum = new CRC32C();
+
+        try {
+            this.channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not create file `%s`", file), e);
+        }
+
+        writeHeader(kind, identifiers);
+        resetBlock();
+    }
+
+    void appendNodeId(long id) {
+        idColumns[0].putVLong(zigZag(id - previousId));
+        previousId = id;
+    }
+
+    void appendRelationship(long source, long target) {
+        idColumns[0].putVLong(zigZag(source - previousId));
+        // targets of the same source are delta encoded, the first target of a source relative to the source
+        var targetBase = source == previousId && blockRows > 0 ? previousTarget : source;
+        idColumns[1].putVLong(zigZag(target - targetBase));
+        previousId = source;
+        previousTarget = target;
+    }
+
+    void appendProperty(int propertyIndex, Object value) {
+        var propertySchema = propertySchemas.get(propertyIndex);
+        writeValue(propertyColumns[propertyIndex], propertySchema, value);
+    }
+
+    void endRow() {
+        blockRows++;
+        if (blockRows == MAX_BLOCK_ROWS) {
+            flushBlock();
+        }
+    }
+
+    void flushBlock() {
+        if (blockRows == 0) {
+            return;
+        }
+
+        var payloadLength = Integer.BYTES;
+        for (var column : idColumns) {
+            payloadLength += Integer.BYTES + column.size();
+        }
+        for (var column : propertyColumns) {
+            payloadLength += Integer.BYTES + column.size();
+        }
+
+        var payload = ByteBuffer.allocate(payloadLength).order(BYTE_ORDER);
+        payload.putInt(idColumns.length + propertyColumns.length);
+        for (var column : idColumns) {
+            payload.putInt(column.size()).put(column.written());
+        }
+        for (var column : propertyColumns) {
+            payload.putInt(column.size()).put(column.written());
+        }
+        payload.flip();
+
+        var payloadChecksum = checksum(payload);
+        var blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES).order(BYTE_ORDER)
+            .putInt(payloadLength)
+            .putInt(blockRows)
+            .putInt(payloadChecksum)
+            .flip();
+
+        write(blockHeader);
+        write(payload);
+
+        updateChecksum(fileChecksum, payloadChecksum);
+        blockCount++;
+        rowCount += blockRows;
+        resetBlock();
+    }
+
+    @Override
+    public void close() {
+        flushBlock();
+        var footer = ByteBuffer.allocate(FOOTER_BYTES).order(BYTE_ORDER)
+            .putInt(FOOTER_MAGIC)
+            .putInt(blockCount)
+            .putLong(rowCount)
+            .putInt((int) fileChecksum.getValue())
+            .flip();
+        write(footer);
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeHeader(byte kind, List<String> identifiers) {
+        var header = new ColumnBuffer();
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(kind);
+        header.putInt(identifiers.size());
+        identifiers.forEach(identifier -> putString(header, identifier));
+        header.putInt(propertySchemas.size());
+        propertySchemas.forEach(propertySchema -> {
+            putString(header, propertySchema.key());
+            putString(header, propertySchema.valueType().csvName());
+        });
+
+        var bytes = header.written();
+        fileChecksum.update(bytes.duplicate());
+        write(bytes);
+    }
+
+    private void resetBlock() {
+        for (var column : idColumns) {
+            column.clear();
+        }
+        for (var column : propertyColumns) {
+            column.clear();
+        }
+        blockRows = 0;
+        previousId = 0;
+        previousTarget = 0;
+    }
+
+    private void write(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(ColumnBuffer column, PropertySchema propertySchema, Object value) {
+        var defaultValue = propertySchema.defaultValue();
+        switch (propertySchema.valueType()) {
+            case LONG:
+                column.putLong(value == null ? defaultValue.longValue() : ((Number) value).longValue());
+                break;
+            case DOUBLE:
+                column.putDouble(value == null ? defaultValue.doubleValue() : ((Number) value).doubleValue());
+                break;
+            case LONG_ARRAY:
+                if (value == null) {
+                    column.putInt(-1);
+                } else {
+                    var longs = (long[]) value;
+                    column.putInt(longs.length);
+                    for (long l : longs) {
+                        column.putLong(l);
+                    }
+                }
+                break;
+            case DOUBLE_ARRAY:
+                if (value == null) {
+                    column.putInt(-1);
+                } else {
+                    var doubles = (double[]) value;
+                    column.putInt(doubles.length);
+                    for (double d : doubles) {
+                        column.putDouble(d);
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                if (value == null) {
+                    column.putInt(-1);
+                } else {
+                    var floats = (float[]) value;
+                    column.putInt(floats.length);
+                    for (float f : floats) {
+                        column.putFloat(f);
+                    }
+                }
+                break;
+            case STRING:
+                if (value == null) {
+                    column.putInt(-1);
+                } else {
+                    putString(column, value.toString());
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Binary export does not support properties of type %s",
+                    propertySchema.valueType().name()
+                ));
+        }
+    }
+
+    private static ColumnBuffer[] columns(int count) {
+        var columns = new ColumnBuffer[count];
+        for (int i = 0; i < count; i++) {
+            columns[i] = new ColumnBuffer();
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of the binary columnar files.
+ *
+ * <pre>
+ * file    := header block* footer
+ * header  := MAGIC VERSION kind identifierCount identifier* propertyCount (key valueTypeName)*
+ * block   := payloadLength rowCount checksum payload
+ * payload := columnCount (columnLength columnBytes)*
+ * footer  := FOOTER_MAGIC blockCount rowCount fileChecksum
+ * </pre>
+ *
+ * All numbers are little-endian, strings are UTF-8 bytes prefixed with their length.
+ * Value types are stored by their CSV name, so that the files do not depend on the declaration order of {@code ValueType}.
+ * Id columns store zig-zag encoded deltas as variable length longs, starting from {@code 0} in every block.
+ * Node ids and relationship sources are relative to the id of the previous row, relationship targets are relative to
+ * the previous target of the same source, or to the source itself for its first target.
+ * Property columns store primitive values, arrays are prefixed with their length, which is {@code -1} for missing arrays.
+ * Every block carries a CRC32C checksum of its payload, the footer carries a checksum over
+ * the header and all block checksums, so that truncated or corrupted files are detected on import.
+ */
+final class BinaryFileFormat {
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int MAGIC = 0x42534447; // "GDSB"
+    static final int FOOTER_MAGIC = 0x46534447; // "GDSF"
+    static final int VERSION = 2;
+
+    static final byte NODES = 0;
+    static final byte RELATIONSHIPS = 1;
+    static final byte GRAPH_PROPERTY = 2;
+
+    static final String FILE_EXTENSION = ".gdsb";
+    static final String NODE_FILE_PREFIX = "nodes_";
+    static final String RELATIONSHIP_FILE_PREFIX = "relationships_";
+    static final String GRAPH_PROPERTY_FILE_PREFIX = "graph_property_";
+
+    static final int BLOCK_HEADER_BYTES = 3 * Integer.BYTES;
+    static final int FOOTER_BYTES = 3 * Integer.BYTES + Long.BYTES;
+
+    /**
+     * Blocks are the unit of parallelism on import, this bounds the work of a single import thread per block.
+     */
+    static final int MAX_BLOCK_ROWS = 1 << 16;
+
+    private BinaryFileFormat() {}
+
+    static String fileName(String prefix, int visitorId, int fileIndex) {
+        return prefix + visitorId + "_" + fileIndex + FILE_EXTENSION;
+    }
+
+    static int checksum(ByteBuffer buffer) {
+        var crc = new CRC32C();
+        crc.update(buffer.duplicate());
+        return (int) crc.getValue();
+    }
+
+    static void updateChecksum(CRC32C crc, int value) {
+        crc.update(ByteBuffer.allocate(Integer.BYTES).order(BYTE_ORDER).putInt(0, value));
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long getVLong(ByteBuffer buffer) {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static void putString(ColumnBuffer buffer, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.putBytes(bytes);
+    }
+
+    static String getString(ByteBuffer buffer, Path file) {
+        var length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw corrupted(file, formatWithLocale(
+                "string of length %d exceeds the remaining %d bytes",
+                length,
+                buffer.remaining()
+            ));
+        }
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static IllegalStateException corrupted(Path file, String reason) {
+        return new IllegalStateException(formatWithLocale("Corrupted binary file `%s`: %s", file, reason));
+    }
+}
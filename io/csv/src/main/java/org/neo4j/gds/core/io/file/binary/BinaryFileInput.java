@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.GraphStoreInput;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.GraphInfo;
+import org.neo4j.gds.core.io.file.csv.GraphCapabilitiesLoader;
+import org.neo4j.gds.core.io.file.csv.GraphInfoLoader;
+import org.neo4j.gds.core.io.file.csv.GraphPropertySchemaLoader;
+import org.neo4j.gds.core.io.file.csv.NodeLabelMappingLoader;
+import org.neo4j.gds.core.io.file.csv.NodeSchemaLoader;
+import org.neo4j.gds.core.io.file.csv.RelationshipSchemaLoader;
+import org.neo4j.gds.core.io.file.csv.UserInfoLoader;
+import org.neo4j.gds.core.loading.Capabilities;
+import org.neo4j.internal.batchimport.InputIterable;
+import org.neo4j.internal.batchimport.InputIterator;
+import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.Groups;
+import org.neo4j.internal.batchimport.input.IdType;
+import org.neo4j.internal.batchimport.input.Input;
+import org.neo4j.internal.batchimport.input.InputChunk;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+import org.neo4j.internal.batchimport.input.PropertySizeCalculator;
+import org.neo4j.internal.batchimport.input.ReadableGroups;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.BYTE_ORDER;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.GRAPH_PROPERTY_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.NODE_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.RELATIONSHIP_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.getString;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.getVLong;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.unZigZag;
+
+/**
+ * Reads graphs written by {@link GraphStoreToBinaryExporter}.
+ * The meta data files are shared with the CSV format, nodes, relationships and graph properties
+ * are read block by block, where every import thread maps and decodes whole blocks on its own.
+ */
+final class BinaryFileInput implements FileInput {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final Path importPath;
+    private final String userName;
+    private final GraphInfo graphInfo;
+    private final MutableNodeSchema nodeSchema;
+    private final Optional<HashMap<String, String>> labelMapping;
+    private final MutableRelationshipSchema relationshipSchema;
+    private final Map<String, PropertySchema> graphPropertySchema;
+    private final Capabilities capabilities;
+
+    BinaryFileInput(Path importPath) {
+        this.importPath = importPath;
+        this.userName = new UserInfoLoader(importPath).load();
+        this.graphInfo = new GraphInfoLoader(importPath, CSV_MAPPER).load();
+        this.nodeSchema = new NodeSchemaLoader(importPath).load();
+        this.labelMapping = new NodeLabelMappingLoader(importPath).load();
+        this.relationshipSchema = new RelationshipSchemaLoader(importPath).load();
+        this.graphPropertySchema = new GraphPropertySchemaLoader(importPath).load();
+        this.capabilities = new GraphCapabilitiesLoader(importPath, CSV_MAPPER).load();
+    }
+
+    @Override
+    public InputIterable nodes(Collector badCollector) {
+        var blocks = BinaryFileReader.blocks(BinaryFileReader.files(importPath, NODE_FILE_PREFIX));
+        return () -> new BlockIterator(blocks, NodeBlockChunk::new);
+    }
+
+    @Override
+    public InputIterable relationships(Collector badCollector) {
+        var blocks = BinaryFileReader.blocks(BinaryFileReader.files(importPath, RELATIONSHIP_FILE_PREFIX));
+        return () -> new BlockIterator(blocks, RelationshipBlockChunk::new);
+    }
+
+    @Override
+    public InputIterable graphProperties() {
+        var blocks = BinaryFileReader.blocks(BinaryFileReader.files(importPath, GRAPH_PROPERTY_FILE_PREFIX));
+        return () -> new BlockIterator(blocks, GraphPropertyBlockChunk::new);
+    }
+
+    @Override
+    public IdType idType() {
+        return IdType.ACTUAL;
+    }
+
+    @Override
+    public ReadableGroups groups() {
+        return Groups.EMPTY;
+    }
+
+    @Override
+    public Input.Estimates calculateEstimates(PropertySizeCalculator propertySizeCalculator) {
+        return null;
+    }
+
+    @Override
+    public String userName() {
+        return userName;
+    }
+
+    @Override
+    public GraphInfo graphInfo() {
+        return graphInfo;
+    }
+
+    @Override
+    public MutableNodeSchema nodeSchema() {
+        return nodeSchema;
+    }
+
+    @Override
+    public Optional<HashMap<String, String>> labelMapping() {
+        return labelMapping;
+    }
+
+    @Override
+    public MutableRelationshipSchema relationshipSchema() {
+        return relationshipSchema;
+    }
+
+    @Override
+    public Map<String, PropertySchema> graphPropertySchema() {
+        return graphPropertySchema;
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return capabilities;
+    }
+
+    static final class BlockIterator implements InputIterator {
+
+        private final List<BinaryFileReader.Block> blocks;
+        private final Supplier<BlockChunk> chunkSupplier;
+        private int nextBlock;
+
+        BlockIterator(List<BinaryFileReader.Block> blocks, Supplier<BlockChunk> chunkSupplier) {
+            this.blocks = blocks;
+            this.chunkSupplier = chunkSupplier;
+        }
+
+        @Override
+        public InputChunk newChunk() {
+            return chunkSupplier.get();
+        }
+
+        @Override
+        public boolean next(InputChunk chunk) {
+            BinaryFileReader.Block block;
+            synchronized (this) {
+                if (nextBlock == blocks.size()) {
+                    return false;
+                }
+                block = blocks.get(nextBlock++);
+            }
+            // mapping and checksum verification happen outside the lock
+            ((BlockChunk) chunk).initialize(block);
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    abstract class BlockChunk implements InputChunk, GraphStoreInput.LastProgress {
+
+        BinaryFileReader.FileHeader header;
+        Path file;
+        ByteBuffer[] columns;
+        DefaultValue[] defaultValues;
+        private int rows;
+        private int row;
+
+        void initialize(BinaryFileReader.Block block) {
+            if (header != block.header) {
+                this.header = block.header;
+                this.defaultValues = defaultValues(block.header);
+                initializeHeader(block.header);
+            }
+
+            this.file = block.file;
+            var payload = block.map();
+            var columnCount = payload.getInt();
+            this.columns = new ByteBuffer[columnCount];
+            var position = payload.position();
+            for (int i = 0; i < columnCount; i++) {
+                var length = payload.getInt(position);
+                position += Integer.BYTES;
+                columns[i] = payload.duplicate().position(position).limit(position + length).slice().order(BYTE_ORDER);
+                position += length;
+            }
+
+            this.rows = block.rows;
+            this.row = 0;
+        }
+
+        abstract void initializeHeader(BinaryFileReader.FileHeader header);
+
+        abstract DefaultValue[] defaultValues(BinaryFileReader.FileHeader header);
+
+        abstract void visitRow(int row, InputEntityVisitor visitor) throws IOException;
+
+        @Override
+        public boolean next(InputEntityVisitor visitor) throws IOException {
+            if (row < rows) {
+                visitRow(row++, visitor);
+                return true;
+            }
+            return false;
+        }
+
+        void visitProperties(int firstPropertyColumn, InputEntityVisitor visitor) {
+            for (int i = 0; i < header.propertyKeys.size(); i++) {
+                visitor.property(
+                    header.propertyKeys.get(i),
+                    readValue(columns[firstPropertyColumn + i], header.valueTypes.get(i), defaultValues[i], file)
+                );
+            }
+        }
+
+        DefaultValue[] defaultValues(List<? extends PropertySchema> propertySchemas) {
+            var propertySchemasByKey = propertySchemas
+                .stream()
+                .collect(Collectors.toMap(PropertySchema::key, PropertySchema::defaultValue, (a, b) -> a));
+            return header.propertyKeys
+                .stream()
+                .map(key -> propertySchemasByKey.getOrDefault(key, DefaultValue.DEFAULT))
+                .toArray(DefaultValue[]::new);
+        }
+
+        @Override
+        public long lastProgress() {
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    final class NodeBlockChunk extends BlockChunk {
+
+        private String[] labels;
+        private long previousId;
+
+        @Override
+        void initializeHeader(BinaryFileReader.FileHeader header) {
+            this.labels = header.identifiers
+                .stream()
+                .map(label -> labelMapping.map(mapping -> mapping.get(label)).orElse(label))
+                .toArray(String[]::new);
+        }
+
+        @Override
+        DefaultValue[] defaultValues(BinaryFileReader.FileHeader header) {
+            var nodeLabels = header.identifiers.isEmpty()
+                ? Set.of(NodeLabel.ALL_NODES)
+                : header.identifiers
+                    .stream()
+                    .map(label -> NodeLabel.of(labelMapping.map(mapping -> mapping.get(label)).orElse(label)))
+                    .collect(Collectors.toSet());
+            return defaultValues(List.copyOf(nodeSchema.filter(nodeLabels).unionProperties().values()));
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) throws IOException {
+            if (row == 0) {
+                previousId = 0;
+            }
+            previousId += unZigZag(getVLong(columns[0]));
+
+            visitor.labels(labels);
+            visitor.id(previousId);
+            visitProperties(1, visitor);
+            visitor.endOfEntity();
+        }
+    }
+
+    final class RelationshipBlockChunk extends BlockChunk {
+
+        private String relationshipType;
+        private long previousSource;
+        private long previousTarget;
+
+        @Override
+        void initializeHeader(BinaryFileReader.FileHeader header) {
+            this.relationshipType = header.identifiers.get(0);
+        }
+
+        @Override
+        DefaultValue[] defaultValues(BinaryFileReader.FileHeader header) {
+            return defaultValues(relationshipSchema.propertySchemasFor(RelationshipType.of(header.identifiers.get(0))));
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) throws IOException {
+            if (row == 0) {
+                previousSource = 0;
+                previousTarget = 0;
+            }
+            var source = previousSource + unZigZag(getVLong(columns[0]));
+            var targetBase = row > 0 && source == previousSource ? previousTarget : source;
+            var target = targetBase + unZigZag(getVLong(columns[1]));
+            previousSource = source;
+            previousTarget = target;
+
+            visitor.type(relationshipType);
+            visitor.startId(source);
+            visitor.endId(target);
+            visitProperties(2, visitor);
+            visitor.endOfEntity();
+        }
+    }
+
+    final class GraphPropertyBlockChunk extends BlockChunk {
+
+        @Override
+        void initializeHeader(BinaryFileReader.FileHeader header) {
+        }
+
+        @Override
+        DefaultValue[] defaultValues(BinaryFileReader.FileHeader header) {
+            var propertySchema = graphPropertySchema.get(header.identifiers.get(0));
+            return defaultValues(propertySchema == null ? List.of() : List.of(propertySchema));
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) throws IOException {
+            visitProperties(0, visitor);
+            visitor.endOfEntity();
+        }
+    }
+
+    private static Object readValue(ByteBuffer column, ValueType valueType, DefaultValue defaultValue, Path file) {
+        switch (valueType) {
+            case LONG:
+                return column.getLong();
+            case DOUBLE:
+                return column.getDouble();
+            case LONG_ARRAY: {
+                var length = column.getInt();
+                if (length < 0) {
+                    return defaultValue.longArrayValue();
+                }
+                var values = new long[length];
+                column.asLongBuffer().get(values);
+                column.position(column.position() + length * Long.BYTES);
+                return values;
+            }
+            case DOUBLE_ARRAY: {
+                var length = column.getInt();
+                if (length < 0) {
+                    return defaultValue.doubleArrayValue();
+                }
+                var values = new double[length];
+                column.asDoubleBuffer().get(values);
+                column.position(column.position() + length * Double.BYTES);
+                return values;
+            }
+            case FLOAT_ARRAY: {
+                var length = column.getInt();
+                if (length < 0) {
+                    return defaultValue.floatArrayValue();
+                }
+                var values = new float[length];
+                column.asFloatBuffer().get(values);
+                column.position(column.position() + length * Float.BYTES);
+                return values;
+            }
+            case STRING: {
+                var position = column.position();
+                if (column.getInt(position) < 0) {
+                    column.position(position + Integer.BYTES);
+                    return null;
+                }
+                return getString(column, file);
+            }
+            default:
+                throw new UnsupportedOperationException("Unsupported property type " + valueType);
+        }
+    }
+}
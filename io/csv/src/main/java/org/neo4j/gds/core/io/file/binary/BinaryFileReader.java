@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.BLOCK_HEADER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.BYTE_ORDER;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.FILE_EXTENSION;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.FOOTER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.FOOTER_MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.VERSION;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.checksum;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.corrupted;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.getString;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.updateChecksum;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the block index of binary files and maps individual blocks into memory.
+ * Only block headers are read upfront, so that the payloads can be mapped and decoded by many threads in parallel.
+ */
+final class BinaryFileReader {
+
+    private static final int INITIAL_HEADER_READ_BYTES = 4096;
+
+    private BinaryFileReader() {}
+
+    static final class FileHeader {
+        final byte kind;
+        final List<String> identifiers;
+        final List<String> propertyKeys;
+        final List<ValueType> valueTypes;
+
+        private FileHeader(byte kind, List<String> identifiers, List<String> propertyKeys, List<ValueType> valueTypes) {
+            this.kind = kind;
+            this.identifiers = identifiers;
+            this.propertyKeys = propertyKeys;
+            this.valueTypes = valueTypes;
+        }
+    }
+
+    static final class Block {
+        final Path file;
+        final FileHeader header;
+        final long offset;
+        final int length;
+        final int rows;
+        final int checksum;
+
+        private Block(Path file, FileHeader header, long offset, int length, int rows, int checksum) {
+            this.file = file;
+            this.header = header;
+            this.offset = offset;
+            this.length = length;
+            this.rows = rows;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Maps the payload of this block into memory and verifies its checksum.
+         */
+        ByteBuffer map() {
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                payload.order(BYTE_ORDER);
+                if (checksum(payload) != checksum) {
+                    throw corrupted(file, formatWithLocale("checksum mismatch in block at offset %d", offset));
+                }
+                return payload;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    static List<Path> files(Path directory, String prefix) {
+        try (var files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    var fileName = file.getFileName().toString();
+                    return fileName.startsWith(prefix) && fileName.endsWith(FILE_EXTENSION);
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Block> blocks(List<Path> files) {
+        var blocks = new ArrayList<Block>();
+        files.forEach(file -> blocks.addAll(blocks(file)));
+        return blocks;
+    }
+
+    static List<Block> blocks(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var size = channel.size();
+            var fileChecksum = new CRC32C();
+
+            var headerBuffer = readHeaderBytes(channel, file);
+            var headerLength = headerBuffer.position();
+            var header = parseHeader(headerBuffer.flip().limit(headerLength), file, true);
+            fileChecksum.update(headerBuffer.rewind().limit(headerLength));
+
+            var blocks = new ArrayList<Block>();
+            var blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES).order(BYTE_ORDER);
+            long position = headerLength;
+            long rowCount = 0;
+            while (position + FOOTER_BYTES < size) {
+                readFully(channel, blockHeader.clear(), position, file);
+                blockHeader.flip();
+                var length = blockHeader.getInt();
+                var rows = blockHeader.getInt();
+                var blockChecksum = blockHeader.getInt();
+
+                var payloadOffset = position + BLOCK_HEADER_BYTES;
+                if (length < 0 || payloadOffset + length > size - FOOTER_BYTES) {
+                    throw corrupted(file, formatWithLocale("block at offset %d exceeds the file", position));
+                }
+
+                blocks.add(new Block(file, header, payloadOffset, length, rows, blockChecksum));
+                updateChecksum(fileChecksum, blockChecksum);
+                rowCount += rows;
+                position = payloadOffset + length;
+            }
+
+            if (position + FOOTER_BYTES != size) {
+                throw corrupted(file, "the file is truncated");
+            }
+
+            var footer = ByteBuffer.allocate(FOOTER_BYTES).order(BYTE_ORDER);
+            readFully(channel, footer, position, file);
+            footer.flip();
+            if (footer.getInt() != FOOTER_MAGIC
+                || footer.getInt() != blocks.size()
+                || footer.getLong() != rowCount
+                || footer.getInt() != (int) fileChecksum.getValue()) {
+                throw corrupted(file, "the file checksum does not match");
+            }
+
+            return blocks;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer readHeaderBytes(FileChannel channel, Path file) throws IOException {
+        var readBytes = INITIAL_HEADER_READ_BYTES;
+        while (true) {
+            var buffer = ByteBuffer.allocate((int) Math.min(readBytes, channel.size())).order(BYTE_ORDER);
+            readFully(channel, buffer, 0, file);
+            buffer.flip();
+            try {
+                parseHeader(buffer, file, buffer.limit() >= channel.size());
+                return buffer;
+            } catch (BufferUnderflowException e) {
+                if (readBytes >= channel.size()) {
+                    throw corrupted(file, "the header is truncated");
+                }
+                readBytes *= 2;
+            }
+        }
+    }
+
+    private static FileHeader parseHeader(ByteBuffer buffer, Path file, boolean complete) {
+        if (buffer.getInt() != MAGIC) {
+            throw corrupted(file, "it is not a binary graph file");
+        }
+        var version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException(formatWithLocale(
+                "Unsupported binary file version %d in `%s`, expected %d",
+                version,
+                file,
+                VERSION
+            ));
+        }
+        var kind = (byte) buffer.getInt();
+
+        var identifierCount = buffer.getInt();
+        var identifiers = new ArrayList<String>(identifierCount);
+        for (int i = 0; i < identifierCount; i++) {
+            identifiers.add(getHeaderString(buffer, file, complete));
+        }
+
+        var propertyCount = buffer.getInt();
+        var propertyKeys = new ArrayList<String>(propertyCount);
+        var valueTypes = new ArrayList<ValueType>(propertyCount);
+        for (int i = 0; i < propertyCount; i++) {
+            propertyKeys.add(getHeaderString(buffer, file, complete));
+            valueTypes.add(ValueType.fromCsvName(getHeaderString(buffer, file, complete)));
+        }
+
+        return new FileHeader(kind, identifiers, propertyKeys, valueTypes);
+    }
+
+    /**
+     * If only a part of the file has been read, a string exceeding the buffer might just not have been read yet.
+     */
+    private static String getHeaderString(ByteBuffer buffer, Path file, boolean complete) {
+        if (!complete && (
+            buffer.remaining() < Integer.BYTES || buffer.getInt(buffer.position()) > buffer.remaining() - Integer.BYTES
+        )) {
+            throw new BufferUnderflowException();
+        }
+        return getString(buffer, file);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position, Path file) throws IOException {
+        while (buffer.hasRemaining()) {
+            var read = channel.read(buffer, position);
+            if (read < 0) {
+                throw corrupted(file, "unexpected end of file");
+            }
+            position += read;
+        }
+    }
+}
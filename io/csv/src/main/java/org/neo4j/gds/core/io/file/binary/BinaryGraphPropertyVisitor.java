@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.GraphPropertyVisitor;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.GRAPH_PROPERTY;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.GRAPH_PROPERTY_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.fileName;
+
+class BinaryGraphPropertyVisitor extends GraphPropertyVisitor {
+
+    private final Path fileLocation;
+    private final Map<String, PropertySchema> graphPropertySchemas;
+    private final int visitorId;
+    private final Map<String, BinaryBlockWriter> writers;
+
+    BinaryGraphPropertyVisitor(Path fileLocation, Map<String, PropertySchema> graphPropertySchemas, int visitorId) {
+        this.fileLocation = fileLocation;
+        this.graphPropertySchemas = graphPropertySchemas;
+        this.visitorId = visitorId;
+        this.writers = new HashMap<>();
+    }
+
+    @Override
+    public boolean property(String key, Object value) {
+        var writer = writers.computeIfAbsent(key, ignore -> new BinaryBlockWriter(
+            fileLocation.resolve(fileName(GRAPH_PROPERTY_FILE_PREFIX, visitorId, writers.size())),
+            GRAPH_PROPERTY,
+            List.of(key),
+            List.of(graphPropertySchemas.get(key))
+        ));
+        writer.appendProperty(0, value);
+        writer.endRow();
+        return true;
+    }
+
+    @Override
+    public void flush() {
+        writers.values().forEach(BinaryBlockWriter::flushBlock);
+    }
+
+    @Override
+    public void close() {
+        writers.values().forEach(BinaryBlockWriter::close);
+        writers.clear();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.settings.GdsSettings;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.ExtensionType;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.internal.LogService;
+
+/**
+ * Enables spilling of least recently used graphs in the {@link GraphStoreCatalog}
+ * when both a resident memory capacity and a spill location are configured.
+ */
+@ServiceProvider
+public class BinaryGraphStoreSpillExtension extends ExtensionFactory<BinaryGraphStoreSpillExtension.Dependencies> {
+
+    public BinaryGraphStoreSpillExtension() {
+        super(ExtensionType.GLOBAL, "gds.graph_catalog.spill");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        var config = dependencies.config();
+        var capacity = config.get(GdsSettings.residentMemoryCapacity());
+        var spillLocation = config.get(GdsSettings.spillLocation());
+
+        if (capacity == 0 || spillLocation == null) {
+            return new LifecycleAdapter();
+        }
+
+        return new LifecycleAdapter() {
+            @Override
+            public void init() {
+                var log = Neo4jProxy.getUserLog(dependencies.logService(), BinaryGraphStoreSpillExtension.class);
+                GraphStoreCatalog.enableSpilling(
+                    capacity,
+                    new BinaryGraphStoreSpillStore(spillLocation, ConcurrencyConfig.DEFAULT_CONCURRENCY, log)
+                );
+                log.info(
+                    "Graph catalog keeps at most %s of graphs in memory, spilling to `%s`",
+                    MemoryUsage.humanReadable(capacity),
+                    spillLocation
+                );
+            }
+
+            @Override
+            public void shutdown() {
+                // the catalog does not outlive the database, loading the spilled graphs again would be wasted
+                GraphStoreCatalog.discardSpilledGraphs();
+            }
+        };
+    }
+
+    interface Dependencies {
+        Config config();
+
+        LogService logService();
+    }
+}
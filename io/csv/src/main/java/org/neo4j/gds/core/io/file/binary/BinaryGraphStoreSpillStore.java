@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterParameters;
+import org.neo4j.gds.core.loading.GraphStoreSpillStore;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Spills evicted graph stores as binary exports into a local directory.
+ * Every snapshot is a separate export directory that is removed once the graph is reloaded or dropped.
+ * Reloading maps the column blocks of the snapshot into memory and decodes them in parallel.
+ */
+public final class BinaryGraphStoreSpillStore implements GraphStoreSpillStore {
+
+    private final Path spillLocation;
+    private final int concurrency;
+    private final Log log;
+
+    public BinaryGraphStoreSpillStore(Path spillLocation, int concurrency, Log log) {
+        this.spillLocation = spillLocation;
+        this.concurrency = concurrency;
+        this.log = log;
+    }
+
+    @Override
+    public Path spill(GraphProjectConfig config, GraphStore graphStore) {
+        var exportName = UUID.randomUUID().toString();
+        var snapshot = spillLocation.resolve(exportName);
+
+        try {
+            Files.createDirectories(snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                formatWithLocale("Could not create spill directory for graph `%s`", config.graphName()),
+                e
+            );
+        }
+
+        var parameters = GraphStoreToFileExporterParameters.create(
+            exportName,
+            config.username(),
+            true,
+            true,
+            RelationshipType.ALL_RELATIONSHIPS.name,
+            concurrency,
+            ParallelUtil.DEFAULT_BATCH_SIZE
+        );
+
+        GraphStoreToBinaryExporter.create(
+            graphStore,
+            parameters,
+            snapshot,
+            Optional.empty(),
+            EmptyTaskRegistryFactory.INSTANCE,
+            log,
+            DefaultPool.INSTANCE
+        ).run();
+
+        return snapshot;
+    }
+
+    @Override
+    public GraphStore reload(Path snapshot) {
+        return new BinaryToGraphStoreImporter(concurrency, snapshot, log, EmptyTaskRegistryFactory.INSTANCE)
+            .run()
+            .graphStore();
+    }
+
+    @Override
+    public void delete(Path snapshot) {
+        try (Stream<Path> files = Files.walk(snapshot)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn(formatWithLocale("Could not delete spilled graph snapshot at `%s`", snapshot), e);
+        }
+    }
+}
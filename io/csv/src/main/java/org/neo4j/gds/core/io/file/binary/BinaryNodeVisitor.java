@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.NodeLabelMapping;
+import org.neo4j.gds.core.io.file.NodeVisitor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.NODES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.NODE_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.fileName;
+
+class BinaryNodeVisitor extends NodeVisitor {
+
+    private final Path fileLocation;
+    private final int visitorId;
+    private final Optional<NodeLabelMapping> nodeLabelMapping;
+    private final Map<String, BinaryBlockWriter> writers;
+
+    BinaryNodeVisitor(
+        Path fileLocation,
+        NodeSchema nodeSchema,
+        int visitorId,
+        Optional<NodeLabelMapping> nodeLabelMapping
+    ) {
+        super(nodeSchema);
+        this.fileLocation = fileLocation;
+        this.visitorId = visitorId;
+        this.nodeLabelMapping = nodeLabelMapping;
+        this.writers = new HashMap<>();
+    }
+
+    @Override
+    protected void exportElement() {
+        var writer = getWriter();
+        writer.appendNodeId(id());
+
+        var propertyIndex = new int[]{0};
+        forEachProperty((key, value) -> writer.appendProperty(propertyIndex[0]++, value));
+
+        writer.endRow();
+    }
+
+    @Override
+    public void flush() {
+        writers.values().forEach(BinaryBlockWriter::flushBlock);
+    }
+
+    @Override
+    public void close() {
+        writers.values().forEach(BinaryBlockWriter::close);
+        writers.clear();
+    }
+
+    private BinaryBlockWriter getWriter() {
+        return writers.computeIfAbsent(elementIdentifier(), ignore -> {
+            var propertySchema = getPropertySchema();
+            propertySchema.sort(Comparator.comparing(PropertySchema::key));
+            return new BinaryBlockWriter(
+                fileLocation.resolve(fileName(NODE_FILE_PREFIX, visitorId, writers.size())),
+                NODES,
+                labels(),
+                propertySchema
+            );
+        });
+    }
+
+    @Override
+    protected List<PropertySchema> getPropertySchema() {
+        var nodeLabelList = currentLabels.isEmpty()
+            ? EMPTY_LABELS_LABEL
+            : currentLabels.stream()
+                .map(nodeLabelMapping.isPresent()
+                    ? nodeLabelMapping.get()::get
+                    : NodeLabel::of
+                )
+                .collect(Collectors.toSet());
+        var propertySchemaForLabels = nodeSchema.filter(nodeLabelList);
+        return new ArrayList<>(propertySchemaForLabels.unionProperties().values());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.io.file.RelationshipVisitor;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.RELATIONSHIPS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.RELATIONSHIP_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.fileName;
+
+class BinaryRelationshipVisitor extends RelationshipVisitor {
+
+    private final Path fileLocation;
+    private final int visitorId;
+    private final Map<String, BinaryBlockWriter> writers;
+
+    BinaryRelationshipVisitor(Path fileLocation, RelationshipSchema relationshipSchema, int visitorId) {
+        super(relationshipSchema);
+        this.fileLocation = fileLocation;
+        this.visitorId = visitorId;
+        this.writers = new HashMap<>();
+    }
+
+    @Override
+    protected void exportElement() {
+        var writer = getWriter();
+        writer.appendRelationship(startNode(), endNode());
+
+        var propertyIndex = new int[]{0};
+        forEachProperty((key, value) -> writer.appendProperty(propertyIndex[0]++, value));
+
+        writer.endRow();
+    }
+
+    @Override
+    public void flush() {
+        writers.values().forEach(BinaryBlockWriter::flushBlock);
+    }
+
+    @Override
+    public void close() {
+        writers.values().forEach(BinaryBlockWriter::close);
+        writers.clear();
+    }
+
+    private BinaryBlockWriter getWriter() {
+        return writers.computeIfAbsent(relationshipType(), ignore -> {
+            var propertySchema = getPropertySchema();
+            propertySchema.sort(Comparator.comparing(PropertySchema::key));
+            return new BinaryBlockWriter(
+                fileLocation.resolve(fileName(RELATIONSHIP_FILE_PREFIX, visitorId, writers.size())),
+                RELATIONSHIPS,
+                List.of(relationshipType()),
+                propertySchema
+            );
+        });
+    }
+}
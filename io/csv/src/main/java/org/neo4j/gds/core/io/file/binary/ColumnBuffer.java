@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFileFormat.BYTE_ORDER;
+
+/**
+ * A growable little-endian byte buffer holding a single column of a block.
+ */
+final class ColumnBuffer {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private ByteBuffer buffer;
+
+    ColumnBuffer() {
+        this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY).order(BYTE_ORDER);
+    }
+
+    void putInt(int value) {
+        ensureCapacity(Integer.BYTES).putInt(value);
+    }
+
+    void putLong(long value) {
+        ensureCapacity(Long.BYTES).putLong(value);
+    }
+
+    void putFloat(float value) {
+        ensureCapacity(Float.BYTES).putFloat(value);
+    }
+
+    void putDouble(double value) {
+        ensureCapacity(Double.BYTES).putDouble(value);
+    }
+
+    void putBytes(byte[] bytes) {
+        ensureCapacity(bytes.length).put(bytes);
+    }
+
+    void putVLong(long value) {
+        var target = ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Returns a read-only view of the written bytes.
+     */
+    ByteBuffer written() {
+        return buffer.duplicate().flip().asReadOnlyBuffer();
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    private ByteBuffer ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            var newCapacity = Math.max(buffer.capacity() + (buffer.capacity() >> 1), buffer.position() + bytes);
+            var position = buffer.position();
+            buffer = ByteBuffer
+                .wrap(Arrays.copyOf(buffer.array(), newCapacity))
+                .order(BYTE_ORDER)
+                .position(position);
+        }
+        return buffer;
+    }
+}
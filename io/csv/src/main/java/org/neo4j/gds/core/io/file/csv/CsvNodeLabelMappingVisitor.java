@@ -36,7 +36,7 @@ public class CsvNodeLabelMappingVisitor implements SimpleVisitor<Map.Entry<NodeL
     static final String LABEL_MAPPING_FILE_NAME = "label-mappings.csv";
     private final CsvWriter csvWriter;
 
-    CsvNodeLabelMappingVisitor(Path fileLocation) {
+    public CsvNodeLabelMappingVisitor(Path fileLocation) {
         try {
             this.csvWriter = CsvWriter.builder().build(fileLocation.resolve(LABEL_MAPPING_FILE_NAME), StandardCharsets.UTF_8);
             writeHeader();
@@ -37,12 +37,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
-class GraphPropertySchemaLoader {
+public class GraphPropertySchemaLoader {
 
     private final ObjectReader objectReader;
     private final Path graphPropertySchemaPath;
 
-    GraphPropertySchemaLoader(Path csvDirectory) {
+    public GraphPropertySchemaLoader(Path csvDirectory) {
         this.graphPropertySchemaPath = csvDirectory.resolve(CsvGraphPropertySchemaVisitor.GRAPH_PROPERTY_SCHEMA_FILE_NAME);
         var csvMapper = new CsvMapper();
         csvMapper.enable(CsvParser.Feature.TRIM_SPACES);
@@ -50,7 +50,7 @@ class GraphPropertySchemaLoader {
         this.objectReader = csvMapper.readerFor(PropertySchemaLine.class).with(schema);
     }
 
-    Map<String, PropertySchema> load() {
+    public Map<String, PropertySchema> load() {
         var schemaBuilder = new GraphPropertySchemaBuilderVisitor();
 
         if (Files.exists(graphPropertySchemaPath)) {
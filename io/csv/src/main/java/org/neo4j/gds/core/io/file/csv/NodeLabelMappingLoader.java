@@ -39,7 +39,7 @@ public class NodeLabelMappingLoader {
     private final Path labelMappingPath;
     private final HashMap<String, String> mapping;
 
-    NodeLabelMappingLoader(Path csvDirectory) {
+    public NodeLabelMappingLoader(Path csvDirectory) {
         this.mapping = new HashMap<>();
         this.labelMappingPath = csvDirectory.resolve(CsvNodeLabelMappingVisitor.LABEL_MAPPING_FILE_NAME);
         CsvMapper csvMapper = new CsvMapper();
@@ -48,7 +48,7 @@ public class NodeLabelMappingLoader {
         this.objectReader = csvMapper.readerFor(MappingLine.class).with(schema);
     }
 
-    Optional<HashMap<String, String>> load() {
+    public Optional<HashMap<String, String>> load() {
         var file = labelMappingPath.toFile();
         if (!file.isFile()) {
             return Optional.empty();
@@ -29,11 +29,11 @@ public class UserInfoLoader {
 
     private final Path userInfoFilePath;
 
-    UserInfoLoader(Path importPath) {
+    public UserInfoLoader(Path importPath) {
         this.userInfoFilePath = importPath.resolve(UserInfoVisitor.USER_INFO_FILE_NAME);
     }
 
-    String load() {
+    public String load() {
         try {
             return Files.readString(userInfoFilePath, StandardCharsets.UTF_8).trim();
         } catch (IOException e) {
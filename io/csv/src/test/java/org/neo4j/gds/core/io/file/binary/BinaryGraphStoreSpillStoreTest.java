@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.logging.NullLog;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class BinaryGraphStoreSpillStoreTest {
+
+    @TempDir
+    Path spillLocation;
+
+    @Test
+    void shouldSpillAndReloadGraphStore() {
+        var graphStore = GdlFactory.of("(a:A {p: 1})-[:REL {w: 0.5}]->(b:B {p: 2})-[:REL {w: 1.5}]->(a)").build();
+        var spillStore = new BinaryGraphStoreSpillStore(spillLocation, 4, NullLog.getInstance());
+
+        var snapshot = spillStore.spill(GraphProjectConfig.emptyWithName("alice", "graph"), graphStore);
+        assertThat(snapshot).startsWith(spillLocation).isDirectory();
+
+        var reloaded = spillStore.reload(snapshot);
+        assertGraphEquals(graphStore.getUnion(), reloaded.getUnion());
+        assertThat(reloaded.databaseInfo()).isEqualTo(graphStore.databaseInfo());
+
+        spillStore.delete(snapshot);
+        assertThat(snapshot).doesNotExist();
+        assertThat(spillLocation).isEmptyDirectory();
+    }
+}
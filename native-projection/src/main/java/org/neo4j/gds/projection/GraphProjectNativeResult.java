@@ -19,7 +19,9 @@
  */
 package org.neo4j.gds.projection;
 
+import org.neo4j.gds.AdjacencyFormat;
 import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipProjections;
 import org.neo4j.gds.core.loading.GraphProjectResult;
 
@@ -56,11 +58,30 @@ public class GraphProjectNativeResult extends GraphProjectResult {
             return new GraphProjectNativeResult(
                 graphName,
                 nodeProjections.toObject(),
-                relationshipProjections.toObject(),
+                relationshipProjection(),
                 nodeCount,
                 relationshipCount,
                 projectMillis
             );
         }
+
+        /**
+         * Projections that ask for a specific adjacency format report the format that has been used,
+         * which for {@link AdjacencyFormat#AUTO} is the one selected during loading.
+         */
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> relationshipProjection() {
+            var relationshipProjection = relationshipProjections.toObject();
+            relationshipProjections.projections().forEach((relationshipType, projection) -> {
+                var adjacencyFormat = adjacencyFormats.get(relationshipType);
+                if (projection.adjacencyFormat() != AdjacencyFormat.DEFAULT && adjacencyFormat != null) {
+                    ((Map<String, Object>) relationshipProjection.get(relationshipType.name)).put(
+                        RelationshipProjection.ADJACENCY_FORMAT_KEY,
+                        adjacencyFormat.name()
+                    );
+                }
+            });
+            return relationshipProjection;
+        }
     }
 }
@@ -31,6 +31,14 @@ public final class GdsSettings {
         return GraphStoreExportSettings.export_location_setting;
     }
 
+    public static Setting<Long> residentMemoryCapacity() {
+        return GraphCatalogSettings.resident_memory_capacity;
+    }
+
+    public static Setting<Path> spillLocation() {
+        return GraphCatalogSettings.spill_location;
+    }
+
     public static Setting<Boolean> validateUsingMaxMemoryEstimation() {
         return MemoryEstimationSettings.validate_using_max_memory_estimation;
     }
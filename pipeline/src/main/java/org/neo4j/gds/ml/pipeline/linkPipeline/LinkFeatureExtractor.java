@@ -110,12 +110,19 @@ public final class LinkFeatureExtractor {
 
     public double[] extractFeatures(long source, long target) {
         var featuresForLink = new double[featureDimension];
+        extractFeatures(source, target, featuresForLink);
+        return featuresForLink;
+    }
+
+    /**
+     * Writes the features of the link into the given array of length {@link #featureDimension()}.
+     */
+    public void extractFeatures(long source, long target, double[] featuresForLink) {
         int featureOffset = 0;
         for (LinkFeatureAppender featureProducer : linkFeatureAppenders) {
             featureProducer.appendFeatures(source, target, featuresForLink, featureOffset);
             featureOffset += featureProducer.dimension();
         }
-        return featuresForLink;
     }
 
     public boolean isSymmetric() {
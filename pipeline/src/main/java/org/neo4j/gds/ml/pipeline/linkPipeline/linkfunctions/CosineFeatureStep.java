@@ -158,9 +158,11 @@ public class CosineFeatureStep implements LinkFeatureStep {
     }
 
     private static class FloatArrayComputer extends PartialL2WithNormsComputer {
+        private final FloatArrayLinkReader reader;
 
         FloatArrayComputer(NodePropertyValues values) {
             super(values);
+            this.reader = new FloatArrayLinkReader(values);
         }
 
         @Override
@@ -169,8 +171,8 @@ public class CosineFeatureStep implements LinkFeatureStep {
             long target,
             CosineComputationResult result
         ) {
-            var sourceArrayPropValues = values.floatArrayValue(source);
-            var targetArrayPropValues = values.floatArrayValue(target);
+            var sourceArrayPropValues = reader.source(source);
+            var targetArrayPropValues = reader.target(target);
             assert sourceArrayPropValues.length == targetArrayPropValues.length;
             for (int i = 0; i < sourceArrayPropValues.length; i++) {
                 result.dotProduct += sourceArrayPropValues[i] * targetArrayPropValues[i];
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.linkPipeline.linkfunctions;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+/**
+ * Reads the float array properties of the source and target of a link without allocating an array per read.
+ * Link feature appenders are shared between threads, so every thread reads into its own buffers.
+ * The returned arrays are only valid until the next read of the same endpoint on the same thread.
+ */
+final class FloatArrayLinkReader {
+    private static final int SOURCE = 0;
+    private static final int TARGET = 1;
+
+    private final NodePropertyValues values;
+    private final ThreadLocal<float[][]> buffers;
+
+    FloatArrayLinkReader(NodePropertyValues values) {
+        this.values = values;
+        this.buffers = ThreadLocal.withInitial(() -> new float[][]{new float[0], new float[0]});
+    }
+
+    float[] source(long nodeId) {
+        return read(nodeId, SOURCE);
+    }
+
+    float[] target(long nodeId) {
+        return read(nodeId, TARGET);
+    }
+
+    private float[] read(long nodeId, int slot) {
+        var buffers = this.buffers.get();
+        var buffer = buffers[slot];
+        int length = values.copyFloatArrayValue(nodeId, buffer, 0);
+        if (length == buffer.length) {
+            return buffer;
+        }
+        if (length < 0) {
+            return values.floatArrayValue(nodeId);
+        }
+        buffer = new float[length];
+        buffers[slot] = buffer;
+        values.copyFloatArrayValue(nodeId, buffer, 0);
+        return buffer;
+    }
+}
@@ -105,14 +105,17 @@ public class HadamardFeatureStep implements LinkFeatureStep {
         }
 
         private static class HadamardFloatArrayFeatureAppender extends SinglePropertyFeatureAppender {
+            private final FloatArrayLinkReader reader;
+
             HadamardFloatArrayFeatureAppender(NodePropertyValues props, int dimension) {
                 super(props, dimension);
+                this.reader = new FloatArrayLinkReader(props);
             }
 
             @Override
             public void appendFeatures(long source, long target, double[] linkFeatures, int offset) {
-                var sourceArrayPropValues = props.floatArrayValue(source);
-                var targetArrayPropValues = props.floatArrayValue(target);
+                var sourceArrayPropValues = reader.source(source);
+                var targetArrayPropValues = reader.target(target);
                 assert sourceArrayPropValues.length == targetArrayPropValues.length;
                 for (int i = 0; i < sourceArrayPropValues.length; i++) {
                     linkFeatures[offset++] = sourceArrayPropValues[i] * targetArrayPropValues[i];
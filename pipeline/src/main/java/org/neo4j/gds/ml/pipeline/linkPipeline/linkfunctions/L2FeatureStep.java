@@ -109,15 +109,17 @@ public class L2FeatureStep implements LinkFeatureStep {
         }
 
         private static class L2FloatArrayFeatureAppender extends SinglePropertyFeatureAppender {
+            private final FloatArrayLinkReader reader;
 
             L2FloatArrayFeatureAppender(NodePropertyValues props, int dimension) {
                 super(props, dimension);
+                this.reader = new FloatArrayLinkReader(props);
             }
 
             @Override
             public void appendFeatures(long source, long target, double[] linkFeatures, int offset) {
-                var sourceArrayPropValues = props.floatArrayValue(source);
-                var targetArrayPropValues = props.floatArrayValue(target);
+                var sourceArrayPropValues = reader.source(source);
+                var targetArrayPropValues = reader.target(target);
                 assert sourceArrayPropValues.length == targetArrayPropValues.length;
                 for (int i = 0; i < sourceArrayPropValues.length; i++) {
                     linkFeatures[offset++] = Math.pow(
@@ -52,7 +52,9 @@ public final class ComputationAlgorithmFactory extends GraphAlgorithmFactory<Com
         return Pregel.memoryEstimation(
             computation.schema(configuration),
             computation.reducer().isEmpty(),
-            configuration.isAsynchronous()
+            configuration.isAsynchronous(),
+            configuration.combineMessages(),
+            configuration.useActiveFrontier()
         );
     }
 }
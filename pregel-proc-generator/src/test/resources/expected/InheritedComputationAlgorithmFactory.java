@@ -52,7 +52,9 @@ public final class InheritedComputationAlgorithmFactory extends GraphAlgorithmFa
         return Pregel.memoryEstimation(
             computation.schema(configuration),
             computation.reducer().isEmpty(),
-            configuration.isAsynchronous()
+            configuration.isAsynchronous(),
+            configuration.combineMessages(),
+            configuration.useActiveFrontier()
         );
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Locale;
+
+/**
+ * A messenger implementation for {@link MessageType#DOUBLE_ARRAY} messages of a
+ * fixed dimension. Messages are stored in two double arrays, holding
+ * {@code dimension} consecutive entries per node, and are reduced element-wise.
+ * A node has received a message if any of its entries differs from the identity.
+ */
+public class ArrayReducingMessenger implements Messenger<ArrayReducingMessenger.SingleArrayMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final int dimension;
+
+    private HugeAtomicDoubleArray sendArray;
+    private HugeAtomicDoubleArray receiveArray;
+
+    ArrayReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, int dimension) {
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.dimension = dimension;
+
+        var size = graph.nodeCount() * dimension;
+        this.receiveArray = HugeAtomicDoubleArray.of(size, ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.sendArray = HugeAtomicDoubleArray.of(size, ParallelDoublePageCreator.passThrough(config.concurrency()));
+    }
+
+    static MemoryEstimation memoryEstimation(int dimension) {
+        return MemoryEstimations.builder(ArrayReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * dimension))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * dimension))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        var identity = reducer.identity();
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount() * dimension,
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            index -> sendArray.set(index, identity)
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(
+            "Double messages are not supported for the message type " + MessageType.DOUBLE_ARRAY + ", use `sendTo(long, double[])` instead"
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        if (message.length != dimension) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Expected a message of dimension %d, but got %d",
+                dimension,
+                message.length
+            ));
+        }
+        var offset = targetNodeId * dimension;
+        for (int i = 0; i < dimension; i++) {
+            var value = message[i];
+            sendArray.update(offset + i, current -> reducer.reduce(current, value));
+        }
+    }
+
+    @Override
+    public int messageDimension() {
+        return dimension;
+    }
+
+    @Override
+    public SingleArrayMessageIterator messageIterator() {
+        return new SingleArrayMessageIterator(dimension);
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleArrayMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var identity = reducer.identity();
+        var offset = nodeId * dimension;
+        var message = messageIterator.message;
+        boolean hasMessage = false;
+        for (int i = 0; i < dimension; i++) {
+            message[i] = receiveArray.getAndReplace(offset + i, identity);
+            hasMessage |= message[i] != identity;
+        }
+        messageIterator.init(hasMessage);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleArrayMessageIterator implements Messages.MessageIterator {
+
+        final double[] message;
+        private int pos;
+
+        SingleArrayMessageIterator(int dimension) {
+            this.message = new double[dimension];
+        }
+
+        void init(boolean hasNext) {
+            this.pos = hasNext ? 0 : message.length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return pos == message.length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pos < message.length;
+        }
+
+        @Override
+        public double nextDouble() {
+            return message[pos++];
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A messenger implementation that reduces messages without contention on
+ * shared memory. The messenger can only be applied in combination with a
+ * {@link Reducer}, which must be able to {@link Reducer#combine(double, double) combine}
+ * partially reduced values.
+ * <p>
+ * Each thread reduces its outgoing messages into a small, direct-mapped
+ * combiner cache. Messages that are evicted from the cache are appended
+ * to thread-local buffers, one for each range of target nodes. At the
+ * superstep barrier, each target range is merged by a single thread,
+ * which allows plain writes into the receive array.
+ * <p>
+ * Compared to the {@link ReducingMessenger}, frequently addressed nodes,
+ * such as hubs in power-law graphs, no longer cause threads to spin on
+ * the same cache lines. The trade-off is the memory for the buffered
+ * messages, which grows with the number of messages that could not be
+ * combined locally.
+ */
+public class CombiningReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
+
+    // Number of entries in the thread-local combiner cache, must be a power of two.
+    static final int CACHE_SIZE = 1 << 12;
+    // Number of target ranges per thread, each range is merged by a single thread.
+    private static final int RANGES_PER_THREAD = 4;
+    private static final int MIN_BUFFER_CAPACITY = 64;
+    private static final long EMPTY_SLOT = -1L;
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final double identity;
+
+    private final long rangeSize;
+    private final int rangeCount;
+
+    private final HugeDoubleArray receiveArray;
+
+    private final List<LocalCombiner> combiners;
+    private final CloseableThreadLocal<LocalCombiner> localCombiner;
+
+    CombiningReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.identity = reducer.identity();
+
+        var nodeCount = graph.nodeCount();
+        var targetRangeCount = Math.max(1, config.concurrency() * RANGES_PER_THREAD);
+        this.rangeSize = Math.max(1, ceilDiv(nodeCount, targetRangeCount));
+        this.rangeCount = (int) Math.max(1, ceilDiv(nodeCount, rangeSize));
+
+        this.receiveArray = HugeDoubleArray.newArray(nodeCount);
+        this.combiners = new ArrayList<>();
+        this.localCombiner = CloseableThreadLocal.withInitial(this::newLocalCombiner);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(CombiningReducingMessenger.class)
+            .perNode("receive array", HugeDoubleArray::memoryEstimation)
+            .perThread(
+                "combiner cache",
+                MemoryUsage.sizeOfLongArray(CACHE_SIZE) + MemoryUsage.sizeOfDoubleArray(CACHE_SIZE)
+            )
+            .rangePerGraphDimension("message buffers", (dimensions, concurrency) -> {
+                // In the worst case, no message can be combined locally
+                // and all messages of a superstep are buffered.
+                var perMessage = Long.BYTES + Double.BYTES;
+                return MemoryRange.of(0, dimensions.relCountUpperBound() * perMessage);
+            })
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        List<LocalCombiner> localCombiners;
+        synchronized (combiners) {
+            localCombiners = new ArrayList<>(combiners);
+        }
+
+        var concurrency = config.concurrency();
+
+        ParallelUtil.parallelForEachNode(
+            localCombiners.size(),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            index -> localCombiners.get((int) index).flushCache()
+        );
+
+        ParallelUtil.parallelForEachNode(
+            rangeCount,
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            range -> mergeRange((int) range, localCombiners)
+        );
+    }
+
+    private void mergeRange(int range, List<LocalCombiner> localCombiners) {
+        var start = range * rangeSize;
+        var end = Math.min(start + rangeSize, graph.nodeCount());
+        for (long nodeId = start; nodeId < end; nodeId++) {
+            receiveArray.set(nodeId, identity);
+        }
+
+        for (LocalCombiner combiner : localCombiners) {
+            var targets = combiner.targets[range];
+            var values = combiner.values[range];
+            var size = combiner.sizes[range];
+            for (int i = 0; i < size; i++) {
+                var target = targets[i];
+                receiveArray.set(target, reducer.combine(receiveArray.get(target), values[i]));
+            }
+            combiner.sizes[range] = 0;
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        localCombiner.get().send(targetNodeId, message);
+    }
+
+    @Override
+    public ReducingMessenger.SingleMessageIterator messageIterator() {
+        return new ReducingMessenger.SingleMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        ReducingMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var message = receiveArray.get(nodeId);
+        messageIterator.init(message, message != identity);
+    }
+
+    @Override
+    public void release() {
+        receiveArray.release();
+        localCombiner.close();
+        synchronized (combiners) {
+            combiners.clear();
+        }
+    }
+
+    private LocalCombiner newLocalCombiner() {
+        var combiner = new LocalCombiner();
+        synchronized (combiners) {
+            combiners.add(combiner);
+        }
+        return combiner;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private final class LocalCombiner {
+
+        private final long[] cachedTargets;
+        private final double[] cachedValues;
+
+        private final long[][] targets;
+        private final double[][] values;
+        private final int[] sizes;
+
+        LocalCombiner() {
+            this.cachedTargets = new long[CACHE_SIZE];
+            this.cachedValues = new double[CACHE_SIZE];
+            Arrays.fill(cachedTargets, EMPTY_SLOT);
+
+            this.targets = new long[rangeCount][0];
+            this.values = new double[rangeCount][0];
+            this.sizes = new int[rangeCount];
+        }
+
+        void send(long target, double message) {
+            var slot = (int) (target & (CACHE_SIZE - 1));
+            var cachedTarget = cachedTargets[slot];
+            if (cachedTarget == target) {
+                cachedValues[slot] = reducer.reduce(cachedValues[slot], message);
+                return;
+            }
+            if (cachedTarget != EMPTY_SLOT) {
+                append(cachedTarget, cachedValues[slot]);
+            }
+            cachedTargets[slot] = target;
+            cachedValues[slot] = reducer.reduce(identity, message);
+        }
+
+        void flushCache() {
+            for (int slot = 0; slot < CACHE_SIZE; slot++) {
+                var cachedTarget = cachedTargets[slot];
+                if (cachedTarget != EMPTY_SLOT) {
+                    append(cachedTarget, cachedValues[slot]);
+                    cachedTargets[slot] = EMPTY_SLOT;
+                }
+            }
+        }
+
+        private void append(long target, double value) {
+            var range = (int) (target / rangeSize);
+            var size = sizes[range];
+            if (size == targets[range].length) {
+                var newCapacity = Math.max(MIN_BUFFER_CAPACITY, size + (size >> 1));
+                targets[range] = Arrays.copyOf(targets[range], newCapacity);
+                values[range] = Arrays.copyOf(values[range], newCapacity);
+            }
+            targets[range][size] = target;
+            values[range][size] = value;
+            sizes[range] = size + 1;
+        }
+    }
+}
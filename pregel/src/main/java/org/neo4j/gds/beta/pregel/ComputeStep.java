@@ -25,6 +25,9 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -50,17 +53,25 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    /**
+     * The frontier of active nodes, if active node tracking is enabled.
+     * If the frontier is sparse, the {@link #nodeBatch()} is a range of
+     * indices into {@link Frontier#activeNodes()} instead of node ids.
+     */
+    Optional<Frontier> frontier();
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
+        var messages = new Messages(messageIterator, messenger.messageDimension());
 
         var nodeBatch = nodeBatch();
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier().orElse(null);
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,8 +83,19 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+
+                if (frontier != null && !voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier != null && frontier.isSparse()) {
+            var activeNodes = frontier.activeNodes();
+            nodeBatch.consume(index -> computeNode.accept(activeNodes.get(index)));
+        } else {
+            nodeBatch.consume(computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
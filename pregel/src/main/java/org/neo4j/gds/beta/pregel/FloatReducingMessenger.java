@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParallelIntPageCreator;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * A messenger implementation for {@link MessageType#FLOAT} messages. Messages
+ * are reduced in double precision and stored with single precision in two int
+ * arrays, holding the raw float bits, used to send and receive messages.
+ */
+public class FloatReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final float identity;
+    private final int identityBits;
+
+    private HugeAtomicIntArray sendArray;
+    private HugeAtomicIntArray receiveArray;
+
+    FloatReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.identity = (float) reducer.identity();
+        this.identityBits = Float.floatToRawIntBits(identity);
+
+        this.receiveArray = HugeAtomicIntArray.of(graph.nodeCount(), ParallelIntPageCreator.of(config.concurrency()));
+        this.sendArray = HugeAtomicIntArray.of(graph.nodeCount(), ParallelIntPageCreator.of(config.concurrency()));
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(FloatReducingMessenger.class)
+            .perNode("send array", HugeAtomicIntArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicIntArray::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> sendArray.set(nodeId, identityBits)
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        sendArray.update(
+            targetNodeId,
+            currentBits -> {
+                var current = Float.intBitsToFloat((int) currentBits);
+                return Float.floatToRawIntBits((float) reducer.reduce(current, message));
+            }
+        );
+    }
+
+    @Override
+    public ReducingMessenger.SingleMessageIterator messageIterator() {
+        return new ReducingMessenger.SingleMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        ReducingMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var message = Float.intBitsToFloat(receiveArray.getAndReplace(nodeId, identityBits));
+        messageIterator.init(message, message != identity);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+}
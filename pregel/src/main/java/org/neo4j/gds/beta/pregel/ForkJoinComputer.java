@@ -49,10 +49,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -65,7 +66,10 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     public void initIteration(int iteration) {
         this.sentMessage = new AtomicBoolean(false);
         MutableInt mutableIteration = new MutableInt(iteration);
-        Partition partition = Partition.of(0, graph.nodeCount());
+        // For a sparse frontier, the partition covers the indices of the active nodes.
+        Partition partition = advanceFrontier(iteration)
+            ? Partition.of(0, frontier.get().activeNodeCount())
+            : Partition.of(0, graph.nodeCount());
 
         this.rootTask = computation instanceof PregelComputation
             ? createComputeStep(mutableIteration, sentMessage, partition)
@@ -123,6 +127,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
@@ -164,6 +169,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
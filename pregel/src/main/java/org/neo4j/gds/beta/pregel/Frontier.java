@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * Tracks the nodes that need to be computed in the next superstep.
+ * A node is active if it did not vote to halt or if it received a message.
+ * <p>
+ * If only a small fraction of the nodes is active, the frontier is
+ * sparse and the compute steps iterate over the collected active node
+ * ids instead of over all nodes. Otherwise, the frontier is dense and
+ * all nodes are visited, as without frontier tracking.
+ */
+final class Frontier {
+
+    // Fraction of active nodes up to which the frontier is considered sparse.
+    static final double SPARSE_THRESHOLD = 0.05;
+
+    private final long nodeCount;
+    private final long maxSparseNodeCount;
+    private final HugeAtomicBitSet nextActive;
+    private final HugeLongArray activeNodes;
+
+    private long activeNodeCount;
+    private boolean isSparse;
+
+    static Frontier create(long nodeCount) {
+        return new Frontier(nodeCount);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Frontier.class)
+            .perNode("next active", HugeAtomicBitSet::memoryEstimation)
+            .perNode("active nodes", nodeCount -> HugeLongArray.memoryEstimation(maxSparseNodeCount(nodeCount)))
+            .build();
+    }
+
+    private Frontier(long nodeCount) {
+        this.nodeCount = nodeCount;
+        this.maxSparseNodeCount = maxSparseNodeCount(nodeCount);
+        this.nextActive = HugeAtomicBitSet.create(nodeCount);
+        this.activeNodes = HugeLongArray.newArray(maxSparseNodeCount);
+        this.activeNodeCount = nodeCount;
+        this.isSparse = false;
+    }
+
+    private static long maxSparseNodeCount(long nodeCount) {
+        return (long) (nodeCount * SPARSE_THRESHOLD);
+    }
+
+    /**
+     * Marks the node as active for the next superstep. Thread-safe.
+     */
+    void activate(long nodeId) {
+        // Most nodes are activated more than once,
+        // so we avoid the write if possible.
+        if (!nextActive.get(nodeId)) {
+            nextActive.set(nodeId);
+        }
+    }
+
+    /**
+     * Prepares the frontier for the given superstep. Must be called at the
+     * superstep barrier, i.e. when no compute step is running.
+     */
+    void advance(int iteration) {
+        if (iteration == 0) {
+            // All nodes are computed in the initial superstep.
+            this.activeNodeCount = nodeCount;
+            this.isSparse = false;
+            nextActive.clear();
+            return;
+        }
+
+        this.activeNodeCount = nextActive.cardinality();
+        this.isSparse = activeNodeCount <= maxSparseNodeCount;
+
+        if (isSparse) {
+            var index = new MutableLong();
+            nextActive.forEachSetBit(nodeId -> activeNodes.set(index.getAndIncrement(), nodeId));
+        }
+
+        nextActive.clear();
+    }
+
+    /**
+     * Returns true if the compute steps should iterate over
+     * {@link #activeNodes()} instead of over all nodes.
+     */
+    boolean isSparse() {
+        return isSparse;
+    }
+
+    /**
+     * The number of active nodes in the current superstep.
+     */
+    long activeNodeCount() {
+        return activeNodeCount;
+    }
+
+    /**
+     * The ids of the active nodes in ascending order.
+     * Only the first {@link #activeNodeCount()} entries are valid
+     * and only if the frontier is {@link #isSparse() sparse}.
+     */
+    HugeLongArray activeNodes() {
+        return activeNodes;
+    }
+
+    long nodeCount() {
+        return nodeCount;
+    }
+
+    void release() {
+        activeNodes.release();
+    }
+}
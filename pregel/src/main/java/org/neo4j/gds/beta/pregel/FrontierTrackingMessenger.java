@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * Decorates a messenger and activates the
+ * receiver of each message in the {@link Frontier}.
+ */
+final class FrontierTrackingMessenger<ITERATOR extends Messages.MessageIterator> implements Messenger<ITERATOR> {
+
+    private final Messenger<ITERATOR> delegate;
+    private final Frontier frontier;
+
+    static <ITERATOR extends Messages.MessageIterator> Messenger<ITERATOR> wrap(
+        Messenger<ITERATOR> messenger,
+        Frontier frontier
+    ) {
+        return new FrontierTrackingMessenger<>(messenger, frontier);
+    }
+
+    private FrontierTrackingMessenger(Messenger<ITERATOR> delegate, Frontier frontier) {
+        this.delegate = delegate;
+        this.frontier = frontier;
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        delegate.initIteration(iteration);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        delegate.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        delegate.sendLongTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        delegate.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+    }
+
+    @Override
+    public int messageDimension() {
+        return delegate.messageDimension();
+    }
+
+    @Override
+    public ITERATOR messageIterator() {
+        return delegate.messageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration) {
+        delegate.initMessageIterator(messageIterator, nodeId, isFirstIteration);
+    }
+
+    @Override
+    public void release() {
+        delegate.release();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * The type of the messages that are sent between nodes during a Pregel computation.
+ * The type is declared in the {@link PregelSchema} and determines which messenger
+ * is used to store the messages.
+ */
+public enum MessageType {
+    /**
+     * Messages are sent via {@code sendTo(long, double)} and read via {@link Messages#doubleIterator()}.
+     */
+    DOUBLE,
+    /**
+     * Messages are sent via {@code sendLongTo(long, long)} and read via {@link Messages#longIterator()}.
+     */
+    LONG,
+    /**
+     * Messages are sent via {@code sendTo(long, double)} but stored with single precision.
+     * They are read via {@link Messages#doubleIterator()}.
+     */
+    FLOAT,
+    /**
+     * Messages are double arrays of the dimension declared in the {@link PregelSchema}.
+     * They are sent via {@code sendTo(long, double[])} and read via {@link Messages#arrayIterator()}.
+     */
+    DOUBLE_ARRAY
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 
 public final class Messages implements Iterable<Double> {
@@ -34,12 +35,29 @@ public final class Messages implements Iterable<Double> {
 
     public interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        /**
+         * Returns the next message as a long value.
+         * Only supported by messengers for {@link MessageType#LONG} messages.
+         */
+        default long nextLong() {
+            throw new UnsupportedOperationException(
+                "Long messages are only supported for computations with message type " + MessageType.LONG
+            );
+        }
     }
 
     private final MessageIterator iterator;
+    // Reused for every array message to avoid allocations.
+    private final double[] arrayBuffer;
 
     Messages(MessageIterator iterator) {
+        this(iterator, 1);
+    }
+
+    Messages(MessageIterator iterator, int messageDimension) {
         this.iterator = iterator;
+        this.arrayBuffer = new double[messageDimension];
     }
 
     @NotNull
@@ -47,6 +65,53 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    /**
+     * Returns an iterator over long messages.
+     * Requires the computation to use {@link MessageType#LONG} messages.
+     */
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return iterator.nextLong();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over array messages.
+     * Requires the computation to use {@link MessageType#DOUBLE_ARRAY} messages.
+     * The returned array is reused between calls to {@code next()} and
+     * must be copied if it is used after the iteration continues.
+     */
+    @NotNull
+    public Iterator<double[]> arrayIterator() {
+        var buffer = arrayBuffer;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double[] next() {
+                for (int i = 0; i < buffer.length; i++) {
+                    if (!iterator.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    buffer[i] = iterator.nextDouble();
+                }
+                return buffer;
+            }
+        };
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
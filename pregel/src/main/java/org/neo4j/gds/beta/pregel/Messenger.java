@@ -25,6 +25,25 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long targetNodeId, double message);
 
+    default void sendLongTo(long targetNodeId, long message) {
+        throw new UnsupportedOperationException(
+            "Long messages require the message type " + MessageType.LONG + " in the Pregel schema"
+        );
+    }
+
+    default void sendTo(long targetNodeId, double[] message) {
+        throw new UnsupportedOperationException(
+            "Array messages require the message type " + MessageType.DOUBLE_ARRAY + " in the Pregel schema"
+        );
+    }
+
+    /**
+     * The number of values per message, see {@link PregelSchema#messageDimension()}.
+     */
+    default int messageDimension() {
+        return 1;
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
@@ -27,6 +27,8 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
+
 public final class PartitionedComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -39,8 +41,11 @@ public final class PartitionedComputeStep<
     private final INIT_CONTEXT initContext;
     private final COMPUTE_CONTEXT computeContext;
     private final ProgressTracker progressTracker;
-    private final Partition nodeBatch;
+    // The partition of all nodes, used for dense supersteps.
+    private final Partition nodes;
+    private Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
+    private final Optional<Frontier> frontier;
     private final Messenger<ITERATOR> messenger;
 
     private final MutableInt iteration;
@@ -56,6 +61,7 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -66,7 +72,9 @@ public final class PartitionedComputeStep<
         this.computeContext = computeContext;
         this.nodeValue = nodeValue;
         this.voteBits = voteBits;
+        this.nodes = nodeBatch;
         this.nodeBatch = nodeBatch;
+        this.frontier = frontier;
         this.messenger = messenger;
         this.progressTracker = progressTracker;
         this.iteration = iteration;
@@ -124,8 +132,22 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
+    @Override
+    public Optional<Frontier> frontier() {
+        return frontier;
+    }
+
     void init(int iteration) {
+        init(iteration, nodes);
+    }
+
+    /**
+     * Initializes the step for a superstep over the given batch,
+     * which is a range of indices into the active nodes of a sparse frontier.
+     */
+    void init(int iteration, Partition nodeBatch) {
         this.iteration.setValue(iteration);
+        this.nodeBatch = nodeBatch;
         hasSentMessage.setValue(false);
     }
 
@@ -32,6 +32,7 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
 
 import java.util.List;
 import java.util.Optional;
@@ -53,11 +54,12 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -69,8 +71,20 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void initIteration(int iteration) {
-        for (var computeStep : computeSteps) {
-            computeStep.init(iteration);
+        if (advanceFrontier(iteration)) {
+            // Split the active nodes evenly across the compute steps.
+            var activeNodeCount = frontier.get().activeNodeCount();
+            var stepCount = computeSteps.size();
+            var batchSize = BitUtil.ceilDiv(activeNodeCount, stepCount);
+            for (int i = 0; i < stepCount; i++) {
+                var start = Math.min(i * batchSize, activeNodeCount);
+                var end = Math.min(start + batchSize, activeNodeCount);
+                computeSteps.get(i).init(iteration, Partition.of(start, end - start));
+            }
+        } else {
+            for (var computeStep : computeSteps) {
+                computeStep.init(iteration);
+            }
         }
     }
 
@@ -167,6 +181,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             iteration,
             hasSentMessages,
             progressTracker
@@ -210,6 +225,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             iteration,
             hasSentMessages,
             progressTracker
@@ -34,6 +34,7 @@ import org.neo4j.gds.utils.StringJoining;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
@@ -49,6 +50,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final Optional<Frontier> frontier;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -78,30 +81,103 @@ public final class Pregel<CONFIG extends PregelConfig> {
             ));
         }
 
+        var schema = computation.schema(config);
+        if (config.isAsynchronous() && computation.reducer().isEmpty() && schema.messageType() != MessageType.DOUBLE) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Asynchronous message passing only supports %s messages, but the Pregel algorithm %s uses %s messages",
+                MessageType.DOUBLE,
+                computation.getClass().getSimpleName(),
+                schema.messageType()
+            ));
+        }
+        if (config.combineMessages() && computation.reducer().isPresent() && schema.messageType() != MessageType.DOUBLE) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Combining messages only supports %s messages, but the Pregel algorithm %s uses %s messages",
+                MessageType.DOUBLE,
+                computation.getClass().getSimpleName(),
+                schema.messageType()
+            ));
+        }
+
         return new Pregel<>(
             graph,
             config,
             computation,
-            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
+            schema,
+            NodeValue.of(schema, graph.nodeCount(), config.concurrency()),
             executor,
             progressTracker
         );
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean combineMessages
+    ) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, combineMessages, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean combineMessages,
+        boolean useActiveFrontier
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
+        if (useActiveFrontier) {
+            estimationBuilder.add("frontier", Frontier.memoryEstimation());
+        }
+
+        var messageType = pregelSchema.messageType();
         if (isQueueBased) {
-            if (isAsync) {
+            // array messages always use synchronous queues, see createMessenger
+            if (messageType == MessageType.DOUBLE_ARRAY) {
+                estimationBuilder.add(
+                    "message queues",
+                    SyncQueueMessenger.memoryEstimation(pregelSchema.messageDimension())
+                );
+            } else if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+            } else if (messageType == MessageType.LONG) {
+                estimationBuilder.add("message queues", SyncLongQueueMessenger.memoryEstimation());
+            } else if (messageType == MessageType.FLOAT) {
+                estimationBuilder.add("message queues", SyncFloatQueueMessenger.memoryEstimation());
             } else {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            switch (messageType) {
+                case LONG:
+                    estimationBuilder.add("message arrays", LongReducingMessenger.memoryEstimation());
+                    break;
+                case FLOAT:
+                    estimationBuilder.add("message arrays", FloatReducingMessenger.memoryEstimation());
+                    break;
+                case DOUBLE_ARRAY:
+                    estimationBuilder.add(
+                        "message arrays",
+                        ArrayReducingMessenger.memoryEstimation(pregelSchema.messageDimension())
+                    );
+                    break;
+                default:
+                    estimationBuilder.add("message arrays", combineMessages
+                        ? CombiningReducingMessenger.memoryEstimation()
+                        : ReducingMessenger.memoryEstimation()
+                    );
+            }
         }
 
         return estimationBuilder.build();
@@ -131,6 +207,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final Graph graph,
         final CONFIG config,
         final BasePregelComputation<CONFIG> computation,
+        final PregelSchema schema,
         final NodeValue initialNodeValue,
         final ExecutorService executor,
         final ProgressTracker progressTracker
@@ -143,21 +220,23 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
         this.terminationFlag = TerminationFlag.RUNNING_TRUE;
 
-        var reducer = computation.reducer();
+        this.frontier = config.useActiveFrontier()
+            ? Optional.of(Frontier.create(graph.nodeCount()))
+            : Optional.empty();
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        var messenger = createMessenger(graph, config, computation.reducer(), schema);
+        this.messenger = frontier.isPresent()
+            ? FrontierTrackingMessenger.wrap(messenger, frontier.get())
+            : messenger;
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
             .computation(computation)
             .config(config)
             .nodeValues(nodeValues)
-            .messenger(messenger)
+            .messenger(this.messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
             .executorService(config.useForkJoin()
                 ? ExecutorServiceUtil.createForkJoinPool(config.concurrency())
                 : executor)
@@ -165,6 +244,42 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static Messenger<?> createMessenger(
+        Graph graph,
+        PregelConfig config,
+        Optional<Reducer> reducer,
+        PregelSchema schema
+    ) {
+        var nodeCount = graph.nodeCount();
+        if (reducer.isPresent()) {
+            switch (schema.messageType()) {
+                case LONG:
+                    return new LongReducingMessenger(graph, config, reducer.get());
+                case FLOAT:
+                    return new FloatReducingMessenger(graph, config, reducer.get());
+                case DOUBLE_ARRAY:
+                    return new ArrayReducingMessenger(graph, config, reducer.get(), schema.messageDimension());
+                default:
+                    return config.combineMessages()
+                        ? new CombiningReducingMessenger(graph, config, reducer.get())
+                        : new ReducingMessenger(graph, config, reducer.get());
+            }
+        }
+
+        switch (schema.messageType()) {
+            case LONG:
+                return new SyncLongQueueMessenger(nodeCount);
+            case FLOAT:
+                return new SyncFloatQueueMessenger(nodeCount);
+            case DOUBLE_ARRAY:
+                return new SyncQueueMessenger(nodeCount, schema.messageDimension());
+            default:
+                return config.isAsynchronous()
+                    ? new AsyncQueueMessenger(nodeCount)
+                    : new SyncQueueMessenger(nodeCount);
+        }
+    }
+
     public void setTerminationFlag(TerminationFlag terminationFlag) {
         this.terminationFlag = terminationFlag;
     }
@@ -212,6 +327,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
     public void release() {
         progressTracker.release();
         messenger.release();
+        frontier.ifPresent(Frontier::release);
     }
 
     private boolean runMasterComputeStep(int iteration) {
@@ -24,6 +24,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 
@@ -36,6 +37,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final Optional<Frontier> frontier;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +47,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,9 +56,28 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.progressTracker = progressTracker;
     }
 
+    /**
+     * Advances the frontier, if present, and returns true if
+     * the upcoming superstep only iterates over the active nodes.
+     */
+    boolean advanceFrontier(int iteration) {
+        if (frontier.isEmpty()) {
+            return false;
+        }
+        var activeFrontier = frontier.get();
+        activeFrontier.advance(iteration);
+        if (activeFrontier.isSparse()) {
+            // Inactive nodes are skipped, but still count towards the progress.
+            progressTracker.logProgress(activeFrontier.nodeCount() - activeFrontier.activeNodeCount());
+            return true;
+        }
+        return false;
+    }
+
     abstract void initComputation();
 
     abstract void initIteration(int iteration);
@@ -78,6 +100,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +119,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                frontier,
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +132,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             config.concurrency(),
             executorService,
             progressTracker
@@ -49,6 +49,28 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * If enabled, computations with a {@link Reducer} combine messages in thread-local
+     * buffers which are merged at the end of each superstep, instead of atomically
+     * updating a shared array for every message. This avoids contention on frequently
+     * addressed nodes at the cost of additional memory for buffered messages.
+     * Only supported for {@link MessageType#DOUBLE} messages.
+     */
+    @Value.Default
+    default boolean combineMessages() {
+        return false;
+    }
+
+    /**
+     * If enabled, Pregel tracks the nodes that did not vote to halt or received a message.
+     * Supersteps in which only a small fraction of nodes is active iterate over those nodes
+     * only, instead of checking the vote bit of every node.
+     */
+    @Value.Default
+    default boolean useActiveFrontier() {
+        return false;
+    }
+
     @Value.Derived
     @Configuration.Ignore
     default boolean useForkJoin() {
@@ -19,10 +19,12 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @ValueClass
@@ -34,9 +36,47 @@ public interface PregelSchema {
 
     Set<Element> elements();
 
+    /**
+     * The type of the messages sent during the computation.
+     */
+    @Value.Default
+    default MessageType messageType() {
+        return MessageType.DOUBLE;
+    }
+
+    /**
+     * The number of values per message. Only array messages may have a dimension other than 1.
+     */
+    @Value.Default
+    default int messageDimension() {
+        return 1;
+    }
+
+    @Value.Check
+    default void validateMessageDimension() {
+        if (messageDimension() < 1) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "The message dimension must be positive, but got %d",
+                messageDimension()
+            ));
+        }
+        if (messageType() != MessageType.DOUBLE_ARRAY && messageDimension() != 1) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Only %s messages can have a dimension other than 1, but got %d for %s messages",
+                MessageType.DOUBLE_ARRAY,
+                messageDimension(),
+                messageType()
+            ));
+        }
+    }
+
     class Builder {
 
         private final Set<Element> elements = new HashSet<>();
+        private MessageType messageType = MessageType.DOUBLE;
+        private int messageDimension = 1;
 
         public PregelSchema.Builder add(String propertyKey, ValueType propertyType) {
             return add(propertyKey, propertyType, Visibility.PUBLIC);
@@ -47,8 +87,26 @@ public interface PregelSchema {
             return this;
         }
 
+        /**
+         * Declares the type of the messages. For array messages, use {@link #arrayMessages(int)}.
+         */
+        public PregelSchema.Builder messageType(MessageType messageType) {
+            this.messageType = messageType;
+            this.messageDimension = 1;
+            return this;
+        }
+
+        /**
+         * Declares that messages are double arrays of the given dimension.
+         */
+        public PregelSchema.Builder arrayMessages(int dimension) {
+            this.messageType = MessageType.DOUBLE_ARRAY;
+            this.messageDimension = dimension;
+            return this;
+        }
+
         public PregelSchema build() {
-            return ImmutablePregelSchema.of(elements);
+            return ImmutablePregelSchema.of(elements, messageType, messageDimension);
         }
     }
 }
@@ -55,15 +55,17 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    /**
+     * Estimates queues that hold messages of {@code messageDimension} consecutive entries each.
+     */
+    public static MemoryEstimation memoryEstimation(int messageDimension) {
+        long queueSize = MemoryUsage.sizeOfDoubleArray((long) MIN_CAPACITY * messageDimension);
         return MemoryEstimations.builder(PrimitiveSyncDoubleQueues.class)
-            .perNode(
-                "current queues",
-                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY))
-            )
-            .perNode(
-                "previous queues",
-                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY))
-            )
+            .perNode("current queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("previous queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
             .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -103,7 +105,7 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
         var queue = queues.get(nodeId);
         var capacity = queue.length;
         // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
         queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
     }
 
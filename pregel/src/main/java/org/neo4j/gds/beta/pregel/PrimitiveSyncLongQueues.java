@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Synchronous message queues for long messages.
+ *
+ * @see PrimitiveSyncDoubleQueues
+ */
+public final class PrimitiveSyncLongQueues extends PrimitiveQueues {
+    // Used to insert into a single message queue array.
+    private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Manages a queue (long array) for each node.
+    private HugeObjectArray<long[]> queues;
+    // Represents the queues of the previous iteration.
+    // queues and prevQueues are being toggled after each iteration.
+    private HugeObjectArray<long[]> prevQueues;
+    private HugeAtomicLongArray prevTails;
+
+    public static PrimitiveSyncLongQueues of(long nodeCount) {
+        return of(nodeCount, MIN_CAPACITY);
+    }
+
+    public static PrimitiveSyncLongQueues of(long nodeCount, int initialQueueCapacity) {
+        var currentTails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+        var prevTails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+
+        var currentQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+        var prevQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+
+        var referenceCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+
+        var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
+        currentQueues.setAll(value -> new long[capacity]);
+        prevQueues.setAll(value -> new long[capacity]);
+
+        return new PrimitiveSyncLongQueues(currentQueues, currentTails, prevQueues, prevTails, referenceCounts);
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(PrimitiveSyncLongQueues.class)
+            .perNode(
+                "current queues",
+                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfLongArray(MIN_CAPACITY))
+            )
+            .perNode(
+                "previous queues",
+                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfLongArray(MIN_CAPACITY))
+            )
+            .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private PrimitiveSyncLongQueues(
+        HugeObjectArray<long[]> currentQueues,
+        HugeAtomicLongArray currentTails,
+        HugeObjectArray<long[]> prevQueues,
+        HugeAtomicLongArray prevTails,
+        HugeAtomicLongArray referenceCounts
+    ) {
+        super(currentTails, referenceCounts);
+        this.queues = currentQueues;
+        this.prevQueues = prevQueues;
+        this.prevTails = prevTails;
+    }
+
+    public void push(long nodeId, long message) {
+        var idx = reserve(nodeId, 1);
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    void swapQueues() {
+        // swap tail indexes
+        var tmpTails = tails;
+        this.tails = prevTails;
+        this.prevTails = tmpTails;
+        this.tails.setAll(0);
+        // swap queues
+        var tmpQueues = queues;
+        this.queues = prevQueues;
+        this.prevQueues = tmpQueues;
+    }
+
+    void initIterator(Iterator iterator, long nodeId) {
+        iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
+    }
+
+    @Override
+    int capacity(long nodeId) {
+        return queues.get(nodeId).length;
+    }
+
+    @Override
+    void grow(long nodeId, int minCapacity) {
+        var queue = queues.get(nodeId);
+        var capacity = queue.length;
+        // grow by 50%
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
+        queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
+    }
+
+    @Override
+    void release() {
+        super.release();
+        this.queues.release();
+        this.prevTails.release();
+        this.prevQueues.release();
+    }
+
+    @TestOnly
+    long[] queue(long nodeId) {
+        return queues.get(nodeId);
+    }
+
+    static class Iterator implements Messages.MessageIterator {
+
+        long[] queue;
+        private int length;
+        private int pos;
+
+        void init(long[] queue, int length) {
+            this.queue = queue;
+            this.pos = 0;
+            this.length = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pos < length;
+        }
+
+        @Override
+        public long nextLong() {
+            return queue[pos++];
+        }
+
+        @Override
+        public double nextDouble() {
+            return nextLong();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return length == 0;
+        }
+    }
+}
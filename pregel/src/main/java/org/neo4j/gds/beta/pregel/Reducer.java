@@ -31,6 +31,33 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Combines two partially reduced values into one.
+     * This is used when messages are reduced locally before being merged,
+     * see {@link PregelConfig#combineMessages()}. Defaults to {@link #reduce(double, double)},
+     * which is correct for all reducers where the message and the reduced value have the same meaning.
+     */
+    default double combine(double left, double right) {
+        return reduce(left, right);
+    }
+
+    /**
+     * The identity element for {@link MessageType#LONG} messages.
+     * Defaults to the double identity, saturated to the long range.
+     */
+    default long longIdentity() {
+        return (long) identity();
+    }
+
+    /**
+     * Computes a new value for {@link MessageType#LONG} messages.
+     * Defaults to the double reduction, which is lossy for values
+     * that can not be represented exactly as double.
+     */
+    default long reduceLong(long current, long message) {
+        return (long) reduce((double) current, (double) message);
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +70,15 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return current + message;
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +92,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return Math.min(current, message);
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +115,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return Math.max(current, message);
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +138,20 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public double combine(double left, double right) {
+            return left + right;
+        }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return current + 1;
+        }
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+/**
+ * A messenger for {@link MessageType#FLOAT} messages that are delivered
+ * in the next superstep. Messages are stored with single precision.
+ */
+public class SyncFloatQueueMessenger implements Messenger<PrimitiveSyncFloatQueues.Iterator> {
+
+    private final PrimitiveSyncFloatQueues queues;
+
+    SyncFloatQueueMessenger(long nodeCount) {
+        this.queues = PrimitiveSyncFloatQueues.of(nodeCount);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return PrimitiveSyncFloatQueues.memoryEstimation();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        queues.swapQueues();
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        queues.push(targetNodeId, (float) message);
+    }
+
+    @Override
+    public PrimitiveSyncFloatQueues.Iterator messageIterator() {
+        return new PrimitiveSyncFloatQueues.Iterator();
+    }
+
+    @Override
+    public void initMessageIterator(PrimitiveSyncFloatQueues.Iterator messageIterator, long nodeId, boolean isFirstIteration) {
+        queues.initIterator(messageIterator, nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+}
@@ -21,18 +21,34 @@ package org.neo4j.gds.beta.pregel;
 
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
+import java.util.Locale;
+
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final int messageDimension;
 
     SyncQueueMessenger(long nodeCount) {
+        this(nodeCount, 1);
+    }
+
+    /**
+     * Creates a messenger for array messages of the given dimension.
+     * Each message occupies {@code messageDimension} consecutive queue entries.
+     */
+    SyncQueueMessenger(long nodeCount, int messageDimension) {
         this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+        this.messageDimension = messageDimension;
     }
 
     static MemoryEstimation memoryEstimation() {
         return PrimitiveSyncDoubleQueues.memoryEstimation();
     }
 
+    static MemoryEstimation memoryEstimation(int messageDimension) {
+        return PrimitiveSyncDoubleQueues.memoryEstimation(messageDimension);
+    }
+
     @Override
     public void initIteration(int iteration) {
         queues.swapQueues();
@@ -43,6 +59,24 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        if (message.length != messageDimension) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Expected a message of dimension %d, but got %d",
+                messageDimension,
+                message.length
+            ));
+        }
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public int messageDimension() {
+        return messageDimension;
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveSyncDoubleQueues.Iterator();
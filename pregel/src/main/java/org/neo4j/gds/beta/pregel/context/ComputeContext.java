@@ -157,6 +157,53 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.hasSendMessage.setValue(true);
     }
 
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Requires the message type {@link org.neo4j.gds.beta.pregel.MessageType#LONG}.
+     * Relationship weights are not applied to long messages.
+     */
+    public void sendLongToNeighbors(long message) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            sendLongTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     * Requires the message type {@link org.neo4j.gds.beta.pregel.MessageType#LONG}.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        messenger.sendLongTo(targetNodeId, message);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * Requires the message type {@link org.neo4j.gds.beta.pregel.MessageType#DOUBLE_ARRAY}.
+     * Relationship weights are not applied to array messages.
+     */
+    public void sendToNeighbors(double[] message) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    /**
+     * Sends the given array message to the target node. The message
+     * is copied, so the array can be reused by the caller.
+     * Requires the message type {@link org.neo4j.gds.beta.pregel.MessageType#DOUBLE_ARRAY}.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        messenger.sendTo(targetNodeId, message);
+        this.hasSendMessage.setValue(true);
+    }
+
     private void sendToNeighbors(long sourceNodeId, double message) {
         graph.forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
@@ -219,6 +266,30 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
             sendMessagesIncomingFunction.sendToIncomingNeighbors(nodeId, message);
         }
 
+        /**
+         * Sends the given long message to all incoming neighbors of the node.
+         *
+         * @see #sendLongToNeighbors(long)
+         */
+        public void sendLongToIncomingNeighbors(long message) {
+            graph.forEachInverseRelationship(nodeId, (ignored, targetNodeId) -> {
+                sendLongTo(targetNodeId, message);
+                return true;
+            });
+        }
+
+        /**
+         * Sends the given array message to all incoming neighbors of the node.
+         *
+         * @see #sendToNeighbors(double[])
+         */
+        public void sendToIncomingNeighbors(double[] message) {
+            graph.forEachInverseRelationship(nodeId, (ignored, targetNodeId) -> {
+                sendTo(targetNodeId, message);
+                return true;
+            });
+        }
+
         private void sendToIncomingNeighbors(long sourceNodeId, double message) {
             graph.forEachInverseRelationship(sourceNodeId, (ignored, targetNodeId) -> {
                 sendTo(targetNodeId, message);
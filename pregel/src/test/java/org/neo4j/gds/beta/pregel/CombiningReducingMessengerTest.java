@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+
+import java.util.ArrayList;
+import java.util.concurrent.Phaser;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+class CombiningReducingMessengerTest {
+
+    static Stream<Arguments> reducersAndThreads() {
+        return crossArguments(
+            () -> Stream.of(
+                Arguments.of(new Reducer.Sum()),
+                Arguments.of(new Reducer.Count()),
+                Arguments.of(new Reducer.Max())
+            ),
+            () -> Stream.of(Arguments.of(1), Arguments.of(4), Arguments.of(16), Arguments.of(64))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("reducersAndThreads")
+    void combinesMessagesOfAllThreads(Reducer reducer, int threads) throws InterruptedException {
+        var nodeCount = 10_000;
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = PregelConfigImpl.builder().concurrency(threads).combineMessages(true).build();
+        var messenger = new CombiningReducingMessenger(graph, config, reducer);
+        var atomicMessenger = new ReducingMessenger(graph, config, reducer);
+
+        var messagesPerThread = 5 * CombiningReducingMessenger.CACHE_SIZE;
+        var phaser = new Phaser(threads + 1);
+        var workers = new ArrayList<Thread>();
+
+        for (int superstep = 0; superstep < 2; superstep++) {
+            messenger.initIteration(superstep);
+            atomicMessenger.initIteration(superstep);
+
+            for (int t = 0; t < threads; t++) {
+                var offset = t;
+                var worker = new Thread(() -> {
+                    phaser.arriveAndAwaitAdvance();
+                    for (int i = 0; i < messagesPerThread; i++) {
+                        // every other message is sent to the hub node 0
+                        long target = (i % 2 == 0) ? 0 : ((long) i * 31 + offset) % nodeCount;
+                        double message = (i % 7) + offset;
+                        messenger.sendTo(target, message);
+                        atomicMessenger.sendTo(target, message);
+                    }
+                    phaser.arriveAndAwaitAdvance();
+                });
+                worker.start();
+                workers.add(worker);
+            }
+
+            phaser.arriveAndAwaitAdvance();
+            phaser.arriveAndAwaitAdvance();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            workers.clear();
+        }
+
+        messenger.initIteration(2);
+        atomicMessenger.initIteration(2);
+
+        var iterator = messenger.messageIterator();
+        var expectedIterator = atomicMessenger.messageIterator();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            messenger.initMessageIterator(iterator, nodeId, false);
+            atomicMessenger.initMessageIterator(expectedIterator, nodeId, false);
+
+            assertThat(iterator.isEmpty()).isEqualTo(expectedIterator.isEmpty());
+            if (!expectedIterator.isEmpty()) {
+                assertThat(iterator.nextDouble()).isEqualTo(expectedIterator.nextDouble());
+            }
+        }
+
+        messenger.release();
+        atomicMessenger.release();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void initialSuperstepIsDense() {
+        var frontier = Frontier.create(1000);
+
+        frontier.advance(0);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(frontier.activeNodeCount()).isEqualTo(1000);
+    }
+
+    @Test
+    void collectsActiveNodesIfSparse() {
+        var frontier = Frontier.create(1000);
+        frontier.advance(0);
+
+        frontier.activate(42);
+        frontier.activate(7);
+        frontier.activate(42);
+        frontier.activate(999);
+
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(3);
+        assertThat(frontier.activeNodes().get(0)).isEqualTo(7);
+        assertThat(frontier.activeNodes().get(1)).isEqualTo(42);
+        assertThat(frontier.activeNodes().get(2)).isEqualTo(999);
+
+        // activations are reset after each superstep
+        frontier.advance(2);
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(0);
+    }
+
+    @Test
+    void switchesToDenseIfManyNodesAreActive() {
+        var frontier = Frontier.create(1000);
+        frontier.advance(0);
+
+        for (int nodeId = 0; nodeId < 1000; nodeId += 2) {
+            frontier.activate(nodeId);
+        }
+
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(frontier.activeNodeCount()).isEqualTo(500);
+    }
+}
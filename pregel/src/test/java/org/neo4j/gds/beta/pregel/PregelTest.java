@@ -261,19 +261,84 @@ class PregelTest {
 
         var multiThreaded = run(graph, multiThreadedConfig, new TestPregelComputation());
         var multiThreadedReduce = run(graph, multiThreadedConfig, new TestReduciblePregelComputation());
+        var multiThreadedCombine = run(
+            graph,
+            configBuilder.concurrency(4).combineMessages(true).build(),
+            new TestReduciblePregelComputation()
+        );
 
         for (int nodeId = 0; nodeId < singleThreaded.size(); nodeId++) {
             var v1 = singleThreaded.get(nodeId);
             var v2 = singleThreadedReduce.get(nodeId);
             var v3 = multiThreaded.get(nodeId);
             var v4 = multiThreadedReduce.get(nodeId);
+            var v5 = multiThreadedCombine.get(nodeId);
             assertTrue(
-                v1 == v2 && v1 == v3 && v1 == v4,
-                formatWithLocale("Value mismatch for node id %d: %f, %f, %f, %f", nodeId, v1, v2, v3, v4)
+                v1 == v2 && v1 == v3 && v1 == v4 && v1 == v5,
+                formatWithLocale("Value mismatch for node id %d: %f, %f, %f, %f, %f", nodeId, v1, v2, v3, v4, v5)
             );
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void activeFrontierProducesSameResult(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(50)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var dense = run(graph, configBuilder.useActiveFrontier(false).build(), new TestDistanceComputation());
+        var withFrontier = run(graph, configBuilder.useActiveFrontier(true).build(), new TestDistanceComputation());
+        var withFrontierAndReducer = run(
+            graph,
+            configBuilder.useActiveFrontier(true).build(),
+            new TestDistanceComputation() {
+                @Override
+                public Optional<Reducer> reducer() {
+                    return Optional.of(new Reducer.Min());
+                }
+            }
+        );
+
+        assertThat(withFrontier.toArray()).containsExactly(dense.toArray());
+        assertThat(withFrontierAndReducer.toArray()).containsExactly(dense.toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void activeFrontierWakesHaltedNodesThatReceiveMessages(Partitioning partitioning) {
+        // on a path only a single node is active per superstep, which keeps the frontier sparse
+        var gdl = new StringBuilder("(n0)");
+        for (int i = 1; i < 100; i++) {
+            gdl.append(formatWithLocale(", (n%d)-[:REL]->(n%d)", i - 1, i));
+        }
+        var path = TestSupport.fromGdl(gdl.toString());
+        assertThat(path.toMappedNodeId("n0")).isEqualTo(0L);
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(200)
+            .partitioning(partitioning)
+            .useActiveFrontier(true)
+            .concurrency(1)
+            .build();
+
+        // every node votes to halt and is only computed again because a message reached it
+        var distances = run(path, config, new TestDistanceComputation());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(distances.get(path.toMappedNodeId("n" + i))).isEqualTo(i);
+        }
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -638,6 +703,138 @@ class PregelTest {
         return Arrays.stream(Partitioning.values()).map(Arguments::of);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void sendsLongMessages(boolean withReducer) {
+        var config = PregelConfigImpl.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestLongMessageComputation(withReducer),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        // Long.MAX_VALUE - 1 can not be represented as double
+        var expected = new long[]{-1, Long.MAX_VALUE - 1, Long.MAX_VALUE - 1};
+        assertThat(pregelJob.run().nodeValues().longProperties(TestLongMessageComputation.KEY).toArray())
+            .containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void sendsFloatMessages(boolean withReducer) {
+        var config = PregelConfigImpl.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestFloatMessageComputation(withReducer),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var expected = new double[]{0, (float) 0.1, (float) 0.1};
+        assertThat(pregelJob.run().nodeValues().doubleProperties(KEY).toArray()).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void sendsArrayMessages(boolean withReducer) {
+        var config = PregelConfigImpl.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestArrayMessageComputation(withReducer),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var values = pregelJob.run().nodeValues().doubleArrayProperties(TestArrayMessageComputation.KEY);
+        assertThat(values.get(0)).containsExactly(0, 0, 0);
+        // bob and eve each receive the messages from alice and from each other
+        assertThat(values.get(1)).containsExactly(3, 6, 9);
+        assertThat(values.get(2)).containsExactly(3, 6, 9);
+    }
+
+    @Test
+    void failsForAsyncLongMessages() {
+        var config = PregelConfigImpl.builder().maxIterations(2).isAsynchronous(true).build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestLongMessageComputation(false),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Asynchronous message passing only supports DOUBLE messages");
+    }
+
+    @Test
+    void failsForCombinedLongMessages() {
+        var config = PregelConfigImpl.builder().maxIterations(2).combineMessages(true).build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestLongMessageComputation(true),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Combining messages only supports DOUBLE messages");
+    }
+
+    @Test
+    void failsForDoubleMessagesWithLongMessageType() {
+        var messenger = new SyncLongQueueMessenger(graph.nodeCount());
+
+        assertThatThrownBy(() -> messenger.sendTo(0, 42.0))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Double messages are not supported for the message type LONG, use `sendLongTo` instead");
+    }
+
+    @Test
+    void validatesMessageDimension() {
+        assertThatThrownBy(() -> new PregelSchema.Builder().arrayMessages(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The message dimension must be positive, but got 0");
+    }
+
+    @Test
+    void memoryEstimationDependsOnMessageType() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+
+        var doubleSchema = new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        var longSchema = new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).messageType(MessageType.LONG).build();
+        var floatSchema = new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).messageType(MessageType.FLOAT).build();
+        var arraySchema = new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).arrayMessages(4).build();
+
+        var doubleQueues = Pregel.memoryEstimation(doubleSchema, true, false).estimate(dimensions, 4).memoryUsage();
+        var longQueues = Pregel.memoryEstimation(longSchema, true, false).estimate(dimensions, 4).memoryUsage();
+        var floatQueues = Pregel.memoryEstimation(floatSchema, true, false).estimate(dimensions, 4).memoryUsage();
+        assertThat(floatQueues.max).isLessThan(doubleQueues.max);
+        assertThat(floatQueues.max).isLessThan(longQueues.max);
+
+        var vectorQueues = Pregel.memoryEstimation(arraySchema, true, false).estimate(dimensions, 4).memoryUsage();
+        var asyncVectorQueues = Pregel.memoryEstimation(arraySchema, true, true).estimate(dimensions, 4).memoryUsage();
+        assertThat(vectorQueues.max).isGreaterThan(doubleQueues.max);
+        assertThat(asyncVectorQueues).isEqualTo(vectorQueues);
+
+        var doubleArrays = Pregel.memoryEstimation(doubleSchema, false, false).estimate(dimensions, 4).memoryUsage();
+        var floatArrays = Pregel.memoryEstimation(floatSchema, false, false).estimate(dimensions, 4).memoryUsage();
+        var vectorArrays = Pregel.memoryEstimation(arraySchema, false, false).estimate(dimensions, 4).memoryUsage();
+        assertThat(floatArrays.max).isLessThan(doubleArrays.max);
+        assertThat(vectorArrays.max).isGreaterThan(doubleArrays.max);
+    }
+
     public static class TestPregelComputation implements PregelComputation<PregelConfig> {
 
         static final String KEY = "value";
@@ -665,6 +862,35 @@ class PregelTest {
         }
     }
 
+    /**
+     * Computes the hop distance from node 0. Only nodes with improved distances stay active.
+     */
+    static class TestDistanceComputation extends TestPregelComputation {
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.setNodeValue(KEY, 0.0);
+                    context.sendToNeighbors(1.0);
+                } else {
+                    context.setNodeValue(KEY, Double.MAX_VALUE);
+                }
+            } else {
+                var distance = context.doubleNodeValue(KEY);
+                var minDistance = distance;
+                for (Double message : messages) {
+                    minDistance = Math.min(minDistance, message);
+                }
+                if (minDistance < distance) {
+                    context.setNodeValue(KEY, minDistance);
+                    context.sendToNeighbors(minDistance + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
     public static class TestReduciblePregelComputation extends TestPregelComputation {
 
         @Override
@@ -701,6 +927,129 @@ class PregelTest {
         }
     }
 
+    static class TestLongMessageComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "value";
+
+        private final boolean withReducer;
+
+        TestLongMessageComputation(boolean withReducer) {
+            this.withReducer = withReducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.LONG)
+                .messageType(MessageType.LONG)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, -1L);
+                context.sendLongToNeighbors(Long.MAX_VALUE - 1);
+            } else {
+                var iterator = messages.longIterator();
+                while (iterator.hasNext()) {
+                    context.setNodeValue(KEY, iterator.nextLong());
+                }
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return withReducer ? Optional.of(new Reducer.Min()) : Optional.empty();
+        }
+    }
+
+    static class TestFloatMessageComputation extends TestPregelComputation {
+
+        private final boolean withReducer;
+
+        TestFloatMessageComputation(boolean withReducer) {
+            this.withReducer = withReducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.DOUBLE)
+                .messageType(MessageType.FLOAT)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, 0.0);
+                context.sendToNeighbors(0.1);
+            } else {
+                double messageSum = 0.0;
+                for (Double message : messages) {
+                    messageSum += message;
+                }
+                context.setNodeValue(KEY, messageSum);
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return withReducer ? Optional.of(new Reducer.Sum()) : Optional.empty();
+        }
+    }
+
+    static class TestArrayMessageComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "value";
+
+        private final boolean withReducer;
+
+        TestArrayMessageComputation(boolean withReducer) {
+            this.withReducer = withReducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.DOUBLE_ARRAY)
+                .arrayMessages(3)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, new double[3]);
+                if (context.nodeId() == 0) {
+                    context.sendToNeighbors(new double[]{1, 2, 3});
+                } else {
+                    // bob and eve send to each other
+                    context.sendTo(3 - context.nodeId(), new double[]{2, 4, 6});
+                }
+            } else {
+                var sum = new double[3];
+                var iterator = messages.arrayIterator();
+                while (iterator.hasNext()) {
+                    var message = iterator.next();
+                    for (int i = 0; i < sum.length; i++) {
+                        sum[i] += message[i];
+                    }
+                }
+                context.setNodeValue(KEY, sum);
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return withReducer ? Optional.of(new Reducer.Sum()) : Optional.empty();
+        }
+    }
+
     @ValueClass
     @Configuration
     @SuppressWarnings("immutables:subtype")
@@ -54,6 +54,24 @@ class PrimitiveSyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
         }
     }
 
+    @Test
+    void pushArrays() {
+        var queue = getQueue(1, 42);
+        var dimension = 5;
+
+        // 20 messages of dimension 5 require multiple grows
+        for (int i = 0; i < 20; i++) {
+            var message = new double[dimension];
+            Arrays.fill(message, i);
+            queue.push(0, message);
+        }
+
+        assertThat(queue.tail(0)).isEqualTo(20 * dimension);
+        for (int i = 0; i < 20 * dimension; i++) {
+            assertThat(queue.queue(0)[i]).isEqualTo(i / dimension);
+        }
+    }
+
     @Nested
     class IteratorTest {
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Phaser;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveSyncLongQueuesTest {
+
+    @Test
+    void growQueueArray() {
+        var queues = PrimitiveSyncLongQueues.of(1337, 42);
+
+        for (int i = 0; i < 43; i++) {
+            queues.push(42, Long.MAX_VALUE - i);
+        }
+
+        assertThat(queues.queue(42).length).isEqualTo(63 /* 42 * 1.5 */);
+        for (int i = 0; i < 43; i++) {
+            assertThat(queues.queue(42)[i]).isEqualTo(Long.MAX_VALUE - i);
+        }
+    }
+
+    @RepeatedTest(100)
+    void parallelPush() {
+        var queues = PrimitiveSyncLongQueues.of(1, 42);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < 100; i++) {
+                queues.push(0, i + taskOffset * 100);
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        var values = new ArrayList<Long>();
+        for (long i = 0; i < queues.tail(0); i++) {
+            values.add(queues.queue(0)[(int) i]);
+        }
+
+        assertThat(values)
+            .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
+    }
+
+    @Test
+    void iterateAfterSwap() {
+        var queues = PrimitiveSyncLongQueues.of(1, 42);
+
+        queues.push(0, Long.MIN_VALUE);
+        queues.push(0, Long.MAX_VALUE);
+        queues.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator();
+        queues.initIterator(iterator, 0);
+
+        assertThat(iterator.isEmpty()).isFalse();
+        assertThat(iterator.nextLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(iterator.nextLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(iterator.hasNext()).isFalse();
+
+        queues.swapQueues();
+        queues.initIterator(iterator, 0);
+        assertThat(iterator.isEmpty()).isTrue();
+    }
+}
@@ -119,7 +119,9 @@ class GraphMemoryUsageProcTest extends BaseProcTest {
                                 "headerBits",
                                 instanceOf(Map.class),
                                 "headerAllocations",
-                                instanceOf(Map.class)
+                                instanceOf(Map.class),
+                                "adjacencyFormat",
+                                "VAR_LONG"
                             ))
                     ),
                     "nodeCount", 100L,
@@ -142,6 +144,7 @@ class GraphMemoryUsageProcTest extends BaseProcTest {
                 );
 
                 var r = new HashMap<>();
+                r.put("adjacencyFormat", "PACKED");
                 r.put("pages", allOf(instanceOf(Long.class), greaterThan(0L)));
                 r.put("bytesTotal", allOf(instanceOf(Long.class), greaterThan(0L)));
                 r.put("bytesOnHeap", allOf(instanceOf(Long.class), greaterThan(0L)));
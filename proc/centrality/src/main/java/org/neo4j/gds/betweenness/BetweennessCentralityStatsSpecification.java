@@ -24,7 +24,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.SampledCentralityStatsResult;
 
 import java.util.stream.Stream;
 
@@ -32,7 +32,7 @@ import static org.neo4j.gds.betweenness.BetweennessCentrality.BETWEENNESS_DESCRI
 import static org.neo4j.gds.executor.ExecutionMode.STATS;
 
 @GdsCallable(name = "gds.betweenness.stats", description = BETWEENNESS_DESCRIPTION, executionMode = STATS)
-public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<CentralityStatsResult>, BetweennessCentralityFactory<BetweennessCentralityStatsConfig>> {
+public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<SampledCentralityStatsResult>, BetweennessCentralityFactory<BetweennessCentralityStatsConfig>> {
     @Override
     public String name() {
         return "BetweennessCentralityStats";
@@ -49,15 +49,17 @@ public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<Be
     }
 
     @Override
-    public ComputationResultConsumer<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<CentralityStatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<SampledCentralityStatsResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> {
-            var builder = new CentralityStatsResult.Builder(
+            var builder = new SampledCentralityStatsResult.Builder(
                 executionContext.returnColumns(),
                 computationResult.config().concurrency()
             );
 
-            computationResult.result()
-                .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+            computationResult.result().ifPresent(result -> {
+                builder.withCentralityFunction(result.centralityScoreProvider());
+                builder.withApproximationError(result.approximationError().orElse(null));
+            });
 
             return Stream.of(
                 builder.withPreProcessingMillis(computationResult.preProcessingMillis())
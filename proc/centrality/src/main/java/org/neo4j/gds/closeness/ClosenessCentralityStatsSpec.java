@@ -26,7 +26,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.SampledCentralityStatsResult;
 import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
 import java.util.stream.Stream;
@@ -35,7 +35,7 @@ import static org.neo4j.gds.closeness.ClosenessCentrality.CLOSENESS_DESCRIPTION;
 import static org.neo4j.gds.executor.ExecutionMode.STATS;
 
 @GdsCallable(name = "gds.closeness.stats", aliases = {"gds.beta.closeness.stats"}, description = CLOSENESS_DESCRIPTION, executionMode = STATS)
-public class ClosenessCentralityStatsSpec implements AlgorithmSpec<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityStatsConfig, Stream<CentralityStatsResult>, ClosenessCentralityAlgorithmFactory<ClosenessCentralityStatsConfig>> {
+public class ClosenessCentralityStatsSpec implements AlgorithmSpec<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityStatsConfig, Stream<SampledCentralityStatsResult>, ClosenessCentralityAlgorithmFactory<ClosenessCentralityStatsConfig>> {
 
     @Override
     public String name() {
@@ -53,24 +53,26 @@ public class ClosenessCentralityStatsSpec implements AlgorithmSpec<ClosenessCent
     }
 
     @Override
-    public ComputationResultConsumer<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityStatsConfig, Stream<CentralityStatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityStatsConfig, Stream<SampledCentralityStatsResult>> computationResultConsumer() {
         return new StatsComputationResultConsumer<>(this::resultBuilder);
 
     }
 
 
-    private AbstractCentralityResultBuilder<CentralityStatsResult> resultBuilder(
+    private AbstractCentralityResultBuilder<SampledCentralityStatsResult> resultBuilder(
         ComputationResult<ClosenessCentrality, ClosenessCentralityResult,
             ClosenessCentralityStatsConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        AbstractCentralityResultBuilder<CentralityStatsResult> builder = new CentralityStatsResult.Builder(
+        var builder = new SampledCentralityStatsResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
-        computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+        computationResult.result().ifPresent(result -> {
+            builder.withCentralityFunction(result.centralityScoreProvider());
+            builder.withApproximationError(result.approximationError().orElse(null));
+        });
 
 
         return builder;
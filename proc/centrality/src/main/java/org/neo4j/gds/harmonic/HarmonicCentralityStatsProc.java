@@ -20,7 +20,7 @@
 package org.neo4j.gds.harmonic;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.SampledCentralityStatsResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
@@ -39,7 +39,7 @@ public class HarmonicCentralityStatsProc {
 
     @Procedure(name = "gds.closeness.harmonic.stats", mode = READ)
     @Description(DESCRIPTION)
-    public Stream<CentralityStatsResult> stats(
+    public Stream<SampledCentralityStatsResult> stats(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -26,7 +26,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.SampledCentralityStatsResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.stream.Stream;
@@ -35,7 +35,7 @@ import static org.neo4j.gds.executor.ExecutionMode.STATS;
 import static org.neo4j.gds.harmonic.HarmonicCentralityCompanion.DESCRIPTION;
 
 @GdsCallable(name = "gds.closeness.harmonic.stats", description = DESCRIPTION, executionMode = STATS)
-public class HarmonicCentralityStatsSpec implements AlgorithmSpec<HarmonicCentrality, HarmonicResult, HarmonicCentralityStatsConfig, Stream<CentralityStatsResult>, HarmonicCentralityAlgorithmFactory<HarmonicCentralityStatsConfig>> {
+public class HarmonicCentralityStatsSpec implements AlgorithmSpec<HarmonicCentrality, HarmonicResult, HarmonicCentralityStatsConfig, Stream<SampledCentralityStatsResult>, HarmonicCentralityAlgorithmFactory<HarmonicCentralityStatsConfig>> {
 
     @Override
     public String name() {
@@ -53,21 +53,23 @@ public class HarmonicCentralityStatsSpec implements AlgorithmSpec<HarmonicCentra
     }
 
     @Override
-    public ComputationResultConsumer<HarmonicCentrality, HarmonicResult, HarmonicCentralityStatsConfig, Stream<CentralityStatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<HarmonicCentrality, HarmonicResult, HarmonicCentralityStatsConfig, Stream<SampledCentralityStatsResult>> computationResultConsumer() {
         return new StatsComputationResultConsumer<>(this::resultBuilder);
     }
 
-    private AbstractResultBuilder<CentralityStatsResult> resultBuilder(
+    private AbstractResultBuilder<SampledCentralityStatsResult> resultBuilder(
         ComputationResult<HarmonicCentrality, HarmonicResult, HarmonicCentralityStatsConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        var builder = new CentralityStatsResult.Builder(
+        var builder = new SampledCentralityStatsResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
-        computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+        computationResult.result().ifPresent(result -> {
+            builder.withCentralityFunction(result.centralityScoreProvider());
+            builder.withApproximationError(result.approximationError().orElse(null));
+        });
 
         return builder;
     }
@@ -21,6 +21,7 @@ package org.neo4j.gds.influenceMaximization;
 
 import com.carrotsearch.hppc.LongDoubleScatterMap;
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.MutateNodePropertyListFunction;
 import org.neo4j.gds.MutatePropertyComputationResultConsumer;
 import org.neo4j.gds.core.write.ImmutableNodeProperty;
@@ -45,7 +46,7 @@ import static org.neo4j.gds.influenceMaximization.CELFStreamProc.DESCRIPTION;
     description = DESCRIPTION,
     executionMode = MUTATE_NODE_PROPERTY
 )
-public class CELFMutateSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceMaximizationMutateConfig, Stream<CELFMutateResult>, CELFAlgorithmFactory<InfluenceMaximizationMutateConfig>> {
+public class CELFMutateSpec implements AlgorithmSpec<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationMutateConfig, Stream<CELFMutateResult>, CELFAlgorithmFactory<InfluenceMaximizationMutateConfig>> {
     @Override
     public String name() {
         return "CELFMutate";
@@ -62,8 +63,8 @@ public class CELFMutateSpec implements AlgorithmSpec<CELF, CELFResult, Influence
     }
 
     @Override
-    public ComputationResultConsumer<CELF, CELFResult, InfluenceMaximizationMutateConfig, Stream<CELFMutateResult>> computationResultConsumer() {
-        MutateNodePropertyListFunction<CELF, CELFResult, InfluenceMaximizationMutateConfig> mutateConfigNodePropertyListFunction =
+    public ComputationResultConsumer<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationMutateConfig, Stream<CELFMutateResult>> computationResultConsumer() {
+        MutateNodePropertyListFunction<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationMutateConfig> mutateConfigNodePropertyListFunction =
             computationResult -> {
                 var celfResult = computationResult.result()
                     .orElseGet(() -> new CELFResult(new LongDoubleScatterMap(0)));
@@ -83,7 +84,7 @@ public class CELFMutateSpec implements AlgorithmSpec<CELF, CELFResult, Influence
 
     @NotNull
     private AbstractResultBuilder<CELFMutateResult> resultBuilder(
-        ComputationResult<CELF, CELFResult, InfluenceMaximizationMutateConfig> computationResult,
+        ComputationResult<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationMutateConfig> computationResult,
         ExecutionContext executionContext
     ) {
         var celfResult = computationResult.result();
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.influenceMaximization;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -37,7 +38,7 @@ import static org.neo4j.gds.influenceMaximization.CELFStreamProc.DESCRIPTION;
     description = DESCRIPTION,
     executionMode = STATS
 )
-public class CELFStatsSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceMaximizationStatsConfig, Stream<CELFStatsResult>, CELFAlgorithmFactory<InfluenceMaximizationStatsConfig>> {
+public class CELFStatsSpec implements AlgorithmSpec<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationStatsConfig, Stream<CELFStatsResult>, CELFAlgorithmFactory<InfluenceMaximizationStatsConfig>> {
     @Override
     public String name() {
         return "CELFStats";
@@ -54,7 +55,7 @@ public class CELFStatsSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceM
     }
 
     @Override
-    public ComputationResultConsumer<CELF, CELFResult, InfluenceMaximizationStatsConfig, Stream<CELFStatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationStatsConfig, Stream<CELFStatsResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> {
             var celfResult = computationResult.result();
             if (celfResult.isEmpty()) {
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.influenceMaximization;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -39,7 +40,7 @@ import static org.neo4j.gds.influenceMaximization.CELFStreamProc.DESCRIPTION;
     description = DESCRIPTION,
     executionMode = STREAM
 )
-public class CELFStreamSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceMaximizationStreamConfig, Stream<CELFStreamResult>, CELFAlgorithmFactory<InfluenceMaximizationStreamConfig>> {
+public class CELFStreamSpec implements AlgorithmSpec<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationStreamConfig, Stream<CELFStreamResult>, CELFAlgorithmFactory<InfluenceMaximizationStreamConfig>> {
 
     @Override
     public String name() {
@@ -57,7 +58,7 @@ public class CELFStreamSpec implements AlgorithmSpec<CELF, CELFResult, Influence
     }
 
     @Override
-    public ComputationResultConsumer<CELF, CELFResult, InfluenceMaximizationStreamConfig, Stream<CELFStreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationStreamConfig, Stream<CELFStreamResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> runWithExceptionLogging(
             "Result streaming failed",
             executionContext.log(),
@@ -20,6 +20,7 @@
 package org.neo4j.gds.influenceMaximization;
 
 import com.carrotsearch.hppc.LongDoubleScatterMap;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.WriteNodePropertiesComputationResultConsumer;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.write.NodeProperty;
@@ -44,7 +45,7 @@ import static org.neo4j.gds.influenceMaximization.CELFStreamProc.DESCRIPTION;
     description = DESCRIPTION,
     executionMode = WRITE_NODE_PROPERTY
 )
-public class CELFWriteSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceMaximizationWriteConfig, Stream<CELFWriteResult>, CELFAlgorithmFactory<InfluenceMaximizationWriteConfig>> {
+public class CELFWriteSpec implements AlgorithmSpec<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationWriteConfig, Stream<CELFWriteResult>, CELFAlgorithmFactory<InfluenceMaximizationWriteConfig>> {
     @Override
     public String name() {
         return "CELFWrite";
@@ -61,7 +62,7 @@ public class CELFWriteSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceM
     }
 
     @Override
-    public ComputationResultConsumer<CELF, CELFResult, InfluenceMaximizationWriteConfig, Stream<CELFWriteResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationWriteConfig, Stream<CELFWriteResult>> computationResultConsumer() {
         return new WriteNodePropertiesComputationResultConsumer<>(
             this::resultBuilder,
             computationResult -> List.of(NodeProperty.of(
@@ -72,7 +73,7 @@ public class CELFWriteSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceM
         );
     }
 
-    private NodePropertyValues nodePropertyValues(ComputationResult<CELF, CELFResult, InfluenceMaximizationWriteConfig> computationResult) {
+    private NodePropertyValues nodePropertyValues(ComputationResult<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationWriteConfig> computationResult) {
 
         var celfResult = computationResult.result()
             .orElseGet(() -> new CELFResult(new LongDoubleScatterMap(0)));
@@ -84,7 +85,7 @@ public class CELFWriteSpec implements AlgorithmSpec<CELF, CELFResult, InfluenceM
     }
 
     private AbstractResultBuilder<CELFWriteResult> resultBuilder(
-        ComputationResult<CELF, CELFResult, InfluenceMaximizationWriteConfig> computationResult,
+        ComputationResult<Algorithm<CELFResult>, CELFResult, InfluenceMaximizationWriteConfig> computationResult,
         ExecutionContext context
     ) {
         var celfResult = computationResult.result();
@@ -21,6 +21,7 @@ package org.neo4j.gds.influenceMaximization;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.BaseProcTest;
@@ -34,6 +35,9 @@ import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.Neo4jGraph;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
 
@@ -140,6 +144,24 @@ class CELFStreamProcTest extends BaseProcTest {
             .isEqualTo(5L);
     }
 
+    @Test
+    void testResultStreamWithReverseInfluenceSampling() {
+        var cypher = GdsCypher.call("celfGraph")
+            .algo("gds.influenceMaximization.celf")
+            .streamMode()
+            .addParameter("seedSetSize", 2)
+            .addParameter("propagationProbability", 1.0)
+            .addParameter("method", "reverse_influence_sampling")
+            .addParameter("epsilon", 0.2)
+            .yields("nodeId", "spread");
+
+        var seedNodes = new HashSet<Long>();
+        runQueryWithRowConsumer(cypher, (tx, row) -> seedNodes.add(row.getNumber("nodeId").longValue()));
+
+        // a and b each activate 9 nodes, together they activate all nodes
+        assertThat(seedNodes).isEqualTo(Set.of(idFunction.of("a"), idFunction.of("b")));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"gds.beta.influenceMaximization.celf", "gds.influenceMaximization.celf"})
     void shouldCallMemoryEstimation(String tieredProcedure) {
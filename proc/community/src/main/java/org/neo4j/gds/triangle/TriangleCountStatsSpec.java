@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.neo4j.gds.algorithms.community.specificfields.TriangleCountSpecificFields;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -59,6 +60,10 @@ public class TriangleCountStatsSpec implements AlgorithmSpec<IntersectingTriangl
                 .map(result -> {
                     var builder = new TriangleCountStatsResult.Builder();
                     builder.withGlobalTriangleCount(result.globalTriangles());
+                    builder.withGlobalTriangleCountConfidenceInterval(
+                        TriangleCountSpecificFields.of(result, computationResult.graph().nodeCount())
+                            .globalTriangleCountConfidenceInterval()
+                    );
                     builder
                         .withPreProcessingMillis(computationResult.preProcessingMillis())
                         .withComputeMillis(computationResult.computeMillis())
@@ -21,7 +21,6 @@ package org.neo4j.gds.embeddings.fastrp;
 
 import org.neo4j.gds.api.properties.nodes.EmptyFloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.executor.ComputationResult;
 
 final class FastRPCompanion {
@@ -32,12 +31,12 @@ final class FastRPCompanion {
 
     static <CONFIG extends FastRPBaseConfig> NodePropertyValues nodeProperties(ComputationResult<FastRP, FastRPResult, CONFIG> computationResult) {
         return computationResult.result()
-            .map(result -> NodePropertyValuesAdapter.adapt(result.embeddings()))
+            .map(result -> result.embeddings())
             .orElse(EmptyFloatArrayNodePropertyValues.INSTANCE);
     }
 
     static NodePropertyValues nodeProperties(FastRPResult result) {
-        return NodePropertyValuesAdapter.adapt(result.embeddings());
+        return result.embeddings();
     }
 
 }
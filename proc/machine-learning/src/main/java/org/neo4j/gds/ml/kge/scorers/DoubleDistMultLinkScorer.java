@@ -32,11 +32,14 @@ public class DoubleDistMultLinkScorer implements LinkScorer {
 
     private final double[] currentCandidateTarget;
 
+    private final double[] targetBuffer;
+
 
     DoubleDistMultLinkScorer(NodePropertyValues embeddings, DoubleArrayList relationshipTypeEmbedding) {
         this.embeddings = embeddings;
         this.relationshipTypeEmbedding = relationshipTypeEmbedding.toArray();
         this.currentCandidateTarget = new double[this.relationshipTypeEmbedding.length];
+        this.targetBuffer = new double[this.relationshipTypeEmbedding.length];
     }
 
     @Override
@@ -51,7 +54,8 @@ public class DoubleDistMultLinkScorer implements LinkScorer {
     @Override
     public double computeScore(long targetNode) {
         double res = 0.0;
-        var targetVector = embeddings.doubleArrayValue(targetNode);
+        int length = embeddings.copyDoubleArrayValue(targetNode, targetBuffer, 0);
+        var targetVector = length == targetBuffer.length ? targetBuffer : embeddings.doubleArrayValue(targetNode);
         for (int i = 0; i < currentCandidateTarget.length; i++) {
             res += currentCandidateTarget[i] * targetVector[i];
         }
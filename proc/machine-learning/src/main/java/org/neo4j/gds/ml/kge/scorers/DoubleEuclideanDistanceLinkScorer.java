@@ -30,12 +30,15 @@ public class DoubleEuclideanDistanceLinkScorer implements LinkScorer {
 
     private final double[] currentCandidateTarget;
 
+    private final double[] targetBuffer;
+
     private long currentSourceNode;
 
     DoubleEuclideanDistanceLinkScorer(NodePropertyValues embeddings, DoubleArrayList relationshipTypeEmbedding) {
         this.embeddings = embeddings;
         this.relationshipTypeEmbedding = relationshipTypeEmbedding.toArray();
         this.currentCandidateTarget = new double[this.relationshipTypeEmbedding.length];
+        this.targetBuffer = new double[this.relationshipTypeEmbedding.length];
     }
 
     @Override
@@ -50,7 +53,8 @@ public class DoubleEuclideanDistanceLinkScorer implements LinkScorer {
     @Override
     public double computeScore(long targetNode) {
         double res = 0.0;
-        var targetVector = embeddings.doubleArrayValue(targetNode);
+        int length = embeddings.copyDoubleArrayValue(targetNode, targetBuffer, 0);
+        var targetVector = length == targetBuffer.length ? targetBuffer : embeddings.doubleArrayValue(targetNode);
         for (int i = 0; i < currentCandidateTarget.length; i++) {
             double elem = currentCandidateTarget[i] - targetVector[i];
             res += elem * elem;
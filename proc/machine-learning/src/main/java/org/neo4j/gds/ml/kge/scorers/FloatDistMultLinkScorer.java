@@ -32,11 +32,14 @@ public class FloatDistMultLinkScorer implements LinkScorer {
 
     float[] currentCandidateTarget;
 
+    float[] targetBuffer;
+
 
     FloatDistMultLinkScorer(NodePropertyValues embeddings, DoubleArrayList relationshipTypeEmbedding) {
         this.embeddings = embeddings;
         this.relationshipTypeEmbedding = relationshipTypeEmbedding.toArray();
         this.currentCandidateTarget = new float[this.relationshipTypeEmbedding.length];
+        this.targetBuffer = new float[this.relationshipTypeEmbedding.length];
 
     }
 
@@ -52,7 +55,8 @@ public class FloatDistMultLinkScorer implements LinkScorer {
     @Override
     public double computeScore(long targetNode) {
         double res = 0.0;
-        var targetVector = embeddings.floatArrayValue(targetNode);
+        int length = embeddings.copyFloatArrayValue(targetNode, targetBuffer, 0);
+        var targetVector = length == targetBuffer.length ? targetBuffer : embeddings.floatArrayValue(targetNode);
         for (int i = 0; i < currentCandidateTarget.length; i++) {
             res += currentCandidateTarget[i] * targetVector[i];
         }
@@ -32,10 +32,13 @@ public class FloatEuclideanDistanceLinkScorer implements LinkScorer {
 
     float[] currentCandidateTarget;
 
+    float[] targetBuffer;
+
     FloatEuclideanDistanceLinkScorer(NodePropertyValues embeddings, DoubleArrayList relationshipTypeEmbedding) {
         this.embeddings = embeddings;
         this.relationshipTypeEmbedding = relationshipTypeEmbedding.toArray();
         this.currentCandidateTarget = new float[this.relationshipTypeEmbedding.length];
+        this.targetBuffer = new float[this.relationshipTypeEmbedding.length];
     }
 
     @Override
@@ -50,7 +53,8 @@ public class FloatEuclideanDistanceLinkScorer implements LinkScorer {
     @Override
     public double computeScore(long targetNode) {
         double res = 0.0;
-        var targetVector = embeddings.floatArrayValue(targetNode);
+        int length = embeddings.copyFloatArrayValue(targetNode, targetBuffer, 0);
+        var targetVector = length == targetBuffer.length ? targetBuffer : embeddings.floatArrayValue(targetNode);
         for (int i = 0; i < currentCandidateTarget.length; i++) {
             double elem = currentCandidateTarget[i] - targetVector[i];
             res += elem * elem;
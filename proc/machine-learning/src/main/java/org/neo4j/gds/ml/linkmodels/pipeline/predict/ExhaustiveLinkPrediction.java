@@ -22,7 +22,7 @@ package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 import com.carrotsearch.hppc.LongHashSet;
 import com.carrotsearch.hppc.predicates.LongPredicate;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -30,17 +30,19 @@ import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.linkmodels.ExhaustiveLinkPredictionResult;
 import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
-import org.neo4j.gds.utils.CloseableThreadLocal;
 
-import java.util.concurrent.atomic.LongAdder;
-import java.util.function.LongConsumer;
-import java.util.function.Supplier;
-import java.util.stream.LongStream;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ExhaustiveLinkPrediction extends LinkPrediction {
+    // candidate links are scored in blocks whose dense feature matrix holds at most this many values
+    private static final int BLOCK_FEATURE_BUDGET = 1 << 14;
+    private static final int MAX_BLOCK_SIZE = 1024;
+
     private final int topN;
     private final double threshold;
     private final TerminationFlag terminationFlag;
@@ -72,50 +74,73 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
     }
 
     public static MemoryEstimation estimate(LinkPredictionPredictPipelineBaseConfig config, int linkFeatureDimension) {
+        int topN = config.topN().orElseThrow();
+        long localQueue = 2 * MemoryUsage.sizeOfLongArray(topN) + MemoryUsage.sizeOfDoubleArray(topN);
+
         return MemoryEstimations.builder(ExhaustiveLinkPrediction.class.getSimpleName())
-            .add("Priority queue", BoundedLongLongPriorityQueue.memoryEstimation(config.topN().orElseThrow()))
-            .perGraphDimension("Predict links operation", (dim, threads) -> MemoryRange.of(
-                MemoryUsage.sizeOfDoubleArray(linkFeatureDimension) + MemoryUsage.sizeOfLongHashSet(dim.averageDegree())
-            ).times(threads))
+            .add("Priority queue", BoundedLongLongPriorityQueue.memoryEstimation(topN))
+            .perGraphDimension("Predict links operation", (dim, threads) -> {
+                int blockSize = blockSize(linkFeatureDimension, dim.nodeCount());
+                long block = blockSize * MemoryUsage.sizeOfDoubleArray(linkFeatureDimension)
+                             + MemoryUsage.sizeOfObjectArray(blockSize)
+                             + Matrix.sizeInBytes(blockSize, linkFeatureDimension)
+                             + 2 * MemoryUsage.sizeOfLongArray(blockSize)
+                             + MemoryUsage.sizeOfDoubleArray(blockSize);
+                return MemoryRange.of(
+                    localQueue + block + MemoryUsage.sizeOfLongHashSet(dim.averageDegree())
+                ).times(threads);
+            })
             .build();
     }
 
+    static int blockSize(int linkFeatureDimension, long nodeCount) {
+        long candidateLinks = nodeCount * (nodeCount - 1) / 2;
+        long blockSize = Math.min(MAX_BLOCK_SIZE, BLOCK_FEATURE_BUDGET / Math.max(1, linkFeatureDimension));
+        return (int) Math.max(1, Math.min(blockSize, candidateLinks));
+    }
+
     @Override
     ExhaustiveLinkPredictionResult predictLinks(LinkPredictionSimilarityComputer linkPredictionSimilarityComputer) {
         progressTracker.setSteps(graph.nodeCount());
 
-        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+        // the workload per node is very hard to estimate as its based on degree, nodeId, and the node filters
+        // so the tasks steal small batches of source nodes from a shared cursor
+        var nextSourceId = new AtomicLong();
+        var blockSize = blockSize(linkPredictionSimilarityComputer.featureDimension(), graph.nodeCount());
 
-        var linksConsidered = new LongAdder();
+        var tasks = new ArrayList<LinkPredictionTask>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new LinkPredictionTask(
+                graph,
+                sourceNodeFilter::test,
+                targetNodeFilter::test,
+                linkPredictionSimilarityComputer,
+                nextSourceId,
+                blockSize
+            ));
+        }
 
-        // the workload per load is very hard to estimate as its based on degree, nodeId, and the node filters
-        // so we use parallelForEachNode to distribute the work
-        Supplier<LongConsumer> linkPredictorSupplier = () -> new LinkPredictionScoreByIdsConsumer(
-            graph,
-            sourceNodeFilter::test,
-            targetNodeFilter::test,
-            linkPredictionSimilarityComputer,
-            predictionQueue,
-            progressTracker,
-            linksConsidered
-        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
 
-        try (
-            var localLinkPredictor = CloseableThreadLocal.withInitial(linkPredictorSupplier)
-        ) {
-            ParallelUtil.parallelForEachNode(
-                graph.nodeCount(),
-                concurrency,
-                terminationFlag,
-                nodeId -> localLinkPredictor.get().accept(nodeId)
-            );
+        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+        long linksConsidered = 0;
+        for (var task : tasks) {
+            task.localPredictionQueue.foreach(predictionQueue::offer);
+            linksConsidered += task.linksConsidered;
         }
 
-
-        return new ExhaustiveLinkPredictionResult(predictionQueue, linksConsidered.longValue());
+        return new ExhaustiveLinkPredictionResult(predictionQueue, linksConsidered);
     }
 
-    final class LinkPredictionScoreByIdsConsumer implements LongConsumer {
+    /**
+     * Collects candidate links into blocks, which are scored with a single classifier call,
+     * and keeps the best links in a local queue that is merged after all tasks finished.
+     */
+    final class LinkPredictionTask implements Runnable {
         private final Graph graph;
 
         private final LongPredicate sourceNodeFilter;
@@ -123,67 +148,110 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
         private final LongPredicate targetNodeFilter;
 
         private final LinkPredictionSimilarityComputer linkPredictionSimilarityComputer;
-        private final BoundedLongLongPriorityQueue predictionQueue;
-        private final ProgressTracker progressTracker;
-        private final LongAdder linksConsidered;
+        private final AtomicLong nextSourceId;
+        private final BoundedLongLongPriorityQueue localPredictionQueue;
+        private final LongHashSet largerNeighbors;
+
+        private final long[] blockSourceIds;
+        private final long[] blockTargetIds;
+        private final double[][] blockFeatures;
+        private final double[] blockProbabilities;
+        private int blockLinkCount;
+
+        private long linksConsidered;
 
-        LinkPredictionScoreByIdsConsumer(
+        LinkPredictionTask(
             Graph graph,
             LongPredicate sourceNodeFilter,
             LongPredicate targetNodeFilter,
             LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
-            BoundedLongLongPriorityQueue predictionQueue,
-            ProgressTracker progressTracker,
-            LongAdder linksConsidered
+            AtomicLong nextSourceId,
+            int blockSize
         ) {
             this.graph = graph.concurrentCopy();
             this.sourceNodeFilter = sourceNodeFilter;
             this.targetNodeFilter = targetNodeFilter;
             this.linkPredictionSimilarityComputer = linkPredictionSimilarityComputer;
-            this.predictionQueue = predictionQueue;
-            this.progressTracker = progressTracker;
-            this.linksConsidered = linksConsidered;
+            this.nextSourceId = nextSourceId;
+            this.localPredictionQueue = BoundedLongLongPriorityQueue.max(topN);
+            this.largerNeighbors = new LongHashSet();
+            this.blockSourceIds = new long[blockSize];
+            this.blockTargetIds = new long[blockSize];
+            this.blockFeatures = new double[blockSize][linkPredictionSimilarityComputer.featureDimension()];
+            this.blockProbabilities = new double[blockSize];
         }
 
         @Override
-        public void accept(long sourceId) {
-            if (sourceNodeFilter.apply(sourceId)) {
-                predictLinksFromNode(sourceId, targetNodeFilter);
-            } else if (targetNodeFilter.apply(sourceId)) {
-                predictLinksFromNode(sourceId, sourceNodeFilter);
+        public void run() {
+            var nodeCount = graph.nodeCount();
+            long batchStart;
+            while ((batchStart = nextSourceId.getAndAdd(MIN_NODE_BATCH_SIZE)) < nodeCount) {
+                terminationFlag.assertRunning();
+                var batchEnd = Math.min(batchStart + MIN_NODE_BATCH_SIZE, nodeCount);
+                for (long sourceId = batchStart; sourceId < batchEnd; sourceId++) {
+                    if (sourceNodeFilter.apply(sourceId)) {
+                        predictLinksFromNode(sourceId, targetNodeFilter);
+                    } else if (targetNodeFilter.apply(sourceId)) {
+                        predictLinksFromNode(sourceId, sourceNodeFilter);
+                    }
+                }
+                progressTracker.logSteps(batchEnd - batchStart);
             }
-
-            progressTracker.logSteps(1);
+            scoreBlock();
         }
 
-        private LongHashSet largerValidNeighbors(long sourceId, LongPredicate targetNodeFilter) {
-            var neighbors = new LongHashSet();
+        private void collectLargerValidNeighbors(long sourceId, LongPredicate targetNodeFilter) {
+            largerNeighbors.clear();
             graph.forEachRelationship(
                 sourceId, (src, trg) -> {
-                    if (src < trg && targetNodeFilter.apply(trg)) neighbors.add(trg);
+                    if (src < trg && targetNodeFilter.apply(trg)) largerNeighbors.add(trg);
                     return true;
                 }
             );
-            return neighbors;
         }
 
         private void predictLinksFromNode(long sourceId, LongPredicate nodeFilter) {
-            var largerNeighbors = largerValidNeighbors(sourceId, nodeFilter);
+            collectLargerValidNeighbors(sourceId, nodeFilter);
             // since graph is undirected, only process pairs where sourceId < targetId
-            var smallestTarget = sourceId + 1;
-            LongStream.range(smallestTarget, graph.nodeCount()).forEach(targetId -> {
-                    if (largerNeighbors.contains(targetId)) return;
-                    if (nodeFilter.apply(targetId)) {
-                        var probability = linkPredictionSimilarityComputer.similarity(sourceId, targetId);
-                        linksConsidered.increment();
-                        if (probability < threshold) return;
-
-                        synchronized (predictionQueue) {
-                            predictionQueue.offer(sourceId, targetId, probability);
-                        }
-                    }
+            for (long targetId = sourceId + 1; targetId < graph.nodeCount(); targetId++) {
+                if (largerNeighbors.contains(targetId) || !nodeFilter.apply(targetId)) {
+                    continue;
                 }
+                blockSourceIds[blockLinkCount] = sourceId;
+                blockTargetIds[blockLinkCount] = targetId;
+                if (++blockLinkCount == blockSourceIds.length) {
+                    scoreBlock();
+                }
+            }
+        }
+
+        private void scoreBlock() {
+            if (blockLinkCount == 0) {
+                return;
+            }
+            linkPredictionSimilarityComputer.similarities(
+                blockSourceIds,
+                blockTargetIds,
+                blockLinkCount,
+                blockFeatures,
+                blockProbabilities
             );
+            linksConsidered += blockLinkCount;
+
+            // links that are not better than the current local top-N cannot make it into the global top-N
+            var floor = localPredictionQueue.isFull()
+                ? Math.max(threshold, Math.nextUp(localPredictionQueue.worstPriority()))
+                : threshold;
+            for (int i = 0; i < blockLinkCount; i++) {
+                var probability = blockProbabilities[i];
+                if (probability < floor) continue;
+
+                localPredictionQueue.offer(blockSourceIds[i], blockTargetIds[i], probability);
+                if (localPredictionQueue.isFull()) {
+                    floor = Math.max(threshold, Math.nextUp(localPredictionQueue.worstPriority()));
+                }
+            }
+            blockLinkCount = 0;
         }
     }
 }
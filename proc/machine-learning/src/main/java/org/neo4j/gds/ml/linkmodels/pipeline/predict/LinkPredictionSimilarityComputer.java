@@ -20,7 +20,9 @@
 package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.ml.core.batch.RangeBatch;
 import org.neo4j.gds.ml.models.Classifier;
+import org.neo4j.gds.ml.models.Features;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
 import org.neo4j.gds.ml.splitting.EdgeSplitter;
 import org.neo4j.gds.similarity.knn.NeighborFilter;
@@ -51,6 +53,48 @@ class LinkPredictionSimilarityComputer implements SimilarityComputer {
         return linkFeatureExtractor.isSymmetric();
     }
 
+    int featureDimension() {
+        return linkFeatureExtractor.featureDimension();
+    }
+
+    /**
+     * Computes the similarities of the first {@code linkCount} links with a single classifier call.
+     * The link features are extracted into {@code linkFeatures}, which callers can reuse between blocks.
+     */
+    void similarities(
+        long[] sourceIds,
+        long[] targetIds,
+        int linkCount,
+        double[][] linkFeatures,
+        double[] similarities
+    ) {
+        for (int i = 0; i < linkCount; i++) {
+            linkFeatureExtractor.extractFeatures(sourceIds[i], targetIds[i], linkFeatures[i]);
+        }
+
+        var blockFeatures = new Features() {
+            @Override
+            public long size() {
+                return linkCount;
+            }
+
+            @Override
+            public double[] get(long id) {
+                return linkFeatures[(int) id];
+            }
+
+            @Override
+            public int featureDimension() {
+                return linkFeatureExtractor.featureDimension();
+            }
+        };
+        var probabilities = classifier.predictProbabilities(new RangeBatch(0, linkCount, linkCount), blockFeatures);
+
+        for (int i = 0; i < linkCount; i++) {
+            similarities[i] = probabilities.dataAt(i, POSITIVE_CLASS_INDEX);
+        }
+    }
+
     static final class LinkFilter implements NeighborFilter {
 
         private final LPNodeFilter sourceNodeFilter;
@@ -267,8 +267,8 @@ class ExhaustiveLinkPredictionTest {
 
     @ParameterizedTest
     @CsvSource(value = {
-        "1, 3_636",
-        "10, 3_852"
+        "1, 1_072_884",
+        "10, 1_073_964"
     })
     void estimateWithDifferentTopN(int topN, long expectedEstimation) {
         var config = LinkPredictionPredictPipelineBaseConfigImpl.builder()
@@ -287,8 +287,8 @@ class ExhaustiveLinkPredictionTest {
 
     @ParameterizedTest
     @CsvSource(value = {
-        "10, 972",
-        "1000, 32_652"
+        "10, 837_644",
+        "1000, 1_028_876"
     })
     void estimateWithDifferentLinkFeatureDimension(int linkFeatureDimension, long expectedEstimation) {
         var config = LinkPredictionPredictPipelineBaseConfigImpl.builder()
@@ -196,7 +196,7 @@ class LinkPredictionPipelineStreamProcTest extends BaseProcTest {
             "YIELD requiredMemory",
             Map.of("nodeCount", 42L, "relationshipCount", 28L, "sourceNodeLabel", "N", "targetNodeLabel", "N", "topN", 3),
             List.of(
-                Map.of("requiredMemory", "289 KiB")
+                Map.of("requiredMemory", "599 KiB")
             )
         );
     }
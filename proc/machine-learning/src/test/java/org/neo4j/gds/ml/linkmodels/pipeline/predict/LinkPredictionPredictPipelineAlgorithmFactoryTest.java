@@ -71,7 +71,7 @@ class LinkPredictionPredictPipelineAlgorithmFactoryTest {
             .memoryEstimation(config)
             .estimate(GraphDimensions.of(10), 4);
 
-        assertThat(estimate.memoryUsage().toString()).isEqualTo("548 Bytes");
+        assertThat(estimate.memoryUsage().toString()).isEqualTo("17 KiB");
     }
 
     private void withModelInCatalog() {
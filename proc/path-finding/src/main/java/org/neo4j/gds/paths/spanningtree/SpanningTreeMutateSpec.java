@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
@@ -30,7 +31,6 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningGraph;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
@@ -46,7 +46,7 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
     description = SpanningTreeWriteProc.DESCRIPTION,
     executionMode = MUTATE_RELATIONSHIP
 )
-public class SpanningTreeMutateSpec implements AlgorithmSpec<Prim, SpanningTree, SpanningTreeMutateConfig, Stream<MutateResult>, SpanningTreeAlgorithmFactory<SpanningTreeMutateConfig>> {
+public class SpanningTreeMutateSpec implements AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeMutateConfig, Stream<MutateResult>, SpanningTreeAlgorithmFactory<SpanningTreeMutateConfig>> {
 
     @Override
     public String name() {
@@ -64,7 +64,7 @@ public class SpanningTreeMutateSpec implements AlgorithmSpec<Prim, SpanningTree,
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeMutateConfig, Stream<MutateResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeMutateConfig, Stream<MutateResult>> computationResultConsumer() {
 
         return (computationResult, executionContext) -> {
             MutateResult.Builder builder = new MutateResult.Builder();
@@ -115,7 +115,7 @@ public class SpanningTreeMutateSpec implements AlgorithmSpec<Prim, SpanningTree,
 
             builder.withComputeMillis(computationResult.computeMillis());
             builder.withPreProcessingMillis(computationResult.preProcessingMillis());
-            builder.withRelationshipsWritten(spanningTree.effectiveNodeCount() - 1);
+            builder.withRelationshipsWritten(spanningTree.relationshipCount());
             builder.withConfig(config);
             return Stream.of(builder.build());
         };
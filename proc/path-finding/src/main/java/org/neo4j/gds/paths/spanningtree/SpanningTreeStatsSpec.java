@@ -19,12 +19,12 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
 import org.neo4j.gds.spanningtree.SpanningTreeStatsConfig;
@@ -39,7 +39,7 @@ import static org.neo4j.gds.executor.ExecutionMode.STATS;
     description = SpanningTreeWriteProc.DESCRIPTION,
     executionMode = STATS
 )
-public class SpanningTreeStatsSpec implements AlgorithmSpec<Prim, SpanningTree, SpanningTreeStatsConfig, Stream<StatsResult>, SpanningTreeAlgorithmFactory<SpanningTreeStatsConfig>> {
+public class SpanningTreeStatsSpec implements AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStatsConfig, Stream<StatsResult>, SpanningTreeAlgorithmFactory<SpanningTreeStatsConfig>> {
 
     @Override
     public String name() {
@@ -57,7 +57,7 @@ public class SpanningTreeStatsSpec implements AlgorithmSpec<Prim, SpanningTree,
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeStatsConfig, Stream<StatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStatsConfig, Stream<StatsResult>> computationResultConsumer() {
 
         return (computationResult, executionContext) -> {
 
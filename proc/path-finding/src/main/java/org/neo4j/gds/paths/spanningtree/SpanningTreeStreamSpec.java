@@ -19,13 +19,13 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
 import org.neo4j.gds.spanningtree.SpanningTreeStreamConfig;
@@ -42,7 +42,7 @@ import static org.neo4j.gds.executor.ExecutionMode.STREAM;
     description = SpanningTreeWriteProc.DESCRIPTION,
     executionMode = STREAM
 )
-public class SpanningTreeStreamSpec implements AlgorithmSpec<Prim, SpanningTree, SpanningTreeStreamConfig, Stream<StreamResult>, SpanningTreeAlgorithmFactory<SpanningTreeStreamConfig>> {
+public class SpanningTreeStreamSpec implements AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStreamConfig, Stream<StreamResult>, SpanningTreeAlgorithmFactory<SpanningTreeStreamConfig>> {
 
     @Override
     public String name() {
@@ -60,21 +60,26 @@ public class SpanningTreeStreamSpec implements AlgorithmSpec<Prim, SpanningTree,
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStreamConfig, Stream<StreamResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> runWithExceptionLogging(
             "Result streaming failed",
             executionContext.log(),
             () -> computationResult.result()
                 .map(result -> {
-                    var sourceNode = computationResult.config().sourceNode();
+                    var config = computationResult.config();
+                    var sourceNode = config.sourceNode();
                     var graph = computationResult.graph();
+                    // every node of a spanning forest is reached, the root of each tree is its own parent
                     return LongStream.range(IdMap.START_NODE_ID, graph.nodeCount())
-                        .filter(nodeId -> result.parent(nodeId) >= 0 || sourceNode == graph.toOriginalNodeId(nodeId))
+                        .filter(nodeId -> config.forest()
+                            || result.parent(nodeId) >= 0
+                            || sourceNode == graph.toOriginalNodeId(nodeId))
                         .mapToObj(nodeId -> {
                             var originalId = graph.toOriginalNodeId(nodeId);
+                            var parent = result.parent(nodeId);
                             return new StreamResult(
                                 originalId,
-                                (sourceNode == originalId) ? sourceNode : graph.toOriginalNodeId(result.parent(nodeId)),
+                                parent < 0 ? originalId : graph.toOriginalNodeId(parent),
                                 result.costToParent(nodeId)
                             );
                         });
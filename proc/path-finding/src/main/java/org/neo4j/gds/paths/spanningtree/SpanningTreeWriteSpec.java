@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.ProgressTimer;
@@ -28,7 +29,6 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningGraph;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
@@ -44,7 +44,7 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
     description = SpanningTreeWriteProc.DESCRIPTION,
     executionMode = MUTATE_RELATIONSHIP)
 public class SpanningTreeWriteSpec implements
-    AlgorithmSpec<Prim, SpanningTree, SpanningTreeWriteConfig, Stream<WriteResult>, SpanningTreeAlgorithmFactory<SpanningTreeWriteConfig>> {
+    AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeWriteConfig, Stream<WriteResult>, SpanningTreeAlgorithmFactory<SpanningTreeWriteConfig>> {
 
     @Override
     public String name() {
@@ -62,7 +62,7 @@ public class SpanningTreeWriteSpec implements
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeWriteConfig, Stream<WriteResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeWriteConfig, Stream<WriteResult>> computationResultConsumer() {
 
         return (computationResult, executionContext) -> {
             WriteResult.Builder builder = new WriteResult.Builder();
@@ -72,7 +72,7 @@ public class SpanningTreeWriteSpec implements
             }
 
             Graph graph = computationResult.graph();
-            Prim prim = computationResult.algorithm();
+            var algorithm = computationResult.algorithm();
             SpanningTree spanningTree = computationResult.result().get();
             SpanningTreeWriteConfig config = computationResult.config();
 
@@ -87,7 +87,7 @@ public class SpanningTreeWriteSpec implements
                 executionContext.relationshipExporterBuilder()
                     .withGraph(spanningGraph)
                     .withIdMappingOperator(spanningGraph::toOriginalNodeId)
-                    .withTerminationFlag(prim.getTerminationFlag())
+                    .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(
                         AlgorithmSpecProgressTrackerProvider.createProgressTracker(
                             name(),
@@ -105,7 +105,7 @@ public class SpanningTreeWriteSpec implements
             }
             builder.withComputeMillis(computationResult.computeMillis());
             builder.withPreProcessingMillis(computationResult.preProcessingMillis());
-            builder.withRelationshipsWritten(spanningTree.effectiveNodeCount() - 1);
+            builder.withRelationshipsWritten(spanningTree.relationshipCount());
             builder.withConfig(config);
             return Stream.of(builder.build());
         };
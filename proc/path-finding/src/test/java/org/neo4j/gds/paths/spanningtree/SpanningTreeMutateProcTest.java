@@ -20,6 +20,7 @@
 package org.neo4j.gds.paths.spanningtree;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.BaseProcTest;
@@ -145,4 +146,44 @@ class SpanningTreeMutateProcTest extends BaseProcTest {
 
     }
 
+    @Test
+    void shouldComputeSpanningForestWithoutSourceNode() {
+        String query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.spanningTree")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "foo")
+            .addParameter("mutateRelationshipType", "MSF")
+            .yields("effectiveNodeCount", "totalWeight", "relationshipsWritten");
+
+        runQueryWithRowConsumer(
+            query,
+            res -> {
+                assertThat(res.getNumber("effectiveNodeCount").longValue()).isEqualTo(6L);
+                assertThat(res.getNumber("totalWeight").doubleValue()).isEqualTo(12.0);
+                assertThat(res.getNumber("relationshipsWritten").longValue()).isEqualTo(4L);
+            }
+        );
+
+        var actual = GraphStoreCatalog
+            .get(Username.EMPTY_USERNAME.username(), db.databaseName(), "graph")
+            .graphStore()
+            .getGraph(NodeLabel.of("Node"), RelationshipType.of("MSF"), Optional.of("foo"));
+
+        var expected = TestSupport.fromGdl(
+            "CREATE" +
+                "(a:Node)" +
+                ",(b:Node)" +
+                ",(c:Node)" +
+                ",(d:Node)" +
+                ",(e:Node)" +
+                ",(z:Node)" +
+
+                " ,(a)-[:MSF {foo: 1.0}]->(b)" +
+                " ,(a)-[:MSF {foo: 2.0}]->(c)" +
+                " ,(b)-[:MSF {foo: 4.0}]->(d)" +
+                " ,(c)-[:MSF {foo: 5.0}]->(e)");
+
+        assertGraphEquals(expected, actual);
+    }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.paths.spanningtree;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.BaseProcTest;
@@ -30,6 +31,8 @@ import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.Neo4jGraph;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,4 +115,37 @@ class SpanningTreeStreamProcTest extends BaseProcTest {
         });
         assertThat(nodeCount.intValue()).isEqualTo(5);
     }
+
+    @Test
+    void shouldStreamSpanningForestWithoutSourceNode() {
+        String query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.spanningTree")
+            .streamMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("nodeId", "parentId", "weight");
+
+        Map<Long, Long> parents = new HashMap<>();
+        Map<Long, Double> weights = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> {
+            parents.put(row.getNumber("nodeId").longValue(), row.getNumber("parentId").longValue());
+            weights.put(row.getNumber("nodeId").longValue(), row.getNumber("weight").doubleValue());
+        });
+
+        assertThat(parents).containsExactlyInAnyOrderEntriesOf(Map.of(
+            idFunction.of("a"), idFunction.of("a"),
+            idFunction.of("b"), idFunction.of("a"),
+            idFunction.of("c"), idFunction.of("a"),
+            idFunction.of("d"), idFunction.of("b"),
+            idFunction.of("e"), idFunction.of("c"),
+            idFunction.of("z"), idFunction.of("z")
+        ));
+        assertThat(weights).containsExactlyInAnyOrderEntriesOf(Map.of(
+            idFunction.of("a"), 0.0,
+            idFunction.of("b"), 1.0,
+            idFunction.of("c"), 2.0,
+            idFunction.of("d"), 4.0,
+            idFunction.of("e"), 5.0,
+            idFunction.of("z"), 0.0
+        ));
+    }
 }
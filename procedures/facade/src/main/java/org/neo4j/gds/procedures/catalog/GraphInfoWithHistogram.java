@@ -21,17 +21,31 @@ package org.neo4j.gds.procedures.catalog;
 
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 
+import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.Optional;
 
 @SuppressWarnings("unused")
 public class GraphInfoWithHistogram extends GraphInfo {
 
     public final Map<String, Object> degreeDistribution;
+    public final boolean spilled;
+    public final ZonedDateTime lastAccessTime;
+    public final long evictionCount;
 
     public GraphInfoWithHistogram(
         GraphInfo graphInfo,
         Map<String, Object> degreeDistribution
+    ) {
+        this(graphInfo, degreeDistribution, Optional.empty());
+    }
+
+    public GraphInfoWithHistogram(
+        GraphInfo graphInfo,
+        Map<String, Object> degreeDistribution,
+        Optional<GraphStoreCatalog.GraphResidency> residency
     ) {
         super(
             graphInfo.graphName,
@@ -48,6 +62,9 @@ public class GraphInfoWithHistogram extends GraphInfo {
             graphInfo.schemaWithOrientation
         );
         this.degreeDistribution = degreeDistribution;
+        this.spilled = residency.map(GraphStoreCatalog.GraphResidency::spilled).orElse(false);
+        this.lastAccessTime = residency.map(GraphStoreCatalog.GraphResidency::lastAccessTime).orElse(null);
+        this.evictionCount = residency.map(GraphStoreCatalog.GraphResidency::evictionCount).orElse(0L);
     }
 
     /**
@@ -64,6 +81,12 @@ public class GraphInfoWithHistogram extends GraphInfo {
             ? withMemoryUsage(graphProjectConfig, graphStore)
             : withoutMemoryUsage(graphProjectConfig, graphStore);
 
-        return new GraphInfoWithHistogram(graphInfo, degreeDistribution);
+        var residency = GraphStoreCatalog.residency(
+            graphProjectConfig.username(),
+            graphInfo.database,
+            graphProjectConfig.graphName()
+        );
+
+        return new GraphInfoWithHistogram(graphInfo, degreeDistribution, residency);
     }
 }
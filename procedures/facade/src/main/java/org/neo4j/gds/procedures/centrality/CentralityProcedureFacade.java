@@ -114,7 +114,7 @@ public class CentralityProcedureFacade {
         return DefaultCentralityComputationalResultTransformer.toStreamResult(computationResult);
     }
 
-    public Stream<CentralityStatsResult> betweenessCentralityStats(
+    public Stream<SampledCentralityStatsResult> betweenessCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -129,7 +129,7 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
+        return Stream.of(SampledCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
     }
 
     public Stream<CentralityMutateResult> betweenessCentralityMutate(
@@ -322,7 +322,7 @@ public class CentralityProcedureFacade {
         return DefaultCentralityComputationalResultTransformer.toStreamResult(computationResult);
     }
 
-    public Stream<CentralityStatsResult> closenessCentralityStats(
+    public Stream<SampledCentralityStatsResult> closenessCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -334,7 +334,7 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
+        return Stream.of(SampledCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
     }
 
     public Stream<CentralityMutateResult> closenessCentralityMutate(
@@ -422,7 +422,7 @@ public class CentralityProcedureFacade {
         return DefaultCentralityComputationalResultTransformer.toStreamResult(computationResult);
     }
 
-    public Stream<CentralityStatsResult> harmonicCentralityStats(
+    public Stream<SampledCentralityStatsResult> harmonicCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -434,7 +434,7 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
+        return Stream.of(SampledCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
     }
 
     public Stream<CentralityMutateResult> harmonicCentralityMutate(
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.ProcedureReturnColumns;
+import org.neo4j.gds.result.AbstractCentralityResultBuilder;
+
+import java.util.Map;
+
+public class SampledCentralityStatsResult extends CentralityStatsResult {
+
+    public final Double approximationError;
+
+    public SampledCentralityStatsResult(
+        @Nullable Map<String, Object> centralityDistribution,
+        @Nullable Double approximationError,
+        long preProcessingMillis,
+        long computeMillis,
+        long postProcessingMillis,
+        Map<String, Object> configuration
+    ) {
+        super(centralityDistribution, preProcessingMillis, computeMillis, postProcessingMillis, configuration);
+        this.approximationError = approximationError;
+    }
+
+    public static final class Builder extends AbstractCentralityResultBuilder<SampledCentralityStatsResult> {
+        private Double approximationError;
+
+        public Builder(ProcedureReturnColumns returnColumns, int concurrency) {
+            super(returnColumns, concurrency);
+        }
+
+        public Builder withApproximationError(@Nullable Double approximationError) {
+            this.approximationError = approximationError;
+            return this;
+        }
+
+        @Override
+        public SampledCentralityStatsResult buildResult() {
+            return new SampledCentralityStatsResult(
+                centralityHistogram,
+                approximationError,
+                preProcessingMillis,
+                computeMillis,
+                postProcessingMillis,
+                config.toMap()
+            );
+        }
+    }
+}
@@ -69,6 +69,7 @@ final class TriangleCountComputationResultTransformer {
         return new TriangleCountStatsResult(
             computationResult.algorithmSpecificFields().globalTriangleCount(),
             computationResult.algorithmSpecificFields().nodeCount(),
+            computationResult.algorithmSpecificFields().globalTriangleCountConfidenceInterval(),
             computationResult.preProcessingMillis(),
             computationResult.computeMillis(),
             config.toMap()
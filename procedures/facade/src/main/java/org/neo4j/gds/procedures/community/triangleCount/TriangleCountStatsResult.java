@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.procedures.community.triangleCount;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.result.AbstractResultBuilder;
 import org.neo4j.gds.results.StandardStatsResult;
 
@@ -29,10 +30,12 @@ public class TriangleCountStatsResult extends StandardStatsResult {
 
     public final long globalTriangleCount;
     public final long nodeCount;
+    public final Map<String, Object> globalTriangleCountConfidenceInterval;
 
     public TriangleCountStatsResult(
         long globalTriangleCount,
         long nodeCount,
+        @Nullable Map<String, Object> globalTriangleCountConfidenceInterval,
         long preProcessingMillis,
         long computeMillis,
         Map<String, Object> configuration
@@ -41,22 +44,30 @@ public class TriangleCountStatsResult extends StandardStatsResult {
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.globalTriangleCount = globalTriangleCount;
         this.nodeCount = nodeCount;
+        this.globalTriangleCountConfidenceInterval = globalTriangleCountConfidenceInterval;
     }
 
     public static class Builder extends AbstractResultBuilder<TriangleCountStatsResult> {
 
         long globalTriangleCount = 0;
+        Map<String, Object> globalTriangleCountConfidenceInterval;
 
         public Builder withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        public Builder withGlobalTriangleCountConfidenceInterval(@Nullable Map<String, Object> confidenceInterval) {
+            this.globalTriangleCountConfidenceInterval = confidenceInterval;
+            return this;
+        }
+
         @Override
         public TriangleCountStatsResult build() {
             return new TriangleCountStatsResult(
                 globalTriangleCount,
                 nodeCount,
+                globalTriangleCountConfidenceInterval,
                 preProcessingMillis,
                 computeMillis,
                 config.toMap()
@@ -22,7 +22,6 @@ package org.neo4j.gds.procedures.embeddings;
 import org.neo4j.gds.algorithms.StatsResult;
 import org.neo4j.gds.algorithms.StreamComputationResult;
 import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.embeddings.fastrp.FastRPResult;
 import org.neo4j.gds.embeddings.fastrp.FastRPStatsConfig;
 import org.neo4j.gds.procedures.embeddings.fastrp.FastRPStatsResult;
@@ -38,7 +37,7 @@ public class FastRPComputationalResultTransformer {
     ) {
         return computationResult.result().map(fastRPResult -> {
             var graph = computationResult.graph();
-            var nodePropertyValues = NodePropertyValuesAdapter.adapt(fastRPResult.embeddings());
+            var nodePropertyValues = fastRPResult.embeddings();
             return LongStream
                 .range(IdMap.START_NODE_ID, nodePropertyValues.nodeCount())
                 .filter(nodePropertyValues::hasValue)